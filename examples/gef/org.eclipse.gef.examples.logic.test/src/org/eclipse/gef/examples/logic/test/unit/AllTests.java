@@ -21,13 +21,17 @@ import org.eclipse.draw2d.Connection;
 import org.eclipse.draw2d.PositionConstants;
 import org.eclipse.draw2d.geometry.Point;
 import org.eclipse.draw2d.geometry.Rectangle;
+import org.eclipse.gef.EditPart;
 import org.eclipse.gef.GraphicalEditPart;
+import org.eclipse.gef.RequestConstants;
+import org.eclipse.gef.commands.Command;
 import org.eclipse.gef.examples.logic.test.CreateLogicDiagram;
 import org.eclipse.gef.examples.logic.test.NewEmptyEmfProject;
 import org.eclipse.gef.examples.logicdesigner.edit.CircuitEditPart;
 import org.eclipse.gef.examples.logicdesigner.edit.LogicLabelEditPart;
 import org.eclipse.gef.examples.logicdesigner.model.Circuit;
 import org.eclipse.gef.examples.logicdesigner.model.Wire;
+import org.eclipse.gef.requests.GroupRequest;
 import org.eclipse.swtbot.eclipse.gef.finder.SWTBotGefTestCase;
 import org.eclipse.swtbot.eclipse.gef.finder.SWTGefBot;
 import org.eclipse.swtbot.eclipse.gef.finder.widgets.SWTBotGefConnectionEditPart;
@@ -148,6 +152,24 @@ public class AllTests extends SWTBotGefTestCase implements LogicModeler {
 		assertTrue(botPart.part() instanceof LogicLabelEditPart);
 	}
 
+	@Test
+	public void forgetsEditPartsRemovedFromTheDiagram() throws Exception {
+		editor.activateTool(TOOL_LABEL);
+		editor.click(10, 10);
+		SWTBotGefEditPart label = editor.getEditPart("Label");
+		assertSame(label, editor.getEditPart("Label"));
+
+		delete(label);
+		assertNull(editor.getEditPart("Label"));
+
+		editor.activateTool(TOOL_LABEL);
+		editor.click(10, 10);
+		SWTBotGefEditPart newLabel = editor.getEditPart("Label");
+		assertNotNull(newLabel);
+		assertNotSame(label, newLabel);
+		assertSame(newLabel, editor.getEditPart("Label"));
+	}
+
 	@Test
 	public void drag() throws Exception {
 		editor.activateTool(TOOL_LABEL);
@@ -339,6 +361,17 @@ public class AllTests extends SWTBotGefTestCase implements LogicModeler {
 		});
 	}
 
+	private void delete(final SWTBotGefEditPart editPart) {
+		UIThreadRunnable.syncExec(new VoidResult() {
+			@Override
+			public void run() {
+				EditPart part = editPart.part();
+				Command delete = part.getCommand(new GroupRequest(RequestConstants.REQ_DELETE));
+				part.getViewer().getEditDomain().getCommandStack().execute(delete);
+			}
+		});
+	}
+
 	private Rectangle getBounds(SWTBotGefEditPart editPart) throws Exception {
 		return ((GraphicalEditPart) editPart.part()).getFigure().getBounds().getCopy();
 	}
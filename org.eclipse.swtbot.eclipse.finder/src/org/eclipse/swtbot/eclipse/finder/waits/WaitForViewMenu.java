@@ -136,4 +136,13 @@ public class WaitForViewMenu extends WaitForObjectCondition<Menu> {
 		}
 		return null;
 	}
+
+	/**
+	 * Only polls the condition, since finding the view menu sends a {@link SWT#Show} event to it, which would wake it
+	 * up.
+	 */
+	@Override
+	public int[] getWakeUpEvents() {
+		return new int[0];
+	}
 }
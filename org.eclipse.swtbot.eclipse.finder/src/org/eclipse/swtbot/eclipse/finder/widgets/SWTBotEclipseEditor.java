@@ -427,6 +427,15 @@ public class SWTBotEclipseEditor extends SWTBotEditor {
 		styledText.typeText(text, interval);
 	}
 
+	/**
+	 * @param text the text to be typed at the location of the caret.
+	 * @see SWTBotStyledText#typeTextFast(java.lang.String)
+	 * @since 4.3
+	 */
+	public void typeTextFast(String text) {
+		styledText.typeTextFast(text);
+	}
+
 	/**
 	 * Sets the caret at the specified location.
 	 *
@@ -97,16 +97,15 @@ public class SWTBotGefEditPart {
 		return UIThreadRunnable.syncExec(new Result<List<SWTBotGefEditPart>>() {
 			public List<SWTBotGefEditPart> run() {
 				List<SWTBotGefEditPart> descendants = new ArrayList<SWTBotGefEditPart>();
-				Stack<SWTBotGefEditPart> parts = new Stack<SWTBotGefEditPart>();
-				parts.push(SWTBotGefEditPart.this);
+				Stack<EditPart> parts = new Stack<EditPart>();
+				parts.push(part);
 				while (!parts.isEmpty()) {
-					SWTBotGefEditPart part = parts.pop();
-					for (org.eclipse.gef.EditPart child : ((List<org.eclipse.gef.EditPart>) part.part.getChildren())) {
-						SWTBotGefEditPart childPart = viewer.createEditPart(child);
+					EditPart part = parts.pop();
+					for (org.eclipse.gef.EditPart child : ((List<org.eclipse.gef.EditPart>) part.getChildren())) {
 						if (matcher.matches(child)) {
-							descendants.add(childPart);
+							descendants.add(viewer.createEditPart(child));
 						}
-						parts.push(childPart);
+						parts.push(child);
 					}
 				}
 				return descendants;
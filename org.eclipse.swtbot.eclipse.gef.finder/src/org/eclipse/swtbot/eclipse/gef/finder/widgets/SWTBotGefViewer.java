@@ -23,9 +23,10 @@ import static org.eclipse.swtbot.swt.finder.matchers.WidgetMatcherFactory.widget
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.WeakHashMap;
 import java.util.regex.Pattern;
 
 import org.eclipse.core.runtime.IAdaptable;
@@ -33,16 +34,21 @@ import org.eclipse.draw2d.FigureCanvas;
 import org.eclipse.draw2d.IFigure;
 import org.eclipse.draw2d.Label;
 import org.eclipse.draw2d.LightweightSystem;
+import org.eclipse.draw2d.UpdateListener;
+import org.eclipse.draw2d.UpdateManager;
 import org.eclipse.draw2d.geometry.Rectangle;
 import org.eclipse.draw2d.text.TextFlow;
 import org.eclipse.gef.ConnectionEditPart;
 import org.eclipse.gef.EditDomain;
 import org.eclipse.gef.EditPart;
+import org.eclipse.gef.EditPartListener;
 import org.eclipse.gef.GraphicalEditPart;
 import org.eclipse.gef.GraphicalViewer;
 import org.eclipse.gef.palette.PaletteEntry;
 import org.eclipse.gef.palette.ToolEntry;
 import org.eclipse.jface.viewers.StructuredSelection;
+import org.eclipse.swt.events.DisposeEvent;
+import org.eclipse.swt.events.DisposeListener;
 import org.eclipse.swt.widgets.Canvas;
 import org.eclipse.swt.widgets.Control;
 import org.eclipse.swt.widgets.Text;
@@ -68,7 +74,16 @@ public class SWTBotGefViewer {
 
 	protected SWTBotGefFigureCanvas				canvas;
 
-	private Map<EditPart, SWTBotGefEditPart>	editPartMapping	= new WeakHashMap<EditPart, SWTBotGefEditPart>();
+	/**
+	 * The wrappers created so far, an edit part is removed when it is deactivated and all are removed when the control
+	 * is disposed. Only accessed on the UI thread, where edit parts are deactivated.
+	 */
+	private final Map<EditPart, SWTBotGefEditPart>	editPartMapping	= new IdentityHashMap<EditPart, SWTBotGefEditPart>();
+
+	private final CacheListener						cacheListener	= new CacheListener();
+
+	/** Maps a label to the edit part that owns it, built on the UI thread, <code>null</code> until the next lookup. */
+	private volatile Map<String, EditPart>			labelIndex;
 
 	/**
 	 * Create a new bot GEF graphical viewer instance.
@@ -92,25 +107,39 @@ public class SWTBotGefViewer {
 	 * clear the cache of edit parts
 	 */
 	public void clear() {
-		editPartMapping.clear();
+		UIThreadRunnable.syncExec(new VoidResult() {
+			public void run() {
+				for (EditPart part : editPartMapping.keySet()) {
+					part.removeEditPartListener(cacheListener);
+				}
+				editPartMapping.clear();
+				labelIndex = null;
+			}
+		});
 	}
 
 	protected void init() throws WidgetNotFoundException {
 		UIThreadRunnable.syncExec(new VoidResult() {
 			public void run() {
 				final Control control = graphicalViewer.getControl();
+				LightweightSystem lightweightSystem = null;
 				if (control instanceof FigureCanvas) {
 					canvas = new SWTBotGefFigureCanvas((FigureCanvas) control);
+					lightweightSystem = ((FigureCanvas) control).getLightweightSystem();
 				}  else if (control instanceof Canvas) {
 					if (control instanceof IAdaptable) {
 						IAdaptable adaptable = (IAdaptable) control;
 						Object adapter = adaptable.getAdapter(LightweightSystem.class);
 						if (adapter instanceof LightweightSystem) {
 							canvas = new SWTBotGefFigureCanvas((Canvas) control, (LightweightSystem) adapter);
+							lightweightSystem = (LightweightSystem) adapter;
 						}
 					}
                 }	
 				editDomain = graphicalViewer.getEditDomain();
+				if (control != null) {
+					cacheListener.listen(control, lightweightSystem == null ? null : lightweightSystem.getUpdateManager());
+				}
 			}
 		});
 
@@ -168,16 +197,21 @@ public class SWTBotGefViewer {
 	 * @return the created {@link SWTBotGefEditPart}
 	 */
 	protected SWTBotGefEditPart createEditPart(final EditPart part) {
-		SWTBotGefEditPart editPart = editPartMapping.get(part);
-		if (editPart == null) {
-			if (part instanceof ConnectionEditPart) {
-				editPart = new SWTBotGefConnectionEditPart(this, (ConnectionEditPart) part);
-			} else {
-				editPart = new SWTBotGefEditPart(this, part);
+		return UIThreadRunnable.syncExec(new Result<SWTBotGefEditPart>() {
+			public SWTBotGefEditPart run() {
+				SWTBotGefEditPart editPart = editPartMapping.get(part);
+				if (editPart == null) {
+					if (part instanceof ConnectionEditPart) {
+						editPart = new SWTBotGefConnectionEditPart(SWTBotGefViewer.this, (ConnectionEditPart) part);
+					} else {
+						editPart = new SWTBotGefEditPart(SWTBotGefViewer.this, part);
+					}
+					editPartMapping.put(part, editPart);
+					part.addEditPartListener(cacheListener);
+				}
+				return editPart;
 			}
-			editPartMapping.put(part, editPart);
-		}
-		return editPart;
+		});
 	}
 
 	/**
@@ -491,46 +525,86 @@ public class SWTBotGefViewer {
 	/**
 	 * get this edit part with the label as a single selection.
 	 */
-	public SWTBotGefEditPart getEditPart(String label) {
-		List<SWTBotGefEditPart> allEditParts = mainEditPart().children();
-		allEditParts.addAll(mainEditPart().sourceConnections());
-		return getEditpart(label, allEditParts);
+	public SWTBotGefEditPart getEditPart(final String label) {
+		final EditPart mainEditPart = mainEditPart().part();
+		EditPart part = UIThreadRunnable.syncExec(new Result<EditPart>() {
+			public EditPart run() {
+				boolean built = labelIndex == null;
+				EditPart part = labelIndex(mainEditPart).get(label);
+				if (built || (part != null && part.isActive() && findLabelFigure(((GraphicalEditPart) part).getFigure(), label))) {
+					return part;
+				}
+				labelIndex = null;
+				return labelIndex(mainEditPart).get(label);
+			}
+		});
+		return part == null ? null : createEditPart(part);
 	}
 
-	// FIXME should moved in a finder
-	/*
-	 * * get this edit part with the label as a single selection
+	/**
+	 * call on UI thread only
+	 *
+	 * @return the label index, built if the figures changed since it was last built.
 	 */
-	private SWTBotGefEditPart getEditpart(String label, List<SWTBotGefEditPart> allEditParts) {
-		for (SWTBotGefEditPart child : allEditParts) {
-			IFigure figure = ((GraphicalEditPart) child.part()).getFigure();
+	private Map<String, EditPart> labelIndex(EditPart mainEditPart) {
+		if (labelIndex == null) {
+			labelIndex = new HashMap<String, EditPart>();
+			indexLabels(children(mainEditPart), labelIndex);
+		}
+		return labelIndex;
+	}
 
-			if (isLabel(figure, label)) {
-				return child;
+	/*
+	 * Indexes the labels in the order in which they used to be searched for, one edit part at a time: the edit part
+	 * whose figure is the label, then the edit part found among its children and source connections, then the edit part
+	 * whose figure contains the label. A leaf edit part owns the labels its figure contains before its source
+	 * connections do. The first edit part to own a label keeps it.
+	 */
+	private void indexLabels(List<EditPart> editParts, Map<String, EditPart> index) {
+		for (EditPart child : editParts) {
+			IFigure figure = ((GraphicalEditPart) child).getFigure();
+			String text = labelText(figure);
+			if (text != null && !index.containsKey(text)) {
+				index.put(text, child);
 			}
-
-			SWTBotGefEditPart childEditPart = getEditPart(child, label);
-			if (childEditPart != null) {
-				return childEditPart;
+			if (child.getChildren().isEmpty()) {
+				indexLabelFigures(figure, child, index);
 			}
+			indexLabels(children(child), index);
+			indexLabelFigures(figure, child, index);
+		}
+	}
 
-			if (findLabelFigure(figure, label))
-				return child;
+	private void indexLabelFigures(IFigure figure, EditPart editPart, Map<String, EditPart> index) {
+		String text = labelText(figure);
+		if (text != null && !index.containsKey(text)) {
+			index.put(text, editPart);
+		}
+		for (Object figureChild : figure.getChildren()) {
+			indexLabelFigures((IFigure) figureChild, editPart, index);
 		}
-		return null;
+	}
+
+	@SuppressWarnings("unchecked")
+	private List<EditPart> children(EditPart editPart) {
+		List<EditPart> children = new ArrayList<EditPart>(editPart.getChildren());
+		children.addAll(((GraphicalEditPart) editPart).getSourceConnections());
+		return children;
 	}
 
 	/**
-	 * get this edit part with the label as a single selection
+	 * @return the text of the figure if it is a label, <code>null</code> otherwise.
 	 */
-	private SWTBotGefEditPart getEditPart(SWTBotGefEditPart editPart, String label) {
-		if (editPart.children().isEmpty() && findLabelFigure(((GraphicalEditPart) editPart.part()).getFigure(), label)) {
-			return editPart;
+	private String labelText(IFigure figure) {
+		// case 1 : gef label
+		if (figure instanceof Label) {
+			return ((Label) figure).getText();
 		}
-
-		List<SWTBotGefEditPart> allEditParts = editPart.children();
-		allEditParts.addAll(editPart.sourceConnections());
-		return getEditpart(label, allEditParts);
+		// case 2 : no gef label
+		if (figure instanceof TextFlow) {
+			return ((TextFlow) figure).getText();
+		}
+		return null;
 	}
 
 	// FIXME should moved in a finder
@@ -565,4 +639,48 @@ public class SWTBotGefViewer {
 		}
 		return false;
 	}
+
+	/**
+	 * Forgets the wrappers of the edit parts that are deactivated, and the label index when the figures are validated
+	 * or painted, which they are after any change to a label.
+	 */
+	private class CacheListener extends EditPartListener.Stub implements UpdateListener, DisposeListener {
+
+		private UpdateManager	updateManager;
+
+		/**
+		 * call on UI thread only
+		 *
+		 * @param updateManager the update manager of the figures, or <code>null</code> if it is not known.
+		 */
+		void listen(Control control, UpdateManager updateManager) {
+			this.updateManager = updateManager;
+			if (updateManager != null) {
+				updateManager.addUpdateListener(this);
+			}
+			control.addDisposeListener(this);
+		}
+
+		public void partDeactivated(EditPart editPart) {
+			editPartMapping.remove(editPart);
+			editPart.removeEditPartListener(this);
+			labelIndex = null;
+		}
+
+		@SuppressWarnings("rawtypes")
+		public void notifyPainting(Rectangle damage, Map dirtyRegions) {
+			labelIndex = null;
+		}
+
+		public void notifyValidating() {
+			labelIndex = null;
+		}
+
+		public void widgetDisposed(DisposeEvent e) {
+			if (updateManager != null) {
+				updateManager.removeUpdateListener(this);
+			}
+			clear();
+		}
+	}
 }
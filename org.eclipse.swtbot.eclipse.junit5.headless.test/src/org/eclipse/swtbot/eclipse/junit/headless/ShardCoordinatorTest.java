@@ -0,0 +1,137 @@
+/*******************************************************************************
+ * Copyright (c) 2026 SWTBot Committers and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     SWTBot Committers - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.swtbot.eclipse.junit.headless;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.io.File;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import javax.xml.parsers.DocumentBuilderFactory;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.w3c.dom.Element;
+import org.w3c.dom.NodeList;
+
+/**
+ * @author SWTBot Committers
+ */
+public class ShardCoordinatorTest {
+
+	@Rule
+	public TemporaryFolder	folder	= new TemporaryFolder();
+
+	@Test
+	public void givesTheLongestClassesToTheLightestShards() throws Exception {
+		ShardCoordinator coordinator = coordinator(2, "A", "B", "C", "D");
+		Map<String, Double> durations = new HashMap<>();
+		durations.put("A", 10.0);
+		durations.put("B", 6.0);
+		durations.put("C", 5.0);
+		durations.put("D", 1.0);
+
+		assertEquals(Arrays.asList(Arrays.asList(0, 3), Arrays.asList(1, 2)), coordinator.balance(durations));
+	}
+
+	@Test
+	public void assumesClassesWithoutHistoryTakeTheAverageDuration() throws Exception {
+		ShardCoordinator coordinator = coordinator(2, "A", "B", "New");
+		Map<String, Double> durations = new HashMap<>();
+		durations.put("A", 9.0);
+		durations.put("B", 3.0);
+
+		// New is assumed to take 6, so it goes with B
+		assertEquals(Arrays.asList(Arrays.asList(0), Arrays.asList(2, 1)), coordinator.balance(durations));
+	}
+
+	@Test
+	public void startsNoMoreShardsThanClasses() throws Exception {
+		ShardCoordinator coordinator = coordinator(4, "A", "B");
+
+		assertEquals(Arrays.asList(Arrays.asList(0), Arrays.asList(1)), coordinator.balance(Collections.<String, Double> emptyMap()));
+	}
+
+	@Test
+	public void mergesTheReportsOfAllShards() throws Exception {
+		ShardCoordinator coordinator = coordinator(2, "A", "B");
+		writeReport("A", 1, 0);
+		writeReport("B", 2, 1);
+
+		assertTrue(coordinator.mergeReports(Arrays.asList(Arrays.asList(0), Arrays.asList(1))));
+
+		List<Element> testSuites = mergedTestSuites();
+		assertEquals(2, testSuites.size());
+		assertEquals("A", testSuites.get(0).getAttribute("name"));
+		assertEquals("B", testSuites.get(1).getAttribute("name"));
+		assertEquals("1", testSuites.get(1).getAttribute("failures"));
+	}
+
+	@Test
+	public void reportsAnErrorForAClassWithoutReport() throws Exception {
+		ShardCoordinator coordinator = coordinator(2, "A", "B");
+		writeReport("A", 1, 0);
+
+		assertFalse(coordinator.mergeReports(Arrays.asList(Arrays.asList(0), Arrays.asList(1))));
+
+		List<Element> testSuites = mergedTestSuites();
+		assertEquals(2, testSuites.size());
+		Element missing = testSuites.get(1);
+		assertEquals("B", missing.getAttribute("name"));
+		assertEquals("1", missing.getAttribute("errors"));
+		Element error = (Element) missing.getElementsByTagName("error").item(0);
+		assertEquals("No report was written, see shard-1.log", error.getAttribute("message"));
+	}
+
+	@Test
+	public void doesNotPassDebuggingAndManagementAgentsToTheShards() throws Exception {
+		List<String> vmArgs = Arrays.asList("-Xmx1g", "-agentlib:jdwp=transport=dt_socket,server=y,address=8000", "-Xdebug",
+				"-Xrunjdwp:transport=dt_socket,address=8001", "-Dcom.sun.management.jmxremote.port=9010", "-javaagent:jacoco.jar=destfile=jacoco.exec",
+				"-javaagent:jacoco.jar=output=tcpserver,port=6300", "-Dfoo=bar");
+
+		assertEquals(Arrays.asList("-Xmx1g", "-javaagent:jacoco.jar=destfile=jacoco.exec", "-Dfoo=bar"), ShardCoordinator.withoutAgents(vmArgs));
+	}
+
+	private ShardCoordinator coordinator(int shardCount, String... classes) {
+		String[] testPlugins = new String[classes.length];
+		Arrays.fill(testPlugins, "org.example.tests");
+		return new ShardCoordinator(testPlugins, classes, folder.getRoot(), null, shardCount, -1);
+	}
+
+	private void writeReport(String className, int tests, int failures) throws Exception {
+		String report = "<?xml version=\"1.0\" encoding=\"UTF-8\"?>\n<testsuite name=\"" + className + "\" tests=\"" + tests + "\" failures=\""
+				+ failures + "\" errors=\"0\" time=\"1.0\"><testcase classname=\"" + className + "\" name=\"test\"/></testsuite>\n";
+		Files.write(new File(folder.getRoot(), "TEST-" + className + ".xml").toPath(), report.getBytes(StandardCharsets.UTF_8));
+	}
+
+	private List<Element> mergedTestSuites() throws Exception {
+		Element testSuites = DocumentBuilderFactory.newInstance().newDocumentBuilder().parse(new File(folder.getRoot(), "TESTS-TestSuites.xml"))
+				.getDocumentElement();
+		assertEquals("testsuites", testSuites.getTagName());
+		NodeList children = testSuites.getElementsByTagName("testsuite");
+		Element[] elements = new Element[children.getLength()];
+		for (int i = 0; i < elements.length; i++)
+			elements[i] = (Element) children.item(i);
+		return Arrays.asList(elements);
+	}
+}
@@ -84,6 +84,9 @@ public class EclipseTestRunner {
 	 * -className=&lt;testSuiteName&gt;
 	 * -testPluginName&lt;containingpluginName&gt;
 	 * -formatter=&lt;classname&gt;(,&lt;path&gt;)
+	 * -shards &lt;count&gt;
+	 * -shardHistory &lt;directory&gt;
+	 * -shardXvfb &lt;displayNumber&gt;
 	 * </pre>
 	 * Where &lt;classname&gt; is the formatter classname, currently ignored as only
 	 * LegacyXmlResultFormatter is used. The path is either the path to the
@@ -91,6 +94,12 @@ public class EclipseTestRunner {
 	 * is being run or should be the path to the result directory where result
 	 * files should be created if multiple tests are being run. If no path is
 	 * given, the standard output is used.
+	 * <p>
+	 * When several tests are run and more than one shard is asked for, the tests are run by as many child Eclipse
+	 * processes at once, see {@link ShardCoordinator}. The durations in the reports found in the shard history
+	 * directory, which defaults to the result directory, are used to balance the shards. If an Xvfb display number
+	 * is given, each shard gets its own Xvfb display, on the first free display numbers from that one.
+	 * </p>
 	 */
 	public static void main(String[] args) throws IOException {
 		System.exit(run(args));
@@ -104,6 +113,9 @@ public class EclipseTestRunner {
 		String resultPathString = null;
 		String timeoutString = null;
 		String junitReportOutput = null;
+		String shardsString = null;
+		String shardHistory = null;
+		String shardXvfbString = null;
 
 		Properties props = new Properties();
 
@@ -133,6 +145,18 @@ public class EclipseTestRunner {
 				if (i < args.length - 1)
 					testPluginsNames = args[i + 1];
 				i++;
+			} else if (args[i].toLowerCase().equals("-shards")) {
+				if (i < args.length - 1)
+					shardsString = args[i + 1];
+				i++;
+			} else if (args[i].toLowerCase().equals("-shardhistory")) {
+				if (i < args.length - 1)
+					shardHistory = args[i + 1];
+				i++;
+			} else if (args[i].toLowerCase().equals("-shardxvfb")) {
+				if (i < args.length - 1)
+					shardXvfbString = args[i + 1];
+				i++;
 			} else if (args[i].equals("-junitReportOutput")) {
 				if (i < args.length - 1)
 					junitReportOutput = args[i + 1];
@@ -183,6 +207,14 @@ public class EclipseTestRunner {
 			// names
 			String[] testPlugins = testPluginsNames.split(",");
 			String[] suiteClasses = classesNames.split(",");
+			int shards = shardsString == null ? 1 : Integer.parseInt(shardsString);
+			if (shards > 1) {
+				if (resultPathString == null || resultPathString.isEmpty())
+					throw new IllegalArgumentException("Shards need a result directory");
+				int firstDisplay = shardXvfbString == null ? -1 : Integer.parseInt(shardXvfbString);
+				File historyDirectory = shardHistory == null ? null : new File(shardHistory);
+				return new ShardCoordinator(testPlugins, suiteClasses, new File(resultPathString), historyDirectory, shards, firstDisplay).run();
+			}
 			int returnCode = 0;
 			int j = 0;
 			EclipseTestRunner runner = new EclipseTestRunner();
@@ -0,0 +1,401 @@
+/*******************************************************************************
+ * Copyright (c) 2026 SWTBot Committers and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     SWTBot Committers - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.swtbot.eclipse.junit.headless;
+
+import java.io.File;
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Stream;
+
+import javax.xml.parsers.DocumentBuilder;
+import javax.xml.parsers.DocumentBuilderFactory;
+import javax.xml.parsers.ParserConfigurationException;
+import javax.xml.transform.OutputKeys;
+import javax.xml.transform.Transformer;
+import javax.xml.transform.TransformerException;
+import javax.xml.transform.TransformerFactory;
+import javax.xml.transform.dom.DOMSource;
+import javax.xml.transform.stream.StreamResult;
+
+import org.eclipse.core.runtime.Platform;
+import org.eclipse.osgi.service.datalocation.Location;
+import org.w3c.dom.Document;
+import org.w3c.dom.Element;
+import org.xml.sax.SAXException;
+
+/**
+ * Runs test classes in several child Eclipse processes at once, and merges their results.
+ * <p>
+ * The classes are spread over the shards so that the shards take about as long, using the durations recorded in the
+ * <code>TEST-*.xml</code> reports of a previous run. A class without a previous report is assumed to take as long as
+ * the average class. Each child is started with the command line of this Eclipse, without its debugging and management
+ * agents, which would try to listen on the same ports. It gets its own workspace next to the workspace of this Eclipse,
+ * which is deleted once it is done, and, if asked for, its own Xvfb display, on the first free display number. The
+ * children write their reports into the result directory as a single runner would, and their output into
+ * <code>shard-&lt;n&gt;.log</code>. Once they are done, the reports are merged into
+ * <code>TESTS-TestSuites.xml</code>, in the format of the Ant <code>junitreport</code> task.
+ * </p>
+ */
+class ShardCoordinator {
+
+	/** The arguments of this Eclipse, followed by their value, that are not passed on to the children. */
+	private static final Set<String>	SHARD_ARGUMENTS	= new HashSet<>(Arrays.asList("-data", "-classname", "-testpluginname", "-classesnames",
+			"-testpluginsnames", "-shards", "-shardhistory", "-shardxvfb"));
+	private static final String			MERGED_REPORT	= "TESTS-TestSuites.xml";
+	/** How long to wait for an Xvfb display to accept connections, in milliseconds. */
+	private static final long			XVFB_TIMEOUT	= 10000;
+	/** How many display numbers to try for each Xvfb, in case another server takes the one that looked free. */
+	private static final int			XVFB_ATTEMPTS	= 10;
+
+	private final String[]				testPlugins;
+	private final String[]				classes;
+	private final File					resultDirectory;
+	private final File					historyDirectory;
+	private final int					shardCount;
+	private final int					firstDisplay;
+
+	/**
+	 * @param testPlugins the plug-ins of the test classes.
+	 * @param classes the test classes.
+	 * @param resultDirectory the directory of the reports.
+	 * @param historyDirectory the directory of the reports of a previous run, or <code>null</code> to use the result
+	 *            directory.
+	 * @param shardCount the number of child processes.
+	 * @param firstDisplay the lowest number to try for the Xvfb displays of the shards, or -1 to let the children use
+	 *            the display of this Eclipse.
+	 */
+	ShardCoordinator(String[] testPlugins, String[] classes, File resultDirectory, File historyDirectory, int shardCount, int firstDisplay) {
+		this.testPlugins = testPlugins;
+		this.classes = classes;
+		this.resultDirectory = resultDirectory;
+		this.historyDirectory = (historyDirectory != null) ? historyDirectory : resultDirectory;
+		this.shardCount = shardCount;
+		this.firstDisplay = firstDisplay;
+	}
+
+	int run() throws IOException {
+		List<List<Integer>> shards = balance(readDurations());
+		resultDirectory.mkdirs();
+		for (String className : classes) {
+			// do not take the report of a previous run for the report of a child that did not run
+			new File(resultDirectory, "TEST-" + className + ".xml").delete();
+		}
+
+		List<Process> xvfbs = new ArrayList<>();
+		List<Process> children = new ArrayList<>();
+		int returnCode = EclipseTestRunner.SUCCESS;
+		int nextDisplay = firstDisplay;
+		try {
+			for (int i = 0; i < shards.size(); i++) {
+				Map<String, String> environment = new HashMap<>();
+				if (firstDisplay >= 0) {
+					Xvfb xvfb = startXvfb(nextDisplay);
+					xvfbs.add(xvfb.process);
+					environment.put("DISPLAY", ":" + xvfb.display);
+					nextDisplay = xvfb.display + 1;
+				}
+				ProcessBuilder builder = new ProcessBuilder(childCommand(i, shards.get(i)));
+				builder.environment().putAll(environment);
+				builder.redirectErrorStream(true);
+				builder.redirectOutput(new File(resultDirectory, "shard-" + i + ".log"));
+				System.err.println("INFO: starting shard " + i + " with " + shards.get(i).size() + " test classes");
+				children.add(builder.start());
+			}
+			for (int i = 0; i < children.size(); i++) {
+				int exitCode = children.get(i).waitFor();
+				System.err.println("INFO: shard " + i + " finished with exit code " + exitCode);
+				if (exitCode != EclipseTestRunner.SUCCESS)
+					returnCode = Math.max(returnCode, (exitCode == EclipseTestRunner.FAILURES) ? EclipseTestRunner.FAILURES : EclipseTestRunner.ERRORS);
+			}
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			return EclipseTestRunner.ERRORS;
+		} finally {
+			for (Process child : children)
+				child.destroy();
+			for (Process xvfb : xvfbs)
+				xvfb.destroy();
+			for (int i = 0; i < shards.size(); i++)
+				delete(workspace(i));
+		}
+
+		try {
+			if (!mergeReports(shards))
+				returnCode = EclipseTestRunner.ERRORS;
+		} catch (ParserConfigurationException | TransformerException e) {
+			e.printStackTrace();
+			return EclipseTestRunner.ERRORS;
+		}
+		return returnCode;
+	}
+
+	/**
+	 * @return the duration of the test classes in the reports of the previous run, in seconds, by class name.
+	 */
+	private Map<String, Double> readDurations() {
+		Map<String, Double> durations = new HashMap<>();
+		File[] reports = historyDirectory.listFiles((directory, name) -> name.startsWith("TEST-") && name.endsWith(".xml"));
+		if (reports == null)
+			return durations;
+		try {
+			DocumentBuilder builder = DocumentBuilderFactory.newInstance().newDocumentBuilder();
+			for (File report : reports) {
+				try {
+					Element testSuite = builder.parse(report).getDocumentElement();
+					durations.put(testSuite.getAttribute("name"), Double.valueOf(testSuite.getAttribute("time")));
+				} catch (SAXException | IOException | NumberFormatException e) {
+					System.err.println("WARNING: ignoring the unreadable report " + report);
+				}
+			}
+		} catch (ParserConfigurationException e) {
+			e.printStackTrace();
+		}
+		return durations;
+	}
+
+	/**
+	 * Gives each class, the longest first, to the shard that has the least work so far.
+	 *
+	 * @return the indexes of the classes of each shard that has any.
+	 */
+	List<List<Integer>> balance(Map<String, Double> durations) {
+		double defaultDuration = 0;
+		for (Double duration : durations.values())
+			defaultDuration += duration;
+		defaultDuration = durations.isEmpty() ? 1 : defaultDuration / durations.size();
+
+		final double[] classDurations = new double[classes.length];
+		List<Integer> order = new ArrayList<>();
+		for (int i = 0; i < classes.length; i++) {
+			Double duration = durations.get(classes[i]);
+			classDurations[i] = (duration != null) ? duration : defaultDuration;
+			order.add(i);
+		}
+		Collections.sort(order, (a, b) -> Double.compare(classDurations[b], classDurations[a]));
+
+		int count = Math.min(shardCount, classes.length);
+		List<List<Integer>> shards = new ArrayList<>();
+		double[] loads = new double[count];
+		for (int i = 0; i < count; i++)
+			shards.add(new ArrayList<>());
+		for (int classIndex : order) {
+			int lightest = 0;
+			for (int i = 1; i < count; i++) {
+				if (loads[i] < loads[lightest])
+					lightest = i;
+			}
+			shards.get(lightest).add(classIndex);
+			loads[lightest] += classDurations[classIndex];
+		}
+		return shards;
+	}
+
+	private List<String> childCommand(int shard, List<Integer> classIndexes) {
+		List<String> command = new ArrayList<>();
+		command.add(System.getProperty("java.home") + File.separator + "bin" + File.separator + "java");
+		String vmArgs = System.getProperty("eclipse.vmargs");
+		if (vmArgs != null) {
+			// the native launcher passes -jar and the launcher jar in the vm arguments
+			command.addAll(withoutAgents(lines(vmArgs)));
+		} else {
+			command.addAll(withoutAgents(ManagementFactory.getRuntimeMXBean().getInputArguments()));
+			command.add("-cp");
+			command.add(System.getProperty("java.class.path"));
+			command.add("org.eclipse.equinox.launcher.Main");
+		}
+
+		String commands = System.getProperty("eclipse.commands");
+		if (commands == null)
+			throw new IllegalStateException("Cannot start the shards: the command line of this Eclipse is unknown");
+		List<String> args = lines(commands);
+		for (int i = 0; i < args.size(); i++) {
+			if (SHARD_ARGUMENTS.contains(args.get(i).toLowerCase()))
+				i++;
+			else
+				command.add(args.get(i));
+		}
+
+		StringBuilder shardPlugins = new StringBuilder();
+		StringBuilder shardClasses = new StringBuilder();
+		for (int classIndex : classIndexes) {
+			if (shardClasses.length() > 0) {
+				shardPlugins.append(',');
+				shardClasses.append(',');
+			}
+			shardPlugins.append(testPlugins[classIndex]);
+			shardClasses.append(classes[classIndex]);
+		}
+		command.add("-data");
+		command.add(workspace(shard).getAbsolutePath());
+		command.add("-testpluginsnames");
+		command.add(shardPlugins.toString());
+		command.add("-classesnames");
+		command.add(shardClasses.toString());
+		return command;
+	}
+
+	/**
+	 * @return the vm arguments without those that start a debugger or a management agent listening on a port, since the
+	 *         children cannot all listen on the port of this Eclipse.
+	 */
+	static List<String> withoutAgents(List<String> vmArgs) {
+		List<String> filtered = new ArrayList<>();
+		for (String vmArg : vmArgs) {
+			if (vmArg.startsWith("-agentlib:") || vmArg.startsWith("-agentpath:") || vmArg.startsWith("-Xrunjdwp") || vmArg.equals("-Xdebug")
+					|| vmArg.startsWith("-Dcom.sun.management.jmxremote"))
+				continue;
+			// Java agents that write to a file, like code coverage agents usually do, are kept
+			if (vmArg.startsWith("-javaagent:") && vmArg.contains("port="))
+				continue;
+			filtered.add(vmArg);
+		}
+		return filtered;
+	}
+
+	private List<String> lines(String value) {
+		List<String> lines = new ArrayList<>();
+		for (String line : value.split("\n")) {
+			if (!line.isEmpty())
+				lines.add(line);
+		}
+		return lines;
+	}
+
+	private File workspace(int shard) {
+		Location instanceLocation = Platform.getInstanceLocation();
+		File workspace;
+		if ((instanceLocation != null) && (instanceLocation.getURL() != null))
+			workspace = new File(instanceLocation.getURL().getFile());
+		else
+			workspace = new File(System.getProperty("java.io.tmpdir"), "workspace");
+		return new File(workspace.getAbsoluteFile().getParentFile(), workspace.getName() + "-shard-" + shard);
+	}
+
+	/**
+	 * @return the first display number from the given one on which no X server holds a lock or a socket.
+	 */
+	private static int freeDisplay(int display) {
+		while (new File("/tmp/.X" + display + "-lock").exists() || socket(display).exists())
+			display++;
+		return display;
+	}
+
+	private static File socket(int display) {
+		return new File("/tmp/.X11-unix/X" + display);
+	}
+
+	/**
+	 * Starts an Xvfb on the first free display number from the given one, or on the next free one if another server
+	 * takes it first.
+	 *
+	 * @return the Xvfb, once its socket exists while it is still running.
+	 */
+	private Xvfb startXvfb(int firstCandidate) throws IOException, InterruptedException {
+		int display = firstCandidate;
+		for (int attempt = 0; attempt < XVFB_ATTEMPTS; attempt++) {
+			display = freeDisplay(display);
+			ProcessBuilder builder = new ProcessBuilder("Xvfb", ":" + display, "-screen", "0", "1280x1024x24", "-nolisten", "tcp");
+			builder.redirectErrorStream(true);
+			builder.redirectOutput(new File(resultDirectory, "xvfb-" + display + ".log"));
+			Process xvfb = builder.start();
+			long end = System.currentTimeMillis() + XVFB_TIMEOUT;
+			while (!socket(display).exists() && xvfb.isAlive() && (System.currentTimeMillis() < end))
+				Thread.sleep(100);
+			// a socket left by a server that is gone, or made by another server, does not mean that this one runs
+			if (socket(display).exists() && xvfb.isAlive())
+				return new Xvfb(xvfb, display);
+			xvfb.destroy();
+			if (System.currentTimeMillis() >= end)
+				break;
+			display++;
+		}
+		throw new IOException("Could not start Xvfb on a display from :" + firstCandidate + " to :" + display);
+	}
+
+	private static final class Xvfb {
+		final Process	process;
+		final int		display;
+
+		Xvfb(Process process, int display) {
+			this.process = process;
+			this.display = display;
+		}
+	}
+
+	private static void delete(File directory) {
+		if (!directory.exists())
+			return;
+		try (Stream<Path> paths = Files.walk(directory.toPath())) {
+			paths.sorted(Comparator.reverseOrder()).map(Path::toFile).forEach(File::delete);
+		} catch (IOException e) {
+			System.err.println("WARNING: could not delete the workspace " + directory);
+		}
+	}
+
+	/**
+	 * Merges the reports of the test classes. A class without a report is reported as an error.
+	 *
+	 * @return <code>true</code> if every class has a report, <code>false</code> otherwise.
+	 */
+	boolean mergeReports(List<List<Integer>> shards) throws ParserConfigurationException, TransformerException {
+		DocumentBuilder builder = DocumentBuilderFactory.newInstance().newDocumentBuilder();
+		Document merged = builder.newDocument();
+		Element testSuites = merged.createElement("testsuites");
+		merged.appendChild(testSuites);
+
+		boolean complete = true;
+		for (int shard = 0; shard < shards.size(); shard++) {
+			for (int classIndex : shards.get(shard)) {
+				String className = classes[classIndex];
+				File report = new File(resultDirectory, "TEST-" + className + ".xml");
+				try {
+					Element testSuite = builder.parse(report).getDocumentElement();
+					testSuites.appendChild(merged.importNode(testSuite, true));
+					continue;
+				} catch (SAXException | IOException e) {
+					complete = false;
+				}
+				Element testSuite = merged.createElement("testsuite");
+				testSuite.setAttribute("name", className);
+				testSuite.setAttribute("tests", "1");
+				testSuite.setAttribute("errors", "1");
+				testSuite.setAttribute("failures", "0");
+				Element testCase = merged.createElement("testcase");
+				testCase.setAttribute("classname", className);
+				testCase.setAttribute("name", "shard-" + shard);
+				Element error = merged.createElement("error");
+				error.setAttribute("message", "No report was written, see shard-" + shard + ".log");
+				testCase.appendChild(error);
+				testSuite.appendChild(testCase);
+				testSuites.appendChild(testSuite);
+			}
+		}
+
+		Transformer transformer = TransformerFactory.newInstance().newTransformer();
+		transformer.setOutputProperty(OutputKeys.ENCODING, "UTF-8");
+		transformer.transform(new DOMSource(merged), new StreamResult(new File(resultDirectory, MERGED_REPORT)));
+		return complete;
+	}
+}
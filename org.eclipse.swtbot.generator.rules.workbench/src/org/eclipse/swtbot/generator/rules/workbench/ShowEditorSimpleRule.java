@@ -31,6 +31,11 @@ public class ShowEditorSimpleRule extends GenerationSimpleRule {
 		return event.widget == null && event.type == SWT.Selection && event.data instanceof IEditorReference && event.detail == 1; 
 	}
 
+	@Override
+	public int[] getEventTypes() {
+		return new int[] { SWT.Selection };
+	}
+
 	@Override
 	public void initializeForEvent(Event event) {
 		this.editor = (IEditorReference) event.data;
@@ -31,6 +31,11 @@ public class ShowViewSimpleRule extends GenerationSimpleRule {
 		return event.widget == null && event.type == SWT.Selection && event.data instanceof IViewReference && event.detail == 1; 
 	}
 
+	@Override
+	public int[] getEventTypes() {
+		return new int[] { SWT.Selection };
+	}
+
 	@Override
 	public void initializeForEvent(Event event) {
 		this.view = (IViewReference) event.data;
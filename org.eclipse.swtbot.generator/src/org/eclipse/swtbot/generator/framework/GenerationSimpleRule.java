@@ -34,6 +34,26 @@ public abstract class GenerationSimpleRule extends GenerationRule{
 	 */
 	public abstract void initializeForEvent(Event event);
 
+	/**
+	 * The types of the events this rule may apply to. The recorder only checks
+	 * whether the rule applies to events of these types.
+	 * @return the event types, or null if the rule may apply to events of any type
+	 * @since 4.3
+	 */
+	public int[] getEventTypes() {
+		return null;
+	}
+
+	/**
+	 * The class of the widgets this rule may apply to. The recorder only checks
+	 * whether the rule applies to events sent by instances of this class.
+	 * @return the widget class, or null if the rule may apply to events sent by any widget
+	 * @since 4.3
+	 */
+	public Class<? extends Widget> getWidgetClass() {
+		return null;
+	}
+
 	/**
 	 * @return the widget which triggered the event for this rule
 	 * Widget may be disposed.
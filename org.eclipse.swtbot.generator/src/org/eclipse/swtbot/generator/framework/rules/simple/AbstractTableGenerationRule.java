@@ -36,6 +36,11 @@ public abstract class AbstractTableGenerationRule extends GenerationSimpleRule {
 		return event.widget instanceof Table && event.item instanceof TableItem;
 	}
 
+	@Override
+	public Class<Table> getWidgetClass() {
+		return Table.class;
+	}
+
 	@Override
 	public void initializeForEvent(Event event) {
 		this.table = (Table)event.widget;
@@ -39,6 +39,11 @@ public abstract class AbstractTreeGenerationRule extends GenerationSimpleRule {
 		return event.widget instanceof Tree && event.item instanceof TreeItem;
 	}
 
+	@Override
+	public Class<Tree> getWidgetClass() {
+		return Tree.class;
+	}
+
 	@Override
 	public void initializeForEvent(Event event) {
 		this.tree = (Tree)event.widget;
@@ -33,6 +33,16 @@ public class CComboSelectionRule extends GenerationSimpleRule {
 		return event.widget instanceof CCombo && event.type == SWT.Selection;
 	}
 
+	@Override
+	public int[] getEventTypes() {
+		return new int[] { SWT.Selection };
+	}
+
+	@Override
+	public Class<CCombo> getWidgetClass() {
+		return CCombo.class;
+	}
+
 	@Override
 	public void initializeForEvent(Event event) {
 		this.combo = (CCombo) event.widget;
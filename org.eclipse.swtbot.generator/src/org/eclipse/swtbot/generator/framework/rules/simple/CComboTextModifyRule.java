@@ -37,6 +37,16 @@ public class CComboTextModifyRule extends GenerationSimpleRule {
 		return event.type == SWT.Modify && !Arrays.asList(combo.getItems()).contains(combo.getText());
 	}
 
+	@Override
+	public int[] getEventTypes() {
+		return new int[] { SWT.Modify };
+	}
+
+	@Override
+	public Class<CCombo> getWidgetClass() {
+		return CCombo.class;
+	}
+
 	@Override
 	public void initializeForEvent(Event event) {
 		this.combo = (CCombo) event.widget;
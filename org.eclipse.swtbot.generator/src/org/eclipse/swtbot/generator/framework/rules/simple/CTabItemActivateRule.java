@@ -31,6 +31,16 @@ public class CTabItemActivateRule extends GenerationSimpleRule {
 		return event.widget instanceof CTabFolder && event.type == SWT.Selection;
 	}
 
+	@Override
+	public int[] getEventTypes() {
+		return new int[] { SWT.Selection };
+	}
+
+	@Override
+	public Class<CTabFolder> getWidgetClass() {
+		return CTabFolder.class;
+	}
+
 	@Override
 	public void initializeForEvent(Event event) {
 		this.cTabItem = (CTabItem) event.item;
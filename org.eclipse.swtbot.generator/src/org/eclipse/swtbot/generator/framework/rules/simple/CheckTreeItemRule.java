@@ -24,6 +24,11 @@ public class CheckTreeItemRule extends AbstractTreeGenerationRule {
 		return super.appliesTo(e) && e.type == SWT.Selection && e.detail == SWT.CHECK;
 	}
 
+	@Override
+	public int[] getEventTypes() {
+		return new int[] { SWT.Selection };
+	}
+
 	@Override
 	public List<String> getActions() {
 		List<String> actions = new ArrayList<String>();
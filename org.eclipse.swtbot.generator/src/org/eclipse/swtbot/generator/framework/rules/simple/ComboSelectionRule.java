@@ -39,6 +39,16 @@ public class ComboSelectionRule extends GenerationSimpleRule {
 				Arrays.asList(combo.getItems()).contains(combo.getText());
 	}
 
+	@Override
+	public int[] getEventTypes() {
+		return new int[] { SWT.Selection };
+	}
+
+	@Override
+	public Class<Combo> getWidgetClass() {
+		return Combo.class;
+	}
+
 	@Override
 	public void initializeForEvent(Event event) {
 		this.combo = (Combo)event.widget;
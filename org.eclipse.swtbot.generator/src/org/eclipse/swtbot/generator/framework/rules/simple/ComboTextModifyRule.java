@@ -38,6 +38,16 @@ public class ComboTextModifyRule extends GenerationSimpleRule {
 				!Arrays.asList(combo.getItems()).contains(combo.getText());
 	}
 
+	@Override
+	public int[] getEventTypes() {
+		return new int[] { SWT.Modify };
+	}
+
+	@Override
+	public Class<Combo> getWidgetClass() {
+		return Combo.class;
+	}
+
 	@Override
 	public void initializeForEvent(Event event) {
 		this.combo = (Combo) event.widget;
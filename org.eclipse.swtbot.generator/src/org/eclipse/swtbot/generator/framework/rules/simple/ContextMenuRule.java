@@ -46,6 +46,16 @@ public class ContextMenuRule extends GenerationSimpleRule{
 		return event.type == SWT.Selection && menu && (style & SWT.POP_UP)!=0;
 	}
 
+	@Override
+	public int[] getEventTypes() {
+		return new int[] { SWT.Selection };
+	}
+
+	@Override
+	public Class<MenuItem> getWidgetClass() {
+		return MenuItem.class;
+	}
+
 	@Override
 	public void initializeForEvent(Event event) {
 		this.item = (MenuItem) event.widget;
@@ -34,6 +34,16 @@ public class DoubleClickListRule extends GenerationSimpleRule {
 				&& ((org.eclipse.swt.widgets.List) event.widget).getSelectionCount() == 1;
 	}
 
+	@Override
+	public int[] getEventTypes() {
+		return new int[] { SWT.MouseDoubleClick };
+	}
+
+	@Override
+	public Class<org.eclipse.swt.widgets.List> getWidgetClass() {
+		return org.eclipse.swt.widgets.List.class;
+	}
+
 	@Override
 	public void initializeForEvent(Event event) {
 		list = (org.eclipse.swt.widgets.List) event.widget;
@@ -39,6 +39,16 @@ public class DoubleClickTableItemRule extends GenerationSimpleRule {
 				&& ((Table) event.widget).getSelectionCount() == 1;
 	}
 
+	@Override
+	public int[] getEventTypes() {
+		return new int[] { SWT.MouseDoubleClick };
+	}
+
+	@Override
+	public Class<Table> getWidgetClass() {
+		return Table.class;
+	}
+
 	@Override
 	public void initializeForEvent(Event event) {
 		this.table = (Table) event.widget;
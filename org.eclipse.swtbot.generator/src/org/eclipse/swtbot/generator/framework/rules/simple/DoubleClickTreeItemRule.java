@@ -40,6 +40,16 @@ public class DoubleClickTreeItemRule extends GenerationSimpleRule {
 				&& ((Tree) event.widget).getSelectionCount() == 1;
 	}
 
+	@Override
+	public int[] getEventTypes() {
+		return new int[] { SWT.MouseDoubleClick };
+	}
+
+	@Override
+	public Class<Tree> getWidgetClass() {
+		return Tree.class;
+	}
+
 	@Override
 	public void initializeForEvent(Event event) {
 		this.tree = (Tree) event.widget;
@@ -25,6 +25,11 @@ public class ExpandTreeItemRule extends AbstractTreeGenerationRule {
 		return super.appliesTo(e) && e.type == SWT.Expand;
 	}
 
+	@Override
+	public int[] getEventTypes() {
+		return new int[] { SWT.Expand };
+	}
+
 	@Override
 	public List<String> getActions() {
 		List<String> actions = new ArrayList<String>();
@@ -36,6 +36,16 @@ public class ModifyStyledTextRule extends GenerationSimpleRule {
 		return false;
 	}
 
+	@Override
+	public int[] getEventTypes() {
+		return new int[] { SWT.Modify };
+	}
+
+	@Override
+	public Class<StyledText> getWidgetClass() {
+		return StyledText.class;
+	}
+
 	@Override
 	public void initializeForEvent(Event event) {
 		this.text = (StyledText)event.widget;
@@ -38,6 +38,16 @@ public class ModifyTextRule extends GenerationSimpleRule {
 				!(((Text)event.widget).getParent() instanceof CCombo);
 	}
 
+	@Override
+	public int[] getEventTypes() {
+		return new int[] { SWT.Modify };
+	}
+
+	@Override
+	public Class<Text> getWidgetClass() {
+		return Text.class;
+	}
+
 	@Override
 	public void initializeForEvent(Event event) {
 		this.text = (Text) event.widget;
@@ -33,6 +33,11 @@ public class PressShortCutRule extends GenerationSimpleRule {
 		return event.type == SWT.KeyDown && event.stateMask != 0 && !(event.stateMask == SWT.SHIFT && Character.isUpperCase(event.character));
 	}
 
+	@Override
+	public int[] getEventTypes() {
+		return new int[] { SWT.KeyDown };
+	}
+
 	@Override
 	public void initializeForEvent(Event event) {
 		this.widget = event.widget;
@@ -34,6 +34,16 @@ public class PushButtonClickedRule extends GenerationSimpleRule {
 				&& event.type == SWT.Selection;
 	}
 
+	@Override
+	public int[] getEventTypes() {
+		return new int[] { SWT.Selection };
+	}
+
+	@Override
+	public Class<Button> getWidgetClass() {
+		return Button.class;
+	}
+
 	@Override
 	public void initializeForEvent(Event event) {
 		this.button = (Button)event.widget;
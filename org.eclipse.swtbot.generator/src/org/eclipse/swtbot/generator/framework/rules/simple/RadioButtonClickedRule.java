@@ -35,6 +35,16 @@ public class RadioButtonClickedRule extends GenerationSimpleRule {
 				&& event.type == SWT.Selection && ((Button) event.widget).getSelection();
 	}
 
+	@Override
+	public int[] getEventTypes() {
+		return new int[] { SWT.Selection };
+	}
+
+	@Override
+	public Class<Button> getWidgetClass() {
+		return Button.class;
+	}
+
 	@Override
 	public void initializeForEvent(Event event) {
 		this.button = (Button)event.widget;
@@ -34,6 +34,16 @@ public class SelectListItemRule extends GenerationSimpleRule {
 				&& event.type == SWT.Selection;
 	}
 
+	@Override
+	public int[] getEventTypes() {
+		return new int[] { SWT.Selection };
+	}
+
+	@Override
+	public Class<org.eclipse.swt.widgets.List> getWidgetClass() {
+		return org.eclipse.swt.widgets.List.class;
+	}
+
 	@Override
 	public void initializeForEvent(Event event) {
 		this.list = (org.eclipse.swt.widgets.List)event.widget;
@@ -35,6 +35,16 @@ public class SelectTableItemRule extends GenerationSimpleRule {
 		return event.widget instanceof Table && event.type == SWT.Selection && event.detail != SWT.CHECK;
 	}
 
+	@Override
+	public int[] getEventTypes() {
+		return new int[] { SWT.Selection };
+	}
+
+	@Override
+	public Class<Table> getWidgetClass() {
+		return Table.class;
+	}
+
 	@Override
 	public void initializeForEvent(Event event) {
 		this.table = (Table) event.widget;
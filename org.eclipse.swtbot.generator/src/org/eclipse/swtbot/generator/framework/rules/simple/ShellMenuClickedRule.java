@@ -43,6 +43,16 @@ public class ShellMenuClickedRule extends GenerationSimpleRule {
 		return event.type == SWT.Selection && menu && (style & SWT.BAR)!=0;
 	}
 
+	@Override
+	public int[] getEventTypes() {
+		return new int[] { SWT.Selection };
+	}
+
+	@Override
+	public Class<MenuItem> getWidgetClass() {
+		return MenuItem.class;
+	}
+
 	@Override
 	public void initializeForEvent(Event event) {
 		this.item = (MenuItem)event.widget;
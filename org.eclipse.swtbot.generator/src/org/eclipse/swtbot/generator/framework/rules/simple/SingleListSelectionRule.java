@@ -33,6 +33,16 @@ public class SingleListSelectionRule extends GenerationSimpleRule {
 			(((List)event.widget).getStyle() & SWT.SINGLE) != 0;
 	}
 
+	@Override
+	public int[] getEventTypes() {
+		return new int[] { SWT.Selection };
+	}
+
+	@Override
+	public Class<List> getWidgetClass() {
+		return List.class;
+	}
+
 	@Override
 	public void initializeForEvent(Event event) {
 		this.widget = (List)event.widget;
@@ -31,6 +31,16 @@ public class TabItemActivateRule extends GenerationSimpleRule {
 		return event.widget instanceof TabFolder && event.type == SWT.Selection;
 	}
 
+	@Override
+	public int[] getEventTypes() {
+		return new int[] { SWT.Selection };
+	}
+
+	@Override
+	public Class<TabFolder> getWidgetClass() {
+		return TabFolder.class;
+	}
+
 	@Override
 	public void initializeForEvent(Event event) {
 		this.tabItem = (TabItem)event.item;
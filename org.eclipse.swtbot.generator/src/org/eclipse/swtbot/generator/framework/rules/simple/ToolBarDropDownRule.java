@@ -32,6 +32,16 @@ public class ToolBarDropDownRule extends GenerationSimpleRule{
 				(((ToolItem)event.widget).getStyle() & SWT.DROP_DOWN)!= 0;
 	}
 
+	@Override
+	public int[] getEventTypes() {
+		return new int[] { SWT.Selection };
+	}
+
+	@Override
+	public Class<ToolItem> getWidgetClass() {
+		return ToolItem.class;
+	}
+
 	@Override
 	public void initializeForEvent(Event event) {
 		this.widget = (ToolItem)event.widget;
@@ -36,6 +36,16 @@ public class ToolBarItemClickedRule extends GenerationSimpleRule{
 		return false;
 	}
 
+	@Override
+	public int[] getEventTypes() {
+		return new int[] { SWT.Selection };
+	}
+
+	@Override
+	public Class<ToolItem> getWidgetClass() {
+		return ToolItem.class;
+	}
+
 	@Override
 	public void initializeForEvent(Event event) {
 		this.widget = (ToolItem)event.widget;
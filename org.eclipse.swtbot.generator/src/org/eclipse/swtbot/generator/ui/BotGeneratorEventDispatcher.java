@@ -14,10 +14,12 @@
 package org.eclipse.swtbot.generator.ui;
 
 import java.util.ArrayList;
-import java.util.HashSet;
+import java.util.HashMap;
+import java.util.Iterator;
 import java.util.List;
-import java.util.Set;
+import java.util.Map;
 
+import org.eclipse.core.runtime.IExecutableExtension;
 import org.eclipse.swt.widgets.Control;
 import org.eclipse.swt.widgets.Event;
 import org.eclipse.swt.widgets.Item;
@@ -48,9 +50,20 @@ public class BotGeneratorEventDispatcher implements Listener{
 	private List<GenerationSimpleRule> simpleRules = new ArrayList<GenerationSimpleRule>();
 	private GenerationComplexRule longestMatchedComplex;
 	private List<GenerationComplexRule> activeComplexRules = new ArrayList<GenerationComplexRule>();
+	/** The number of simple rules the active complex rules have been matched with */
+	private int matchedSimpleRules;
+
+	/** Rules of the generator, only used to check which rules apply, null until needed */
+	private List<GenerationSimpleRule> simpleRulePrototypes;
+	private List<GenerationComplexRule> complexRulePrototypes;
+	/** Indexes of the simple rules that may apply to an event, by event type and widget class */
+	private Map<Integer, Map<Class<?>, int[]>> simpleRuleIndex = new HashMap<Integer, Map<Class<?>, int[]>>();
 
 	public void setGenerator(Generator generator) {
 		this.generator = generator;
+		this.simpleRulePrototypes = null;
+		this.complexRulePrototypes = null;
+		this.simpleRuleIndex.clear();
 	}
 
 	public void addListener(CodeGenerationListener listener) {
@@ -131,8 +144,10 @@ public class BotGeneratorEventDispatcher implements Listener{
 	 */
 	private void processRules(Event event, boolean forceGeneration) {
 		if (event != null) {
-			for (GenerationSimpleRule rule : generator.createSimpleRules()) {
-				if (rule.appliesTo(event)) {
+			List<GenerationSimpleRule> prototypes = getSimpleRulePrototypes();
+			for (int index : getSimpleRuleCandidates(event)) {
+				if (prototypes.get(index).appliesTo(event)) {
+					GenerationSimpleRule rule = createSimpleRule(index);
 					rule.initializeForEvent(event);
 					simpleRules.add(rule); //store simple rule for further processing
 				}
@@ -141,9 +156,10 @@ public class BotGeneratorEventDispatcher implements Listener{
 
 		if (!this.simpleRules.isEmpty()) {
 			if (this.activeComplexRules.isEmpty()) {
-				this.activeComplexRules.addAll(this.generator.createComplexRules());
+				this.activeComplexRules.addAll(createComplexRules());
+				this.matchedSimpleRules = 0;
 			}
-			filterComplexRulesAndUpdateLongest();
+			matchComplexRulesAndUpdateLongest();
 			if (this.activeComplexRules.isEmpty() || forceGeneration) {
 				if (this.longestMatchedComplex != null) {
 					// generate code
@@ -152,46 +168,133 @@ public class BotGeneratorEventDispatcher implements Listener{
 					this.simpleRules.removeAll(this.longestMatchedComplex.getInitializationRules());
 					// Remove current complex rull
 					this.longestMatchedComplex = null;
-					// continue on remaining simple rules
-					processRules(null, forceGeneration);
 				} else {
 					// generate code for first simple rule
 					dispatchCodeGenerated(this.simpleRules.get(0));
 					// consume first simple rule
 					this.simpleRules.remove(0);
-					// continue on remaining simple rules
-					processRules(null, forceGeneration);
 				}
+				// the remaining simple rules moved, match them from the start
+				this.activeComplexRules.clear();
+				// continue on remaining simple rules
+				processRules(null, forceGeneration);
 			}
 		}
 	}
 
-	private void filterComplexRulesAndUpdateLongest() {
-		for(int i=0; i < this.simpleRules.size(); i++){
-			Set<GenerationComplexRule> notMatchingRules= new HashSet<GenerationComplexRule>();
-			for(GenerationComplexRule complexRule : this.activeComplexRules){
-				if(!complexRule.appliesToPartially(simpleRules.get(i), i)){
-					notMatchingRules.add(complexRule);
+	/**
+	 * Matches the active complex rules with the simple rules recorded since the last call, so that each simple rule is
+	 * only matched once with each complex rule.
+	 */
+	private void matchComplexRulesAndUpdateLongest() {
+		for (; matchedSimpleRules < simpleRules.size() && !activeComplexRules.isEmpty(); matchedSimpleRules++) {
+			int i = matchedSimpleRules;
+			Iterator<GenerationComplexRule> complexRules = activeComplexRules.iterator();
+			while (complexRules.hasNext()) {
+				GenerationComplexRule complexRule = complexRules.next();
+				if (!complexRule.appliesToPartially(simpleRules.get(i), i)) {
+					complexRules.remove();
 				} else {
-					List<GenerationSimpleRule> modifSimpleRules = new ArrayList<GenerationSimpleRule>();
-					modifSimpleRules.addAll(simpleRules);
-					GenerationComplexRule matchedComplex = null;
-					while(matchedComplex == null && !modifSimpleRules.isEmpty()){
-						if(complexRule.appliesTo(modifSimpleRules)){
-							matchedComplex=complexRule;
-							matchedComplex.initializeForRules(modifSimpleRules);
-						} else {
-							modifSimpleRules.remove(modifSimpleRules.size()-1);
-						}
-					}
-					if(matchedComplex != null){
-						if (longestMatchedComplex == null || matchedComplex.getInitializationRules().size() > longestMatchedComplex.getInitializationRules().size()){
-							longestMatchedComplex = matchedComplex;
-						}
+					List<GenerationSimpleRule> matchedRules = new ArrayList<GenerationSimpleRule>(simpleRules.subList(0, i + 1));
+					if (complexRule.appliesTo(matchedRules) && (longestMatchedComplex == null
+							|| matchedRules.size() > longestMatchedComplex.getInitializationRules().size())) {
+						complexRule.initializeForRules(matchedRules);
+						longestMatchedComplex = complexRule;
 					}
 				}
 			}
-			this.activeComplexRules.removeAll(notMatchingRules);
+		}
+	}
+
+	private List<GenerationSimpleRule> getSimpleRulePrototypes() {
+		if (simpleRulePrototypes == null) {
+			simpleRulePrototypes = generator.createSimpleRules();
+		}
+		return simpleRulePrototypes;
+	}
+
+	/**
+	 * @return the indexes, in order, of the simple rules declaring that they may apply to the type of the event and the
+	 *         class of its widget
+	 */
+	private int[] getSimpleRuleCandidates(Event event) {
+		Map<Class<?>, int[]> byWidgetClass = simpleRuleIndex.get(event.type);
+		if (byWidgetClass == null) {
+			byWidgetClass = new HashMap<Class<?>, int[]>();
+			simpleRuleIndex.put(event.type, byWidgetClass);
+		}
+		Class<?> widgetClass = event.widget == null ? null : event.widget.getClass();
+		int[] candidates = byWidgetClass.get(widgetClass);
+		if (candidates == null) {
+			List<GenerationSimpleRule> prototypes = getSimpleRulePrototypes();
+			int[] indexes = new int[prototypes.size()];
+			int count = 0;
+			for (int index = 0; index < prototypes.size(); index++) {
+				GenerationSimpleRule prototype = prototypes.get(index);
+				if (mayApply(prototype.getEventTypes(), event.type) && (prototype.getWidgetClass() == null
+						|| (widgetClass != null && prototype.getWidgetClass().isAssignableFrom(widgetClass)))) {
+					indexes[count++] = index;
+				}
+			}
+			candidates = new int[count];
+			System.arraycopy(indexes, 0, candidates, 0, count);
+			byWidgetClass.put(widgetClass, candidates);
+		}
+		return candidates;
+	}
+
+	private static boolean mayApply(int[] eventTypes, int eventType) {
+		if (eventTypes == null) {
+			return true;
+		}
+		for (int type : eventTypes) {
+			if (type == eventType) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * @return a new rule of the same class as the simple rule prototype at the given index
+	 */
+	private GenerationSimpleRule createSimpleRule(int index) {
+		GenerationSimpleRule rule = newInstance(getSimpleRulePrototypes().get(index));
+		return rule != null ? rule : generator.createSimpleRules().get(index);
+	}
+
+	/**
+	 * @return new complex rules of the same classes as the complex rule prototypes
+	 */
+	private List<GenerationComplexRule> createComplexRules() {
+		if (complexRulePrototypes == null) {
+			complexRulePrototypes = generator.createComplexRules();
+			return new ArrayList<GenerationComplexRule>(complexRulePrototypes);
+		}
+		List<GenerationComplexRule> complexRules = new ArrayList<GenerationComplexRule>();
+		for (GenerationComplexRule prototype : complexRulePrototypes) {
+			GenerationComplexRule complexRule = newInstance(prototype);
+			if (complexRule == null) {
+				return generator.createComplexRules();
+			}
+			complexRules.add(complexRule);
+		}
+		return complexRules;
+	}
+
+	/**
+	 * @return a new instance of the class of the rule, or null if it cannot be created without the generator, for
+	 *         instance if the rule is initialized by the extension registry
+	 */
+	@SuppressWarnings("unchecked")
+	private static <T extends GenerationRule> T newInstance(T rule) {
+		if (rule instanceof IExecutableExtension) {
+			return null;
+		}
+		try {
+			return (T) rule.getClass().getConstructor().newInstance();
+		} catch (Exception e) {
+			return null;
 		}
 	}
 
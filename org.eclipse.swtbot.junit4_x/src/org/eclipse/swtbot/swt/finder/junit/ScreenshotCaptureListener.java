@@ -14,6 +14,10 @@
 package org.eclipse.swtbot.swt.finder.junit;
 
 import java.io.File;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -25,6 +29,9 @@ import org.junit.runner.notification.RunListener;
 
 /**
  * Captures screenshots on failure notifications.
+ * <p>
+ * The screenshots are written in the background, so that encoding them does not delay the next test.
+ * </p>
  *
  * @author Hans Schwaebli (Bug 259787)
  * @version $Id$
@@ -35,7 +42,10 @@ public final class ScreenshotCaptureListener extends RunListener {
 	private static Logger log = LoggerFactory.getLogger(SWTBotApplicationLauncherClassRunner.class);
 
 	/** Counts the screenshots to determine if maximum number is reached. */
-	private static int screenshotCounter = 0;
+	private static final AtomicInteger screenshotCounter = new AtomicInteger();
+
+	/** The screenshots being written in the background, by file name. */
+	private final Map<String, Future<Boolean>> pendingScreenshots = new ConcurrentHashMap<String, Future<Boolean>>();
 
 	@Override
 	public void testFailure(Failure failure) throws Exception {
@@ -50,13 +60,26 @@ public final class ScreenshotCaptureListener extends RunListener {
 	 * @since 2.4
 	 */
 	public void removeScreenshot(Description description) {
-		File file = new File(getFileName(new Failure(description, null)));
+		String fileName = getFileName(new Failure(description, null));
+		Future<Boolean> pending = pendingScreenshots.remove(fileName);
+		if (pending != null) {
+			if (pending.cancel(false)) {
+				screenshotCounter.decrementAndGet();
+				return;
+			}
+			try {
+				pending.get();
+			} catch (Exception e) {
+				// the screenshot was not written, but it may have been partially
+			}
+		}
+		File file = new File(fileName);
 		if (file.exists()) {
 			log.debug("Removing screenshot '" + file.getPath() + '\''); //$NON-NLS-1$
 			if (!file.delete() && file.exists()) {
 				log.warn("Could not remove screenshot " + file.getAbsolutePath()); //$NON-NLS-1$
 			}
-			--screenshotCounter;
+			screenshotCounter.decrementAndGet();
 		}
 	}
 
@@ -64,8 +87,8 @@ public final class ScreenshotCaptureListener extends RunListener {
 		try {
 			int maximumScreenshots = SWTBotPreferences.MAX_ERROR_SCREENSHOT_COUNT;
 			String fileName = getFileName(failure);
-			if (++screenshotCounter <= maximumScreenshots) {
-				captureScreenshot(fileName);
+			if (screenshotCounter.incrementAndGet() <= maximumScreenshots) {
+				pendingScreenshots.put(fileName, SWTUtils.captureScreenshotAsync(fileName));
 			} else {
 				log.info("No screenshot captured for '" + failure.getTestHeader() //$NON-NLS-1$
 						+ "' because maximum number of screenshots reached: "
@@ -81,10 +104,6 @@ public final class ScreenshotCaptureListener extends RunListener {
 				+ SWTBotPreferences.SCREENSHOT_FORMAT.toLowerCase();
 	}
 
-	private boolean captureScreenshot(String fileName) {
-		return SWTUtils.captureScreenshot(fileName);
-	}
-
 	@Override
 	public int hashCode() {
 		return 31;
@@ -13,6 +13,7 @@
 package org.eclipse.swtbot.swt.finder.junit5;
 
 import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -22,7 +23,8 @@ import org.eclipse.swtbot.swt.finder.utils.SWTUtils;
 import org.junit.jupiter.api.extension.ExtensionContext;
 import org.junit.jupiter.api.extension.TestWatcher;
 /**
- * An extension that captures screenshots on test failures for JUnit5 based test.
+ * An extension that captures screenshots on test failures for JUnit5 based test. The screenshots are written in the
+ * background, so that encoding them does not delay the next test.
  * <pre>
  * &#064;ExtendWith(SWTBotJunit5Extension.class)
  * public class FooTest {
@@ -43,7 +45,7 @@ public class SWTBotJunit5Extension implements TestWatcher {
 	private static Logger log = LoggerFactory.getLogger(SWTBot.class);
 
 	/** Counts the screenshots to determine if maximum number is reached. */
-	private static int screenshotCounter = 0;
+	private static final AtomicInteger screenshotCounter = new AtomicInteger();
 
 	@Override
 	public void testFailed(ExtensionContext context, Throwable cause) {
@@ -69,8 +71,8 @@ public class SWTBotJunit5Extension implements TestWatcher {
 		try {
 			int maximumScreenshots = SWTBotPreferences.MAX_ERROR_SCREENSHOT_COUNT;
 			String fileName = getFileName(context);
-			if (++screenshotCounter <= maximumScreenshots) {
-				captureScreenshot(fileName);
+			if (screenshotCounter.incrementAndGet() <= maximumScreenshots) {
+				SWTUtils.captureScreenshotAsync(fileName);
 			} else {
 				log.info("No screenshot captured for '" + context.getTestClass() + "." + context.getTestMethod() //$NON-NLS-1$
 						+ "' because maximum number of screenshots reached: " + maximumScreenshots);
@@ -86,10 +88,6 @@ public class SWTBotJunit5Extension implements TestWatcher {
 				+ SWTBotPreferences.SCREENSHOT_FORMAT.toLowerCase();
 	}
 
-	private boolean captureScreenshot(String fileName) {
-		return SWTUtils.captureScreenshot(fileName);
-	}
-
 	@Override
 	public int hashCode() {
 		return 31;
@@ -260,18 +260,20 @@ public class SWTBotGallery extends AbstractSWTBotControl<Gallery> {
 	 * Notifies the selection.
 	 */
 	protected void notifySelect() {
-		notify(SWT.MouseEnter);
-		notify(SWT.MouseMove);
-		notify(SWT.Activate);
-		notify(SWT.FocusIn);
-		notify(SWT.MouseDown);
-		notify(SWT.Selection/*, selectionEvent()*/);
-		notify(SWT.MouseUp);
-		notify(SWT.MouseHover);
-		notify(SWT.MouseMove);
-		notify(SWT.MouseExit);
-		notify(SWT.Deactivate);
-		notify(SWT.FocusOut);
+		notifications()
+				.add(SWT.MouseEnter)
+				.add(SWT.MouseMove)
+				.add(SWT.Activate)
+				.add(SWT.FocusIn)
+				.add(SWT.MouseDown)
+				.add(SWT.Selection/*, selectionEvent()*/)
+				.add(SWT.MouseUp)
+				.add(SWT.MouseHover)
+				.add(SWT.MouseMove)
+				.add(SWT.MouseExit)
+				.add(SWT.Deactivate)
+				.add(SWT.FocusOut)
+				.send();
 	}
 	
 	/**
@@ -287,22 +287,20 @@ public class SWTBotGalleryItem extends AbstractSWTBot<GalleryItem> {
 	 * @since 1.0
 	 */
 	private void notifySelect() {
-		notifyGallery(SWT.MouseEnter);
-		notifyGallery(SWT.MouseMove);
-		notifyGallery(SWT.Activate);
-		notifyGallery(SWT.FocusIn);
-		notifyGallery(SWT.MouseDown);
-		notifyGallery(SWT.Selection);
-		notifyGallery(SWT.MouseUp);
-		notifyGallery(SWT.MouseHover);
-		notifyGallery(SWT.MouseMove);
-		notifyGallery(SWT.MouseExit);
-		notifyGallery(SWT.Deactivate);
-		notifyGallery(SWT.FocusOut);
-	}
-	
-	private void notifyGallery(int eventType) {
-		notify(eventType, createEvent(), gallery);
+		notifications()
+				.add(SWT.MouseEnter, createEvent(), gallery)
+				.add(SWT.MouseMove, createEvent(), gallery)
+				.add(SWT.Activate, createEvent(), gallery)
+				.add(SWT.FocusIn, createEvent(), gallery)
+				.add(SWT.MouseDown, createEvent(), gallery)
+				.add(SWT.Selection, createEvent(), gallery)
+				.add(SWT.MouseUp, createEvent(), gallery)
+				.add(SWT.MouseHover, createEvent(), gallery)
+				.add(SWT.MouseMove, createEvent(), gallery)
+				.add(SWT.MouseExit, createEvent(), gallery)
+				.add(SWT.Deactivate, createEvent(), gallery)
+				.add(SWT.FocusOut, createEvent(), gallery)
+				.send();
 	}
 	
 	/**
@@ -16,10 +16,14 @@ package org.eclipse.swtbot.nebula.nattable.finder.test2;
 
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.lessThanOrEqualTo;
+import static org.junit.Assert.assertArrayEquals;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
 
+import java.util.Iterator;
+
+import org.eclipse.nebula.widgets.nattable.layer.LabelStack;
 import org.eclipse.swtbot.nebula.nattable.finder.SWTNatTableBot;
 import org.eclipse.swtbot.nebula.nattable.finder.widgets.Position;
 import org.eclipse.swtbot.nebula.nattable.finder.widgets.SWTBotNatTable;
@@ -57,6 +61,54 @@ public class TestNatTableOtherFeatures extends _801_VerticalCompositionWithFeatu
 		assertEquals("Total five columns are created", 5, nattable.preferredColumnCount());
 	}
 
+	/* Reads a block of cells and their labels at once */
+	@Test
+	public void testCellRange() {
+		SWTBotNatTable nattable = bot.nattable();
+		String[][] values = nattable.getCellDataValuesByPosition(new Position(2, 0), 6, 2);
+		assertEquals(6, values.length);
+		for (int row = 0; row < 6; row++) {
+			for (int col = 0; col < 2; col++) {
+				assertEquals(nattable.getCellDataValueByPosition(2 + row, col), values[row][col]);
+			}
+		}
+
+		LabelStack[][] labels = nattable.getConfigLabelsByPosition(new Position(2, 0), 6, 2);
+		assertTrue(labels[5][1].hasLabel("FOO"));
+		assertFalse(labels[5][0].hasLabel("FOO"));
+	}
+
+	/* Reads the whole data layer a page at a time */
+	@Test
+	public void testCellRangeDataLayerRows() {
+		SWTBotNatTable nattable = bot.nattable();
+		Iterator<String[]> rows = nattable.dataLayerRows(new Position(2, 0), 7);
+		String[] first = rows.next();
+		assertArrayEquals(nattable.getCellDataValuesByPosition(2, 0, 1, 5)[0], first);
+		int count = 1;
+		while (rows.hasNext()) {
+			assertEquals(5, rows.next().length);
+			count++;
+		}
+		assertEquals("Total thirty data rows", 30, count);
+	}
+
+	/* Reads the rows under the viewport one viewport at a time */
+	@Test
+	public void testCellRangeScrollableRows() {
+		SWTBotNatTable nattable = bot.nattable();
+		Position position = new Position(2, 0);
+		Iterator<String[]> dataRows = nattable.dataLayerRows(position, 100);
+		Iterator<String[]> rows = nattable.scrollableRows(position);
+		int count = 0;
+		while (rows.hasNext()) {
+			assertArrayEquals(dataRows.next(), rows.next());
+			count++;
+		}
+		assertEquals("Total thirty scrollable rows", 30, count);
+		nattable.scrollViewport(position, 0, 0);
+	}
+
 	/* Edits nattable cell */
 	@Test
 	public void testDoubleClickAndGetSetCellData() {
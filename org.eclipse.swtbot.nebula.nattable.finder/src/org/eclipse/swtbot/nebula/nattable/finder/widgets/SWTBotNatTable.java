@@ -12,12 +12,17 @@
  *     Patrick Tasse - Support viewport scrolling (Bug 504483)
  *     Aparna Argade(Cadence Design Systems, Inc.) - Bug 512815
  *     Aparna Argade(Cadence Design Systems, Inc.) - Bug 516325
+ *     SWTBot Committers - Read ranges of cells in one UI-thread pass
  *******************************************************************************/
 package org.eclipse.swtbot.nebula.nattable.finder.widgets;
 
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
 import org.eclipse.nebula.widgets.nattable.NatTable;
 import org.eclipse.nebula.widgets.nattable.coordinate.PixelCoordinate;
 import org.eclipse.nebula.widgets.nattable.edit.editor.ICellEditor;
+import org.eclipse.nebula.widgets.nattable.layer.DataLayer;
 import org.eclipse.nebula.widgets.nattable.layer.ILayer;
 import org.eclipse.nebula.widgets.nattable.layer.LabelStack;
 import org.eclipse.nebula.widgets.nattable.tree.TreeLayer;
@@ -277,8 +282,9 @@ public class SWTBotNatTable extends AbstractSWTBot<NatTable> {
 	 *            the column position
 	 */
 	protected void assertIsLegalCell(final int row, final int column) {
-		int rowCount = rowCount();
-		int columnCount = columnCount(); // 0 if no TableColumn has been created
+		int[] counts = counts();
+		int rowCount = counts[0];
+		int columnCount = counts[1]; // 0 if no TableColumn has been created
 		Assert.isLegal(row >= 0, "The row number (" + row + ") is out of bounds");
 		Assert.isLegal(column >= 0, "The column number (" + column + ") is out of bounds");
 		Assert.isLegal(row < rowCount, "The row number (" + row + ") is more than the number of visible rows (" //$NON-NLS-1$ //$NON-NLS-2$
@@ -287,6 +293,38 @@ public class SWTBotNatTable extends AbstractSWTBot<NatTable> {
 				+ ") is more than the number of visible columns (" + columnCount + ") in the NatTable."); //$NON-NLS-1$ //$NON-NLS-2$
 	}
 
+	/**
+	 * Asserts that the block of cells is legal for this instance of the NatTable.
+	 *
+	 * @param row
+	 *            the row position of the top left cell
+	 * @param column
+	 *            the column position of the top left cell
+	 * @param rows
+	 *            the number of rows of the block
+	 * @param columns
+	 *            the number of columns of the block
+	 */
+	private void assertIsLegalRange(int row, int column, int rows, int columns) {
+		int[] counts = counts();
+		Assert.isLegal(row >= 0 && column >= 0 && rows >= 0 && columns >= 0 && row + rows <= counts[0]
+				&& column + columns <= counts[1], "The range of " + rows + " rows and " + columns //$NON-NLS-1$ //$NON-NLS-2$
+						+ " columns at " + new Position(row, column) + " is out of bounds of the " + counts[0] //$NON-NLS-1$ //$NON-NLS-2$
+						+ " visible rows and " + counts[1] + " visible columns in the NatTable."); //$NON-NLS-1$ //$NON-NLS-2$
+	}
+
+	/**
+	 * @return the visible row count and column count, read in one call to the UI thread.
+	 */
+	private int[] counts() {
+		return syncExec(new Result<int[]>() {
+			@Override
+			public int[] run() {
+				return new int[] { widget.getRowCount(), widget.getColumnCount() };
+			}
+		});
+	}
+
 	/**
 	 * Reads the NatTable cell with the given row and column positions.
 	 *
@@ -299,7 +337,10 @@ public class SWTBotNatTable extends AbstractSWTBot<NatTable> {
 	 */
 	public String getCellDataValueByPosition(int row, int column) {
 		assertIsLegalCell(row, column);
-		Object obj = widget.getDataValueByPosition(column, row);
+		return valueToString(widget.getDataValueByPosition(column, row));
+	}
+
+	private static String valueToString(Object obj) {
 		if (obj != null) {
 			return obj.toString();
 		} else {
@@ -319,6 +360,247 @@ public class SWTBotNatTable extends AbstractSWTBot<NatTable> {
 		return getCellDataValueByPosition(position.row, position.column);
 	}
 
+	/**
+	 * Reads a rectangular block of NatTable cells in one call to the UI thread.
+	 *
+	 * @param row
+	 *            the visible row position of the top left cell in the NatTable
+	 * @param column
+	 *            the visible column position of the top left cell in the
+	 *            NatTable
+	 * @param rows
+	 *            the number of rows to read
+	 * @param columns
+	 *            the number of columns to read
+	 * @return the String values of the cells, indexed by row then column
+	 *         relative to the top left cell
+	 * @throws IllegalArgumentException
+	 *             if the block is not within the visible cells
+	 * @since 4.3
+	 */
+	public String[][] getCellDataValuesByPosition(final int row, final int column, final int rows, final int columns) {
+		assertIsLegalRange(row, column, rows, columns);
+		return syncExec(new Result<String[][]>() {
+			@Override
+			public String[][] run() {
+				String[][] values = new String[rows][columns];
+				for (int r = 0; r < rows; r++) {
+					for (int c = 0; c < columns; c++) {
+						values[r][c] = valueToString(widget.getDataValueByPosition(column + c, row + r));
+					}
+				}
+				return values;
+			}
+		});
+	}
+
+	/**
+	 * Reads a rectangular block of NatTable cells in one call to the UI thread.
+	 *
+	 * @param position
+	 *            the visible position of the top left cell in the NatTable
+	 * @param rows
+	 *            the number of rows to read
+	 * @param columns
+	 *            the number of columns to read
+	 * @return the String values of the cells, indexed by row then column
+	 *         relative to the top left cell
+	 * @throws IllegalArgumentException
+	 *             if the block is not within the visible cells
+	 * @since 4.3
+	 */
+	public String[][] getCellDataValuesByPosition(Position position, int rows, int columns) {
+		return getCellDataValuesByPosition(position.row, position.column, rows, columns);
+	}
+
+	/**
+	 * Gets the config labels of a rectangular block of NatTable cells in one
+	 * call to the UI thread.
+	 *
+	 * @param position
+	 *            the visible position of the top left cell in the NatTable
+	 * @param rows
+	 *            the number of rows to read
+	 * @param columns
+	 *            the number of columns to read
+	 * @return the config labels of the cells, indexed by row then column
+	 *         relative to the top left cell
+	 * @throws IllegalArgumentException
+	 *             if the block is not within the visible cells
+	 * @since 4.3
+	 */
+	public LabelStack[][] getConfigLabelsByPosition(final Position position, final int rows, final int columns) {
+		assertIsLegalRange(position.row, position.column, rows, columns);
+		return syncExec(new Result<LabelStack[][]>() {
+			@Override
+			public LabelStack[][] run() {
+				LabelStack[][] labels = new LabelStack[rows][columns];
+				for (int r = 0; r < rows; r++) {
+					for (int c = 0; c < columns; c++) {
+						labels[r][c] = widget.getConfigLabelsByPosition(position.column + c, position.row + r);
+					}
+				}
+				return labels;
+			}
+		});
+	}
+
+	/**
+	 * Iterates over the rows of the first underlying data layer at the
+	 * specified NatTable position, including the rows that are not visible.
+	 * <p>
+	 * The rows are read from the data layer a page at a time, in one call to
+	 * the UI thread per page, so that the whole data is never held in memory.
+	 * The rows are in the order of the data layer, which is not affected by
+	 * sorting, filtering or scrolling.
+	 *
+	 * @param position
+	 *            a visible position in the NatTable with an underlying data
+	 *            layer
+	 * @param pageSize
+	 *            the number of rows to read per call to the UI thread
+	 * @return an iterator over the String values of the cells of each row of
+	 *         the data layer
+	 * @throws IllegalArgumentException
+	 *             if the specified position does not have an underlying data
+	 *             layer
+	 * @since 4.3
+	 */
+	public Iterator<String[]> dataLayerRows(final Position position, final int pageSize) {
+		Assert.isLegal(pageSize > 0, "Page size should be greater than 0"); //$NON-NLS-1$
+		final DataLayer dataLayer = syncExec(new Result<DataLayer>() {
+			@Override
+			public DataLayer run() {
+				return getDataLayer(new Position(position));
+			}
+		});
+		assertIsValidLayer(dataLayer, "data layer", position);
+		return new PagedRows() {
+			@Override
+			protected String[][] readPage(final int firstRow) {
+				return syncExec(new Result<String[][]>() {
+					@Override
+					public String[][] run() {
+						int rows = Math.max(0, Math.min(pageSize, dataLayer.getRowCount() - firstRow));
+						int columns = dataLayer.getColumnCount();
+						String[][] page = new String[rows][columns];
+						for (int r = 0; r < rows; r++) {
+							for (int c = 0; c < columns; c++) {
+								page[r][c] = valueToString(dataLayer.getDataValueByPosition(c, firstRow + r));
+							}
+						}
+						return page;
+					}
+				});
+			}
+		};
+	}
+
+	/**
+	 * Iterates over all the rows of the scrollable layer under the viewport
+	 * found at the specified NatTable position, scrolling the viewport so that
+	 * each row is visible when it is read.
+	 * <p>
+	 * Each call to the UI thread scrolls the viewport to the next rows that
+	 * were not read yet and reads all the rows of the viewport, so that a
+	 * virtualized table is verified one viewport at a time. Each row has the
+	 * String values of all the visible columns of the NatTable, as displayed.
+	 *
+	 * @param position
+	 *            a visible position in the NatTable with an underlying
+	 *            viewport
+	 * @return an iterator over the String values of the cells of each
+	 *         scrollable row
+	 * @throws IllegalArgumentException
+	 *             if the specified position does not have an underlying
+	 *             viewport layer
+	 * @since 4.3
+	 */
+	public Iterator<String[]> scrollableRows(final Position position) {
+		final Position viewportPosition = new Position(position);
+		final ViewportLayer viewportLayer = syncExec(new Result<ViewportLayer>() {
+			@Override
+			public ViewportLayer run() {
+				return getViewportLayer(viewportPosition);
+			}
+		});
+		assertIsValidLayer(viewportLayer, "viewport layer", position);
+		return new PagedRows() {
+			@Override
+			protected String[][] readPage(final int scrollableRow) {
+				return syncExec(new Result<String[][]>() {
+					@Override
+					public String[][] run() {
+						ILayer scrollableLayer = viewportLayer.getUnderlyingLayerByPosition(viewportPosition.column,
+								viewportPosition.row);
+						if (scrollableRow >= scrollableLayer.getRowCount()) {
+							return new String[0][];
+						}
+						int scrollableColumn = viewportLayer.localToUnderlyingColumnPosition(viewportPosition.column);
+						Position visible = scrollViewport(position, scrollableRow, scrollableColumn);
+						// the NatTable rows of the viewport that follow the row that was scrolled to
+						int lastRow = position.row - viewportPosition.row + viewportLayer.getRowCount() - 1;
+						int rows = Math.max(0, Math.min(lastRow - visible.row + 1,
+								scrollableLayer.getRowCount() - scrollableRow));
+						int columns = widget.getColumnCount();
+						String[][] page = new String[rows][columns];
+						for (int r = 0; r < rows; r++) {
+							for (int c = 0; c < columns; c++) {
+								page[r][c] = valueToString(widget.getDataValueByPosition(c, visible.row + r));
+							}
+						}
+						return page;
+					}
+				});
+			}
+		};
+	}
+
+	/**
+	 * Iterates over rows that are read a page at a time, until a page is
+	 * empty.
+	 */
+	private static abstract class PagedRows implements Iterator<String[]> {
+
+		private String[][]	page	= new String[0][];
+		private int			next;
+		private int			read;
+		private boolean		done;
+
+		/**
+		 * Reads the page that starts at the given row.
+		 *
+		 * @param firstRow
+		 *            the number of rows read so far
+		 * @return the rows of the page, empty if there are no more rows
+		 */
+		protected abstract String[][] readPage(int firstRow);
+
+		@Override
+		public boolean hasNext() {
+			if (next == page.length && !done) {
+				page = readPage(read);
+				read += page.length;
+				next = 0;
+				done = page.length == 0;
+			}
+			return next < page.length;
+		}
+
+		@Override
+		public String[] next() {
+			if (!hasNext()) {
+				throw new NoSuchElementException();
+			}
+			return page[next++];
+		}
+
+		@Override
+		public void remove() {
+			throw new UnsupportedOperationException();
+		}
+	}
+
 	/**
 	 * Sets the data in the NatTable cell with the given row and column
 	 * positions.
@@ -518,6 +800,30 @@ public class SWTBotNatTable extends AbstractSWTBot<NatTable> {
 		return labels.hasLabel(label);
 	}
 
+	/**
+	 * Gets the first underlying DataLayer at the specified NatTable position.
+	 * The <code>position</code> parameter will be modified to the
+	 * corresponding position in the data layer.
+	 *
+	 * @param position
+	 *            the position in the NatTable as input, the position in the
+	 *            data layer as output
+	 * @return the DataLayer, or <code>null</code> if none was found in the layer stack
+	 */
+	private DataLayer getDataLayer(Position position) {
+		ILayer layer = widget.getLayer();
+		while (layer != null) {
+			if (layer instanceof DataLayer) {
+				return (DataLayer) layer;
+			}
+			ILayer underlyingLayer = layer.getUnderlyingLayerByPosition(position.column, position.row);
+			position.column = layer.localToUnderlyingColumnPosition(position.column);
+			position.row = layer.localToUnderlyingRowPosition(position.row);
+			layer = underlyingLayer;
+		}
+		return null;
+	}
+
 	/**
 	 * Gets the first underlying TreeLayer at the specified NatTable position.
 	 *
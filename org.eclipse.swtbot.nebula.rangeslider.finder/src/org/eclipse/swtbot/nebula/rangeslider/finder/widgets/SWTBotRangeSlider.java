@@ -77,19 +77,23 @@ public class SWTBotRangeSlider extends AbstractSWTBotControl<RangeSlider> {
 	}
 
 	private void sendEventsOnPrevious(Point p) {
-		notify(SWT.MouseEnter, createMouseEvent(0, SWT.NONE, 0));
-		notify(SWT.Activate, super.createEvent());
-		notify(SWT.FocusIn, super.createEvent());
-		notify(SWT.MouseDown, createMouseEvent(p.x, p.y, 1, SWT.NONE, 1));
-		notify(SWT.MouseUp, createMouseEvent(p.x, p.y, 1, SWT.BUTTON1, 1));
+		notifications()
+				.add(SWT.MouseEnter, createMouseEvent(0, SWT.NONE, 0))
+				.add(SWT.Activate, super.createEvent())
+				.add(SWT.FocusIn, super.createEvent())
+				.add(SWT.MouseDown, createMouseEvent(p.x, p.y, 1, SWT.NONE, 1))
+				.add(SWT.MouseUp, createMouseEvent(p.x, p.y, 1, SWT.BUTTON1, 1))
+				.send();
 	}
 
 	private void sendEventsOnNew(Point p) {
-		notify(SWT.MouseDown, createMouseEvent(p.x, p.y, 1, SWT.NONE, 1));
-		notify(SWT.MouseUp, createMouseEvent(p.x, p.y, 1, SWT.BUTTON1, 1));
-		notify(SWT.MouseDown, createMouseEvent(p.x, p.y, 1, SWT.NONE, 2));
-		notify(SWT.MouseDoubleClick, createMouseEvent(p.x, p.y, 1, SWT.NONE, 2));
-		notify(SWT.MouseUp, createMouseEvent(p.x, p.y, 1, SWT.BUTTON1, 2));
+		notifications()
+				.add(SWT.MouseDown, createMouseEvent(p.x, p.y, 1, SWT.NONE, 1))
+				.add(SWT.MouseUp, createMouseEvent(p.x, p.y, 1, SWT.BUTTON1, 1))
+				.add(SWT.MouseDown, createMouseEvent(p.x, p.y, 1, SWT.NONE, 2))
+				.add(SWT.MouseDoubleClick, createMouseEvent(p.x, p.y, 1, SWT.NONE, 2))
+				.add(SWT.MouseUp, createMouseEvent(p.x, p.y, 1, SWT.BUTTON1, 2))
+				.send();
 	}
 
 	/**
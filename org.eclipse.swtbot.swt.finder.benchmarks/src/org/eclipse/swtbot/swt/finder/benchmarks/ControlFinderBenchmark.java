@@ -0,0 +1,118 @@
+/*******************************************************************************
+ * Copyright (c) 2026 SWTBot Committers and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     SWTBot Committers - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.swtbot.swt.finder.benchmarks;
+
+import static org.hamcrest.CoreMatchers.sameInstance;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.swt.widgets.Button;
+import org.eclipse.swt.widgets.Control;
+import org.eclipse.swt.widgets.Display;
+import org.eclipse.swt.widgets.Widget;
+import org.eclipse.swtbot.swt.finder.finders.ControlFinder;
+import org.eclipse.swtbot.swt.finder.resolvers.IChildrenResolver;
+import org.hamcrest.Matcher;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the cost of walking a widget tree with {@link ControlFinder}.
+ * <p>
+ * {@link #controlFinder()} uses the finder as shipped, {@link #recursiveBaseline()} uses a copy of the recursive walk
+ * that the finder used before it was made iterative, which builds a new set and a new list at every level of the tree.
+ * Both look for the single "OK" button of a {@link SyntheticShell}, so the cost measured is the cost of the walk itself.
+ * Run with {@code -prof gc} to compare the allocation rate ({@code gc.alloc.rate.norm}) of both walks.
+ * </p>
+ * <p>
+ * The display is created on the benchmark thread, so that the finder runs its walk inline instead of handing it over
+ * to another thread.
+ * </p>
+ *
+ * @author SWTBot Committers
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 10, time = 1)
+@Fork(1)
+public class ControlFinderBenchmark {
+
+	/** The number of widgets in the synthetic shell. */
+	@Param({ "1000", "10000", "50000" })
+	public int				widgetCount;
+
+	private Display			display;
+	private SyntheticShell	syntheticShell;
+	private ControlFinder	finder;
+	private Matcher<Button>	matcher;
+	private List<Widget>	roots;
+
+	@Setup
+	public void setUp() {
+		display = new Display();
+		syntheticShell = new SyntheticShell(display, widgetCount, 10);
+		finder = new ControlFinder();
+		matcher = sameInstance(syntheticShell.target());
+		roots = syntheticShell.roots();
+	}
+
+	@TearDown
+	public void tearDown() {
+		syntheticShell.dispose();
+		display.dispose();
+	}
+
+	@Benchmark
+	public List<Button> controlFinder() {
+		return finder.findControls(roots, matcher, true);
+	}
+
+	@Benchmark
+	public List<Button> recursiveBaseline() {
+		LinkedHashSet<Button> list = new LinkedHashSet<Button>();
+		for (Widget w : roots)
+			list.addAll(recursiveFind(w, matcher, finder.getChildrenResolver()));
+		return new ArrayList<Button>(list);
+	}
+
+	@SuppressWarnings("unchecked")
+	private static <T extends Widget> List<T> recursiveFind(Widget parentWidget, Matcher<T> matcher, IChildrenResolver childrenResolver) {
+		if ((parentWidget == null) || parentWidget.isDisposed())
+			return new ArrayList<T>();
+		if ((parentWidget instanceof Control) && !((Control) parentWidget).getVisible())
+			return new ArrayList<T>();
+		LinkedHashSet<T> controls = new LinkedHashSet<T>();
+		if (matcher.matches(parentWidget) && !controls.contains(parentWidget))
+			controls.add((T) parentWidget);
+		LinkedHashSet<T> children = new LinkedHashSet<T>();
+		for (Widget child : childrenResolver.getChildren(parentWidget))
+			children.addAll(recursiveFind(child, matcher, childrenResolver));
+		controls.addAll(new ArrayList<T>(children));
+		return new ArrayList<T>(controls);
+	}
+}
@@ -0,0 +1,95 @@
+/*******************************************************************************
+ * Copyright (c) 2026 SWTBot Committers and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     SWTBot Committers - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.swtbot.swt.finder.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.swt.widgets.Display;
+import org.eclipse.swtbot.swt.finder.utils.SWTUtils;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures {@link SWTUtils#display()} when several threads ask for the display at the same time, as condition pollers,
+ * the keyboard and screenshot threads do during a test.
+ * <p>
+ * {@link #display()} uses the lock free lookup as shipped. {@link #synchronizedBaseline()} uses a copy of the previous
+ * lookup, which held a global monitor for every call. Run with {@code -t} to change the number of threads.
+ * </p>
+ *
+ * @author SWTBot Committers
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 10, time = 1)
+@Threads(4)
+@Fork(1)
+public class DisplayLookupBenchmark {
+
+	private static Display	baselineDisplay;
+
+	private DisplayThread	displayThread;
+
+	@Setup
+	public void setUp() {
+		displayThread = new DisplayThread();
+		displayThread.startDisplay();
+	}
+
+	@TearDown
+	public void tearDown() {
+		displayThread.stopDisplay();
+	}
+
+	@Benchmark
+	public Display display() {
+		return SWTUtils.display();
+	}
+
+	@Benchmark
+	public Display synchronizedBaseline() {
+		return baselineDisplay();
+	}
+
+	@Benchmark
+	public boolean isUIThread() {
+		return SWTUtils.isUIThread();
+	}
+
+	private static synchronized Display baselineDisplay() {
+		if ((baselineDisplay == null) || baselineDisplay.isDisposed()) {
+			baselineDisplay = null;
+			Thread[] allThreads = SWTUtils.allThreads();
+			for (Thread thread : allThreads) {
+				Display d = Display.findDisplay(thread);
+				if (d != null)
+					baselineDisplay = d;
+			}
+			if (baselineDisplay == null)
+				throw new IllegalStateException("Could not find a display"); //$NON-NLS-1$
+		}
+		return baselineDisplay;
+	}
+}
@@ -0,0 +1,100 @@
+/*******************************************************************************
+ * Copyright (c) 2026 SWTBot Committers and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     SWTBot Committers - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.swtbot.swt.finder.benchmarks;
+
+import java.util.concurrent.CountDownLatch;
+
+import org.eclipse.swt.widgets.Display;
+
+/**
+ * A thread that owns a display and runs its event loop, like the UI thread of an application under test.
+ * <p>
+ * Benchmarks that use it run on another thread, as tests do, so that what they measure includes the trip to the UI
+ * thread. The display is created on whatever X server {@code DISPLAY} points to, which may be an Xvfb server.
+ * </p>
+ *
+ * @author SWTBot Committers
+ */
+public class DisplayThread extends Thread {
+
+	private final CountDownLatch	started	= new CountDownLatch(1);
+	private volatile Display		display;
+	private volatile boolean		stopped;
+
+	/**
+	 * Creates the thread, call {@link #startDisplay()} to start it.
+	 */
+	public DisplayThread() {
+		super("SWTBot benchmark UI thread"); //$NON-NLS-1$
+		setDaemon(true);
+	}
+
+	/**
+	 * Starts the thread and waits until its display is created.
+	 *
+	 * @return the display.
+	 */
+	public Display startDisplay() {
+		start();
+		try {
+			started.await();
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new IllegalStateException(e);
+		}
+		if (display == null)
+			throw new IllegalStateException("Could not create a display, is DISPLAY set?"); //$NON-NLS-1$
+		return display;
+	}
+
+	@Override
+	public void run() {
+		try {
+			display = new Display();
+		} finally {
+			started.countDown();
+		}
+		while (!stopped) {
+			if (!display.readAndDispatch())
+				display.sleep();
+		}
+		display.dispose();
+	}
+
+	/**
+	 * Runs the runnable on the UI thread, and waits until it has run.
+	 *
+	 * @param runnable the runnable.
+	 */
+	public void syncExec(Runnable runnable) {
+		display.syncExec(runnable);
+	}
+
+	/**
+	 * Disposes the display, once the runnables already posted to the UI thread have run, and waits for the thread to
+	 * end.
+	 */
+	public void stopDisplay() {
+		display.asyncExec(new Runnable() {
+			@Override
+			public void run() {
+				stopped = true;
+			}
+		});
+		try {
+			join();
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+	}
+}
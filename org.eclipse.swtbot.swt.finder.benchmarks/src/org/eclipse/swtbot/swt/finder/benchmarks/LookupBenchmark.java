@@ -0,0 +1,151 @@
+/*******************************************************************************
+ * Copyright (c) 2026 SWTBot Committers and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     SWTBot Committers - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.swtbot.swt.finder.benchmarks;
+
+import static org.eclipse.swtbot.swt.finder.matchers.WidgetMatcherFactory.allOf;
+import static org.eclipse.swtbot.swt.finder.matchers.WidgetMatcherFactory.widgetOfType;
+import static org.eclipse.swtbot.swt.finder.matchers.WidgetMatcherFactory.withMnemonic;
+import static org.eclipse.swtbot.swt.finder.matchers.WidgetMatcherFactory.withRegex;
+import static org.eclipse.swtbot.swt.finder.matchers.WidgetMatcherFactory.withText;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.swt.SWT;
+import org.eclipse.swt.widgets.Button;
+import org.eclipse.swt.widgets.Display;
+import org.eclipse.swt.widgets.Menu;
+import org.eclipse.swt.widgets.MenuItem;
+import org.eclipse.swt.widgets.Widget;
+import org.eclipse.swtbot.swt.finder.finders.ControlFinder;
+import org.eclipse.swtbot.swt.finder.finders.MenuFinder;
+import org.hamcrest.Matcher;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the throughput of looking up widgets and menu items with the matchers commonly used by tests, in a
+ * {@link SyntheticShell} of the given depth and breadth that also has a menu bar.
+ * <p>
+ * The display is created on the benchmark thread, so that what is measured is the walk and the matchers, not the trip
+ * to the UI thread, which is measured by {@link UIThreadBenchmark}.
+ * </p>
+ *
+ * @author SWTBot Committers
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 10, time = 1)
+@Fork(1)
+public class LookupBenchmark {
+
+	/** The number of levels of composites in the shell. */
+	@Param({ "3", "6" })
+	public int					depth;
+
+	/** The number of children of each composite. */
+	@Param({ "4", "12" })
+	public int					breadth;
+
+	/** The number of menus in the menu bar, each of which has 20 items. */
+	@Param({ "10" })
+	public int					menuCount;
+
+	private Display				display;
+	private SyntheticShell		syntheticShell;
+	private ControlFinder		controlFinder;
+	private MenuFinder			menuFinder;
+	private Matcher<Widget>		text;
+	private Matcher<Widget>		typeAndText;
+	private Matcher<Widget>		regex;
+	private Matcher<MenuItem>	menuItem;
+
+	@Setup
+	public void setUp() {
+		display = new Display();
+		syntheticShell = new SyntheticShell(display, Integer.MAX_VALUE, breadth, depth);
+		Menu menuBar = new Menu(syntheticShell.shell(), SWT.BAR);
+		for (int i = 0; i < menuCount; i++) {
+			MenuItem menuItem = new MenuItem(menuBar, SWT.CASCADE);
+			menuItem.setText("&Menu " + i); //$NON-NLS-1$
+			Menu menu = new Menu(menuItem);
+			menuItem.setMenu(menu);
+			for (int j = 0; j < 20; j++)
+				new MenuItem(menu, SWT.PUSH).setText("Item " + i + "." + j); //$NON-NLS-1$ //$NON-NLS-2$
+		}
+		syntheticShell.shell().setMenuBar(menuBar);
+		// the finder skips the widgets of a shell that is not open
+		syntheticShell.shell().open();
+
+		controlFinder = new ControlFinder();
+		menuFinder = new MenuFinder();
+		text = withText(SyntheticShell.TARGET_TEXT);
+		typeAndText = allOf(widgetOfType(Button.class), withText(SyntheticShell.TARGET_TEXT));
+		regex = withRegex("^O.$"); //$NON-NLS-1$
+		menuItem = withMnemonic("Item " + (menuCount - 1) + ".19"); //$NON-NLS-1$ //$NON-NLS-2$
+
+		assertFound(findByText().contains(syntheticShell.target()), "findByText"); //$NON-NLS-1$
+		assertFound(findByTypeAndText().contains(syntheticShell.target()), "findByTypeAndText"); //$NON-NLS-1$
+		assertFound(findByRegex().contains(syntheticShell.target()), "findByRegex"); //$NON-NLS-1$
+		assertFound(findFirstByText() == syntheticShell.target(), "findFirstByText"); //$NON-NLS-1$
+		assertFound(findMenuItem().size() == 1, "findMenuItem"); //$NON-NLS-1$
+	}
+
+	private static void assertFound(boolean found, String benchmark) {
+		if (!found)
+			throw new IllegalStateException(benchmark + " does not find its target, the measurements would be meaningless"); //$NON-NLS-1$
+	}
+
+	@TearDown
+	public void tearDown() {
+		syntheticShell.dispose();
+		display.dispose();
+	}
+
+	@Benchmark
+	public List<Widget> findByText() {
+		return controlFinder.findControls(syntheticShell.shell(), text, true);
+	}
+
+	@Benchmark
+	public List<Widget> findByTypeAndText() {
+		return controlFinder.findControls(syntheticShell.shell(), typeAndText, true);
+	}
+
+	@Benchmark
+	public List<Widget> findByRegex() {
+		return controlFinder.findControls(syntheticShell.shell(), regex, true);
+	}
+
+	@Benchmark
+	public Widget findFirstByText() {
+		return controlFinder.findControl(syntheticShell.shell(), text, 0);
+	}
+
+	@Benchmark
+	public List<MenuItem> findMenuItem() {
+		return menuFinder.findMenus(syntheticShell.shell(), menuItem, true);
+	}
+}
@@ -0,0 +1,133 @@
+/*******************************************************************************
+ * Copyright (c) 2026 SWTBot Committers and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     SWTBot Committers - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.swtbot.swt.finder.benchmarks;
+
+import java.lang.reflect.Method;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.swt.examples.controlexample.ControlExample;
+import org.eclipse.swt.layout.FillLayout;
+import org.eclipse.swt.widgets.Display;
+import org.eclipse.swt.widgets.Shell;
+import org.eclipse.swt.widgets.Widget;
+import org.eclipse.swtbot.swt.finder.finders.ControlFinder;
+import org.eclipse.swtbot.swt.finder.finders.UIThreadRunnable;
+import org.eclipse.swtbot.swt.finder.results.Result;
+import org.eclipse.swtbot.swt.finder.utils.SWTUtils;
+import org.hamcrest.core.IsAnything;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Measures the cost of reading a property of every widget of the shell of the SWT ControlExample, the way the text
+ * and tooltip matchers do.
+ * <p>
+ * {@link #methodAccessor()} uses {@link SWTUtils#invokeMethod(Object, String)} as shipped, which looks the method up
+ * once per widget class. {@link #reflectionBaseline()} uses a copy of the previous implementation, which looked the
+ * method up with {@link Class#getMethod(String, Class...)} and invoked it through a new <code>syncExec</code> for every
+ * widget. Widgets that do not have the method are counted in both cases.
+ * </p>
+ * <p>
+ * The display is created on the benchmark thread, so that the property is read as it is during a search.
+ * </p>
+ *
+ * @author SWTBot Committers
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 10, time = 1)
+@Fork(1)
+public class MethodAccessorBenchmark {
+
+	/** The name of the method to invoke on each widget. */
+	@Param({ "getText", "getToolTipText" })
+	public String			methodName;
+
+	private Display			display;
+	private Shell			shell;
+	private ControlExample	controlExample;
+	private List<Widget>	widgets;
+
+	@Setup
+	public void setUp() {
+		display = new Display();
+		shell = new Shell(display);
+		shell.setLayout(new FillLayout());
+		controlExample = new ControlExample(shell);
+		ControlFinder finder = new ControlFinder();
+		// the pages of the tab folder that are not selected are hidden
+		finder.shouldFindInVisibleControls = true;
+		widgets = finder.findControls(shell, new IsAnything<Widget>(), true);
+	}
+
+	@TearDown
+	public void tearDown() {
+		controlExample.dispose();
+		shell.dispose();
+		display.dispose();
+	}
+
+	@Benchmark
+	public int methodAccessor(Blackhole blackhole) throws Exception {
+		int missing = 0;
+		for (Widget widget : widgets) {
+			try {
+				blackhole.consume(SWTUtils.invokeMethod(widget, methodName));
+			} catch (NoSuchMethodException e) {
+				missing++;
+			}
+		}
+		return missing;
+	}
+
+	@Benchmark
+	public int reflectionBaseline(Blackhole blackhole) throws Exception {
+		int missing = 0;
+		for (Widget widget : widgets) {
+			try {
+				blackhole.consume(reflectiveInvoke(widget, methodName));
+			} catch (NoSuchMethodException e) {
+				missing++;
+			}
+		}
+		return missing;
+	}
+
+	private static Object reflectiveInvoke(final Widget widget, String methodName) throws NoSuchMethodException {
+		final Method method = widget.getClass().getMethod(methodName, new Class[0]);
+		return UIThreadRunnable.syncExec(widget.getDisplay(), new Result<Object>() {
+			@Override
+			public Object run() {
+				try {
+					return method.invoke(widget, new Object[0]);
+				} catch (Exception niceTry) {
+				}
+				return null;
+			}
+		});
+	}
+}
@@ -0,0 +1,110 @@
+/*******************************************************************************
+ * Copyright (c) 2026 SWTBot Committers and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     SWTBot Committers - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.swtbot.swt.finder.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.swt.SWT;
+import org.eclipse.swt.layout.FillLayout;
+import org.eclipse.swt.widgets.Button;
+import org.eclipse.swt.widgets.Display;
+import org.eclipse.swt.widgets.Event;
+import org.eclipse.swt.widgets.Listener;
+import org.eclipse.swt.widgets.Shell;
+import org.eclipse.swtbot.swt.finder.widgets.SWTBotButton;
+import org.eclipse.swtbot.swt.finder.widgets.SWTBotCheckBox;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the cost of sending the events of a click to a widget from a test thread, with {@link SWTBotButton#click()}
+ * and {@link SWTBotCheckBox#click()}. Each button counts the selection events it receives, so that the listeners are
+ * not optimized away.
+ *
+ * @author SWTBot Committers
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 10, time = 1)
+@Fork(1)
+public class NotifyBenchmark {
+
+	private DisplayThread	displayThread;
+	private Display			display;
+	private Shell			shell;
+	private SWTBotButton	button;
+	private SWTBotCheckBox	checkBox;
+	private int				selections;
+
+	@Setup
+	public void setUp() {
+		displayThread = new DisplayThread();
+		display = displayThread.startDisplay();
+		displayThread.syncExec(new Runnable() {
+			@Override
+			public void run() {
+				shell = new Shell(display);
+				shell.setLayout(new FillLayout());
+				Listener counter = new Listener() {
+					@Override
+					public void handleEvent(Event event) {
+						selections++;
+					}
+				};
+				Button push = new Button(shell, SWT.PUSH);
+				push.setText("Push"); //$NON-NLS-1$
+				push.addListener(SWT.Selection, counter);
+				Button check = new Button(shell, SWT.CHECK);
+				check.setText("Check"); //$NON-NLS-1$
+				check.addListener(SWT.Selection, counter);
+				shell.open();
+				button = new SWTBotButton(push);
+				checkBox = new SWTBotCheckBox(check);
+			}
+		});
+	}
+
+	@TearDown
+	public void tearDown() {
+		displayThread.syncExec(new Runnable() {
+			@Override
+			public void run() {
+				shell.dispose();
+			}
+		});
+		displayThread.stopDisplay();
+	}
+
+	@Benchmark
+	public int clickButton() {
+		button.click();
+		return selections;
+	}
+
+	@Benchmark
+	public int clickCheckBox() {
+		checkBox.click();
+		return selections;
+	}
+}
@@ -0,0 +1,115 @@
+/*******************************************************************************
+ * Copyright (c) 2026 SWTBot Committers and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     SWTBot Committers - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.swtbot.swt.finder.benchmarks;
+
+import static org.eclipse.swtbot.swt.finder.matchers.WidgetMatcherFactory.withRegex;
+
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+
+import org.eclipse.swt.SWT;
+import org.eclipse.swt.layout.FillLayout;
+import org.eclipse.swt.widgets.Display;
+import org.eclipse.swt.widgets.Shell;
+import org.eclipse.swt.widgets.Text;
+import org.eclipse.swt.widgets.Widget;
+import org.eclipse.swtbot.swt.finder.matchers.WithRegex;
+import org.eclipse.swtbot.swt.finder.utils.SWTUtils;
+import org.hamcrest.Matcher;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the cost of matching a regex against the text of a multi-line {@link Text} widget, the way
+ * {@link WithRegex} does for every widget it visits.
+ * <p>
+ * {@link #withRegexMatcher()} uses {@link WithRegex} as shipped, which finds the regex in the text.
+ * {@link #wrappedBaseline()} uses a copy of the previous implementation, which wrapped the regex in
+ * <code>([\r\n]|.)*</code> and matched the whole text. The baseline overflows the stack on long texts; it then
+ * returns <code>false</code>, and the time it took to overflow is what is measured.
+ * </p>
+ * <p>
+ * The regex occurs near the end of the text, so that both implementations scan all of it.
+ * </p>
+ *
+ * @author SWTBot Committers
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 10, time = 1)
+@Fork(1)
+public class RegexBenchmark {
+
+	/** The length of the text of the widget, in characters. */
+	@Param({ "1000", "100000" })
+	public int				textLength;
+
+	/** The regex to look for. */
+	@Param({ "needle", "need(le|ful) \\d+" })
+	public String			regex;
+
+	private Display			display;
+	private Shell			shell;
+	private Text			text;
+	private Matcher<Widget>	matcher;
+	private Pattern			baselinePattern;
+
+	@Setup
+	public void setUp() {
+		display = new Display();
+		shell = new Shell(display);
+		shell.setLayout(new FillLayout());
+		text = new Text(shell, SWT.MULTI);
+
+		StringBuilder builder = new StringBuilder(textLength + 100);
+		for (int line = 0; builder.length() < textLength; line++)
+			builder.append("a line of widget text, number ").append(line).append('\n'); //$NON-NLS-1$
+		builder.append("the needle 42\n"); //$NON-NLS-1$
+		text.setText(builder.toString());
+
+		matcher = withRegex(regex);
+		baselinePattern = Pattern.compile("([\r\n]|.)*" + regex + "([\r\n]|.)*"); //$NON-NLS-1$ //$NON-NLS-2$
+	}
+
+	@TearDown
+	public void tearDown() {
+		shell.dispose();
+		display.dispose();
+	}
+
+	@Benchmark
+	public boolean withRegexMatcher() {
+		return matcher.matches(text);
+	}
+
+	@Benchmark
+	public boolean wrappedBaseline() {
+		try {
+			return baselinePattern.matcher(SWTUtils.getText(text)).matches();
+		} catch (StackOverflowError e) {
+			return false;
+		}
+	}
+}
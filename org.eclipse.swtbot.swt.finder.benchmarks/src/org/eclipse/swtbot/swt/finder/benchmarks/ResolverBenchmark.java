@@ -0,0 +1,159 @@
+/*******************************************************************************
+ * Copyright (c) 2026 SWTBot Committers and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     SWTBot Committers - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.swtbot.swt.finder.benchmarks;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.swt.widgets.Display;
+import org.eclipse.swt.widgets.Widget;
+import org.eclipse.swtbot.swt.finder.finders.ControlFinder;
+import org.eclipse.swtbot.swt.finder.resolvers.CTabFolderResolver;
+import org.eclipse.swtbot.swt.finder.resolvers.CTabItemResolver;
+import org.eclipse.swtbot.swt.finder.resolvers.CompositeResolver;
+import org.eclipse.swtbot.swt.finder.resolvers.DefaultChildrenResolver;
+import org.eclipse.swtbot.swt.finder.resolvers.DefaultParentResolver;
+import org.eclipse.swtbot.swt.finder.resolvers.ExpandBarResolver;
+import org.eclipse.swtbot.swt.finder.resolvers.ExpandItemResolver;
+import org.eclipse.swtbot.swt.finder.resolvers.IChildrenResolver;
+import org.eclipse.swtbot.swt.finder.resolvers.IParentResolver;
+import org.eclipse.swtbot.swt.finder.resolvers.IResolvable;
+import org.eclipse.swtbot.swt.finder.resolvers.NullResolver;
+import org.eclipse.swtbot.swt.finder.resolvers.Resolver;
+import org.eclipse.swtbot.swt.finder.resolvers.TabFolderResolver;
+import org.eclipse.swtbot.swt.finder.resolvers.TabItemResolver;
+import org.eclipse.swtbot.swt.finder.resolvers.ToolItemResolver;
+import org.eclipse.swtbot.swt.finder.resolvers.ToolbarResolver;
+import org.hamcrest.core.IsAnything;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Measures the cost of resolving the parent and the children of every widget of a {@link SyntheticShell}, which is
+ * what {@link ControlFinder} does for each node it walks.
+ * <p>
+ * {@link #defaultResolvers()} uses {@link DefaultParentResolver} and {@link DefaultChildrenResolver} as shipped, which
+ * look up the resolvers of each widget class once. {@link #uncachedBaseline()} uses a copy of the previous lookup of
+ * {@link Resolver#getResolvers(Class)}, which walked up the class hierarchy and copied the resolvers into a new set and
+ * a new list for every widget. Run with {@code -prof gc} to compare the allocation rate of both.
+ * </p>
+ *
+ * @author SWTBot Committers
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 10, time = 1)
+@Fork(1)
+public class ResolverBenchmark {
+
+	/** The number of widgets in the synthetic shell. */
+	@Param({ "1000", "10000" })
+	public int									widgetCount;
+
+	private Display								display;
+	private SyntheticShell						syntheticShell;
+	private List<Widget>						widgets;
+	private DefaultParentResolver				parentResolver;
+	private DefaultChildrenResolver				childrenResolver;
+	private Map<Class<?>, List<IResolvable>>	baselineMap;
+
+	@Setup
+	public void setUp() {
+		display = new Display();
+		syntheticShell = new SyntheticShell(display, widgetCount, 10);
+		widgets = new ControlFinder().findControls(syntheticShell.roots(), new IsAnything<Widget>(), true);
+		parentResolver = new DefaultParentResolver();
+		childrenResolver = new DefaultChildrenResolver();
+
+		// the same resolvers as org.eclipse.swtbot.swt.finder.resolvers.Resolvable, in the same order
+		IResolvable[] resolvers = { new ExpandBarResolver(), new ExpandItemResolver(), new CTabFolderResolver(), new TabFolderResolver(),
+				new CTabItemResolver(), new TabItemResolver(), new ToolbarResolver(), new CompositeResolver(), new NullResolver(),
+				new ToolItemResolver() };
+		baselineMap = new HashMap<Class<?>, List<IResolvable>>();
+		for (IResolvable resolver : resolvers) {
+			for (Class<?> clazz : resolver.getResolvableClasses()) {
+				List<IResolvable> list = baselineMap.get(clazz);
+				if (list == null) {
+					list = new ArrayList<IResolvable>();
+					baselineMap.put(clazz, list);
+				}
+				list.add(resolver);
+			}
+		}
+	}
+
+	@TearDown
+	public void tearDown() {
+		syntheticShell.dispose();
+		display.dispose();
+	}
+
+	@Benchmark
+	public void defaultResolvers(Blackhole blackhole) {
+		for (Widget widget : widgets) {
+			blackhole.consume(parentResolver.getParent(widget));
+			blackhole.consume(childrenResolver.hasChildren(widget));
+		}
+	}
+
+	@Benchmark
+	public void uncachedBaseline(Blackhole blackhole) {
+		for (Widget widget : widgets) {
+			Widget parent = null;
+			for (IResolvable resolvable : getResolvers(widget.getClass())) {
+				IParentResolver resolver = (IParentResolver) resolvable;
+				if (resolver.hasParent(widget)) {
+					parent = resolver.getParent(widget);
+					break;
+				}
+			}
+			blackhole.consume(parent);
+			boolean hasChildren = false;
+			for (IResolvable resolvable : getResolvers(widget.getClass())) {
+				IChildrenResolver resolver = (IChildrenResolver) resolvable;
+				if (resolver.canResolve(widget) && resolver.hasChildren(widget)) {
+					hasChildren = true;
+					break;
+				}
+			}
+			blackhole.consume(hasChildren);
+		}
+	}
+
+	private List<IResolvable> getResolvers(Class<?> clazz) {
+		LinkedHashSet<IResolvable> result = new LinkedHashSet<IResolvable>();
+		List<IResolvable> resolvers = baselineMap.get(clazz);
+		if ((resolvers != null) && !resolvers.isEmpty())
+			result.addAll(resolvers);
+		else if (!Object.class.equals(clazz))
+			result.addAll(getResolvers(clazz.getSuperclass()));
+		return new ArrayList<IResolvable>(result);
+	}
+}
@@ -0,0 +1,141 @@
+/*******************************************************************************
+ * Copyright (c) 2026 SWTBot Committers and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     SWTBot Committers - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.swtbot.swt.finder.benchmarks;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.eclipse.swt.SWT;
+import org.eclipse.swt.layout.FillLayout;
+import org.eclipse.swt.widgets.Button;
+import org.eclipse.swt.widgets.Composite;
+import org.eclipse.swt.widgets.Display;
+import org.eclipse.swt.widgets.Label;
+import org.eclipse.swt.widgets.Shell;
+import org.eclipse.swt.widgets.Text;
+import org.eclipse.swt.widgets.Widget;
+
+/**
+ * Builds a shell containing a synthetic widget tree of a given size.
+ * <p>
+ * The tree is filled breadth first: every composite gets {@code breadth} children, one in four of which is a nested
+ * composite while the others are a label, a text and a button, until {@code widgetCount} widgets have been created or
+ * the composites at {@code depth} have been filled. The last widget created is a button with the text "OK", placed in
+ * the last composite, so that it is one of the deepest widgets of the tree.
+ * </p>
+ * <p>
+ * This must be invoked from the UI thread.
+ * </p>
+ *
+ * @author SWTBot Committers
+ */
+public class SyntheticShell {
+
+	/** The text on the last button of the tree. */
+	public static final String	TARGET_TEXT	= "OK";	//$NON-NLS-1$
+
+	private final Shell			shell;
+	private final Button		target;
+	private int					count;
+
+	/**
+	 * Creates a shell with the given number of widgets.
+	 *
+	 * @param display the display on which to create the shell.
+	 * @param widgetCount the number of widgets to create in the shell.
+	 * @param breadth the number of children of each composite.
+	 */
+	public SyntheticShell(Display display, int widgetCount, int breadth) {
+		this(display, widgetCount, breadth, Integer.MAX_VALUE);
+	}
+
+	/**
+	 * Creates a shell with at most the given number of widgets, nested at most the given number of composites deep.
+	 *
+	 * @param display the display on which to create the shell.
+	 * @param widgetCount the maximum number of widgets to create in the shell.
+	 * @param breadth the number of children of each composite.
+	 * @param depth the number of levels of composites below the shell that get children.
+	 */
+	public SyntheticShell(Display display, int widgetCount, int breadth, int depth) {
+		shell = new Shell(display);
+		shell.setLayout(new FillLayout());
+
+		List<Composite> parents = new ArrayList<Composite>();
+		List<Integer> depths = new ArrayList<Integer>();
+		parents.add(shell);
+		depths.add(0);
+		for (int p = 0; (p < parents.size()) && (depths.get(p) < depth) && (count < widgetCount - 1); p++) {
+			Composite parent = parents.get(p);
+			for (int i = 0; (i < breadth) && (count < widgetCount - 1); i++, count++) {
+				switch (i % 4) {
+				case 0:
+					parents.add(new Composite(parent, SWT.NONE));
+					depths.add(depths.get(p) + 1);
+					break;
+				case 1:
+					new Label(parent, SWT.NONE).setText("Label " + count); //$NON-NLS-1$
+					break;
+				case 2:
+					new Text(parent, SWT.BORDER).setText("Text " + count); //$NON-NLS-1$
+					break;
+				default:
+					new Button(parent, SWT.PUSH).setText("Button " + count); //$NON-NLS-1$
+				}
+			}
+		}
+		Composite deepest = parents.get(parents.size() - 1);
+		target = new Button(deepest, SWT.PUSH);
+		target.setText(TARGET_TEXT);
+		count++;
+		shell.setText("Synthetic shell with " + count + " widgets"); //$NON-NLS-1$ //$NON-NLS-2$
+	}
+
+	/**
+	 * @return the shell.
+	 */
+	public Shell shell() {
+		return shell;
+	}
+
+	/**
+	 * @return the "OK" button, the last widget created in the tree.
+	 */
+	public Button target() {
+		return target;
+	}
+
+	/**
+	 * @return the number of widgets in the shell, not counting the shell itself.
+	 */
+	public int widgetCount() {
+		return count;
+	}
+
+	/**
+	 * @return the children of the shell, which are visible even if the shell is not open.
+	 */
+	public List<Widget> roots() {
+		List<Widget> roots = new ArrayList<Widget>();
+		for (Widget child : shell.getChildren())
+			roots.add(child);
+		return roots;
+	}
+
+	/**
+	 * Disposes the shell.
+	 */
+	public void dispose() {
+		shell.dispose();
+	}
+}
@@ -0,0 +1,158 @@
+/*******************************************************************************
+ * Copyright (c) 2026 SWTBot Committers and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     SWTBot Committers - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.swtbot.swt.finder.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.swt.SWT;
+import org.eclipse.swt.layout.FillLayout;
+import org.eclipse.swt.widgets.Display;
+import org.eclipse.swt.widgets.Shell;
+import org.eclipse.swt.widgets.Table;
+import org.eclipse.swt.widgets.TableColumn;
+import org.eclipse.swt.widgets.TableItem;
+import org.eclipse.swt.widgets.Tree;
+import org.eclipse.swt.widgets.TreeColumn;
+import org.eclipse.swt.widgets.TreeItem;
+import org.eclipse.swtbot.swt.finder.utils.TableSnapshot;
+import org.eclipse.swtbot.swt.finder.widgets.SWTBotTable;
+import org.eclipse.swtbot.swt.finder.widgets.SWTBotTree;
+import org.eclipse.swtbot.swt.finder.widgets.SWTBotTreeItem;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Measures the cost of reading the contents of a table and of a tree from a test thread, the way tests verify them: cell
+ * by cell, and item by item, or with a single snapshot.
+ * <p>
+ * The table has {@code rows} rows and {@code columns} columns. The tree has {@code rows} root items, each with 10
+ * children, and the same columns.
+ * </p>
+ *
+ * @author SWTBot Committers
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 10, time = 1)
+@Fork(1)
+public class TableTreeReadBenchmark {
+
+	/** The number of rows of the table, and of root items of the tree. */
+	@Param({ "100", "1000" })
+	public int				rows;
+
+	/** The number of columns of the table and of the tree. */
+	@Param({ "5" })
+	public int				columns;
+
+	private DisplayThread	displayThread;
+	private Display			display;
+	private Shell			shell;
+	private SWTBotTable		table;
+	private SWTBotTree		tree;
+
+	@Setup
+	public void setUp() {
+		displayThread = new DisplayThread();
+		display = displayThread.startDisplay();
+		displayThread.syncExec(new Runnable() {
+			@Override
+			public void run() {
+				shell = new Shell(display);
+				shell.setLayout(new FillLayout());
+				Table swtTable = new Table(shell, SWT.MULTI);
+				Tree swtTree = new Tree(shell, SWT.MULTI);
+				for (int c = 0; c < columns; c++) {
+					new TableColumn(swtTable, SWT.NONE).setText("Column " + c); //$NON-NLS-1$
+					new TreeColumn(swtTree, SWT.NONE).setText("Column " + c); //$NON-NLS-1$
+				}
+				for (int r = 0; r < rows; r++) {
+					TableItem tableItem = new TableItem(swtTable, SWT.NONE);
+					TreeItem treeItem = new TreeItem(swtTree, SWT.NONE);
+					for (int c = 0; c < columns; c++) {
+						tableItem.setText(c, "Cell " + r + "," + c); //$NON-NLS-1$ //$NON-NLS-2$
+						treeItem.setText(c, "Node " + r + "," + c); //$NON-NLS-1$ //$NON-NLS-2$
+					}
+					for (int i = 0; i < 10; i++)
+						new TreeItem(treeItem, SWT.NONE).setText("Leaf " + r + "." + i); //$NON-NLS-1$ //$NON-NLS-2$
+				}
+				shell.open();
+				table = new SWTBotTable(swtTable);
+				tree = new SWTBotTree(swtTree);
+			}
+		});
+	}
+
+	@TearDown
+	public void tearDown() {
+		displayThread.syncExec(new Runnable() {
+			@Override
+			public void run() {
+				shell.dispose();
+			}
+		});
+		displayThread.stopDisplay();
+	}
+
+	@Benchmark
+	public void readTableCells(Blackhole blackhole) {
+		int rowCount = table.rowCount();
+		int columnCount = table.columnCount();
+		for (int r = 0; r < rowCount; r++)
+			for (int c = 0; c < columnCount; c++)
+				blackhole.consume(table.cell(r, c));
+	}
+
+	@Benchmark
+	public TableSnapshot readTableSnapshot() {
+		return table.snapshot();
+	}
+
+	@Benchmark
+	public void readTreeCells(Blackhole blackhole) {
+		int rowCount = tree.rowCount();
+		int columnCount = tree.columnCount();
+		for (int r = 0; r < rowCount; r++)
+			for (int c = 0; c < columnCount; c++)
+				blackhole.consume(tree.cell(r, c));
+	}
+
+	@Benchmark
+	public TableSnapshot readTreeSnapshot() {
+		return tree.snapshot();
+	}
+
+	@Benchmark
+	public void readTreeItems(Blackhole blackhole) {
+		for (SWTBotTreeItem item : tree.getAllItems())
+			blackhole.consume(item.getText());
+	}
+
+	@Benchmark
+	public SWTBotTreeItem findTreeItem() {
+		return tree.getTreeItem("Node " + (rows - 1) + ",0"); //$NON-NLS-1$ //$NON-NLS-2$
+	}
+}
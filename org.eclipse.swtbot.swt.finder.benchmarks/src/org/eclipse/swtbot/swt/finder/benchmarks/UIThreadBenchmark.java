@@ -0,0 +1,129 @@
+/*******************************************************************************
+ * Copyright (c) 2026 SWTBot Committers and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     SWTBot Committers - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.swtbot.swt.finder.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.swt.SWT;
+import org.eclipse.swt.widgets.Display;
+import org.eclipse.swt.widgets.Event;
+import org.eclipse.swt.widgets.Shell;
+import org.eclipse.swtbot.swt.finder.SWTBot;
+import org.eclipse.swtbot.swt.finder.finders.UIThreadRunnable;
+import org.eclipse.swtbot.swt.finder.results.IntResult;
+import org.eclipse.swtbot.swt.finder.results.VoidResult;
+import org.eclipse.swtbot.swt.finder.waits.DefaultCondition;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the cost of a trip from a test thread to the UI thread, and the latency of waiting for a condition.
+ * <p>
+ * {@link #syncExec()} and {@link #syncExecVoid()} measure a round trip with {@link UIThreadRunnable}.
+ * {@link #waitUntilLatency()} measures how long {@link SWTBot#waitUntil} takes to notice that a condition became true
+ * in the UI thread, after an event is dispatched there.
+ * </p>
+ *
+ * @author SWTBot Committers
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 10, time = 1)
+@Fork(1)
+public class UIThreadBenchmark {
+
+	private DisplayThread		displayThread;
+	private Display				display;
+	private Shell				shell;
+	private SWTBot				bot;
+	private volatile boolean	flag;
+	private int					counter;
+
+	@Setup
+	public void setUp() {
+		displayThread = new DisplayThread();
+		display = displayThread.startDisplay();
+		displayThread.syncExec(new Runnable() {
+			@Override
+			public void run() {
+				shell = new Shell(display);
+			}
+		});
+		bot = new SWTBot();
+	}
+
+	@TearDown
+	public void tearDown() {
+		displayThread.syncExec(new Runnable() {
+			@Override
+			public void run() {
+				shell.dispose();
+			}
+		});
+		displayThread.stopDisplay();
+	}
+
+	@Benchmark
+	public int syncExec() {
+		return UIThreadRunnable.syncExec(display, new IntResult() {
+			@Override
+			public Integer run() {
+				return counter++;
+			}
+		});
+	}
+
+	@Benchmark
+	public void syncExecVoid() {
+		UIThreadRunnable.syncExec(display, new VoidResult() {
+			@Override
+			public void run() {
+				counter++;
+			}
+		});
+	}
+
+	@Benchmark
+	public void waitUntilLatency() {
+		flag = false;
+		UIThreadRunnable.asyncExec(display, new VoidResult() {
+			@Override
+			public void run() {
+				flag = true;
+				shell.notifyListeners(SWT.Show, new Event());
+			}
+		});
+		bot.waitUntil(new DefaultCondition() {
+			@Override
+			public boolean test() throws Exception {
+				return flag;
+			}
+
+			@Override
+			public String getFailureMessage() {
+				return "The flag was not set"; //$NON-NLS-1$
+			}
+		}, 5000, 500);
+	}
+}
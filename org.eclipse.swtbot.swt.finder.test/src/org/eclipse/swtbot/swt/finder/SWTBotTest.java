@@ -13,13 +13,16 @@
  *******************************************************************************/
 package org.eclipse.swtbot.swt.finder;
 
+import static org.junit.Assert.assertArrayEquals;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertTrue;
 import static org.junit.Assert.fail;
 
 import org.eclipse.swtbot.swt.finder.finders.UIThreadRunnable;
+import org.eclipse.swtbot.swt.finder.results.Result;
 import org.eclipse.swtbot.swt.finder.results.VoidResult;
+import org.eclipse.swtbot.swt.finder.utils.SWTUtils;
 import org.eclipse.swtbot.swt.finder.test.AbstractMenuExampleTest;
 import org.eclipse.swtbot.swt.finder.utils.SWTBotPreferences;
 import org.eclipse.swtbot.swt.finder.waits.DefaultCondition;
@@ -117,6 +120,18 @@ public class SWTBotTest extends AbstractMenuExampleTest {
 		assertSame(shell.widget, bot.shellWithId("foo-shell", "bar").widget);
 	}
 
+	@Test
+	public void runsBotCallsInOneTransaction() throws Exception {
+		final SWTBotShell shell = bot.shell("Address Book - Untitled");
+		Object[] values = bot.inUI(new Result<Object[]>() {
+			@Override
+			public Object[] run() {
+				return new Object[] { SWTUtils.isUIThread(), shell.getText(), shell.isEnabled() };
+			}
+		});
+		assertArrayEquals(new Object[] { true, "Address Book - Untitled", true }, values);
+	}
+
 	@Test
 	public void waitsLessThan5sWhenConditionSwitchToFailing() {
 		final long begin = System.currentTimeMillis();
@@ -19,7 +19,12 @@ import static org.eclipse.swtbot.swt.finder.matchers.WidgetMatcherFactory.withTe
 import static org.hamcrest.Matchers.allOf;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
 
+import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
 
 import org.eclipse.swt.widgets.Button;
@@ -32,6 +37,8 @@ import org.eclipse.swt.widgets.Widget;
 import org.eclipse.swtbot.swt.finder.test.AbstractControlExampleTest;
 import org.eclipse.swtbot.swt.finder.utils.TreePath;
 import org.eclipse.swtbot.swt.finder.widgets.SWTBotTabItem;
+import org.hamcrest.BaseMatcher;
+import org.hamcrest.Description;
 import org.hamcrest.Matcher;
 import org.junit.Before;
 import org.junit.Test;
@@ -49,6 +56,54 @@ public class ControlFinderTest extends AbstractControlExampleTest {
 		assertText("Image Buttons", frames.get(2));
 	}
 
+	@Test
+	public void findsOnlyTheFirstMatchingControls() throws Exception {
+		final List<Group> frames = controlFinder.findControls(widgetOfType(Group.class));
+		final List<Group> firstFrames = controlFinder.findControls(widgetOfType(Group.class), 3);
+		assertEquals(frames.subList(0, 3), firstFrames);
+		assertEquals(frames.get(2), controlFinder.findControl(widgetOfType(Group.class), 2));
+		assertNull(controlFinder.findControl(widgetOfType(Group.class), frames.size()));
+	}
+
+	@Test
+	public void findsEachControlOnlyOnce() throws Exception {
+		final List<Widget> widgets = controlFinder.findControls(widgetOfType(Widget.class));
+		assertEquals(new HashSet<Widget>(widgets).size(), widgets.size());
+	}
+
+	@Test
+	public void sharesTheSearchContextWithNestedSearches() throws Exception {
+		final List<SearchContext> contexts = new ArrayList<SearchContext>();
+		controlFinder.findControls(new BaseMatcher<Group>() {
+			@Override
+			public boolean matches(Object item) {
+				if (contexts.isEmpty()) {
+					contexts.add(SearchContext.current());
+					controlFinder.findControls(new BaseMatcher<Widget>() {
+						@Override
+						public boolean matches(Object nested) {
+							if (contexts.size() == 1)
+								contexts.add(SearchContext.current());
+							return false;
+						}
+
+						@Override
+						public void describeTo(Description description) {
+						}
+					});
+				}
+				return false;
+			}
+
+			@Override
+			public void describeTo(Description description) {
+			}
+		});
+		assertEquals(2, contexts.size());
+		assertNotNull(contexts.get(0));
+		assertSame(contexts.get(0), contexts.get(1));
+	}
+
 	@Test
 	public void findsAllTabItem() throws Exception {
 		List<TabItem> tabItems = controlFinder.findControls(widgetOfType(TabItem.class));
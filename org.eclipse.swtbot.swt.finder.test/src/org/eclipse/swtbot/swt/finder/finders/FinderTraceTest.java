@@ -0,0 +1,99 @@
+/*******************************************************************************
+ * Copyright (c) 2026 SWTBot Committers and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     SWTBot Committers - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.swtbot.swt.finder.finders;
+
+import static org.eclipse.swtbot.swt.finder.matchers.WidgetMatcherFactory.withText;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.lang.ref.WeakReference;
+import java.util.List;
+
+import org.eclipse.swt.widgets.Button;
+import org.eclipse.swtbot.swt.finder.test.AbstractControlExampleTest;
+import org.eclipse.swtbot.swt.finder.utils.SWTBotPreferences;
+import org.hamcrest.Matcher;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * @author SWTBot Committers
+ */
+public class FinderTraceTest extends AbstractControlExampleTest {
+
+	private int	oldSize;
+
+	@Test
+	public void recordsNothingWhenOff() throws Exception {
+		SWTBotPreferences.FINDER_TRACE_SIZE = 0;
+		controlFinder.findControls(withText("One"));
+		assertFalse(FinderTrace.isEnabled());
+		assertEquals("", FinderTrace.dump());
+	}
+
+	@Test
+	public void keepsTheMostRecentMatches() throws Exception {
+		SWTBotPreferences.FINDER_TRACE_SIZE = 3;
+		Matcher<Button> withText = withText("One");
+		List<Button> buttons = controlFinder.findControls(withText);
+
+		String[] lines = FinderTrace.dump().split("\n");
+		assertEquals(3, lines.length);
+		for (String line : lines)
+			assertTrue(line, line.endsWith(", using matcher: with text 'One'"));
+		assertTrue(buttons.size() > 0);
+	}
+
+	@Test
+	public void describesMatchedWidgets() throws Exception {
+		SWTBotPreferences.FINDER_TRACE_SIZE = 1;
+		Button button = (Button) controlFinder.findControls(withText("One")).get(0);
+		FinderTrace.record(button, withText("One"), true);
+
+		String line = FinderTrace.dump();
+		assertTrue(line, line.startsWith("matched Button@" + Integer.toHexString(System.identityHashCode(button))));
+		assertTrue(line, line.contains(" with text \"One\""));
+	}
+
+	@Test
+	public void doesNotKeepTheMatchedItems() throws Exception {
+		SWTBotPreferences.FINDER_TRACE_SIZE = 1;
+		Object item = new Object();
+		String name = "Object@" + Integer.toHexString(System.identityHashCode(item));
+		WeakReference<Object> reference = new WeakReference<Object>(item);
+		FinderTrace.record(item, withText("One"), false);
+		item = null;
+
+		for (int i = 0; (i < 100) && (reference.get() != null); i++) {
+			System.gc();
+			Thread.sleep(10);
+		}
+		assertNull("the trace keeps the item", reference.get());
+		assertTrue(FinderTrace.dump(), FinderTrace.dump().startsWith("did not match " + name + " with text \"<collected>\""));
+	}
+
+	@Before
+	public void setUp() throws Exception {
+		oldSize = SWTBotPreferences.FINDER_TRACE_SIZE;
+		FinderTrace.clear();
+	}
+
+	@After
+	public void tearDown() throws Exception {
+		SWTBotPreferences.FINDER_TRACE_SIZE = oldSize;
+		FinderTrace.clear();
+	}
+}
@@ -0,0 +1,95 @@
+/*******************************************************************************
+ * Copyright (c) 2026 SWTBot Committers and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     SWTBot Committers - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.swtbot.swt.finder.finders;
+
+import static org.eclipse.swtbot.swt.finder.matchers.WidgetMatcherFactory.allOf;
+import static org.eclipse.swtbot.swt.finder.matchers.WidgetMatcherFactory.widgetOfType;
+import static org.eclipse.swtbot.swt.finder.matchers.WidgetMatcherFactory.withText;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+
+import org.eclipse.swt.widgets.Button;
+import org.eclipse.swtbot.swt.finder.test.AbstractControlExampleTest;
+import org.eclipse.swtbot.swt.finder.utils.SWTBotPreferences;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * @author SWTBot Committers
+ */
+public class LocatorCacheTest extends AbstractControlExampleTest {
+
+	private boolean	oldLocatorCache;
+
+	@Test
+	public void findsTheCachedControlOnTheNextLookup() throws Exception {
+		Button button = controlFinder.findControl(allOf(widgetOfType(Button.class), withText("One")), 0);
+		assertEquals(0, LocatorCache.hits());
+		assertEquals(1, LocatorCache.misses());
+
+		assertSame(button, controlFinder.findControl(allOf(widgetOfType(Button.class), withText("One")), 0));
+		assertEquals(1, LocatorCache.hits());
+		assertEquals(1, LocatorCache.misses());
+	}
+
+	@Test
+	public void walksTheWidgetTreeWhenTheCachedControlDoesNotMatch() throws Exception {
+		Button button = controlFinder.findControl(allOf(widgetOfType(Button.class), withText("One")), 0);
+		setText(button, "Uno");
+		try {
+			SWTBotPreferences.LOCATOR_CACHE = false;
+			Button expected = controlFinder.findControl(allOf(widgetOfType(Button.class), withText("One")), 0);
+			SWTBotPreferences.LOCATOR_CACHE = true;
+
+			Button found = controlFinder.findControl(allOf(widgetOfType(Button.class), withText("One")), 0);
+			assertNotSame(button, found);
+			assertSame(expected, found);
+			assertEquals(0, LocatorCache.hits());
+			assertEquals(2, LocatorCache.misses());
+		} finally {
+			setText(button, "One");
+		}
+	}
+
+	@Test
+	public void doesNotCacheLookupsOfMoreThanOneControl() throws Exception {
+		controlFinder.findControls(allOf(widgetOfType(Button.class), withText("One")), 2);
+		controlFinder.findControls(allOf(widgetOfType(Button.class), withText("One")), 2);
+		assertEquals(0, LocatorCache.hits());
+		assertEquals(0, LocatorCache.misses());
+	}
+
+	private void setText(final Button button, final String text) {
+		display.syncExec(new Runnable() {
+			@Override
+			public void run() {
+				button.setText(text);
+			}
+		});
+	}
+
+	@Before
+	public void setUp() throws Exception {
+		oldLocatorCache = SWTBotPreferences.LOCATOR_CACHE;
+		SWTBotPreferences.LOCATOR_CACHE = true;
+		LocatorCache.clear();
+	}
+
+	@After
+	public void tearDown() throws Exception {
+		SWTBotPreferences.LOCATOR_CACHE = oldLocatorCache;
+		LocatorCache.clear();
+	}
+}
@@ -14,15 +14,26 @@ package org.eclipse.swtbot.swt.finder.finders;
 
 import static org.eclipse.swtbot.swt.finder.SWTBotTestCase.assertText;
 import static org.eclipse.swtbot.swt.finder.SWTBotTestCase.pass;
+import static org.eclipse.swtbot.swt.finder.matchers.WidgetMatcherFactory.withMnemonic;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.fail;
 
+import java.util.Arrays;
 import java.util.List;
 
 import org.eclipse.swt.SWT;
 import org.eclipse.swt.SWTException;
+import org.eclipse.swt.widgets.Event;
+import org.eclipse.swt.widgets.Listener;
+import org.eclipse.swt.widgets.Menu;
 import org.eclipse.swt.widgets.MenuItem;
+import org.eclipse.swtbot.swt.finder.exceptions.WidgetNotFoundException;
+import org.eclipse.swtbot.swt.finder.results.Result;
+import org.eclipse.swtbot.swt.finder.results.VoidResult;
 import org.eclipse.swtbot.swt.finder.test.AbstractMenuExampleTest;
+import org.eclipse.swtbot.swt.finder.utils.SWTBotPreferences;
+import org.eclipse.swtbot.swt.finder.widgets.SWTBotRootMenu;
+import org.hamcrest.Matcher;
 import org.junit.Test;
 
 /**
@@ -51,4 +62,72 @@ public class MenuFinderTest extends AbstractMenuExampleTest {
 		assertText("&Find...\tCtrl+F", findControls.get(21));
 	}
 
+	@Test
+	public void findsMenuItemAlongAPathShowingOnlyItsSubMenus() throws Exception {
+		final int[] shown = new int[2];
+		UIThreadRunnable.syncExec(new VoidResult() {
+			@Override
+			public void run() {
+				Menu menuBar = shell.getMenuBar();
+				menuBar.getItems()[0].getMenu().addListener(SWT.Show, new Listener() {
+					@Override
+					public void handleEvent(Event event) {
+						shown[0]++;
+					}
+				});
+				menuBar.getItems()[1].getMenu().addListener(SWT.Show, new Listener() {
+					@Override
+					public void handleEvent(Event event) {
+						shown[1]++;
+					}
+				});
+			}
+		});
+		Menu menuBar = menuFinder.menuBar(shell);
+		List<Matcher<MenuItem>> path = Arrays.<Matcher<MenuItem>> asList(withMnemonic("Edit"), withMnemonic("Sort"), withMnemonic("First Name"));
+
+		assertText("First Name", menuFinder.findMenuItem(menuBar, path));
+		assertEquals(0, shown[0]);
+		assertEquals(1, shown[1]);
+		assertEquals(null, menuFinder.findMenuItem(menuBar, Arrays.<Matcher<MenuItem>> asList(withMnemonic("Edit"), withMnemonic("Nothing"))));
+	}
+
+	@Test
+	public void leavesNoListenersBehindWhenAPathIsNotFound() throws Exception {
+		final Menu menuBar = menuFinder.menuBar(shell);
+		int[] listeners = listenersAlongEditSort(menuBar);
+		List<Matcher<MenuItem>> path = Arrays.<Matcher<MenuItem>> asList(withMnemonic("Edit"), withMnemonic("Sort"), withMnemonic("Nothing"));
+
+		assertEquals(null, menuFinder.findMenuItem(menuBar, path));
+		menuFinder.forgetShownMenus();
+		assertEquals(Arrays.toString(listeners), Arrays.toString(listenersAlongEditSort(menuBar)));
+
+		long oldTimeout = SWTBotPreferences.TIMEOUT;
+		SWTBotPreferences.TIMEOUT = 500;
+		try {
+			new SWTBotRootMenu(menuBar).menu("Edit", "Sort", "Nothing");
+			fail("Expecting a WidgetNotFoundException");
+		} catch (WidgetNotFoundException e) {
+			pass();
+		} finally {
+			SWTBotPreferences.TIMEOUT = oldTimeout;
+		}
+		assertEquals(Arrays.toString(listeners), Arrays.toString(listenersAlongEditSort(menuBar)));
+	}
+
+	private int[] listenersAlongEditSort(final Menu menuBar) {
+		return UIThreadRunnable.syncExec(new Result<int[]>() {
+			@Override
+			public int[] run() {
+				Menu edit = menuBar.getItems()[1].getMenu();
+				Menu sort = null;
+				for (MenuItem item : edit.getItems())
+					if ("Sort".equals(item.getText().replace("&", "")))
+						sort = item.getMenu();
+				return new int[] { edit.getListeners(SWT.Hide).length, edit.getListeners(SWT.Dispose).length, sort.getListeners(SWT.Hide).length,
+						sort.getListeners(SWT.Dispose).length };
+			}
+		});
+	}
+
 }
@@ -0,0 +1,144 @@
+/*******************************************************************************
+ * Copyright (c) 2026 SWTBot Committers and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     SWTBot Committers - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.swtbot.swt.finder.finders;
+
+import static org.eclipse.swtbot.swt.finder.matchers.WidgetMatcherFactory.allOf;
+import static org.eclipse.swtbot.swt.finder.matchers.WidgetMatcherFactory.widgetOfType;
+import static org.eclipse.swtbot.swt.finder.matchers.WidgetMatcherFactory.withText;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.List;
+
+import org.eclipse.swt.SWT;
+import org.eclipse.swt.widgets.Button;
+import org.eclipse.swt.widgets.Group;
+import org.eclipse.swt.widgets.Widget;
+import org.eclipse.swtbot.swt.finder.test.AbstractControlExampleTest;
+import org.eclipse.swtbot.swt.finder.utils.SWTBotPreferences;
+import org.hamcrest.Matcher;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * @author SWTBot Committers
+ */
+public class WidgetIndexTest extends AbstractControlExampleTest {
+
+	private boolean	oldIndex;
+
+	@Test
+	public void findsTheSameControlsAsAWalk() throws Exception {
+		assertFindsTheSameControls(widgetOfType(Group.class), Integer.MAX_VALUE);
+		assertFindsTheSameControls(widgetOfType(Group.class), 3);
+		assertFindsTheSameControls(widgetOfType(Widget.class), Integer.MAX_VALUE);
+		assertFindsTheSameControls(allOf(widgetOfType(Button.class), withText("One")), Integer.MAX_VALUE);
+		assertFindsTheSameControls(allOf(widgetOfType(Button.class), withText("One")), 1);
+	}
+
+	@Test
+	public void findsControlsWhoseTextChanged() throws Exception {
+		SWTBotPreferences.WIDGET_INDEX = true;
+		final Button button = controlFinder.findControl(allOf(widgetOfType(Button.class), withText("One")), 0);
+		setText(button, "Uno");
+		try {
+			assertEquals(button, controlFinder.findControl(allOf(widgetOfType(Button.class), withText("Uno")), 0));
+		} finally {
+			setText(button, "One");
+		}
+	}
+
+	@Test
+	public void forgetsDisposedControls() throws Exception {
+		SWTBotPreferences.WIDGET_INDEX = true;
+		final Button button = controlFinder.findControl(allOf(widgetOfType(Button.class), withText("One")), 0);
+		int size = indexSize();
+		display.syncExec(new Runnable() {
+			@Override
+			public void run() {
+				button.dispose();
+			}
+		});
+		assertEquals(size - 1, indexSize());
+		assertFalse(controlFinder.findControls(widgetOfType(Button.class)).contains(button));
+	}
+
+	@Test
+	public void findsControlsCreatedByTheSameRunnable() throws Exception {
+		SWTBotPreferences.WIDGET_INDEX = true;
+		final Group group = controlFinder.findControl(widgetOfType(Group.class), 0);
+		indexSize();
+		final Button[] created = new Button[1];
+		final Button[] found = new Button[1];
+		display.syncExec(new Runnable() {
+			@Override
+			public void run() {
+				created[0] = new Button(group, SWT.PUSH);
+				created[0].setText("Fresh");
+				try {
+					found[0] = controlFinder.findControl(allOf(widgetOfType(Button.class), withText("Fresh")), 0);
+				} finally {
+					created[0].dispose();
+				}
+			}
+		});
+		assertEquals(created[0], found[0]);
+	}
+
+	private <T extends Widget> void assertFindsTheSameControls(Matcher<T> matcher, int maxCount) {
+		SWTBotPreferences.WIDGET_INDEX = false;
+		List<T> expected = controlFinder.findControls(matcher, maxCount);
+		SWTBotPreferences.WIDGET_INDEX = true;
+		List<T> controls = controlFinder.findControls(matcher, maxCount);
+		assertTrue(expected.size() > 0);
+		assertEquals(expected, controls);
+	}
+
+	private void setText(final Button button, final String text) {
+		display.syncExec(new Runnable() {
+			@Override
+			public void run() {
+				button.setText(text);
+			}
+		});
+	}
+
+	private int indexSize() {
+		final int[] size = new int[1];
+		display.syncExec(new Runnable() {
+			@Override
+			public void run() {
+				size[0] = WidgetIndex.forDisplay(display).size();
+			}
+		});
+		return size[0];
+	}
+
+	@Before
+	public void setUp() throws Exception {
+		oldIndex = SWTBotPreferences.WIDGET_INDEX;
+	}
+
+	@After
+	public void tearDown() throws Exception {
+		SWTBotPreferences.WIDGET_INDEX = oldIndex;
+		display.syncExec(new Runnable() {
+			@Override
+			public void run() {
+				WidgetIndex.uninstall(display);
+			}
+		});
+	}
+}
@@ -0,0 +1,85 @@
+/*******************************************************************************
+ * Copyright (c) 2026 SWTBot Committers and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     SWTBot Committers - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.swtbot.swt.finder.finders;
+
+import static org.eclipse.swtbot.swt.finder.matchers.WidgetMatcherFactory.allOf;
+import static org.eclipse.swtbot.swt.finder.matchers.WidgetMatcherFactory.inGroup;
+import static org.eclipse.swtbot.swt.finder.matchers.WidgetMatcherFactory.widgetOfType;
+import static org.eclipse.swtbot.swt.finder.matchers.WidgetMatcherFactory.withId;
+import static org.eclipse.swtbot.swt.finder.matchers.WidgetMatcherFactory.withLabel;
+import static org.eclipse.swtbot.swt.finder.matchers.WidgetMatcherFactory.withRegex;
+import static org.eclipse.swtbot.swt.finder.matchers.WidgetMatcherFactory.withText;
+import static org.eclipse.swtbot.swt.finder.matchers.WidgetMatcherFactory.withTooltip;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.util.List;
+
+import org.eclipse.swt.widgets.Button;
+import org.eclipse.swt.widgets.Text;
+import org.eclipse.swt.widgets.Widget;
+import org.eclipse.swtbot.swt.finder.results.VoidResult;
+import org.eclipse.swtbot.swt.finder.test.AbstractClipboardExampleTest;
+import org.hamcrest.Matcher;
+import org.junit.Test;
+
+/**
+ * @author SWTBot Committers
+ */
+public class WidgetSnapshotTest extends AbstractClipboardExampleTest {
+
+	@Test
+	public void findsTheSameWidgetsAsTheFinder() throws Exception {
+		WidgetSnapshot snapshot = WidgetSnapshot.take(shell);
+		assertFindsTheSameWidgets(snapshot, widgetOfType(Button.class));
+		assertFindsTheSameWidgets(snapshot, withText("some\n" + "plain\n" + "text"));
+		assertFindsTheSameWidgets(snapshot, withRegex(".*Transfer.*"));
+		assertFindsTheSameWidgets(snapshot, withTooltip("TextTransfer Tooltip"));
+		assertFindsTheSameWidgets(snapshot, inGroup("Paste To:"));
+		assertFindsTheSameWidgets(snapshot, withLabel("TextTransfer:"));
+		assertFindsTheSameWidgets(snapshot, allOf(widgetOfType(Text.class), withLabel("TextTransfer:"), inGroup("Copy From:")));
+	}
+
+	@Test
+	public void copiesTheDataOfTheGivenKeys() throws Exception {
+		final Text text = (Text) bot.widget(allOf(withLabel("TextTransfer:"), inGroup("Copy From:")));
+		UIThreadRunnable.syncExec(new VoidResult() {
+			@Override
+			public void run() {
+				text.setData("foo-text", "bar");
+			}
+		});
+		assertTrue(WidgetSnapshot.take(shell).findWidgets(withId("foo-text", "bar")).isEmpty());
+		List<Widget> widgets = WidgetSnapshot.take(shell, "foo-text").findWidgets(withId("foo-text", "bar"));
+		assertEquals(1, widgets.size());
+		assertSame(text, widgets.get(0));
+	}
+
+	@Test
+	public void dumpsOneLinePerWidget() throws Exception {
+		WidgetSnapshot snapshot = WidgetSnapshot.take(shell);
+		String[] lines = snapshot.dump().split("\n");
+		assertEquals(snapshot.getNodes().size(), lines.length);
+		assertTrue(lines[0], lines[0].startsWith("Shell {"));
+		assertTrue(lines[1], lines[1].startsWith("  "));
+		assertFalse(lines[0].startsWith(" "));
+	}
+
+	private void assertFindsTheSameWidgets(WidgetSnapshot snapshot, Matcher<? extends Widget> matcher) {
+		List<? extends Widget> expected = controlFinder.findControls(shell, matcher, true);
+		assertFalse(expected.isEmpty());
+		assertEquals(expected, snapshot.findWidgets(matcher));
+	}
+}
@@ -12,7 +12,9 @@
  *******************************************************************************/
 package org.eclipse.swtbot.swt.finder.keyboard;
 
+import static org.junit.Assert.assertArrayEquals;
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
 
 import org.eclipse.jface.bindings.keys.KeyStroke;
 import org.eclipse.swt.SWT;
@@ -40,6 +42,21 @@ public class KeyboardLayoutTest {
 		assertEquals(keys(SWT.SHIFT, 'Y'), layout.keyStrokeFor('*'));
 	}
 
+	@Test
+	public void parsesEachLayoutOnce() throws Exception {
+		assertSame(KeyboardLayout.getKeyboardLayout("com.foo.bar.BAZ"), KeyboardLayout.getKeyboardLayout("com.foo.bar.BAZ"));
+	}
+
+	@Test
+	public void splitsKeyStrokesOfCharacters() throws Exception {
+		KeyboardLayout layout = KeyboardLayout.getKeyboardLayout("com.foo.bar.BAZ");
+		KeyStroke shift = KeyStroke.getInstance(SWT.SHIFT, 0);
+		KeyStroke t = KeyStroke.getInstance(0, 't');
+		assertArrayEquals(new KeyStroke[] { shift, t }, layout.strokesFor('#').press);
+		assertArrayEquals(new KeyStroke[] { t, shift }, layout.strokesFor('#').release);
+		assertEquals('#', layout.toCharacter(keys(SWT.SHIFT, 't')));
+	}
+
 	@After
 	public void tearDown() {
 		SWTBotPreferences.KEYBOARD_LAYOUT = KeyboardLayoutDetector.detectKeyboard();
@@ -54,7 +54,45 @@ public class RegexTextMatcherTest {
 	@Test
 	public void getsToString() throws Exception {
 		Matcher<Widget> matcher = withRegex("Some Text");
-		assertEquals("with regex '<([\r\n]|.)*Some Text([\r\n]|.)*>'", matcher.toString());
+		assertEquals("with regex '<Some Text>'", matcher.toString());
+	}
+
+	@Test
+	public void matchesRegexAcrossLines() throws Exception {
+		Matcher<Widget> matcher = withRegex("Some (.*) Text");
+		assertTrue(matcher.matches(new ObjectWithGetText("first line\r\nSome long string Text\nlast line")));
+	}
+
+	@Test
+	public void matchesLiteralAnywhereInText() throws Exception {
+		Matcher<Widget> matcher = withRegex("Some Text");
+		assertTrue(matcher.matches(new ObjectWithGetText("first line\nwith Some Text in it")));
+		assertFalse(matcher.matches(new ObjectWithGetText("first line\nwith some text in it")));
+	}
+
+	@Test
+	public void findsAnyBranchOfATopLevelAlternationAnywhereInText() throws Exception {
+		Matcher<Widget> matcher = withRegex("a|b");
+		assertTrue(matcher.matches(new ObjectWithGetText("xax")));
+		assertTrue(matcher.matches(new ObjectWithGetText("xbx")));
+		assertFalse(matcher.matches(new ObjectWithGetText("xyz")));
+	}
+
+	@Test
+	public void anchorsKeepTheOldMeaningOfAnAlternation() throws Exception {
+		Matcher<Widget> matcher = withRegex("a$|^b");
+		assertTrue(matcher.matches(new ObjectWithGetText("xa")));
+		assertTrue(matcher.matches(new ObjectWithGetText("bx")));
+		assertFalse(matcher.matches(new ObjectWithGetText("xax")));
+	}
+
+	@Test
+	public void matchesRegexInLongText() throws Exception {
+		StringBuilder text = new StringBuilder();
+		for (int i = 0; i < 10000; i++)
+			text.append("line ").append(i).append('\n');
+		Matcher<Widget> matcher = withRegex("line 99\\d\\d\n");
+		assertTrue(matcher.matches(new ObjectWithGetText(text.toString())));
 	}
 
 }
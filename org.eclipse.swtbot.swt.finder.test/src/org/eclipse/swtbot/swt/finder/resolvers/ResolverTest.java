@@ -12,13 +12,16 @@
  *******************************************************************************/
 package org.eclipse.swtbot.swt.finder.resolvers;
 
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
 
 import java.io.FileInputStream;
+import java.util.Arrays;
 import java.util.List;
 
 import org.eclipse.swt.widgets.Shell;
+import org.eclipse.swt.widgets.TabFolder;
 import org.junit.Test;
 
 /**
@@ -45,4 +48,24 @@ public class ResolverTest {
 		assertFalse(resolvers.isEmpty());
 	}
 
+	@Test
+	public void getsResolversAddedAfterTheTypeWasResolved() throws Exception {
+		Resolver resolver = new Resolver();
+		resolver.addResolver(new CompositeResolver());
+		assertEquals(1, resolver.getResolvers(TabFolder.class).size());
+
+		TabFolderResolver tabFolderResolver = new TabFolderResolver();
+		resolver.addResolver(tabFolderResolver);
+		assertEquals(Arrays.<IResolvable> asList(tabFolderResolver), resolver.getResolvers(TabFolder.class));
+	}
+
+	@Test
+	public void returnsACopyOfTheResolvers() throws Exception {
+		Resolver resolver = new Resolver();
+		resolver.addResolver(new CompositeResolver());
+
+		resolver.getResolvers(Shell.class).clear();
+		assertFalse(resolver.getResolvers(Shell.class).isEmpty());
+	}
+
 }
@@ -17,9 +17,20 @@ import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertTrue;
 
+import java.io.File;
+import java.lang.reflect.InvocationTargetException;
+import java.util.Optional;
+import java.util.concurrent.Future;
+
 import org.eclipse.swt.SWT;
+import org.eclipse.swt.graphics.ImageData;
+import org.eclipse.swt.graphics.PaletteData;
 import org.eclipse.swt.widgets.Control;
+import org.eclipse.swt.widgets.Display;
+import org.eclipse.swtbot.swt.finder.finders.UIThreadRunnable;
+import org.eclipse.swtbot.swt.finder.results.Result;
 import org.eclipse.swtbot.swt.finder.test.AbstractControlExampleTest;
+import org.eclipse.swtbot.swt.finder.utils.internal.ScreenshotWriter;
 import org.junit.Before;
 import org.junit.Test;
 
@@ -67,6 +78,68 @@ public class SWTUtilsTest extends AbstractControlExampleTest {
 		assertFalse(SWTUtils.hasStyle(null, SWT.CHECK));
 	}
 
+	@Test
+	public void invokesMethods() throws Exception {
+		assertEquals("One", SWTUtils.invokeMethod(bot.button("One").widget, "getText"));
+		assertEquals(3, SWTUtils.invokeMethod("abc", "length"));
+		assertEquals(SWTUtils.getText(bot.button("One").widget), SWTUtils.invokeMethod(bot.button("One").widget, "getText"));
+	}
+
+	@Test(expected = NoSuchMethodException.class)
+	public void invokingAMissingMethodThrows() throws Exception {
+		SWTUtils.invokeMethod(bot.button("One").widget, "getNothing");
+	}
+
+	@Test(expected = InvocationTargetException.class)
+	public void invokingAFailingMethodThrows() throws Exception {
+		SWTUtils.invokeMethod(Optional.empty(), "get");
+	}
+
+	@Test
+	public void capturesScreenshotsInTheBackground() throws Exception {
+		File file = File.createTempFile("screenshot", ".png");
+		file.delete();
+		try {
+			assertTrue(SWTUtils.captureScreenshotAsync(file.getPath()).get());
+			assertTrue(file.length() > 0);
+		} finally {
+			file.delete();
+		}
+	}
+
+	@Test
+	public void findsTheSameDisplayFromAnyThread() throws Exception {
+		Display display = shell.getDisplay();
+		assertSame(display, SWTUtils.display());
+		assertSame(display, UIThreadRunnable.syncExec(display, new Result<Display>() {
+			@Override
+			public Display run() {
+				return SWTUtils.display();
+			}
+		}));
+		assertFalse(SWTUtils.isUIThread());
+	}
+
+	@Test
+	public void doesNotWaitForCancelledScreenshots() throws Exception {
+		ImageData imageData = new ImageData(2000, 2000, 24, new PaletteData(0xFF0000, 0xFF00, 0xFF));
+		File first = File.createTempFile("screenshot", ".png");
+		File second = File.createTempFile("screenshot", ".png");
+		first.delete();
+		second.delete();
+		try {
+			Future<Boolean> written = ScreenshotWriter.writeAsync(first.getPath(), imageData);
+			Future<Boolean> cancelled = ScreenshotWriter.writeAsync(second.getPath(), imageData);
+			assertTrue(cancelled.cancel(false));
+			assertTrue(written.get());
+			assertTrue(ScreenshotWriter.flush(0));
+			assertFalse(second.exists());
+		} finally {
+			first.delete();
+			second.delete();
+		}
+	}
+
 	@Test
 	public void previousWidgetOnFirstWidget() throws Exception {
 		assertSame(null, SWTUtils.previousWidget(getChildren()[0]));
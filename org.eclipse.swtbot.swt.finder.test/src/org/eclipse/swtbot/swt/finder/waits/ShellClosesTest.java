@@ -20,6 +20,7 @@ import static org.hamcrest.Matchers.lessThan;
 import org.eclipse.swt.widgets.Composite;
 import org.eclipse.swtbot.swt.finder.SWTBot;
 import org.eclipse.swtbot.swt.finder.test.AbstractSWTShellTest;
+import org.eclipse.swtbot.swt.finder.utils.SWTBotPreferences;
 import org.eclipse.swtbot.swt.finder.widgets.SWTBotShell;
 import org.junit.Test;
 
@@ -31,6 +32,7 @@ public class ShellClosesTest extends AbstractSWTShellTest {
 
 	@Test
 	public void waitsForShellClose() throws Exception {
+		closeShellAfter(200);
 
 		long start = System.currentTimeMillis();
 		new SWTBot().waitUntil(Conditions.shellCloses(new SWTBotShell(shell)));
@@ -40,13 +42,36 @@ public class ShellClosesTest extends AbstractSWTShellTest {
 		assertThat(time, allOf(lessThan(5000), greaterThan(200)));
 	}
 
+	@Test
+	public void wakesUpWhenShellClosesInsteadOfWaitingForThePollInterval() throws Exception {
+		// the condition is tested at 0 and 2000ms, and then at 6000ms unless the shell closing at 2500ms wakes it up at
+		// 4000ms, MIN_POLL_DELAY after the previous test
+		long oldMinPollDelay = SWTBotPreferences.MIN_POLL_DELAY;
+		SWTBotPreferences.MIN_POLL_DELAY = 2000;
+		try {
+			closeShellAfter(2500);
+
+			long start = System.currentTimeMillis();
+			new SWTBot().waitUntil(Conditions.shellCloses(new SWTBotShell(shell)), 10000, 5000);
+			long end = System.currentTimeMillis();
+
+			int time = (int) (end - start);
+			assertThat(time, allOf(lessThan(5000), greaterThan(2500)));
+		} finally {
+			SWTBotPreferences.MIN_POLL_DELAY = oldMinPollDelay;
+		}
+	}
+
 	@Override
 	protected void createUI(Composite parent) {
+	}
+
+	private void closeShellAfter(final long delay) {
 		new Thread(new Runnable() {
 			@Override
 			public void run() {
 				try {
-					Thread.sleep(200);
+					Thread.sleep(delay);
 				} catch (InterruptedException niceTry) {
 				}
 				new SWTBotShell(shell).close();
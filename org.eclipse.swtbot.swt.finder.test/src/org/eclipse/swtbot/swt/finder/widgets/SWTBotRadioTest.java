@@ -19,6 +19,8 @@ import static org.junit.Assert.assertTrue;
 import static org.junit.Assert.fail;
 
 import org.eclipse.swtbot.swt.finder.exceptions.WidgetNotFoundException;
+import org.eclipse.swtbot.swt.finder.finders.UIThreadRunnable;
+import org.eclipse.swtbot.swt.finder.results.VoidResult;
 import org.eclipse.swtbot.swt.finder.test.AbstractControlExampleTest;
 import org.eclipse.swtbot.swt.finder.utils.SWTBotPreferences;
 import org.junit.After;
@@ -72,6 +74,29 @@ public class SWTBotRadioTest extends AbstractControlExampleTest {
 		assertEventMatches(listeners, "Selection [13]: SelectionEvent{Button {Two} time=557347515 data=null item=null detail=0 x=0 y=0 width=0 height=0 stateMask=" + toStateMask(0, radio.widget) + " text=null doit=true}");
 	}
 
+	@Test
+	public void clickingOneRadioDeselectsDisabledOthers() throws Exception {
+		bot.radio("One").click();
+		final SWTBotRadio one = bot.radio("One");
+		setEnabled(one, false);
+		try {
+			bot.radio("Two").click();
+			assertFalse(one.isSelected());
+			assertTrue(bot.radio("Two").isSelected());
+		} finally {
+			setEnabled(one, true);
+		}
+	}
+
+	private void setEnabled(final SWTBotRadio radio, final boolean enabled) {
+		UIThreadRunnable.syncExec(new VoidResult() {
+			@Override
+			public void run() {
+				radio.widget.setEnabled(enabled);
+			}
+		});
+	}
+
 	@Test
 	public void doesNotMatchCheckboxButtons() throws Exception {
 		try {
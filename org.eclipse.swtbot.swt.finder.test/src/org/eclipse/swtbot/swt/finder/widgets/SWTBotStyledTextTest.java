@@ -28,6 +28,7 @@ import org.eclipse.swt.graphics.GlyphMetrics;
 import org.eclipse.swtbot.swt.finder.exceptions.WidgetNotFoundException;
 import org.eclipse.swtbot.swt.finder.test.AbstractCustomControlExampleTest;
 import org.eclipse.swtbot.swt.finder.utils.Position;
+import org.eclipse.swtbot.swt.finder.utils.SWTBotPreferences;
 import org.junit.Before;
 import org.junit.Test;
 
@@ -156,6 +157,39 @@ public class SWTBotStyledTextTest extends AbstractCustomControlExampleTest {
 		assertTextContains("---typed Text---", styledText.widget);
 	}
 
+	@Test
+	public void typesTextFast() throws Exception {
+		styledText.navigateTo(1, 0);
+		styledText.typeTextFast("---typed Text---\n");
+		assertTextContains("---typed Text---", styledText.widget);
+	}
+
+	@Test
+	public void typesTextFastWithTheSWTKeyboard() throws Exception {
+		typesTextFastWith("org.eclipse.swtbot.swt.finder.keyboard.SWTKeyboardStrategy");
+	}
+
+	@Test
+	public void typesTextFastWithTheMockKeyboard() throws Exception {
+		typesTextFastWith("org.eclipse.swtbot.swt.finder.keyboard.MockKeyboardStrategy");
+	}
+
+	private void typesTextFastWith(String keyboardStrategy) {
+		String oldStrategy = SWTBotPreferences.KEYBOARD_STRATEGY;
+		SWTBotPreferences.KEYBOARD_STRATEGY = keyboardStrategy;
+		try {
+			// the keyboard of a bot is created with the strategy of the time
+			SWTBotStyledText styledText = new SWTBotStyledText(this.styledText.widget);
+			styledText.setText("hello world\n");
+			styledText.navigateTo(0, 6);
+			styledText.typeTextFast("typed ");
+			// read right after typing, the typing must not return before its keys are dispatched
+			assertEquals("hello typed world\n", styledText.getText());
+		} finally {
+			SWTBotPreferences.KEYBOARD_STRATEGY = oldStrategy;
+		}
+	}
+
 	@Test
 	public void typesTextAtALocationWithTabWidth() throws Exception {
 		styledText.setText("hello world\n" + "it is a \tvery good day today\n");
@@ -16,6 +16,8 @@ package org.eclipse.swtbot.swt.finder.widgets;
 
 import static org.eclipse.swtbot.swt.finder.SWTBotTestCase.assertSameWidget;
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
 import static org.junit.Assert.fail;
 
 import java.util.ArrayList;
@@ -25,6 +27,7 @@ import org.eclipse.swt.widgets.Table;
 import org.eclipse.swtbot.swt.finder.test.AbstractControlExampleTest;
 import org.eclipse.swtbot.swt.finder.utils.TableCollection;
 import org.eclipse.swtbot.swt.finder.utils.TableRow;
+import org.eclipse.swtbot.swt.finder.utils.TableSnapshot;
 import org.junit.Before;
 import org.junit.Test;
 
@@ -166,6 +169,41 @@ public class SWTBotTableTest extends AbstractControlExampleTest {
 		assertEquals(new TableCollection().add(new TableRow(new String[] { "Index:10", "databases", "2556", "tomorrow" })), selection);
 	}
 
+	@Test
+	public void snapshotsAllRows() throws Exception {
+		table.select(10);
+		TableSnapshot snapshot = table.snapshot();
+		assertEquals(16, snapshot.rowCount());
+		assertEquals(4, snapshot.columnCount());
+		assertEquals("Index:5", snapshot.get(5, 0));
+		assertEquals("tomorrow", snapshot.get(7, 3));
+		assertEquals(new TableRow(new String[] { "Index:10", "databases", "2556", "tomorrow" }), snapshot.row(10));
+		assertTrue(snapshot.isSelected(10));
+		assertFalse(snapshot.isSelected(9));
+		assertEquals(table.selection(), new TableCollection().add(snapshot.row(10)));
+	}
+
+	@Test
+	public void snapshotsSomeRowsAndColumns() throws Exception {
+		TableSnapshot snapshot = table.snapshotRows(14, 10, 2, 0);
+		assertEquals(14, snapshot.firstRow());
+		assertEquals(2, snapshot.rowCount());
+		assertEquals(2, snapshot.columnCount());
+		assertEquals(0, snapshot.columnIndex(1));
+		assertEquals(new TableRow(new String[] { table.cell(15, 2), "Index:15" }), snapshot.row(1));
+		assertEquals(0, table.snapshotRows(16, 10).rowCount());
+	}
+
+	@Test
+	public void snapshottingAnInvalidColumnThrowsException() throws Exception {
+		try {
+			table.snapshot(4);
+			fail("Expecting an exception");
+		} catch (IllegalArgumentException e) {
+			assertEquals("The column number (4) is more than the number of columns (4).", e.getMessage());
+		}
+	}
+
 	@Test
 	public void findsAnyTable() throws Exception {
 		assertSameWidget(table.widget, bot.table().widget);
@@ -27,11 +27,13 @@ import static org.junit.Assert.fail;
 import org.eclipse.swt.graphics.Point;
 import org.eclipse.swt.graphics.Rectangle;
 import org.eclipse.swtbot.swt.finder.exceptions.AssertionFailedException;
+import org.eclipse.swtbot.swt.finder.exceptions.WidgetNotFoundException;
 import org.eclipse.swtbot.swt.finder.finders.UIThreadRunnable;
 import org.eclipse.swtbot.swt.finder.results.Result;
 import org.eclipse.swtbot.swt.finder.test.AbstractControlExampleTest;
 import org.eclipse.swtbot.swt.finder.utils.TableCollection;
 import org.eclipse.swtbot.swt.finder.utils.TableRow;
+import org.eclipse.swtbot.swt.finder.utils.TableSnapshot;
 import org.junit.Assert;
 import org.junit.Before;
 import org.junit.Test;
@@ -70,6 +72,52 @@ public class SWTBotTreeItemTest extends AbstractControlExampleTest {
 		assertEquals(2, items.length);
 	}
 
+	@Test
+	public void snapshotsChildItems() throws Exception {
+		SWTBotTreeItem node = tree.expandNode("Node 2");
+		node.select("Node 2.2");
+		TableSnapshot snapshot = node.snapshot(0);
+		assertEquals(2, snapshot.rowCount());
+		assertEquals(1, snapshot.columnCount());
+		assertEquals("Node 2.1", snapshot.get(0, 0));
+		assertEquals("Node 2.2", snapshot.get(1, 0));
+		assertFalse(snapshot.isSelected(0));
+		assertTrue(snapshot.isSelected(1));
+		assertEquals(node.getNode(1).rowCount(), snapshot.itemCount(1));
+
+		snapshot = tree.snapshot();
+		assertEquals(tree.rowCount(), snapshot.rowCount());
+		assertEquals("Node 2", snapshot.get(1, 0));
+		assertTrue(snapshot.isExpanded(1));
+		assertFalse(snapshot.isExpanded(0));
+		assertEquals(new TableRow(new String[] { "Node 2" }), tree.snapshotRows(1, 1, 0).row(0));
+	}
+
+	@Test
+	public void snapshottingAnInvalidColumnThrowsException() throws Exception {
+		bot.checkBox("Multiple Columns").deselect();
+		tree = bot.treeInGroup("Tree");
+
+		SWTBotTreeItem node = tree.expandNode("Node 2");
+		try {
+			node.snapshot(1);
+			fail("Expecting an exception");
+		} catch (IllegalArgumentException e) {
+			assertEquals("The column number (1) is more than the number of columns (0).", e.getMessage());
+		}
+	}
+
+	@Test
+	public void cannotFindANodeWithIncorrectNodeText() throws Exception {
+		SWTBotTreeItem node = tree.expandNode("Node 2");
+		try {
+			node.getNode("Node 2.3");
+			fail("Was expecting a WidgetNotFoundException");
+		} catch (WidgetNotFoundException e) {
+			assertEquals("Could not find node with text: Node 2.3", e.getMessage());
+		}
+	}
+
 	@Test
 	public void cannotFindANodeWithIncorrectNodeIndex() throws Exception {
 		SWTBotTreeItem node = tree.expandNode("Node 2");
@@ -0,0 +1,101 @@
+/*******************************************************************************
+ * Copyright (c) 2026 SWTBot Committers and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     SWTBot Committers - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.swtbot.swt.finder.widgets;
+
+import static org.eclipse.swtbot.swt.finder.SWTBotTestCase.assertText;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import org.eclipse.swt.SWT;
+import org.eclipse.swt.widgets.Composite;
+import org.eclipse.swt.widgets.Event;
+import org.eclipse.swt.widgets.Listener;
+import org.eclipse.swt.widgets.Tree;
+import org.eclipse.swt.widgets.TreeItem;
+import org.eclipse.swtbot.swt.finder.exceptions.WidgetNotFoundException;
+import org.eclipse.swtbot.swt.finder.test.AbstractSWTShellTest;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Expands paths in a tree whose nodes get their children some time after they are expanded, like a lazy tree viewer.
+ *
+ * @author SWTBot Committers
+ */
+public class SWTBotTreeLazyTest extends AbstractSWTShellTest {
+
+	private SWTBotTree	tree;
+
+	@Override
+	protected void createUI(Composite parent) {
+		Tree tree = new Tree(parent, SWT.SINGLE);
+		for (int i = 1; i <= 3; i++)
+			createNode(tree, null, "Node " + i);
+		tree.addListener(SWT.Expand, new Listener() {
+			@Override
+			public void handleEvent(Event event) {
+				final TreeItem item = (TreeItem) event.item;
+				if (item.getItemCount() != 1 || !item.getItem(0).getText().isEmpty())
+					return;
+				item.getItem(0).dispose();
+				display.timerExec(100, new Runnable() {
+					@Override
+					public void run() {
+						if (item.isDisposed())
+							return;
+						for (int i = 1; i <= 2; i++)
+							createNode(item.getParent(), item, item.getText() + "." + i);
+					}
+				});
+			}
+		});
+	}
+
+	private void createNode(Tree tree, TreeItem parent, String text) {
+		TreeItem item = (parent == null) ? new TreeItem(tree, SWT.NONE) : new TreeItem(parent, SWT.NONE);
+		item.setText(text);
+		// a placeholder, replaced by the children when the node is expanded
+		new TreeItem(item, SWT.NONE);
+	}
+
+	@Test
+	public void expandsAPathWhoseChildrenArePopulatedLater() throws Exception {
+		SWTBotTreeItem node = tree.expandNode("Node 2", "Node 2.1", "Node 2.1.2");
+		assertText("Node 2.1.2", node);
+		assertTrue(node.isExpanded());
+	}
+
+	@Test
+	public void expandsAPathFromATreeItem() throws Exception {
+		SWTBotTreeItem node = tree.getTreeItem("Node 3").expandNode("Node 3.2", "Node 3.2.1");
+		assertText("Node 3.2.1", node);
+		assertTrue(node.isExpanded());
+	}
+
+	@Test
+	public void doesNotWaitForANodeUnderANodeThatIsAlreadyExpanded() throws Exception {
+		SWTBotTreeItem node = tree.expandNode("Node 1", "Node 1.1");
+		try {
+			node.expandNode("Node 1.1.3");
+			fail("Expecting an exception");
+		} catch (WidgetNotFoundException e) {
+			assertEquals("Could not find node with text: Node 1.1.3", e.getMessage());
+		}
+	}
+
+	@Before
+	public void setUp() throws Exception {
+		tree = bot.tree();
+	}
+}
@@ -34,6 +34,7 @@ import org.eclipse.swtbot.swt.finder.exceptions.WidgetNotFoundException;
 import org.eclipse.swtbot.swt.finder.finders.UIThreadRunnable;
 import org.eclipse.swtbot.swt.finder.results.Result;
 import org.eclipse.swtbot.swt.finder.test.AbstractControlExampleTest;
+import org.eclipse.swtbot.swt.finder.utils.SWTBotPreferences;
 import org.eclipse.swtbot.swt.finder.utils.TableCollection;
 import org.eclipse.swtbot.swt.finder.utils.TableRow;
 import org.junit.Before;
@@ -349,6 +350,19 @@ public class SWTBotTreeTest extends AbstractControlExampleTest {
 		assertEquals(7, tree.visibleRowCount());
 	}
 
+	@Test
+	public void failsAtOnceWhenAChildOfAnExpandedNodeIsMissing() throws Exception {
+		long start = System.currentTimeMillis();
+		try {
+			tree.expandNode("Node 2", "Node 2.3");
+			fail("Was expecting a WidgetNotFoundException");
+		} catch (WidgetNotFoundException e) {
+			assertEquals("Could not find node with text: Node 2.3", e.getMessage());
+		}
+		long elapsed = System.currentTimeMillis() - start;
+		assertTrue("waited " + elapsed + "ms", elapsed < SWTBotPreferences.TIMEOUT);
+	}
+
 	@Test(expected=AssertionFailedException.class)
 	public void expandEmptyPath() throws Exception {
 		bot.tree().expandNode();
@@ -58,7 +58,7 @@ public abstract class SWTBotAssert {
 
 		@Override
 		public boolean matchesSafely(String item) {
-			return pattern.matcher(item).matches();
+			return pattern.matcher(item).find();
 		}
 
 		@Override
@@ -254,13 +254,18 @@ public abstract class SWTBotAssert {
 	}
 	
 	/**
-	 * Assert that the widget text matches the regex.
+	 * Assert that the widget text matches the regex. The regex may be found anywhere in the text, across lines.
+	 * <p>
+	 * Before 4.3, the regex was wrapped in <code>([\r\n]|.)*</code> on both sides and had to match the whole text. This
+	 * differs for a regex with a top level alternation: <code>"a|b"</code> used to only match texts that end with "a"
+	 * or start with "b", and now matches any text that contains "a" or "b".
+	 * </p>
 	 * 
 	 * @param regex the regex.
 	 * @param actual the widget.
 	 */
 	public static void assertMatchesRegex(String regex, String actual) {
-		assertThat(actual, new RegexMatcher(Pattern.compile("([\r\n]|.)*" + regex + "([\r\n]|.)*")));
+		assertThat(actual, new RegexMatcher(Pattern.compile(regex)));
 	}
 
 }
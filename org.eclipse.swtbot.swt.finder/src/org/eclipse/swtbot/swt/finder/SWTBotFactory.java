@@ -43,6 +43,7 @@ import org.eclipse.swt.widgets.TrayItem;
 import org.eclipse.swt.widgets.Widget;
 import org.eclipse.swtbot.swt.finder.exceptions.WidgetNotFoundException;
 import org.eclipse.swtbot.swt.finder.finders.Finder;
+import org.eclipse.swtbot.swt.finder.finders.FinderTrace;
 import org.eclipse.swtbot.swt.finder.matchers.WithItem;
 import org.eclipse.swtbot.swt.finder.results.Result;
 import org.eclipse.swtbot.swt.finder.results.VoidResult;
@@ -50,6 +51,7 @@ import org.eclipse.swtbot.swt.finder.results.WidgetResult;
 import org.eclipse.swtbot.swt.finder.utils.SWTBotPreferences;
 import org.eclipse.swtbot.swt.finder.utils.SWTUtils;
 import org.eclipse.swtbot.swt.finder.utils.internal.Assert;
+import org.eclipse.swtbot.swt.finder.utils.internal.ConditionWaiter;
 import org.eclipse.swtbot.swt.finder.waits.Conditions;
 import org.eclipse.swtbot.swt.finder.waits.ICondition;
 import org.eclipse.swtbot.swt.finder.waits.WaitForObjectCondition;
@@ -405,7 +407,7 @@ abstract class SWTBotFactory {
 	 * @return the first widget that matchs the matcher.
 	 */
 	public <T extends Widget> T widget(Matcher<T> matcher, Widget parentWidget, int index) {
-		WaitForObjectCondition<T> waitForWidget = waitForWidget(matcher, parentWidget);
+		WaitForObjectCondition<T> waitForWidget = waitForWidget(matcher, parentWidget, index);
 		waitUntilWidgetAppears(waitForWidget);
 		return waitForWidget.get(index);
 	}
@@ -416,7 +418,7 @@ abstract class SWTBotFactory {
 	 * @return the index'th widget matching the matcher.
 	 */
 	public <T extends Widget> T widget(Matcher<T> matcher, int index) {
-		WaitForObjectCondition<T> waitForWidget = waitForWidget(matcher);
+		WaitForObjectCondition<T> waitForWidget = waitForWidget(matcher, index);
 		waitUntilWidgetAppears(waitForWidget);
 		return waitForWidget.get(index);
 	}
@@ -470,6 +472,7 @@ abstract class SWTBotFactory {
 			if (waitForWidget.getFailureMessage() != null) {
 				message = waitForWidget.getFailureMessage();
 			}
+			FinderTrace.log(message);
 			throw new WidgetNotFoundException(message, e);
 		}
 	}
@@ -498,30 +501,20 @@ abstract class SWTBotFactory {
 	}
 
 	/**
-	 * Waits until the condition has been meet, or the timeout is reached. The interval is the delay between evaluating
-	 * the condition after it has failed.
+	 * Waits until the condition has been meet, or the timeout is reached. The interval is the maximum delay between
+	 * evaluating the condition after it has failed. The condition is evaluated again sooner if it declares
+	 * {@link org.eclipse.swtbot.swt.finder.waits.IEventCondition wake up events} and one of them is dispatched.
 	 *
 	 * @param condition the condition to be evaluated.
 	 * @param timeout the timeout.
-	 * @param interval The delay time.
+	 * @param interval The maximum delay time.
 	 * @throws TimeoutException if the condition does not evaluate to true after timeout milliseconds.
 	 */
 	public void waitUntil(ICondition condition, long timeout, long interval) throws TimeoutException {
 		Assert.isTrue(interval >= 0, "interval value is negative"); //$NON-NLS-1$
 		Assert.isTrue(timeout >= 0, "timeout value is negative"); //$NON-NLS-1$
-		long limit = System.currentTimeMillis() + timeout;
 		condition.init((SWTBot) this);
-		while (true) {
-			try {
-				if (condition.test())
-					return;
-			} catch (Throwable e) {
-				// do nothing
-			}
-			sleep(interval);
-			if (System.currentTimeMillis() > limit)
-				throw new TimeoutException("Timeout after: " + timeout + " ms.: " + condition.getFailureMessage()); //$NON-NLS-1$ //$NON-NLS-2$
-		}
+		ConditionWaiter.waitFor(display, condition, true, timeout, interval);
 	}
 
 	/**
@@ -548,31 +541,21 @@ abstract class SWTBotFactory {
 	}
 
 	/**
-	 * Waits while the condition is true, until the timeout is reached. The interval is the delay between evaluating the
-	 * condition after it has succeed.
+	 * Waits while the condition is true, until the timeout is reached. The interval is the maximum delay between
+	 * evaluating the condition after it has succeed. The condition is evaluated again sooner if it declares
+	 * {@link org.eclipse.swtbot.swt.finder.waits.IEventCondition wake up events} and one of them is dispatched.
 	 *
 	 * @param condition the condition to be evaluated.
 	 * @param timeout the timeout.
-	 * @param interval The delay time.
+	 * @param interval The maximum delay time.
 	 * @throws TimeoutException if the condition does not evaluate to false after timeout milliseconds.
 	 * @since 2.0
 	 */
 	public void waitWhile(ICondition condition, long timeout, long interval) throws TimeoutException {
 		Assert.isTrue(interval >= 0, "interval value is negative"); //$NON-NLS-1$
 		Assert.isTrue(timeout >= 0, "timeout value is negative"); //$NON-NLS-1$
-		long limit = System.currentTimeMillis() + timeout;
 		condition.init((SWTBot) this);
-		while (true) {
-			try {
-				if (!condition.test())
-					return;
-			} catch (Throwable e) {
-				// do nothing
-			}
-			sleep(interval);
-			if (System.currentTimeMillis() > limit)
-				throw new TimeoutException("Timeout after: " + timeout + " ms.: " + condition.getFailureMessage()); //$NON-NLS-1$ //$NON-NLS-2$
-		}
+		ConditionWaiter.waitFor(display, condition, false, timeout, interval);
 	}
 
 	/**
@@ -760,4 +743,42 @@ abstract class SWTBotFactory {
         	SWTBotPreferences.TIMEOUT = old;
         }
 	}
+
+	/**
+	 * Runs the transaction in the UI thread, in a single call to it, and returns its result.
+	 * <p>
+	 * The bot calls made by the transaction see that they are already in the UI thread and run directly, so reading
+	 * many properties of many widgets costs one call to the UI thread instead of one per property:
+	 * </p>
+	 *
+	 * <pre>
+	 * String[] values = bot.inUI(new Result&lt;String[]&gt;() {
+	 * 	public String[] run() {
+	 * 		return new String[] { bot.text(0).getText(), bot.text(1).getText(), bot.label(0).getText() };
+	 * 	}
+	 * });
+	 * </pre>
+	 * <p>
+	 * No event is dispatched while the transaction runs, unless it waits for a condition. A transaction should
+	 * therefore read the state of the widgets, and not expect the application to react to what it does.
+	 * </p>
+	 *
+	 * @param transaction the transaction to run.
+	 * @return the result of the transaction.
+	 * @since 4.3
+	 */
+	public <T> T inUI(Result<T> transaction) {
+		return syncExec(display, transaction);
+	}
+
+	/**
+	 * Runs the transaction in the UI thread, in a single call to it.
+	 *
+	 * @see #inUI(Result) for more information.
+	 * @param transaction the transaction to run.
+	 * @since 4.3
+	 */
+	public void inUI(VoidResult transaction) {
+		syncExec(display, transaction);
+	}
 }
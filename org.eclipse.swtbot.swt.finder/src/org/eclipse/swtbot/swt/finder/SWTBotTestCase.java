@@ -16,6 +16,7 @@
 package org.eclipse.swtbot.swt.finder;
 
 import java.io.File;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -49,7 +50,7 @@ public abstract class SWTBotTestCase extends TestCase {
 	private static Logger	log					= LoggerFactory.getLogger(SWTBotTestCase.class);
 
 	/** Counts the screenshots to determine if maximum number is reached. */
-	private static int		screenshotCounter	= 0;
+	private static final AtomicInteger	screenshotCounter	= new AtomicInteger();
 
 	@Override
 	protected void setUp() throws Exception {
@@ -257,9 +258,9 @@ public abstract class SWTBotTestCase extends TestCase {
 			int maximumScreenshots = SWTBotPreferences.MAX_ERROR_SCREENSHOT_COUNT;
 			String fileName = "screenshots/screenshot-" + ClassUtils.simpleClassName(getClass()) + "." + getName() + "." //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
 					+ SWTBotPreferences.SCREENSHOT_FORMAT.toLowerCase();
-			if (++screenshotCounter <= maximumScreenshots) {
+			if (screenshotCounter.incrementAndGet() <= maximumScreenshots) {
 				new File("screenshots").mkdirs(); //$NON-NLS-1$
-				SWTUtils.captureScreenshot(fileName);
+				SWTUtils.captureScreenshotAsync(fileName);
 			} else {
 				log.info("No screenshot captured for '" + ClassUtils.simpleClassName(getClass()) + "." + getName() //$NON-NLS-1$ //$NON-NLS-2$
 						+ "' because maximum number of screenshots reached: " + maximumScreenshots); //$NON-NLS-1$
@@ -69,4 +69,18 @@ public class ChildrenControlFinder extends ControlFinder {
 		return findControls(parentWidget, matcher, true);
 	}
 
+	/**
+	 * Attempts to find at most {@code maxCount} controls using the given matcher starting with the given parent widget.
+	 * This will search recursively, and stop as soon as {@code maxCount} controls have been found.
+	 *
+	 * @param matcher the matcher used to find controls in the {@link #parentWidget}.
+	 * @param maxCount the maximum number of controls to find.
+	 * @return the first {@code maxCount} controls in the parent widget that the matcher matches.
+	 * @since 4.3
+	 */
+	@Override
+	public <T extends Widget> List<T> findControls(Matcher<T> matcher, int maxCount) {
+		return findControls(parentWidget, matcher, true, maxCount);
+	}
+
 }
@@ -14,10 +14,12 @@
 package org.eclipse.swtbot.swt.finder.finders;
 
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
-import java.util.LinkedHashSet;
+import java.util.HashSet;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.Set;
 
 import org.eclipse.swt.widgets.Composite;
 import org.eclipse.swt.widgets.Control;
@@ -31,6 +33,7 @@ import org.eclipse.swtbot.swt.finder.resolvers.IParentResolver;
 import org.eclipse.swtbot.swt.finder.results.ArrayResult;
 import org.eclipse.swtbot.swt.finder.results.ListResult;
 import org.eclipse.swtbot.swt.finder.results.WidgetResult;
+import org.eclipse.swtbot.swt.finder.utils.SWTBotPreferences;
 import org.eclipse.swtbot.swt.finder.utils.SWTUtils;
 import org.eclipse.swtbot.swt.finder.utils.TreePath;
 import org.hamcrest.Matcher;
@@ -101,6 +104,23 @@ public class ControlFinder {
 		return findControls(activeShell(), matcher, true);
 	}
 
+	/**
+	 * Finds at most {@code maxCount} controls in the active shell matching the given matcher. The search stops as soon
+	 * as {@code maxCount} controls have been found.
+	 * <p>
+	 * Note: This method is thread safe.
+	 * </p>
+	 *
+	 * @param matcher the matcher used to find controls in the active shell.
+	 * @param maxCount the maximum number of controls to find.
+	 * @return the first {@code maxCount} controls in the active shell that the matcher matches.
+	 * @see Display#getActiveShell()
+	 * @since 4.3
+	 */
+	public <T extends Widget> List<T> findControls(Matcher<T> matcher, int maxCount) {
+		return findControls(activeShell(), matcher, true, maxCount);
+	}
+
 	/**
 	 * Finds the controls matching one of the widgets using the given matcher. This will also go recursively though the
 	 * {@code widgets} provided.
@@ -149,14 +169,155 @@ public class ControlFinder {
 	 *         find the widget within each of the parentWidget.
 	 */
 	public <T extends Widget> List<T> findControls(final Widget parentWidget, final Matcher<T> matcher, final boolean recursive) {
+		return findControls(parentWidget, matcher, recursive, Integer.MAX_VALUE);
+	}
+
+	/**
+	 * Finds at most {@code maxCount} controls starting with the given parent widget and uses the given matcher. If
+	 * recursive is set, it will attempt to find the controls recursively in each child widget if they exist. The search
+	 * stops as soon as {@code maxCount} controls have been found, so looking for the first few matches does not walk
+	 * the whole widget tree.
+	 * <p>
+	 * This method is thread safe.
+	 * </p>
+	 *
+	 * @param parentWidget the parent widget in which controls should be found.
+	 * @param matcher the matcher used to match the widgets.
+	 * @param recursive if the match should be recursive.
+	 * @param maxCount the maximum number of controls to find.
+	 * @return the first {@code maxCount} visible widgets in the parentWidget that the matcher matches, in the same order
+	 *         as {@link #findControls(Widget, Matcher, boolean)}.
+	 * @since 4.3
+	 */
+	public <T extends Widget> List<T> findControls(final Widget parentWidget, final Matcher<T> matcher, final boolean recursive, final int maxCount) {
 		return UIThreadRunnable.syncExec(display, new ListResult<T>() {
 			@Override
 			public List<T> run() {
-				return findControlsInternal(parentWidget, matcher, recursive);
+				if (recursive && (maxCount == 1)) {
+					T control = findCachedControl(parentWidget, matcher);
+					if (control != null)
+						return new ArrayList<T>(Collections.singletonList(control));
+				}
+				List<T> controls = findUncachedControls(parentWidget, matcher, recursive, maxCount);
+				if (recursive && (maxCount == 1) && !controls.isEmpty())
+					cacheControl(parentWidget, matcher, controls.get(0));
+				return controls;
 			}
 		});
 	}
 
+	private <T extends Widget> List<T> findUncachedControls(Widget parentWidget, Matcher<T> matcher, boolean recursive, int maxCount) {
+		if (recursive) {
+			List<T> controls = findIndexedControls(parentWidget, matcher, maxCount);
+			if (controls != null)
+				return controls;
+		}
+		return findControlsInternal(Collections.singletonList(parentWidget), matcher, recursive, maxCount);
+	}
+
+	/**
+	 * Finds the first control matching the matcher in the parent widget at the location where it was last found, using
+	 * the {@link LocatorCache}, if {@link SWTBotPreferences#LOCATOR_CACHE} is set and the parent widget is a shell.
+	 * <p>
+	 * This method is not thread safe and must be invoked from the UI thread.
+	 * </p>
+	 *
+	 * @return the control found, or <code>null</code> if the cache cannot be used or does not know the control.
+	 */
+	private <T extends Widget> T findCachedControl(Widget parentWidget, Matcher<T> matcher) {
+		if (!SWTBotPreferences.LOCATOR_CACHE || !(parentWidget instanceof Shell) || parentWidget.isDisposed())
+			return null;
+		SearchContext context = SearchContext.open();
+		try {
+			return LocatorCache.find(this, (Shell) parentWidget, matcher);
+		} finally {
+			SearchContext.close(context);
+		}
+	}
+
+	private <T extends Widget> void cacheControl(Widget parentWidget, Matcher<T> matcher, T control) {
+		if (SWTBotPreferences.LOCATOR_CACHE && (parentWidget instanceof Shell) && !parentWidget.isDisposed())
+			LocatorCache.put(this, (Shell) parentWidget, matcher, control);
+	}
+
+	/**
+	 * Finds at most {@code maxCount} controls in the parent widget using the {@link WidgetIndex} of the display, if
+	 * {@link SWTBotPreferences#WIDGET_INDEX} is set and this finder uses the default resolvers. If
+	 * {@link SWTBotPreferences#WIDGET_INDEX_CHECK} is set, the controls are also found by walking the widget tree, and a
+	 * mismatch is logged.
+	 * <p>
+	 * Widgets created since the UI thread last dispatched events are not in the index yet, so the index only answers a
+	 * search when it finds {@code maxCount} controls. A search that finds fewer, or that looks for all the controls,
+	 * walks the widget tree.
+	 * </p>
+	 * <p>
+	 * This method is not thread safe and must be invoked from the UI thread.
+	 * </p>
+	 *
+	 * @return the controls found, or <code>null</code> if the index cannot be used for this search.
+	 */
+	private <T extends Widget> List<T> findIndexedControls(Widget parentWidget, Matcher<T> matcher, int maxCount) {
+		if (!SWTBotPreferences.WIDGET_INDEX || (parentWidget == null) || parentWidget.isDisposed() || (maxCount <= 0) || (maxCount == Integer.MAX_VALUE))
+			return null;
+		if ((childrenResolver.getClass() != DefaultChildrenResolver.class) || (parentResolver.getClass() != DefaultParentResolver.class))
+			return null;
+
+		List<T> controls;
+		SearchContext context = SearchContext.open();
+		try {
+			controls = WidgetIndex.forDisplay(parentWidget.getDisplay()).findControls(this, parentWidget, matcher, maxCount);
+		} finally {
+			SearchContext.close(context);
+		}
+		if ((controls != null) && (controls.size() < maxCount))
+			return null;
+		if ((controls != null) && SWTBotPreferences.WIDGET_INDEX_CHECK) {
+			List<T> expected = findControlsInternal(Collections.singletonList(parentWidget), matcher, true, maxCount);
+			if (!expected.equals(controls)) {
+				log.warn("The widget index found {} instead of {}, using matcher: {}", controls, expected, matcher); //$NON-NLS-1$
+				return expected;
+			}
+		}
+		return controls;
+	}
+
+	/**
+	 * Finds the control at the given index among the controls in the active shell matching the given matcher. The search
+	 * stops as soon as that control has been found.
+	 * <p>
+	 * This method is thread safe.
+	 * </p>
+	 *
+	 * @param matcher the matcher used to find controls in the active shell.
+	 * @param index the index of the control among the matching controls.
+	 * @return the matching control at the given index, or <code>null</code> if there are not as many matching controls.
+	 * @since 4.3
+	 */
+	public <T extends Widget> T findControl(Matcher<T> matcher, int index) {
+		return nth(findControls(matcher, index + 1), index);
+	}
+
+	/**
+	 * Finds the control at the given index among the controls in the given parent widget matching the given matcher. The
+	 * search stops as soon as that control has been found.
+	 * <p>
+	 * This method is thread safe.
+	 * </p>
+	 *
+	 * @param parentWidget the parent widget in which the control should be found.
+	 * @param matcher the matcher used to match the widgets.
+	 * @param index the index of the control among the matching controls.
+	 * @return the matching control at the given index, or <code>null</code> if there are not as many matching controls.
+	 * @since 4.3
+	 */
+	public <T extends Widget> T findControl(Widget parentWidget, Matcher<T> matcher, int index) {
+		return nth(findControls(parentWidget, matcher, true, index + 1), index);
+	}
+
+	private static <T> T nth(List<T> controls, int index) {
+		return controls.size() > index ? controls.get(index) : null;
+	}
+
 	/**
 	 * This finds controls using the list of widgets and the matcher. If recursive is set, it will attempt to find the
 	 * controls recursively in each child widget if they exist.
@@ -167,44 +328,85 @@ public class ControlFinder {
 	 * @see #findControls(List, Matcher, boolean)
 	 */
 	private <T extends Widget> List<T> findControlsInternal(final List<Widget> widgets, final Matcher<T> matcher, final boolean recursive) {
-		LinkedHashSet<T> list = new LinkedHashSet<T>();
-		for (Widget w : widgets) {
-			list.addAll(findControlsInternal(w, matcher, recursive));
+		return findControlsInternal(widgets, matcher, recursive, Integer.MAX_VALUE);
+	}
+
+	/**
+	 * Finds at most {@code maxCount} controls using the list of widgets and the matcher. The matcher is evaluated within
+	 * the {@link SearchContext} of the outermost search running on the UI thread.
+	 * <p>
+	 * This method is not thread safe and must be invoked from the UI thread.
+	 * </p>
+	 *
+	 * @see #findControls(Widget, Matcher, boolean, int)
+	 */
+	private <T extends Widget> List<T> findControlsInternal(final List<Widget> widgets, final Matcher<T> matcher, final boolean recursive, final int maxCount) {
+		List<T> controls = new ArrayList<T>();
+		if (maxCount <= 0)
+			return controls;
+		SearchContext context = SearchContext.open();
+		try {
+			collectControls(widgets, matcher, recursive, controls, maxCount);
+		} finally {
+			SearchContext.close(context);
 		}
-		return new ArrayList<T>(list);
+		return controls;
 	}
 
 	/**
-	 * Find controls starting from the parent widget using the given matcher. If recursive is set, it will attempt to
-	 * find the controls recursively in each child widget if they exist.
+	 * Walks the widget trees rooted at the given widgets and adds the widgets that the matcher matches to the given
+	 * collection. Widgets are visited depth first, parents before their children, which is the order in which they are
+	 * returned by the finder. A widget that is reachable from more than one parent is visited only once.
+	 * <p>
+	 * The walk uses an explicit stack rather than recursion, so the only collections allocated during a search are the
+	 * stack, the visited set and the accumulator itself. It stops as soon as the accumulator holds {@code maxCount}
+	 * widgets.
+	 * </p>
 	 * <p>
 	 * This method is not thread safe and must be invoked from the UI thread.
 	 * </p>
 	 *
-	 * @see #findControlsInternal(Widget, Matcher, boolean)
+	 * @param roots the widgets to start the search from.
+	 * @param matcher the matcher used to match the widgets.
+	 * @param recursive if the children of each widget should be searched as well.
+	 * @param controls the collection to which matching widgets are added.
+	 * @param maxCount the number of widgets after which the walk stops.
 	 * @throws IllegalArgumentException if the matcher matches an object that is the wrong declared type. For example, a Matcher&lt;Table&gt; that would match a Tree
 	 */
 	@SuppressWarnings("unchecked")
-	private <T extends Widget> List<T> findControlsInternal(final Widget parentWidget, final Matcher<T> matcher, final boolean recursive) {
-		if ((parentWidget == null) || parentWidget.isDisposed())
-			return new ArrayList<T>();
-		if (!visible(parentWidget)) {
-			if (!isComposite(parentWidget))
-				log.trace("{} is not visible, skipping.", parentWidget); //$NON-NLS-1$
-			return new ArrayList<T>();
-		}
-		LinkedHashSet<T> controls = new LinkedHashSet<T>();
-		if (matcher.matches(parentWidget) && !controls.contains(parentWidget))
-			try {
-				controls.add((T) parentWidget);
-			} catch (ClassCastException exception) {
-				throw new IllegalArgumentException("The specified matcher should only match against is declared type.", exception);
+	private <T extends Widget> void collectControls(final List<Widget> roots, final Matcher<T> matcher, final boolean recursive, final Collection<T> controls, final int maxCount) {
+		ArrayList<Widget> stack = new ArrayList<Widget>();
+		Set<Widget> visited = new HashSet<Widget>();
+		for (int i = roots.size() - 1; i >= 0; i--)
+			stack.add(roots.get(i));
+
+		while (!stack.isEmpty()) {
+			Widget widget = stack.remove(stack.size() - 1);
+			if ((widget == null) || widget.isDisposed())
+				continue;
+			if (!visible(widget)) {
+				if (!isComposite(widget))
+					log.trace("{} is not visible, skipping.", widget); //$NON-NLS-1$
+				continue;
+			}
+			if (!visited.add(widget))
+				continue;
+			if (matcher.matches(widget)) {
+				try {
+					controls.add((T) widget);
+				} catch (ClassCastException exception) {
+					throw new IllegalArgumentException("The specified matcher should only match against is declared type.", exception);
+				}
+				if (controls.size() >= maxCount)
+					return;
+			}
+			if (recursive) {
+				List<Widget> children = getChildrenResolver().getChildren(widget);
+				if (children != null)
+					for (int i = children.size() - 1; i >= 0; i--)
+						stack.add(children.get(i));
 			}
-		if (recursive) {
-			List<Widget> children = getChildrenResolver().getChildren(parentWidget);
-			controls.addAll(findControlsInternal(children, matcher, recursive));
 		}
-		return new ArrayList<T>(controls);
 	}
 
 	private boolean isComposite(Widget parentWidget) {
@@ -90,6 +90,23 @@ public class Finder {
 		return controlFinder.findControls(matcher);
 	}
 
+	/**
+	 * Finds at most {@code maxCount} controls in the active shell matching the given matcher. The search stops as soon
+	 * as {@code maxCount} controls have been found.
+	 * <p>
+	 * This method is thread safe.
+	 * </p>
+	 *
+	 * @param matcher the matcher used to find controls in the active shell.
+	 * @param maxCount the maximum number of controls to find.
+	 * @return the first {@code maxCount} controls in the active shell that the matcher matches.
+	 * @see ControlFinder#findControls(Matcher, int)
+	 * @since 4.3
+	 */
+	public <T extends Widget> List<T> findControls(Matcher<T> matcher, int maxCount) {
+		return controlFinder.findControls(matcher, maxCount);
+	}
+
 	/**
 	 * Finds the controls matching one of the widgets using the given matcher. If recursive is set, it will attempt to
 	 * recursively find the controls in each {@code children} widget if they exist.
@@ -123,6 +140,61 @@ public class Finder {
 		return controlFinder.findControls(widget, matcher, recursive);
 	}
 
+	/**
+	 * Finds at most {@code maxCount} controls starting with the given parent widget and uses the given matcher. If
+	 * recursive is set, it will attempt to find the controls in each child widget if they exist. The search stops as
+	 * soon as {@code maxCount} controls have been found.
+	 * <p>
+	 * This method is thread safe.
+	 * </p>
+	 *
+	 * @param widget the parent widget in which controls should be found.
+	 * @param matcher the matcher used to match the widgets.
+	 * @param recursive if the match should be recursive.
+	 * @param maxCount the maximum number of controls to find.
+	 * @return the first {@code maxCount} visible widgets in the parentWidget that the matcher matches.
+	 * @see ControlFinder#findControls(Widget, Matcher, boolean, int)
+	 * @since 4.3
+	 */
+	public <T extends Widget> List<T> findControls(Widget widget, Matcher<T> matcher, boolean recursive, int maxCount) {
+		return controlFinder.findControls(widget, matcher, recursive, maxCount);
+	}
+
+	/**
+	 * Finds the control at the given index among the controls in the active shell matching the given matcher. The search
+	 * stops as soon as that control has been found.
+	 * <p>
+	 * This method is thread safe.
+	 * </p>
+	 *
+	 * @param matcher the matcher used to find controls in the active shell.
+	 * @param index the index of the control among the matching controls.
+	 * @return the matching control at the given index, or <code>null</code> if there are not as many matching controls.
+	 * @see ControlFinder#findControl(Matcher, int)
+	 * @since 4.3
+	 */
+	public <T extends Widget> T findControl(Matcher<T> matcher, int index) {
+		return controlFinder.findControl(matcher, index);
+	}
+
+	/**
+	 * Finds the control at the given index among the controls in the given parent widget matching the given matcher. The
+	 * search stops as soon as that control has been found.
+	 * <p>
+	 * This method is thread safe.
+	 * </p>
+	 *
+	 * @param widget the parent widget in which the control should be found.
+	 * @param matcher the matcher used to match the widgets.
+	 * @param index the index of the control among the matching controls.
+	 * @return the matching control at the given index, or <code>null</code> if there are not as many matching controls.
+	 * @see ControlFinder#findControl(Widget, Matcher, int)
+	 * @since 4.3
+	 */
+	public <T extends Widget> T findControl(Widget widget, Matcher<T> matcher, int index) {
+		return controlFinder.findControl(widget, matcher, index);
+	}
+
 	/**
 	 * Finds the shell matching the given text (shell.getText()).
 	 *
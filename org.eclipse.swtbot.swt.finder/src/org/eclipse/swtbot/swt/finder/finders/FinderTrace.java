@@ -0,0 +1,177 @@
+/*******************************************************************************
+ * Copyright (c) 2026 SWTBot Committers and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     SWTBot Committers - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.swtbot.swt.finder.finders;
+
+import java.lang.ref.WeakReference;
+
+import org.eclipse.swt.widgets.Widget;
+import org.eclipse.swtbot.swt.finder.matchers.AbstractMatcher;
+import org.eclipse.swtbot.swt.finder.utils.ClassUtils;
+import org.eclipse.swtbot.swt.finder.utils.SWTBotPreferences;
+import org.eclipse.swtbot.swt.finder.utils.SWTUtils;
+import org.hamcrest.Matcher;
+import org.hamcrest.StringDescription;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Keeps the most recent matches done by {@link AbstractMatcher}s, to diagnose a lookup that fails.
+ * <p>
+ * The trace is turned on by setting {@link SWTBotPreferences#FINDER_TRACE_SIZE} to the number of matches to keep.
+ * Recording a match only stores weak references to the item and the matcher, the class name and identity hash code of
+ * the item, and the result in a ring buffer that is allocated once. A reference to a matcher is shared by all the matches
+ * it does in a row and a slot keeps its reference while it records the same item, so that a new reference is only
+ * created for an item that changes, and that turning the trace on hardly changes the timing of a search. The
+ * text of the widgets and the description of the matchers are only computed when the trace is dumped, which is done
+ * when a widget is not found, or by calling {@link #dump()}. The trace does not keep widgets or matchers from being
+ * garbage collected, those that are collected by then are dumped as <code>&lt;collected&gt;</code>.
+ * </p>
+ * <p>
+ * While the trace is on, {@link AbstractMatcher} does not log each match.
+ * </p>
+ *
+ * @author SWTBot Committers
+ * @since 4.3
+ */
+public final class FinderTrace {
+
+	private static final Logger			log			= LoggerFactory.getLogger(FinderTrace.class);
+
+	private static final String			COLLECTED	= "<collected>"; //$NON-NLS-1$
+
+	private static WeakReference<?>[]	items		= new WeakReference<?>[0];
+	private static String[]				classNames	= new String[0];
+	private static int[]				hashCodes	= new int[0];
+	private static WeakReference<?>[]	matchers	= new WeakReference<?>[0];
+	private static boolean[]			results		= new boolean[0];
+	/** The reference to the matcher recorded last, shared by the slots of consecutive matches done by the same matcher. */
+	private static WeakReference<?>		lastMatcher;
+	/** The number of matches recorded since the trace was last cleared. */
+	private static long					count;
+
+	private FinderTrace() {
+		// static utility
+	}
+
+	/**
+	 * @return <code>true</code> if matches are recorded, <code>false</code> otherwise.
+	 */
+	public static boolean isEnabled() {
+		return SWTBotPreferences.FINDER_TRACE_SIZE > 0;
+	}
+
+	/**
+	 * Records a match, if the trace is on.
+	 *
+	 * @param item the item that was matched.
+	 * @param matcher the matcher.
+	 * @param result the result of the match.
+	 */
+	public static synchronized void record(Object item, Matcher<?> matcher, boolean result) {
+		int size = SWTBotPreferences.FINDER_TRACE_SIZE;
+		if (size <= 0)
+			return;
+		if (items.length != size) {
+			items = new WeakReference<?>[size];
+			classNames = new String[size];
+			hashCodes = new int[size];
+			matchers = new WeakReference<?>[size];
+			results = new boolean[size];
+			count = 0;
+		}
+		int slot = (int) (count % size);
+		// a weak reference cannot be pointed at another object, so the slots keep theirs as long as the object is the same
+		if ((items[slot] == null) || (items[slot].get() != item))
+			items[slot] = new WeakReference<Object>(item);
+		classNames[slot] = (item == null) ? null : item.getClass().getName();
+		hashCodes[slot] = System.identityHashCode(item);
+		if ((lastMatcher == null) || (lastMatcher.get() != matcher))
+			lastMatcher = new WeakReference<Matcher<?>>(matcher);
+		matchers[slot] = lastMatcher;
+		results[slot] = result;
+		count++;
+	}
+
+	/**
+	 * Forgets the recorded matches.
+	 */
+	public static synchronized void clear() {
+		items = new WeakReference<?>[0];
+		classNames = new String[0];
+		hashCodes = new int[0];
+		matchers = new WeakReference<?>[0];
+		results = new boolean[0];
+		lastMatcher = null;
+		count = 0;
+	}
+
+	/**
+	 * Describes the recorded matches, the oldest first.
+	 *
+	 * @return one line per match.
+	 */
+	public static String dump() {
+		WeakReference<?>[] items;
+		String[] classNames;
+		int[] hashCodes;
+		WeakReference<?>[] matchers;
+		boolean[] results;
+		long count;
+		synchronized (FinderTrace.class) {
+			items = FinderTrace.items.clone();
+			classNames = FinderTrace.classNames.clone();
+			hashCodes = FinderTrace.hashCodes.clone();
+			matchers = FinderTrace.matchers.clone();
+			results = FinderTrace.results.clone();
+			count = FinderTrace.count;
+		}
+
+		StringBuilder dump = new StringBuilder();
+		int size = items.length;
+		for (long i = Math.max(0, count - size); i < count; i++) {
+			int slot = (int) (i % size);
+			Object item = items[slot].get();
+			Object matcher = matchers[slot].get();
+			dump.append(results[slot] ? "matched " : "did not match "); //$NON-NLS-1$ //$NON-NLS-2$
+			dump.append(ClassUtils.simpleClassName(classNames[slot]));
+			dump.append('@').append(Integer.toHexString(hashCodes[slot]));
+			String text = ((item == null) && (classNames[slot] != null)) ? COLLECTED : describeText(item);
+			dump.append(" with text \"").append(text).append('"'); //$NON-NLS-1$
+			String description = (matcher == null) ? COLLECTED : StringDescription.toString((Matcher<?>) matcher);
+			dump.append(", using matcher: ").append(description); //$NON-NLS-1$
+			dump.append('\n');
+		}
+		return dump.toString();
+	}
+
+	/**
+	 * Logs the recorded matches, if the trace is on.
+	 *
+	 * @param message the reason why the trace is logged.
+	 */
+	public static void log(String message) {
+		if (isEnabled())
+			log.info("{}, most recent matches:\n{}", message, dump()); //$NON-NLS-1$
+	}
+
+	private static String describeText(Object item) {
+		if ((item instanceof Widget) && ((Widget) item).isDisposed())
+			return "<disposed>"; //$NON-NLS-1$
+		try {
+			String text = SWTUtils.getText(item);
+			return (text.length() > 20) ? text.substring(0, 20) + "..." : text; //$NON-NLS-1$
+		} catch (Exception e) {
+			return ""; //$NON-NLS-1$
+		}
+	}
+}
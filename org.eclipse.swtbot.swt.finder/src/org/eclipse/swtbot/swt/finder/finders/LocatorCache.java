@@ -0,0 +1,194 @@
+/*******************************************************************************
+ * Copyright (c) 2026 SWTBot Committers and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     SWTBot Committers - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.swtbot.swt.finder.finders;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.eclipse.swt.widgets.Shell;
+import org.eclipse.swt.widgets.Widget;
+import org.eclipse.swtbot.swt.finder.utils.SWTBotPreferences;
+import org.hamcrest.Matcher;
+import org.hamcrest.StringDescription;
+
+/**
+ * Remembers where the first widget matching a matcher was last found in a shell, so that the next lookup of the same
+ * matcher in a shell with the same title tries that widget before walking the widget tree. This is how tests that find
+ * the same widgets over and over, like <code>bot.button("Finish")</code> in every wizard, skip most of the walks.
+ * <p>
+ * Locations are keyed by the description of the matcher and the title of the shell. A location is the list of the
+ * indexes of the children, as given by the children resolver of the finder, that lead from the shell to the widget.
+ * A cached location is a hit if each widget along it is visible and the matcher matches the widget at its end. Only
+ * that widget is matched, so a hit may not be the first widget that a walk would find if another matching widget has
+ * been added before it since. A location that is a miss is forgotten and the widget tree is walked.
+ * </p>
+ * <p>
+ * The cache is used by {@link ControlFinder} for lookups of the first matching widget, if
+ * {@link SWTBotPreferences#LOCATOR_CACHE} is set.
+ * </p>
+ *
+ * @see PathGenerator
+ * @author SWTBot Committers
+ * @since 4.3
+ */
+public final class LocatorCache {
+
+	/** The number of locations kept, the least recently used are forgotten first. */
+	private static final int						MAX_SIZE	= 256;
+
+	private static final Map<String, int[]>			locations	= new LinkedHashMap<String, int[]>(16, 0.75f, true) {
+		private static final long	serialVersionUID	= 1L;
+
+		@Override
+		protected boolean removeEldestEntry(Map.Entry<String, int[]> eldest) {
+			return size() > MAX_SIZE;
+		}
+	};
+
+	private static final AtomicLong					hits		= new AtomicLong();
+
+	private static final AtomicLong					misses		= new AtomicLong();
+
+	private LocatorCache() {
+		// static utility
+	}
+
+	/**
+	 * Gets the widget at the location where the first widget matching the matcher was last found in a shell with the
+	 * same title, if it is still visible and matching.
+	 * <p>
+	 * This method is not thread safe and must be invoked from the UI thread.
+	 * </p>
+	 *
+	 * @param finder the finder whose resolvers and visibility are used.
+	 * @param shell the shell in which the widget is looked up.
+	 * @param matcher the matcher.
+	 * @return the widget, or <code>null</code> if the location is not known or is a miss.
+	 */
+	@SuppressWarnings("unchecked")
+	static <T extends Widget> T find(ControlFinder finder, Shell shell, Matcher<T> matcher) {
+		String key = key(shell, matcher);
+		int[] location;
+		synchronized (locations) {
+			location = locations.get(key);
+		}
+		Widget widget = (location == null) ? null : resolve(finder, shell, location);
+		if ((widget != null) && matcher.matches(widget)) {
+			hits.incrementAndGet();
+			return (T) widget;
+		}
+		if (location != null) {
+			synchronized (locations) {
+				locations.remove(key);
+			}
+		}
+		misses.incrementAndGet();
+		return null;
+	}
+
+	/**
+	 * Remembers the location of the first widget matching the matcher in the shell. Nothing is remembered if the widget
+	 * cannot be reached from the shell through the resolvers of the finder.
+	 * <p>
+	 * This method is not thread safe and must be invoked from the UI thread.
+	 * </p>
+	 *
+	 * @param finder the finder whose resolvers were used to find the widget.
+	 * @param shell the shell in which the widget was found.
+	 * @param matcher the matcher.
+	 * @param widget the first widget in the shell that the matcher matches.
+	 */
+	static void put(ControlFinder finder, Shell shell, Matcher<?> matcher, Widget widget) {
+		int[] location = locate(finder, shell, widget);
+		if (location == null)
+			return;
+		String key = key(shell, matcher);
+		synchronized (locations) {
+			locations.put(key, location);
+		}
+	}
+
+	/**
+	 * @return the number of lookups answered from the cache since the counters were last reset.
+	 */
+	public static long hits() {
+		return hits.get();
+	}
+
+	/**
+	 * @return the number of lookups that were not answered from the cache since the counters were last reset.
+	 */
+	public static long misses() {
+		return misses.get();
+	}
+
+	/**
+	 * Forgets all locations and resets the counters.
+	 */
+	public static void clear() {
+		synchronized (locations) {
+			locations.clear();
+		}
+		hits.set(0);
+		misses.set(0);
+	}
+
+	private static String key(Shell shell, Matcher<?> matcher) {
+		return shell.getText() + '\n' + StringDescription.toString(matcher);
+	}
+
+	private static Widget resolve(ControlFinder finder, Shell shell, int[] location) {
+		Widget widget = shell;
+		if (!finder.visible(widget))
+			return null;
+		for (int index : location) {
+			List<Widget> children = finder.getChildrenResolver().getChildren(widget);
+			if ((children == null) || (index >= children.size()))
+				return null;
+			widget = children.get(index);
+			if ((widget == null) || widget.isDisposed() || !finder.visible(widget))
+				return null;
+		}
+		return widget;
+	}
+
+	private static int[] locate(ControlFinder finder, Shell shell, Widget widget) {
+		List<Integer> indexes = new ArrayList<Integer>();
+		while (widget != shell) {
+			Widget parent = finder.getParentResolver().getParent(widget);
+			if (parent == null)
+				return null;
+			int index = indexOf(finder.getChildrenResolver().getChildren(parent), widget);
+			if (index < 0)
+				return null;
+			indexes.add(index);
+			widget = parent;
+		}
+		int[] location = new int[indexes.size()];
+		for (int i = 0; i < location.length; i++)
+			location[i] = indexes.get(location.length - 1 - i);
+		return location;
+	}
+
+	private static int indexOf(List<Widget> widgets, Widget widget) {
+		if (widgets == null)
+			return -1;
+		for (int i = 0; i < widgets.size(); i++)
+			if (widgets.get(i) == widget)
+				return i;
+		return -1;
+	}
+}
@@ -16,16 +16,21 @@ package org.eclipse.swtbot.swt.finder.finders;
 import static org.eclipse.swtbot.swt.finder.utils.SWTUtils.createEvent;
 
 import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Set;
 
 import org.eclipse.swt.SWT;
 import org.eclipse.swt.widgets.Display;
+import org.eclipse.swt.widgets.Event;
+import org.eclipse.swt.widgets.Listener;
 import org.eclipse.swt.widgets.Menu;
 import org.eclipse.swt.widgets.MenuItem;
 import org.eclipse.swt.widgets.Shell;
 import org.eclipse.swtbot.swt.finder.results.ArrayResult;
 import org.eclipse.swtbot.swt.finder.results.ListResult;
+import org.eclipse.swtbot.swt.finder.results.VoidResult;
 import org.eclipse.swtbot.swt.finder.results.WidgetResult;
 import org.eclipse.swtbot.swt.finder.utils.SWTUtils;
 import org.hamcrest.Matcher;
@@ -42,6 +47,19 @@ public class MenuFinder {
 	/** The display */
 	protected final Display		display;
 
+	/**
+	 * The submenus shown by {@link #findMenuItem(Menu, List)} that have not been hidden or disposed since. Only accessed
+	 * from the UI thread.
+	 */
+	private final Set<Menu>		shownMenus	= new HashSet<Menu>();
+
+	private final Listener		forgetMenu	= new Listener() {
+		@Override
+		public void handleEvent(Event event) {
+			forget((Menu) event.widget);
+		}
+	};
+
 	/**
 	 * Creates a MenuFinder.
 	 */
@@ -150,6 +168,56 @@ public class MenuFinder {
 		});
 	}
 
+	/**
+	 * Finds the menu item at the end of the given path in the given menu. Each
+	 * matcher of the path matches the first menu item it can in the sub-menu of
+	 * the menu item matched by the previous matcher. Only the menu items along
+	 * the path are armed, and only their sub-menus are shown.
+	 * <p>
+	 * While the path is not found, the sub-menus shown are remembered until
+	 * they are hidden or disposed, so that looking for the path again while
+	 * waiting for a menu item to appear does not show them again. The
+	 * sub-menu in which a menu item of the path is not found is shown again
+	 * the next time, so that it can compute its dynamic menu items again.
+	 * Once the path is found, the sub-menus are forgotten. A caller that stops
+	 * looking for a path that was not found must call
+	 * {@link #forgetShownMenus()}.
+	 * </p>
+	 *
+	 * @param menu the menu.
+	 * @param path the matchers of the menu items along the path.
+	 * @return the menu item at the end of the path, or null.
+	 * @since 4.3
+	 */
+	public MenuItem findMenuItem(final Menu menu, final List<? extends Matcher<MenuItem>> path) {
+		return UIThreadRunnable.syncExec(display, new WidgetResult<MenuItem>() {
+			@Override
+			public MenuItem run() {
+				return findMenuItemInternal(menu, path);
+			}
+		});
+	}
+
+	/**
+	 * Forgets the sub-menus shown by {@link #findMenuItem(Menu, List)} while
+	 * looking for a path that was not found, and removes the listeners added
+	 * to them. The sub-menus are shown again the next time a path is looked
+	 * for.
+	 *
+	 * @since 4.3
+	 */
+	public void forgetShownMenus() {
+		if (display.isDisposed())
+			return;
+		UIThreadRunnable.syncExec(display, new VoidResult() {
+			@Override
+			public void run() {
+				for (Menu shownMenu : new ArrayList<Menu>(shownMenus))
+					forget(shownMenu);
+			}
+		});
+	}
+
 	/**
 	 * Finds all menu items matching the given matcher in the given menu. If
 	 * recursive is set, it will attempt to find the menu items recursively in
@@ -227,6 +295,51 @@ public class MenuFinder {
 		return null;
 	}
 
+	private MenuItem findMenuItemInternal(Menu menu, List<? extends Matcher<MenuItem>> path) {
+		MenuItem menuItem = null;
+		for (int i = 0; i < path.size(); i++) {
+			if ((menu == null) || menu.isDisposed())
+				return null;
+			menuItem = firstMenuItem(menu, path.get(i));
+			if (menuItem == null) {
+				forget(menu);
+				return null;
+			}
+			Menu subMenu = menuItem.getMenu();
+			if (subMenu == null) {
+				if (i == path.size() - 1)
+					menuItem.notifyListeners(SWT.Arm, createEvent(menuItem));
+			} else if (!shownMenus.contains(subMenu)) {
+				menuItem.notifyListeners(SWT.Arm, createEvent(menuItem));
+				subMenu.notifyListeners(SWT.Show, createEvent(subMenu));
+				if (!subMenu.isDisposed() && shownMenus.add(subMenu)) {
+					subMenu.addListener(SWT.Hide, forgetMenu);
+					subMenu.addListener(SWT.Dispose, forgetMenu);
+				}
+			}
+			menu = subMenu;
+		}
+		// the path is found, and will not be looked for again
+		for (Menu shownMenu : new ArrayList<Menu>(shownMenus))
+			forget(shownMenu);
+		return menuItem;
+	}
+
+	private MenuItem firstMenuItem(Menu menu, Matcher<MenuItem> matcher) {
+		for (MenuItem menuItem : menu.getItems()) {
+			if (!menuItem.isDisposed() && !isSeparator(menuItem) && matcher.matches(menuItem))
+				return menuItem;
+		}
+		return null;
+	}
+
+	private void forget(Menu menu) {
+		if (shownMenus.remove(menu) && !menu.isDisposed()) {
+			menu.removeListener(SWT.Hide, forgetMenu);
+			menu.removeListener(SWT.Dispose, forgetMenu);
+		}
+	}
+
 	/**
 	 * @param menu
 	 * @param matcher
@@ -18,9 +18,12 @@ import org.eclipse.swt.widgets.Shell;
 import org.eclipse.swt.widgets.Widget;
 import org.eclipse.swtbot.swt.finder.resolvers.DefaultChildrenResolver;
 import org.eclipse.swtbot.swt.finder.resolvers.IChildrenResolver;
+import org.eclipse.swtbot.swt.finder.results.Result;
+import org.eclipse.swtbot.swt.finder.results.StringResult;
 import org.eclipse.swtbot.swt.finder.results.WidgetResult;
 import org.eclipse.swtbot.swt.finder.utils.SWTUtils;
 import org.eclipse.swtbot.swt.finder.utils.TreePath;
+import org.eclipse.swtbot.swt.finder.utils.internal.WidgetIndexFinder;
 
 /**
  * This is a path generate used to resolve paths to a component. This is intended for use only internally by the
@@ -46,41 +49,53 @@ public class PathGenerator {
 	}
 
 	/**
-	 * Converts the string to an object representation.
+	 * Converts the string to an object representation. All the segments of the path are resolved in a single run on
+	 * the UI thread.
 	 *
 	 * @param stringPath The string path to find.
 	 * @param display The display to use.
 	 * @return the path to a component represented by <code>stringPath</code>
 	 */
-	public TreePath getPathFromString(String stringPath, Display display) {
-		String[] elements = stringPath.split("//"); //$NON-NLS-1$
+	public TreePath getPathFromString(String stringPath, final Display display) {
+		final String[] elements = stringPath.split("//"); //$NON-NLS-1$
 		if (elements.length <= 1)
 			return null;
 
-		Object[] treePath = new Object[elements.length - 1];
+		return UIThreadRunnable.syncExec(display, new Result<TreePath>() {
+			@Override
+			public TreePath run() {
+				Object[] treePath = new Object[elements.length - 1];
 
-		Object parent = display;
+				Object parent = display;
 
-		for (int i = 1; i < elements.length; i++) {
-			String token = elements[i];
-			String[] pathElements = token.split("/"); //$NON-NLS-1$
+				for (int i = 1; i < elements.length; i++) {
+					String token = elements[i];
+					String[] pathElements = token.split("/"); //$NON-NLS-1$
 
-			parent = getParent(treePath, parent, i, pathElements);
-		}
-		return new TreePath(treePath);
+					parent = getParent(treePath, parent, i, pathElements);
+				}
+				return new TreePath(treePath);
+			}
+		});
 	}
 
 	/**
-	 * Converts the treePath to a string representation.
+	 * Converts the treePath to a string representation. All the segments of the path are converted in a single run on
+	 * the UI thread.
 	 *
 	 * @param path The tree path to use.
 	 * @return the path in a string format
 	 * @see #pathAsString(Widget, StringBuffer)
 	 */
-	public String getPathAsString(TreePath path) {
-		StringBuffer builder = new StringBuffer();
-		_getPathAsString(path, builder);
-		return builder.toString();
+	public String getPathAsString(final TreePath path) {
+		return UIThreadRunnable.syncExec(display(path), new StringResult() {
+			@Override
+			public String run() {
+				StringBuffer builder = new StringBuffer();
+				_getPathAsString(path, builder);
+				return builder.toString();
+			}
+		});
 	}
 
 	/**
@@ -132,6 +147,19 @@ public class PathGenerator {
 			pathAsString(lastWidget, result);
 	}
 
+	/**
+	 * @param path
+	 * @return the display of the first widget in the path, or the default display if there is none
+	 */
+	private Display display(TreePath path) {
+		for (int i = 0; i < path.getSegmentCount(); i++) {
+			Object segment = path.getSegment(i);
+			if ((segment instanceof Widget) && !((Widget) segment).isDisposed())
+				return ((Widget) segment).getDisplay();
+		}
+		return SWTUtils.display();
+	}
+
 	/**
 	 * @param display
 	 * @param index
@@ -162,22 +190,30 @@ public class PathGenerator {
 
 	/**
 	 * Converts the path to a widget into a String.
+	 * <p>
+	 * This method is not thread safe and must be invoked from the UI thread.
+	 * </p>
 	 *
 	 * @param w the widget.
 	 * @param result the buffer into which the result should be returned.
 	 */
 	protected void pathAsString(Widget w, StringBuffer result) {
 		String className = w.getClass().getName();
-		int widgetIndex = SWTUtils.widgetIndex(w);
-		result.append("//" + className.substring(className.lastIndexOf(".") + 1) + "/" + widgetIndex); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+		int widgetIndex = w.isDisposed() ? -1 : new WidgetIndexFinder(w).run().intValue();
+		result.append("//").append(className.substring(className.lastIndexOf(".") + 1)).append("/").append(widgetIndex); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
 	}
 
 	/**
 	 * @param widget
 	 * @return the path to the control, as a string
 	 */
-	public String getPathAsString(Widget widget) {
-		return getPathAsString(getPath(widget));
+	public String getPathAsString(final Widget widget) {
+		return UIThreadRunnable.syncExec(display(new TreePath(widget)), new StringResult() {
+			@Override
+			public String run() {
+				return getPathAsString(getPath(widget));
+			}
+		});
 	}
 
 	/**
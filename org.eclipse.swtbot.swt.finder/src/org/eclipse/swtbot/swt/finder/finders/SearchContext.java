@@ -0,0 +1,96 @@
+/*******************************************************************************
+ * Copyright (c) 2026 SWTBot Committers and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     SWTBot Committers - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.swtbot.swt.finder.finders;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Values shared by the matchers evaluated during a single search of a {@link ControlFinder}.
+ * <p>
+ * A search context is opened by the outermost search running on the UI thread, and closed when that search returns.
+ * Searches started by matchers during that search, for example to look for a label, share the same context. Matchers
+ * that need to know about other widgets of the tree, like {@link org.eclipse.swtbot.swt.finder.matchers.WithLabel},
+ * use it to compute what they need once per search instead of once per candidate widget. The widget tree is assumed not
+ * to change during a search.
+ * </p>
+ * <p>
+ * This class is not thread safe, and must only be used from the UI thread.
+ * </p>
+ *
+ * @author SWTBot Committers
+ * @since 4.3
+ */
+public final class SearchContext {
+
+	private static final ThreadLocal<SearchContext>	CURRENT	= new ThreadLocal<SearchContext>();
+
+	private final Map<Object, Object>				values	= new HashMap<Object, Object>();
+
+	private SearchContext() {
+	}
+
+	/**
+	 * Gets the context of the search running on the current thread.
+	 *
+	 * @return the context of the current search, or <code>null</code> if no search is running on the current thread.
+	 */
+	public static SearchContext current() {
+		return CURRENT.get();
+	}
+
+	/**
+	 * Gets a value stored in this context.
+	 *
+	 * @param key the key of the value.
+	 * @return the value, or <code>null</code> if no value is stored for the key.
+	 */
+	@SuppressWarnings("unchecked")
+	public <V> V get(Object key) {
+		return (V) values.get(key);
+	}
+
+	/**
+	 * Stores a value in this context, until the end of the search.
+	 *
+	 * @param key the key of the value.
+	 * @param value the value.
+	 */
+	public void put(Object key, Object value) {
+		values.put(key, value);
+	}
+
+	/**
+	 * Opens a search context on the current thread, if none is open yet.
+	 *
+	 * @return the opened context, to be passed to {@link #close(SearchContext)}, or <code>null</code> if a context was
+	 *         already open.
+	 */
+	static SearchContext open() {
+		if (CURRENT.get() != null)
+			return null;
+		SearchContext context = new SearchContext();
+		CURRENT.set(context);
+		return context;
+	}
+
+	/**
+	 * Closes a context opened by {@link #open()}.
+	 *
+	 * @param context the context returned by {@link #open()}, does nothing if <code>null</code>.
+	 */
+	static void close(SearchContext context) {
+		if (context != null)
+			CURRENT.remove();
+	}
+}
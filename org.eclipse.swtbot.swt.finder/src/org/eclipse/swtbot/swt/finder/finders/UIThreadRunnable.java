@@ -15,8 +15,7 @@ package org.eclipse.swtbot.swt.finder.finders;
 import static org.eclipse.swtbot.swt.finder.utils.SWTUtils.display;
 import static org.eclipse.swtbot.swt.finder.utils.SWTUtils.isUIThread;
 
-import java.util.ArrayList;
-
+import org.eclipse.swt.SWT;
 import org.eclipse.swt.widgets.Display;
 import org.eclipse.swtbot.swt.finder.results.ArrayResult;
 import org.eclipse.swtbot.swt.finder.results.Result;
@@ -135,14 +134,15 @@ public abstract class UIThreadRunnable implements Runnable {
 	 * @return the object result of execution on the UI thread.
 	 */
 	public static <T> T syncExec(Display display, final Result<T> toExecute) {
-		final ArrayList<T> arrayList = new ArrayList<T>();
-		new UIThreadRunnable(display) {
-			@Override
-			protected void doRun() {
-				arrayList.add(toExecute.run());
-			}
-		}.run();
-		return arrayList.get(0);
+		if (display == null)
+			SWT.error(SWT.ERROR_NULL_ARGUMENT);
+		if (display.isDisposed())
+			SWT.error(SWT.ERROR_DEVICE_DISPOSED);
+		if (isUIThread(display))
+			return toExecute.run();
+		SyncResult<T> syncResult = new SyncResult<T>(display, toExecute);
+		display.syncExec(syncResult);
+		return syncResult.result;
 	}
 
 	/**
@@ -165,15 +165,14 @@ public abstract class UIThreadRunnable implements Runnable {
 	 * @return the object result of execution on the UI thread.
 	 */
 	public static <T> T[] syncExec(Display display, final ArrayResult<T> toExecute) {
-		final ArrayList<T[]> arrayList = new ArrayList<T[]>();
-		new UIThreadRunnable(display) {
+		if ((display != null) && !display.isDisposed() && isUIThread(display))
+			return toExecute.run();
+		return syncExec(display, new Result<T[]>() {
 			@Override
-			protected void doRun() {
-				T[] run = toExecute.run();
-				arrayList.add(run);
+			public T[] run() {
+				return toExecute.run();
 			}
-		}.run();
-		return arrayList.get(0);
+		});
 	}
 
 	/**
@@ -193,6 +192,10 @@ public abstract class UIThreadRunnable implements Runnable {
 	 * @param toExecute the runnable to execute.
 	 */
 	public static void syncExec(Display display, final VoidResult toExecute) {
+		if ((display != null) && !display.isDisposed() && isUIThread(display)) {
+			toExecute.run();
+			return;
+		}
 		new UIThreadRunnable(display) {
 			@Override
 			protected void doRun() {
@@ -226,4 +229,25 @@ public abstract class UIThreadRunnable implements Runnable {
 		}.run();
 	}
 
+	/**
+	 * Runs a result on the display thread and keeps it, without allocating more than itself.
+	 */
+	private static final class SyncResult<T> implements Runnable {
+
+		private final Display	display;
+		private final Result<T>	toExecute;
+		private T				result;
+
+		private SyncResult(Display display, Result<T> toExecute) {
+			this.display = display;
+			this.toExecute = toExecute;
+		}
+
+		@Override
+		public void run() {
+			result = toExecute.run();
+			display.wake();
+		}
+	}
+
 }
@@ -0,0 +1,415 @@
+/*******************************************************************************
+ * Copyright (c) 2026 SWTBot Committers and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     SWTBot Committers - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.swtbot.swt.finder.finders;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.eclipse.swt.SWT;
+import org.eclipse.swt.widgets.Composite;
+import org.eclipse.swt.widgets.Display;
+import org.eclipse.swt.widgets.Event;
+import org.eclipse.swt.widgets.Listener;
+import org.eclipse.swt.widgets.Shell;
+import org.eclipse.swt.widgets.Widget;
+import org.eclipse.swtbot.swt.finder.matchers.MatcherConstraints;
+import org.eclipse.swtbot.swt.finder.resolvers.DefaultChildrenResolver;
+import org.eclipse.swtbot.swt.finder.resolvers.IChildrenResolver;
+import org.eclipse.swtbot.swt.finder.utils.SWTBotPreferences;
+import org.eclipse.swtbot.swt.finder.utils.SWTUtils;
+import org.hamcrest.Matcher;
+
+/**
+ * An index of the widgets of a display, that lets a {@link ControlFinder} answer a lookup without walking the widget
+ * tree.
+ * <p>
+ * The index is turned on by {@link SWTBotPreferences#WIDGET_INDEX}. It is built from the shells of the display the
+ * first time it is used, and then kept current by display filters: widgets are added when SWT sends them their
+ * {@link SWT#Skin} event, and removed when they are disposed. The widgets are indexed by class, by the value they hold
+ * for {@link SWTBotPreferences#DEFAULT_KEY} and by text.
+ * </p>
+ * <p>
+ * SWT only sends the {@link SWT#Skin} event of a new widget the next time the UI thread dispatches events, so a widget
+ * that is created and looked up by the same runnable is not in the index yet. The {@link ControlFinder} therefore only
+ * uses the widgets found by the index when it finds as many as were asked for, and walks the widget tree otherwise.
+ * </p>
+ * <p>
+ * SWT sends no event when the data or the text of a widget changes, so the id and the text of a widget are read again
+ * when the widget is shown or hidden, when its shell is activated, and when a lookup by id or by text finds too few
+ * widgets. Only the class of a widget is sure to be current, so a lookup by id or by text that finds too few widgets
+ * falls back to the widgets of the class. A lookup that finds enough widgets by id or by text may still miss a widget
+ * whose id or text changed since it was read; {@link SWTBotPreferences#WIDGET_INDEX_CHECK} checks each lookup against
+ * a walk of the widget tree to find such lookups.
+ * </p>
+ * <p>
+ * Every widget taken from the index is checked the way the walk of the widget tree would check it: it must be
+ * reachable from the parent widget of the lookup through the resolvers of the finder, it must be visible along the
+ * way, and it must match the matcher. The widgets found are returned in the order of the walk.
+ * </p>
+ * <p>
+ * This class is not thread safe, and must only be used from the UI thread.
+ * </p>
+ *
+ * @author SWTBot Committers
+ * @since 4.3
+ */
+public final class WidgetIndex {
+
+	/** The events that change what the index holds. */
+	private static final int[]						EVENTS			= { SWT.Skin, SWT.Dispose, SWT.Show, SWT.Hide, SWT.Activate };
+
+	/** Longer texts are not indexed, to keep the contents of editors out of the index. */
+	private static final int						MAX_TEXT_LENGTH	= 256;
+
+	private static final Map<Display, WidgetIndex>	INDEXES			= new HashMap<Display, WidgetIndex>();
+
+	private final Display							display;
+	private final IChildrenResolver					childrenResolver;
+	private final Map<Class<?>, Set<Widget>>		byClass			= new HashMap<Class<?>, Set<Widget>>();
+	private final Map<Object, Set<Widget>>			byId			= new HashMap<Object, Set<Widget>>();
+	private final Map<String, Set<Widget>>			byText			= new HashMap<String, Set<Widget>>();
+	/** The id and the text under which each widget is indexed. */
+	private final Map<Widget, Object[]>				keys			= new HashMap<Widget, Object[]>();
+	/** The key of the ids in {@link #byId}. */
+	private String									idKey;
+
+	private final Listener							listener		= new Listener() {
+		@Override
+		public void handleEvent(Event event) {
+			Widget widget = event.widget;
+			if (widget == null)
+				return;
+			switch (event.type) {
+			case SWT.Dispose:
+				remove(widget);
+				break;
+			case SWT.Activate:
+				if (widget instanceof Shell)
+					walk(widget);
+				else
+					put(widget);
+				break;
+			default:
+				put(widget);
+			}
+		}
+	};
+
+	private WidgetIndex(Display display) {
+		this.display = display;
+		this.childrenResolver = new DefaultChildrenResolver();
+		this.idKey = SWTBotPreferences.DEFAULT_KEY;
+	}
+
+	/**
+	 * Gets the index of the widgets of the given display, building it if needed.
+	 * <p>
+	 * This method must be invoked from the UI thread of the display.
+	 * </p>
+	 *
+	 * @param display the display.
+	 * @return the index of the widgets of the display.
+	 */
+	public static WidgetIndex forDisplay(final Display display) {
+		synchronized (INDEXES) {
+			WidgetIndex index = INDEXES.get(display);
+			if (index == null) {
+				index = new WidgetIndex(display);
+				index.install();
+				INDEXES.put(display, index);
+			}
+			return index;
+		}
+	}
+
+	private void install() {
+		for (int event : EVENTS)
+			display.addFilter(event, listener);
+		display.disposeExec(new Runnable() {
+			@Override
+			public void run() {
+				synchronized (INDEXES) {
+					INDEXES.remove(display);
+				}
+			}
+		});
+		for (Shell shell : display.getShells())
+			walk(shell);
+	}
+
+	/**
+	 * Stops keeping the index of the given display current, and forgets it. The index is built again the next time it
+	 * is used.
+	 * <p>
+	 * This method must be invoked from the UI thread of the display.
+	 * </p>
+	 *
+	 * @param display the display.
+	 */
+	public static void uninstall(Display display) {
+		WidgetIndex index;
+		synchronized (INDEXES) {
+			index = INDEXES.remove(display);
+		}
+		if ((index != null) && !display.isDisposed())
+			for (int event : EVENTS)
+				display.removeFilter(event, index.listener);
+	}
+
+	/**
+	 * Finds at most {@code maxCount} widgets in the parent widget that the matcher matches, the way
+	 * {@link ControlFinder#findControls(Widget, Matcher, boolean, int)} would find them recursively.
+	 *
+	 * @param finder the finder whose resolvers and visibility rules are used.
+	 * @param parentWidget the parent widget in which widgets should be found.
+	 * @param matcher the matcher used to match the widgets.
+	 * @param maxCount the maximum number of widgets to find.
+	 * @return the widgets found, or <code>null</code> if the matcher does not constrain the type of the widgets it
+	 *         matches, in which case the index cannot answer the lookup.
+	 */
+	<T extends Widget> List<T> findControls(ControlFinder finder, Widget parentWidget, Matcher<T> matcher, int maxCount) {
+		Class<? extends Widget> type = MatcherConstraints.widgetType(matcher);
+		if (type == null)
+			return null;
+		if (!idKey.equals(SWTBotPreferences.DEFAULT_KEY))
+			rekeyAll();
+
+		Collection<Widget> narrowed = null;
+		Object id = MatcherConstraints.id(matcher, idKey);
+		String text = MatcherConstraints.text(matcher);
+		if (id != null)
+			narrowed = bucket(byId, id);
+		else if ((text != null) && (text.length() <= MAX_TEXT_LENGTH))
+			narrowed = bucket(byText, text);
+
+		if (narrowed != null) {
+			List<T> controls = select(finder, parentWidget, matcher, narrowed, maxCount);
+			if (controls.size() >= maxCount)
+				return controls;
+		}
+
+		List<Widget> candidates = new ArrayList<Widget>();
+		for (Map.Entry<Class<?>, Set<Widget>> entry : byClass.entrySet())
+			if (type.isAssignableFrom(entry.getKey()))
+				candidates.addAll(entry.getValue());
+		if (narrowed != null)
+			for (Widget candidate : candidates)
+				put(candidate);
+		return select(finder, parentWidget, matcher, candidates, maxCount);
+	}
+
+	private static <K> Collection<Widget> bucket(Map<K, Set<Widget>> index, K key) {
+		Set<Widget> widgets = index.get(key);
+		return (widgets == null) ? Collections.<Widget> emptySet() : new ArrayList<Widget>(widgets);
+	}
+
+	/**
+	 * Sorts the candidates that are reachable from the parent widget in the order of the walk of the widget tree, and
+	 * returns the first {@code maxCount} that the matcher matches.
+	 */
+	@SuppressWarnings("unchecked")
+	private <T extends Widget> List<T> select(ControlFinder finder, Widget parentWidget, Matcher<T> matcher, Collection<Widget> candidates, int maxCount) {
+		final Map<Widget, int[]> positions = new HashMap<Widget, int[]>();
+		Map<Widget, List<Widget>> children = new HashMap<Widget, List<Widget>>();
+		for (Widget candidate : candidates) {
+			int[] position = position(finder, parentWidget, candidate, children);
+			if (position != null)
+				positions.put(candidate, position);
+		}
+		List<Widget> reachable = new ArrayList<Widget>(positions.keySet());
+		Collections.sort(reachable, new Comparator<Widget>() {
+			@Override
+			public int compare(Widget w1, Widget w2) {
+				int[] p1 = positions.get(w1);
+				int[] p2 = positions.get(w2);
+				for (int i = 0; (i < p1.length) && (i < p2.length); i++)
+					if (p1[i] != p2[i])
+						return (p1[i] < p2[i]) ? -1 : 1;
+				return p1.length - p2.length;
+			}
+		});
+
+		List<T> controls = new ArrayList<T>();
+		for (Widget widget : reachable) {
+			if (controls.size() >= maxCount)
+				break;
+			if (matcher.matches(widget)) {
+				try {
+					controls.add((T) widget);
+				} catch (ClassCastException exception) {
+					throw new IllegalArgumentException("The specified matcher should only match against is declared type.", exception);
+				}
+			}
+		}
+		return controls;
+	}
+
+	/**
+	 * Computes the position of the widget in the walk of the widget tree rooted at the parent widget: the index of each
+	 * widget on the path from the parent widget among the children of the previous one.
+	 *
+	 * @return the position, or <code>null</code> if the walk would not reach the widget.
+	 */
+	private int[] position(ControlFinder finder, Widget parentWidget, Widget widget, Map<Widget, List<Widget>> children) {
+		List<Integer> path = new ArrayList<Integer>();
+		Widget current = widget;
+		while (true) {
+			if (current.isDisposed() || !finder.visible(current))
+				return null;
+			if (current == parentWidget)
+				break;
+			Widget parent = finder.getParentResolver().getParent(current);
+			if (parent == null)
+				return null;
+			List<Widget> siblings = children(finder, parent, children);
+			int index = siblings.indexOf(current);
+			if (index < 0) {
+				// the controls of tab folders and tool bars are children of an item of their parent
+				for (int i = 0; (i < siblings.size()) && (index < 0); i++) {
+					Widget item = siblings.get(i);
+					int itemIndex = children(finder, item, children).indexOf(current);
+					if (itemIndex < 0)
+						continue;
+					path.add(itemIndex);
+					if (item == parentWidget)
+						return toPosition(path);
+					if (item.isDisposed() || !finder.visible(item))
+						return null;
+					index = i;
+				}
+				if (index < 0)
+					return null;
+			}
+			path.add(index);
+			current = parent;
+		}
+		return toPosition(path);
+	}
+
+	private static int[] toPosition(List<Integer> path) {
+		int[] position = new int[path.size()];
+		for (int i = 0; i < position.length; i++)
+			position[i] = path.get(position.length - 1 - i);
+		return position;
+	}
+
+	private static List<Widget> children(ControlFinder finder, Widget parent, Map<Widget, List<Widget>> children) {
+		List<Widget> result = children.get(parent);
+		if (result == null) {
+			result = finder.getChildrenResolver().getChildren(parent);
+			if (result == null)
+				result = Collections.emptyList();
+			children.put(parent, result);
+		}
+		return result;
+	}
+
+	/**
+	 * Indexes the widget and all widgets below it, or reads again their id and their text if they are indexed.
+	 */
+	private void walk(Widget root) {
+		List<Widget> stack = new ArrayList<Widget>();
+		Set<Widget> visited = new HashSet<Widget>();
+		stack.add(root);
+		while (!stack.isEmpty()) {
+			Widget widget = stack.remove(stack.size() - 1);
+			if ((widget == null) || widget.isDisposed() || !visited.add(widget))
+				continue;
+			put(widget);
+			if (widget instanceof Composite)
+				Collections.addAll(stack, ((Composite) widget).getChildren());
+			List<Widget> children = childrenResolver.getChildren(widget);
+			if (children != null)
+				stack.addAll(children);
+		}
+	}
+
+	private void rekeyAll() {
+		idKey = SWTBotPreferences.DEFAULT_KEY;
+		for (Widget widget : new ArrayList<Widget>(keys.keySet()))
+			put(widget);
+	}
+
+	/**
+	 * Indexes the widget, or reads again its id and its text if it is indexed.
+	 */
+	private void put(Widget widget) {
+		if (widget.isDisposed()) {
+			remove(widget);
+			return;
+		}
+		Object id = widget.getData(idKey);
+		String text = SWTUtils.getText(widget);
+		if (text.length() > MAX_TEXT_LENGTH)
+			text = null;
+
+		Object[] oldKeys = keys.get(widget);
+		if (oldKeys == null) {
+			add(byClass, widget.getClass(), widget);
+		} else {
+			if (equal(oldKeys[0], id) && equal(oldKeys[1], text))
+				return;
+			removeFrom(byId, oldKeys[0], widget);
+			removeFrom(byText, (String) oldKeys[1], widget);
+		}
+		keys.put(widget, new Object[] { id, text });
+		add(byId, id, widget);
+		add(byText, text, widget);
+	}
+
+	private void remove(Widget widget) {
+		Object[] oldKeys = keys.remove(widget);
+		if (oldKeys == null)
+			return;
+		removeFrom(byClass, widget.getClass(), widget);
+		removeFrom(byId, oldKeys[0], widget);
+		removeFrom(byText, (String) oldKeys[1], widget);
+	}
+
+	private static <K> void add(Map<K, Set<Widget>> index, K key, Widget widget) {
+		if (key == null)
+			return;
+		Set<Widget> widgets = index.get(key);
+		if (widgets == null) {
+			widgets = new HashSet<Widget>();
+			index.put(key, widgets);
+		}
+		widgets.add(widget);
+	}
+
+	private static <K> void removeFrom(Map<K, Set<Widget>> index, K key, Widget widget) {
+		if (key == null)
+			return;
+		Set<Widget> widgets = index.get(key);
+		if ((widgets != null) && widgets.remove(widget) && widgets.isEmpty())
+			index.remove(key);
+	}
+
+	private static boolean equal(Object o1, Object o2) {
+		return (o1 == null) ? (o2 == null) : o1.equals(o2);
+	}
+
+	/**
+	 * @return the number of widgets in the index.
+	 */
+	public int size() {
+		return keys.size();
+	}
+}
@@ -0,0 +1,421 @@
+/*******************************************************************************
+ * Copyright (c) 2026 SWTBot Committers and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     SWTBot Committers - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.swtbot.swt.finder.finders;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import org.eclipse.swt.graphics.Rectangle;
+import org.eclipse.swt.widgets.Control;
+import org.eclipse.swt.widgets.Widget;
+import org.eclipse.swtbot.swt.finder.resolvers.DefaultChildrenResolver;
+import org.eclipse.swtbot.swt.finder.resolvers.IChildrenResolver;
+import org.eclipse.swtbot.swt.finder.results.Result;
+import org.eclipse.swtbot.swt.finder.utils.ClassUtils;
+import org.eclipse.swtbot.swt.finder.utils.SWTBotPreferences;
+import org.eclipse.swtbot.swt.finder.utils.internal.Assert;
+import org.eclipse.swtbot.swt.finder.utils.internal.MethodAccessor;
+import org.hamcrest.Matcher;
+
+/**
+ * An immutable copy of a widget tree, that matchers can search on any thread without going to the UI thread.
+ * <p>
+ * A snapshot is taken in a single trip to the UI thread. It holds, for each widget reachable from the root the way
+ * {@link ControlFinder} reaches it, a {@link Node} with the class, text, tooltip, message, style, bounds and
+ * visibility of the widget, the values it holds for {@link SWTBotPreferences#DEFAULT_KEY} and for the keys given when
+ * taking the snapshot, and its position among its siblings.
+ * </p>
+ * <p>
+ * The matchers of {@link org.eclipse.swtbot.swt.finder.matchers.WidgetMatcherFactory} that read these properties,
+ * including {@link org.eclipse.swtbot.swt.finder.matchers.WithLabel} and
+ * {@link org.eclipse.swtbot.swt.finder.matchers.InGroup}, match nodes the way they match the widgets the nodes were
+ * copied from. A snapshot can be searched from any number of threads at once. Each node refers to the live widget it
+ * was copied from, so that a widget found in a snapshot can be acted upon; the widget may have changed or been disposed
+ * since the snapshot was taken.
+ * </p>
+ * <p>
+ * {@link #dump()} describes the snapshot one widget per line, which makes it easy to compare two snapshots.
+ * </p>
+ *
+ * @author SWTBot Committers
+ * @since 4.3
+ */
+public final class WidgetSnapshot {
+
+	private static final MethodAccessor		GET_MESSAGE	= MethodAccessor.forMethod("getMessage");	//$NON-NLS-1$
+
+	private Node							root;
+	/** The nodes, in the order in which {@link ControlFinder} visits the widgets. */
+	private final List<Node>				nodes		= new ArrayList<Node>();
+	private final ConcurrentMap<Object, Object>	values		= new ConcurrentHashMap<Object, Object>();
+
+	private WidgetSnapshot() {
+	}
+
+	/**
+	 * Takes a snapshot of the widget tree rooted at the given widget.
+	 * <p>
+	 * This method is thread safe.
+	 * </p>
+	 *
+	 * @param root the root of the widget tree.
+	 * @param dataKeys the keys of the data to copy, in addition to {@link SWTBotPreferences#DEFAULT_KEY}.
+	 * @return the snapshot.
+	 */
+	public static WidgetSnapshot take(final Widget root, final String... dataKeys) {
+		Assert.isNotNull(root, "The root widget must not be null"); //$NON-NLS-1$
+		return UIThreadRunnable.syncExec(root.getDisplay(), new Result<WidgetSnapshot>() {
+			@Override
+			public WidgetSnapshot run() {
+				return copy(root, dataKeys);
+			}
+		});
+	}
+
+	private static WidgetSnapshot copy(Widget rootWidget, String[] dataKeys) {
+		Set<String> keys = new HashSet<String>();
+		keys.add(SWTBotPreferences.DEFAULT_KEY);
+		Collections.addAll(keys, dataKeys);
+
+		IChildrenResolver childrenResolver = new DefaultChildrenResolver();
+		WidgetSnapshot snapshot = new WidgetSnapshot();
+		List<Node> nodes = snapshot.nodes;
+		Set<Widget> visited = new HashSet<Widget>();
+		List<Node> parents = new ArrayList<Node>();
+		List<Widget> stack = new ArrayList<Widget>();
+		parents.add(null);
+		stack.add(rootWidget);
+		while (!stack.isEmpty()) {
+			Widget widget = stack.remove(stack.size() - 1);
+			Node parent = parents.remove(parents.size() - 1);
+			if ((widget == null) || widget.isDisposed() || !visited.add(widget))
+				continue;
+			Node node = new Node(snapshot, widget, parent, nodes.size(), keys);
+			nodes.add(node);
+			if (parent == null)
+				snapshot.root = node;
+			else
+				parent.children.add(node);
+			List<Widget> children = childrenResolver.getChildren(widget);
+			if (children != null)
+				for (int i = children.size() - 1; i >= 0; i--) {
+					stack.add(children.get(i));
+					parents.add(node);
+				}
+		}
+		return snapshot;
+	}
+
+	/**
+	 * @return the node of the root widget, or <code>null</code> if the root widget was disposed.
+	 */
+	public Node getRoot() {
+		return root;
+	}
+
+	/**
+	 * @return all nodes, in the order in which {@link ControlFinder} visits the widgets.
+	 */
+	public List<Node> getNodes() {
+		return Collections.unmodifiableList(nodes);
+	}
+
+	/**
+	 * Finds the nodes that the matcher matches, the way {@link ControlFinder#findControls(Widget, Matcher, boolean)}
+	 * finds widgets: the nodes of invisible widgets and the nodes below them are skipped.
+	 * <p>
+	 * This method is thread safe, and does not go to the UI thread.
+	 * </p>
+	 *
+	 * @param matcher the matcher.
+	 * @return the matching nodes.
+	 */
+	public List<Node> findNodes(Matcher<?> matcher) {
+		List<Node> found = new ArrayList<Node>();
+		for (int i = 0; i < nodes.size(); i++) {
+			Node node = nodes.get(i);
+			if (!node.isVisible()) {
+				// skip the nodes below, which follow this one
+				while ((i + 1 < nodes.size()) && node.isAncestorOf(nodes.get(i + 1)))
+					i++;
+				continue;
+			}
+			if (matcher.matches(node))
+				found.add(node);
+		}
+		return found;
+	}
+
+	/**
+	 * Finds the widgets whose nodes the matcher matches.
+	 * <p>
+	 * This method is thread safe, and does not go to the UI thread.
+	 * </p>
+	 *
+	 * @param matcher the matcher.
+	 * @return the widgets of the matching nodes.
+	 * @see #findNodes(Matcher)
+	 */
+	@SuppressWarnings("unchecked")
+	public <T extends Widget> List<T> findWidgets(Matcher<T> matcher) {
+		List<T> widgets = new ArrayList<T>();
+		for (Node node : findNodes(matcher))
+			widgets.add((T) node.getWidget());
+		return widgets;
+	}
+
+	/**
+	 * Gets a value computed from this snapshot and cached in it, like an index of some of its nodes.
+	 *
+	 * @param key the key of the value.
+	 * @return the value, or <code>null</code> if no value is cached for the key.
+	 */
+	@SuppressWarnings("unchecked")
+	public <V> V get(Object key) {
+		return (V) values.get(key);
+	}
+
+	/**
+	 * Caches a value computed from this snapshot, unless a value is already cached for the key.
+	 *
+	 * @param key the key of the value.
+	 * @param value the value.
+	 * @return the value cached for the key.
+	 */
+	@SuppressWarnings("unchecked")
+	public <V> V putIfAbsent(Object key, V value) {
+		V existing = (V) values.putIfAbsent(key, value);
+		return (existing == null) ? value : existing;
+	}
+
+	/**
+	 * Describes the snapshot one node per line, indented by depth.
+	 *
+	 * @return the description of the snapshot.
+	 */
+	public String dump() {
+		StringBuilder dump = new StringBuilder();
+		for (Node node : nodes) {
+			for (int i = 0; i < node.depth; i++)
+				dump.append("  "); //$NON-NLS-1$
+			dump.append(node).append('\n');
+		}
+		return dump.toString();
+	}
+
+	@Override
+	public String toString() {
+		return dump();
+	}
+
+	/**
+	 * A widget of a {@link WidgetSnapshot}. Its getters have the same names as the getters of SWT widgets, so that
+	 * matchers that call them reflectively match nodes the way they match widgets.
+	 *
+	 * @author SWTBot Committers
+	 * @since 4.3
+	 */
+	public static final class Node {
+
+		private final WidgetSnapshot		snapshot;
+		private final Widget				widget;
+		private final Class<? extends Widget>	widgetClass;
+		private final Node					parent;
+		private final List<Node>			children	= new ArrayList<Node>(0);
+		private final int					position;
+		private final int					depth;
+		private final String				text;
+		private final String				toolTipText;
+		private final String				message;
+		private final int					style;
+		private final Rectangle				bounds;
+		private final boolean				visible;
+		private final Object				data;
+		private final Map<String, Object>	keyedData;
+
+		private Node(WidgetSnapshot snapshot, Widget widget, Node parent, int position, Set<String> keys) {
+			this.snapshot = snapshot;
+			this.widget = widget;
+			this.widgetClass = widget.getClass();
+			this.parent = parent;
+			this.position = position;
+			this.depth = (parent == null) ? 0 : parent.depth + 1;
+			this.text = invoke(MethodAccessor.GET_TEXT, widget);
+			this.toolTipText = invoke(MethodAccessor.GET_TOOL_TIP_TEXT, widget);
+			this.message = invoke(GET_MESSAGE, widget);
+			this.style = widget.getStyle();
+			this.bounds = (widget instanceof Control) ? ((Control) widget).getBounds() : null;
+			this.visible = !(widget instanceof Control) || ((Control) widget).getVisible();
+			this.data = widget.getData();
+			Map<String, Object> keyedData = new HashMap<String, Object>();
+			for (String key : keys) {
+				Object value = widget.getData(key);
+				if (value != null)
+					keyedData.put(key, value);
+			}
+			this.keyedData = keyedData.isEmpty() ? Collections.<String, Object> emptyMap() : keyedData;
+		}
+
+		private static String invoke(MethodAccessor accessor, Widget widget) {
+			if (!accessor.canInvoke(widget.getClass()))
+				return null;
+			Object value = accessor.invokeQuietly(widget);
+			return (value instanceof String) ? (String) value : null;
+		}
+
+		/**
+		 * @return the snapshot this node belongs to.
+		 */
+		public WidgetSnapshot getSnapshot() {
+			return snapshot;
+		}
+
+		/**
+		 * @return the widget this node was copied from.
+		 */
+		public Widget getWidget() {
+			return widget;
+		}
+
+		/**
+		 * @return the class of the widget.
+		 */
+		public Class<? extends Widget> getWidgetClass() {
+			return widgetClass;
+		}
+
+		/**
+		 * @return the node of the parent widget, or <code>null</code> for the root node.
+		 */
+		public Node getParent() {
+			return parent;
+		}
+
+		/**
+		 * @return the nodes of the children widgets, in order.
+		 */
+		public List<Node> getChildren() {
+			return Collections.unmodifiableList(children);
+		}
+
+		/**
+		 * @return the index of this node among the children of its parent, or 0 for the root node.
+		 */
+		public int getIndex() {
+			return (parent == null) ? 0 : parent.children.indexOf(this);
+		}
+
+		/**
+		 * @return the position of this node in the order in which {@link ControlFinder} visits the widgets.
+		 */
+		public int getPosition() {
+			return position;
+		}
+
+		/**
+		 * @return the text of the widget, or <code>null</code> if the widget has no text.
+		 */
+		public String getText() {
+			return text;
+		}
+
+		/**
+		 * @return the tooltip text of the widget, or <code>null</code> if the widget has no tooltip.
+		 */
+		public String getToolTipText() {
+			return toolTipText;
+		}
+
+		/**
+		 * @return the message of the widget, or <code>null</code> if the widget has no message.
+		 */
+		public String getMessage() {
+			return message;
+		}
+
+		/**
+		 * @return the style bits of the widget.
+		 */
+		public int getStyle() {
+			return style;
+		}
+
+		/**
+		 * @return the bounds of the widget, or <code>null</code> if the widget is not a control.
+		 */
+		public Rectangle getBounds() {
+			return (bounds == null) ? null : new Rectangle(bounds.x, bounds.y, bounds.width, bounds.height);
+		}
+
+		/**
+		 * @return <code>true</code> if the widget is not a control or is a visible control.
+		 */
+		public boolean isVisible() {
+			return visible;
+		}
+
+		/**
+		 * @return the application data of the widget.
+		 * @see Widget#getData()
+		 */
+		public Object getData() {
+			return data;
+		}
+
+		/**
+		 * @param key the key of the data.
+		 * @return the data of the widget for the key, or <code>null</code> if the widget has no data for the key or the
+		 *         data for the key was not copied.
+		 * @see Widget#getData(String)
+		 */
+		public Object getData(String key) {
+			return keyedData.get(key);
+		}
+
+		/**
+		 * @param node another node of the same snapshot.
+		 * @return <code>true</code> if this node is an ancestor of the other node.
+		 */
+		public boolean isAncestorOf(Node node) {
+			for (Node ancestor = node.parent; ancestor != null; ancestor = ancestor.parent)
+				if (ancestor == this)
+					return true;
+			return false;
+		}
+
+		@Override
+		public String toString() {
+			StringBuilder string = new StringBuilder(ClassUtils.simpleClassName(widgetClass));
+			if (text != null)
+				string.append(" {").append(text.replace("\n", "\\n")).append('}'); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+			Object id = keyedData.get(SWTBotPreferences.DEFAULT_KEY);
+			if (id != null)
+				string.append(" id=").append(id); //$NON-NLS-1$
+			if ((toolTipText != null) && (toolTipText.length() > 0))
+				string.append(" tooltip=").append(toolTipText.replace("\n", "\\n")); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+			if (bounds != null)
+				string.append(" bounds=").append(bounds.x).append(',').append(bounds.y).append(',') //$NON-NLS-1$
+						.append(bounds.width).append(',').append(bounds.height);
+			if (!visible)
+				string.append(" hidden"); //$NON-NLS-1$
+			return string.toString();
+		}
+	}
+}
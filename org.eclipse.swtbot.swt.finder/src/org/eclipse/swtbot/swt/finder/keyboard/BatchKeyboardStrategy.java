@@ -0,0 +1,33 @@
+/*******************************************************************************
+ * Copyright (c) 2026 SWTBot Committers and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     SWTBot Committers - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.swtbot.swt.finder.keyboard;
+
+/**
+ * A keyboard strategy that can type a whole text without a trip to the UI thread per character.
+ *
+ * @see Keyboard#typeTextFast(String, int)
+ * @author SWTBot Committers
+ * @since 4.3
+ */
+public interface BatchKeyboardStrategy extends KeyboardStrategy {
+
+	/**
+	 * Types the characters of the text, in order, and returns once the events of the last character have been
+	 * dispatched.
+	 *
+	 * @param text the text to type.
+	 * @param charactersPerFlush the number of characters after which the events typed so far must have been dispatched
+	 *            before typing more.
+	 */
+	void typeCharacters(String text, int charactersPerFlush);
+}
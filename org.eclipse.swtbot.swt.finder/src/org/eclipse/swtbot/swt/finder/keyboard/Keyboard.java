@@ -50,7 +50,10 @@ import org.slf4j.LoggerFactory;
  */
 public class Keyboard {
 
-	private static final Logger		log	= LoggerFactory.getLogger(Keyboard.class);
+	/** The default number of characters typed by {@link #typeTextFast(String)} before the typed events are dispatched. */
+	public static final int			DEFAULT_CHARACTERS_PER_FLUSH	= 100;
+
+	private static final Logger		log								= LoggerFactory.getLogger(Keyboard.class);
 
 	private final KeyboardStrategy	strategy;
 
@@ -93,13 +96,49 @@ public class Keyboard {
 		}
 	}
 
+	/**
+	 * Types the string on the keyboard as fast as possible.
+	 *
+	 * @param text the text to type on the keyboard.
+	 * @see #typeTextFast(String, int)
+	 * @since 4.3
+	 */
+	public void typeTextFast(String text) {
+		typeTextFast(text, DEFAULT_CHARACTERS_PER_FLUSH);
+	}
+
+	/**
+	 * Types the string on the keyboard as fast as possible. If the strategy of this keyboard is a
+	 * {@link BatchKeyboardStrategy}, the whole text is typed without a trip to the UI thread per character, and the
+	 * typing waits for the events typed to be dispatched after every <code>charactersPerFlush</code> characters and at
+	 * the end. Otherwise, the characters are typed one after the other without any interval.
+	 *
+	 * @param text the text to type on the keyboard.
+	 * @param charactersPerFlush the number of characters typed before the typed events are dispatched.
+	 * @since 4.3
+	 */
+	public void typeTextFast(String text, int charactersPerFlush) {
+		if (charactersPerFlush <= 0)
+			throw new IllegalArgumentException("The number of characters per flush must be positive: " + charactersPerFlush);
+		if (!(strategy instanceof BatchKeyboardStrategy)) {
+			typeText(text, 0);
+			return;
+		}
+		log.debug("Typing text ''{}'' in batches of {} characters.", text, charactersPerFlush);
+		((BatchKeyboardStrategy) strategy).typeCharacters(text, charactersPerFlush);
+	}
+
 	/**
 	 * Types the character on the keyboard. Note that the character may refer to multiple keystrokes.
 	 *
 	 * @param ch the character to type on the keyboard.
 	 */
 	public void typeCharacter(char ch) {
-		pressShortcut(Keystrokes.create(ch));
+		KeyboardLayout.CharacterStrokes strokes = Keystrokes.strokes(ch);
+		if (log.isTraceEnabled())
+			log.trace("Pressing shortcut {}", Arrays.asList(strokes.press));
+		pressKeys(strokes.press);
+		releaseKeys(strokes.release);
 	}
 
 	/**
@@ -121,7 +160,8 @@ public class Keyboard {
 	 * @see Keystrokes#toKeys(int, char)
 	 */
 	public void pressShortcut(KeyStroke... keys) {
-		log.trace("Pressing shortcut {}", Arrays.asList(keys));
+		if (log.isTraceEnabled())
+			log.trace("Pressing shortcut {}", Arrays.asList(keys));
 		pressKeys(keys);
 		releaseKeys(reverse(keys));
 	}
@@ -13,6 +13,8 @@
 package org.eclipse.swtbot.swt.finder.keyboard;
 
 import java.awt.Robot;
+import java.util.Map;
+import java.util.WeakHashMap;
 
 import org.eclipse.swt.widgets.Display;
 import org.eclipse.swt.widgets.Event;
@@ -22,13 +24,25 @@ import org.hamcrest.SelfDescribing;
 
 /**
  * Creates a keyboard using the specified strategy.
+ * <p>
+ * A strategy that does not override {@link AbstractKeyboardStrategy#init(Widget, SelfDescribing)} does not depend on
+ * the widget, so a single instance of it is shared by the keyboards of the widgets of a display.
+ * </p>
  * 
  * @author Ketan Padegaonkar &lt;KetanPadegaonkar [at] gmail [dot] com&gt;
  * @version $Id$
  */
 public class KeyboardFactory {
 
-	public final Class<?>	strategyClass;
+	/** The factory of the default keyboards, for {@link SWTBotPreferences#KEYBOARD_STRATEGY}. */
+	private static volatile KeyboardFactory			defaultFactory;
+
+	public final Class<?>							strategyClass;
+
+	/** If the strategy does not depend on the widget. */
+	private final boolean							shared;
+	/** The shared strategies, by display. */
+	private final Map<Display, KeyboardStrategy>	strategies	= new WeakHashMap<Display, KeyboardStrategy>();
 
 	/**
 	 * @param strategyClass the class representing an instance of {@link KeyboardStrategy}.
@@ -36,6 +50,7 @@ public class KeyboardFactory {
 	 */
 	public KeyboardFactory(Class<?> strategyClass) throws Exception {
 		this.strategyClass = strategyClass;
+		this.shared = strategyClass.getMethod("init", Widget.class, SelfDescribing.class).getDeclaringClass() == AbstractKeyboardStrategy.class;
 		createStrategy();
 	}
 
@@ -50,6 +65,8 @@ public class KeyboardFactory {
 
 	private KeyboardStrategy strategy(Widget widget, SelfDescribing description) {
 		try {
+			if (shared && (widget != null))
+				return sharedStrategy(widget.getDisplay());
 			KeyboardStrategy strategy = createStrategy();
 			strategy.init(widget, description);
 			return strategy;
@@ -58,6 +75,17 @@ public class KeyboardFactory {
 		}
 	}
 
+	private KeyboardStrategy sharedStrategy(Display display) throws Exception {
+		synchronized (strategies) {
+			KeyboardStrategy strategy = strategies.get(display);
+			if (strategy == null) {
+				strategy = createStrategy();
+				strategies.put(display, strategy);
+			}
+			return strategy;
+		}
+	}
+
 	private KeyboardStrategy createStrategy() throws Exception {
 		return (KeyboardStrategy) strategyClass.newInstance();
 	}
@@ -69,7 +97,12 @@ public class KeyboardFactory {
 	 */
 	public static Keyboard getDefaultKeyboard(Widget widget, SelfDescribing description) {
 		try {
-			return new KeyboardFactory(Class.forName(SWTBotPreferences.KEYBOARD_STRATEGY)).keyboard(widget, description);
+			KeyboardFactory factory = defaultFactory;
+			if ((factory == null) || !factory.strategyClass.getName().equals(SWTBotPreferences.KEYBOARD_STRATEGY)) {
+				factory = new KeyboardFactory(Class.forName(SWTBotPreferences.KEYBOARD_STRATEGY));
+				defaultFactory = factory;
+			}
+			return factory.keyboard(widget, description);
 		} catch (Exception e) {
 			return getAWTKeyboard();
 		}
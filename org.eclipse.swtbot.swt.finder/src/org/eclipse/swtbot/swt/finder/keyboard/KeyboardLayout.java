@@ -16,23 +16,63 @@ import java.io.BufferedReader;
 import java.io.IOException;
 import java.io.StringReader;
 import java.net.URL;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 import org.eclipse.jface.bindings.keys.KeyStroke;
 import org.eclipse.jface.bindings.keys.ParseException;
 import org.eclipse.swt.SWT;
-import org.eclipse.swtbot.swt.finder.utils.BidiMap;
 import org.eclipse.swtbot.swt.finder.utils.FileUtils;
 import org.eclipse.swtbot.swt.finder.utils.SWTBotPreferences;
 
 /**
  * Allows mapping of characters to {@link KeyStroke}s based on keyboard layouts.
+ * <p>
+ * Layouts are parsed once and shared. The keystrokes of a layout are kept in a table indexed by character, along with
+ * the keys to press and to release to type each character, so that looking them up allocates nothing.
+ * </p>
  * 
  * @author Ketan Padegaonkar &lt;KetanPadegaonkar [at] gmail [dot] com&gt;
  * @version $Id$
  */
 public class KeyboardLayout {
-	private final BidiMap<Character, KeyStroke>	keyStrokes	= new BidiMap<Character, KeyStroke>();
-	private final String						layoutName;
+	/** The layouts parsed so far, by name. */
+	private static final ConcurrentMap<String, KeyboardLayout>	layouts		= new ConcurrentHashMap<String, KeyboardLayout>();
+
+	/** The number of characters in a page of {@link #pages}. */
+	private static final int									PAGE_SIZE	= 256;
+
+	/** The keystrokes of the characters, in pages of {@link #PAGE_SIZE} characters that are created when needed. */
+	private final CharacterStrokes[][]							pages		= new CharacterStrokes[(Character.MAX_VALUE + 1) / PAGE_SIZE][];
+	private final Map<KeyStroke, Character>						characters	= new HashMap<KeyStroke, Character>();
+	private final String										layoutName;
+
+	/**
+	 * The keystrokes to type a character.
+	 */
+	static final class CharacterStrokes {
+		/** The keystroke of the character, with its modifiers. */
+		final KeyStroke		keyStroke;
+		/** The keys to press, the modifiers first. */
+		final KeyStroke[]	press;
+		/** The keys to release, in the opposite order. */
+		final KeyStroke[]	release;
+
+		private CharacterStrokes(KeyStroke keyStroke) {
+			this.keyStroke = keyStroke;
+			if (keyStroke.getModifierKeys() == KeyStroke.NO_KEY) {
+				press = new KeyStroke[] { keyStroke };
+				release = press;
+			} else {
+				KeyStroke modifier = KeyStroke.getInstance(keyStroke.getModifierKeys(), 0);
+				KeyStroke key = KeyStroke.getInstance(0, keyStroke.getNaturalKey());
+				press = new KeyStroke[] { modifier, key };
+				release = new KeyStroke[] { key, modifier };
+			}
+		}
+	}
 
 	private KeyboardLayout(String name, URL resource) throws IOException {
 		this.layoutName = name;
@@ -56,15 +96,24 @@ public class KeyboardLayout {
 	 * @return the keystroke applicable corresponding to the character.
 	 */
 	public KeyStroke keyStrokeFor(char ch) {
-		KeyStroke keyStroke = keyStrokes.getValue(ch);
-		if (keyStroke != null) {
-			return keyStroke;
+		return strokesFor(ch).keyStroke;
+	}
+
+	/**
+	 * @param ch a character.
+	 * @return the keystrokes to type the character. The arrays must not be modified.
+	 */
+	CharacterStrokes strokesFor(char ch) {
+		CharacterStrokes[] page = pages[ch / PAGE_SIZE];
+		CharacterStrokes strokes = (page != null) ? page[ch % PAGE_SIZE] : null;
+		if (strokes != null) {
+			return strokes;
 		}
 		throw new IllegalArgumentException("no stroke available for character '" + ch + "'");
 	}
 
 	public char toCharacter(KeyStroke key) {
-		Character ch = keyStrokes.getKey(key);
+		Character ch = characters.get(key);
 		if (ch == null)
 			ch = (char) key.getNaturalKey();
 		return ch;
@@ -83,6 +132,10 @@ public class KeyboardLayout {
 	 * @return the keyboard layout corresponding to the specified layout.
 	 */
 	public static KeyboardLayout getKeyboardLayout(String layoutName) {
+		KeyboardLayout layout = layouts.get(layoutName);
+		if (layout != null)
+			return layout;
+
 		ClassLoader classLoader = KeyboardLayout.class.getClassLoader();
 		URL configURL = classLoader.getResource(toFolder(myPackage() + "." + layoutName) + ".keyboard");
 
@@ -92,10 +145,12 @@ public class KeyboardLayout {
 			throw new IllegalArgumentException(layoutName + ".keyboard not found, see http://wiki.eclipse.org/SWTBot/Keyboard_Layouts for more information.");
 
 		try {
-			return new KeyboardLayout(layoutName, configURL);
+			layout = new KeyboardLayout(layoutName, configURL);
 		} catch (IOException e) {
 			throw new IllegalStateException("could not parse " + layoutName + " keyboard layout properties");
 		}
+		KeyboardLayout existing = layouts.putIfAbsent(layoutName, layout);
+		return (existing != null) ? existing : layout;
 	}
 
 	private static String myPackage() {
@@ -106,19 +161,29 @@ public class KeyboardLayout {
 		return layoutName.replaceAll("\\.", "/");
 	}
 
+	private void put(char ch, KeyStroke keyStroke) {
+		CharacterStrokes[] page = pages[ch / PAGE_SIZE];
+		if (page == null) {
+			page = new CharacterStrokes[PAGE_SIZE];
+			pages[ch / PAGE_SIZE] = page;
+		}
+		page[ch % PAGE_SIZE] = new CharacterStrokes(keyStroke);
+		characters.put(keyStroke, ch);
+	}
+
 	private void initialiseDefaults() {
 		for (char ch = '0'; ch <= '9'; ch++) {
-			keyStrokes.put(ch, KeyStroke.getInstance(0, ch));
+			put(ch, KeyStroke.getInstance(0, ch));
 		}
 		for (char ch = 'A'; ch <= 'Z'; ch++) {
-			keyStrokes.put(Character.toLowerCase(ch), KeyStroke.getInstance(0, ch));
-			keyStrokes.put(ch, KeyStroke.getInstance(SWT.SHIFT, ch));
+			put(Character.toLowerCase(ch), KeyStroke.getInstance(0, ch));
+			put(ch, KeyStroke.getInstance(SWT.SHIFT, ch));
 		}
-		keyStrokes.put('\n', KeyStroke.getInstance(0, '\n'));
-		keyStrokes.put('\r', KeyStroke.getInstance(0, '\n'));
-		keyStrokes.put('\t', KeyStroke.getInstance(0, '\t'));
-		keyStrokes.put('\b', KeyStroke.getInstance(0, '\b'));
-		keyStrokes.put(' ', KeyStroke.getInstance(0, ' '));
+		put('\n', KeyStroke.getInstance(0, '\n'));
+		put('\r', KeyStroke.getInstance(0, '\n'));
+		put('\t', KeyStroke.getInstance(0, '\t'));
+		put('\b', KeyStroke.getInstance(0, '\b'));
+		put(' ', KeyStroke.getInstance(0, ' '));
 	}
 
 	private void parseKeyStrokes(URL resource) throws IOException {
@@ -133,7 +198,7 @@ public class KeyboardLayout {
 			char ch = line.charAt(0);
 			String keyStrokeSpec = line.substring(2).replaceAll(" \\+ ", "+");
 			try {
-				keyStrokes.put(ch, KeyStroke.getInstance(keyStrokeSpec));
+				put(ch, KeyStroke.getInstance(keyStrokeSpec));
 			} catch (ParseException e) {
 				throw new RuntimeException(e);
 			}
@@ -120,12 +120,15 @@ public class Keystrokes {
 	 * @return the {@link KeyStroke}s corresponding to the character.
 	 */
 	public static KeyStroke[] create(char ch) {
-		KeyStroke keyStroke = defaultKeyboardLayout.keyStrokeFor(ch);
-		if (keyStroke.getModifierKeys() == KeyStroke.NO_KEY)
-			return new KeyStroke[] { keyStroke };
-		KeyStroke modifier = KeyStroke.getInstance(keyStroke.getModifierKeys(), 0);
-		KeyStroke key = KeyStroke.getInstance(0, keyStroke.getNaturalKey());
-		return new KeyStroke[] { modifier, key };
+		return strokes(ch).press.clone();
+	}
+
+	/**
+	 * @param ch the character to convert to {@link KeyStroke}s.
+	 * @return the shared keystrokes to press and release to type the character.
+	 */
+	static KeyboardLayout.CharacterStrokes strokes(char ch) {
+		return defaultKeyboardLayout.strokesFor(ch);
 	}
 
 	static char toCharacter(KeyStroke... keys) {
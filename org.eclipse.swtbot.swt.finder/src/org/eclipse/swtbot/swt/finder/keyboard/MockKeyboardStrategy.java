@@ -19,16 +19,21 @@ import org.eclipse.swt.widgets.Widget;
 import org.eclipse.swtbot.swt.finder.exceptions.WidgetNotFoundException;
 import org.eclipse.swtbot.swt.finder.utils.internal.Assert;
 import org.eclipse.swtbot.swt.finder.widgets.AbstractSWTBot;
+import org.eclipse.swtbot.swt.finder.widgets.NotificationBatch;
 import org.hamcrest.SelfDescribing;
 
 /**
  * Sends keyboard notifications using {@link Widget#notifyListeners(int, Event)}. Note that this may not work in all
  * cases.
+ * <p>
+ * Texts typed with {@link #typeCharacters(String, int)} are sent as batches of notifications, one batch for every few
+ * characters.
+ * </p>
  * 
  * @author Ketan Padegaonkar &lt;KetanPadegaonkar [at] gmail [dot] com&gt;
  * @version $Id$
  */
-public class MockKeyboardStrategy extends AbstractKeyboardStrategy {
+public class MockKeyboardStrategy extends AbstractKeyboardStrategy implements BatchKeyboardStrategy {
 
 	private MyWidget	widget;
 
@@ -49,6 +54,22 @@ public class MockKeyboardStrategy extends AbstractKeyboardStrategy {
 		widget.notify(SWT.KeyUp, event(keys));
 	}
 
+	@Override
+	public void typeCharacters(String text, int charactersPerFlush) {
+		assertNotDisposed();
+		NotificationBatch batch = widget.notifications();
+		for (int i = 0; i < text.length(); i++) {
+			KeyboardLayout.CharacterStrokes strokes = Keystrokes.strokes(text.charAt(i));
+			batch.add(SWT.KeyDown, event(strokes.press), widget.widget);
+			batch.add(SWT.KeyUp, event(strokes.release), widget.widget);
+			if ((i + 1) % charactersPerFlush == 0) {
+				batch.send();
+				batch = widget.notifications();
+			}
+		}
+		batch.send();
+	}
+
 	private Event event(KeyStroke... keys) {
 		int modifiers = SWT.NONE;
 		int ch = 0;
@@ -89,6 +110,11 @@ public class MockKeyboardStrategy extends AbstractKeyboardStrategy {
 		public void notify(int eventType, Event createEvent) {
 			super.notify(eventType, createEvent);
 		}
+
+		@Override
+		public NotificationBatch notifications() {
+			return super.notifications();
+		}
 	}
 
 }
@@ -19,19 +19,29 @@ import org.eclipse.jface.bindings.keys.KeyStroke;
 import org.eclipse.swt.SWT;
 import org.eclipse.swt.widgets.Display;
 import org.eclipse.swt.widgets.Event;
+import org.eclipse.swt.widgets.Listener;
 import org.eclipse.swt.widgets.Widget;
+import org.eclipse.swtbot.swt.finder.finders.UIThreadRunnable;
+import org.eclipse.swtbot.swt.finder.results.VoidResult;
+import org.eclipse.swtbot.swt.finder.utils.SWTBotPreferences;
 import org.eclipse.swtbot.swt.finder.utils.SWTUtils;
 import org.eclipse.swtbot.swt.finder.utils.internal.Assert;
+import org.eclipse.swtbot.swt.finder.widgets.TimeoutException;
 import org.hamcrest.SelfDescribing;
 
 /**
  * Sends keyboard notifications using {@link Display#post(Event)}.
+ * <p>
+ * Texts typed with {@link #typeCharacters(String, int)} are posted without a trip to the UI thread per character.
+ * Posted events come back through the queue of the operating system, so after every few characters and at the end, the
+ * typing waits until the display has dispatched the key up events of all the characters posted so far.
+ * </p>
  * 
  * @author Ketan Padegaonkar &lt;KetanPadegaonkar [at] gmail [dot] com&gt;
  * @version $Id$
  * @see Display#KeyTable
  */
-public class SWTKeyboardStrategy extends AbstractKeyboardStrategy {
+public class SWTKeyboardStrategy extends AbstractKeyboardStrategy implements BatchKeyboardStrategy {
 
 	private final Display				display;
 
@@ -60,6 +70,83 @@ public class SWTKeyboardStrategy extends AbstractKeyboardStrategy {
 		display.wake();
 	}
 
+	@Override
+	public void typeCharacters(final String text, final int charactersPerFlush) {
+		final KeyUpCounter keyUps = new KeyUpCounter();
+		UIThreadRunnable.syncExec(display, new VoidResult() {
+			@Override
+			public void run() {
+				display.addFilter(SWT.KeyUp, keyUps);
+			}
+		});
+		try {
+			int posted = 0;
+			for (int i = 0; i < text.length(); i++) {
+				KeyboardLayout.CharacterStrokes strokes = Keystrokes.strokes(text.charAt(i));
+				for (KeyStroke key : strokes.press)
+					Assert.isTrue(display.post(keyEvent(key, SWT.KeyDown)), "Could not post keyevent.");
+				for (KeyStroke key : strokes.release)
+					Assert.isTrue(display.post(keyEvent(key, SWT.KeyUp)), "Could not post keyevent.");
+				posted += strokes.release.length;
+				display.wake();
+				if ((i + 1) % charactersPerFlush == 0)
+					keyUps.await(posted, SWTBotPreferences.TIMEOUT);
+			}
+			keyUps.await(posted, SWTBotPreferences.TIMEOUT);
+		} finally {
+			if (!display.isDisposed()) {
+				UIThreadRunnable.syncExec(display, new VoidResult() {
+					@Override
+					public void run() {
+						display.removeFilter(SWT.KeyUp, keyUps);
+					}
+				});
+			}
+		}
+	}
+
+	/**
+	 * Counts the key up events dispatched by the display, so that typing can wait for the events it posted.
+	 */
+	private class KeyUpCounter implements Listener {
+		private int	count;
+
+		@Override
+		public synchronized void handleEvent(Event event) {
+			count++;
+			notifyAll();
+		}
+
+		/**
+		 * Waits until the display has dispatched the given number of key up events. If called from the UI thread, the
+		 * events are dispatched while waiting.
+		 */
+		void await(int expected, long timeout) {
+			long limit = System.currentTimeMillis() + timeout;
+			boolean uiThread = SWTUtils.isUIThread(display);
+			while (true) {
+				synchronized (this) {
+					if (count >= expected)
+						return;
+					long remaining = limit - System.currentTimeMillis();
+					if (remaining <= 0)
+						throw new TimeoutException("Timed out waiting for " + (expected - count) + " typed keys to be dispatched."); //$NON-NLS-1$ //$NON-NLS-2$
+					if (!uiThread) {
+						try {
+							wait(remaining);
+						} catch (InterruptedException e) {
+							Thread.currentThread().interrupt();
+							throw new TimeoutException("Interrupted while waiting for typed keys to be dispatched."); //$NON-NLS-1$
+						}
+						continue;
+					}
+				}
+				if (!display.readAndDispatch())
+					Thread.yield();
+			}
+		}
+	}
+
 	private Event keyEvent(KeyStroke key, int type) {
 		Event e = new Event();
 		e.type = type;
@@ -15,6 +15,7 @@ package org.eclipse.swtbot.swt.finder.matchers;
 
 
 import org.eclipse.swt.widgets.Widget;
+import org.eclipse.swtbot.swt.finder.finders.FinderTrace;
 import org.eclipse.swtbot.swt.finder.finders.PathGenerator;
 import org.eclipse.swtbot.swt.finder.utils.ClassUtils;
 import org.eclipse.swtbot.swt.finder.utils.SWTUtils;
@@ -26,6 +27,9 @@ import org.slf4j.LoggerFactory;
 
 /**
  * A matcher that logs the result of matches. The match is done by subclasses.
+ * <p>
+ * While the {@link FinderTrace} is on, matches are recorded in it instead of being logged.
+ * </p>
  *
  * @author Ketan Padegaonkar &lt;KetanPadegaonkar [at] gmail [dot] com&gt;
  * @version $Id$
@@ -39,6 +43,10 @@ public abstract class AbstractMatcher<T> extends BaseMatcher<T> {
 		boolean result = false;
 		try {
 			result = doMatch(item);
+			if (FinderTrace.isEnabled()) {
+				FinderTrace.record(item, this, result);
+				return result;
+			}
 			String text = ""; //$NON-NLS-1$
 			if (log.isDebugEnabled()) {
 				text = SWTUtils.getText(item);
@@ -42,6 +42,10 @@ public class AllOf<T> extends AbstractMatcher<T> {
 		return true;
 	}
 
+	Iterable<Matcher<? extends T>> getMatchers() {
+		return matchers;
+	}
+
 	@Override
 	public void describeTo(Description description) {
 		description.appendList("(", " and ", ")", matchers); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
@@ -13,11 +13,19 @@
  *******************************************************************************/
 package org.eclipse.swtbot.swt.finder.matchers;
 
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
 import org.eclipse.swt.widgets.Group;
 import org.eclipse.swt.widgets.Widget;
-import org.eclipse.swtbot.swt.finder.finders.PathGenerator;
-import org.eclipse.swtbot.swt.finder.utils.SWTUtils;
-import org.eclipse.swtbot.swt.finder.utils.TreePath;
+import org.eclipse.swtbot.swt.finder.finders.SearchContext;
+import org.eclipse.swtbot.swt.finder.finders.UIThreadRunnable;
+import org.eclipse.swtbot.swt.finder.finders.WidgetSnapshot;
+import org.eclipse.swtbot.swt.finder.resolvers.DefaultParentResolver;
+import org.eclipse.swtbot.swt.finder.resolvers.IParentResolver;
+import org.eclipse.swtbot.swt.finder.results.BoolResult;
 import org.hamcrest.Description;
 import org.hamcrest.Matcher;
 
@@ -33,7 +41,12 @@ public class InGroup<T extends Widget> extends AbstractMatcher<T> {
 	/**
 	 * The mnemonic text matcher instance to use.
 	 */
-	private final Matcher<?>	matcher;
+	private final Matcher<?>		matcher;
+
+	/**
+	 * The resolver used to walk the ancestors of a widget.
+	 */
+	private final IParentResolver	parentResolver	= new DefaultParentResolver();
 
 	/**
 	 * Matches a widget that has the specified Label.
@@ -55,14 +68,58 @@ public class InGroup<T extends Widget> extends AbstractMatcher<T> {
 
 	@Override
 	protected boolean doMatch(Object obj) {
-		Widget previousWidget = SWTUtils.previousWidget((Widget) obj);
-		TreePath path = new PathGenerator().getPath((Widget) obj);
-		int segmentCount = path.getSegmentCount();
-		for (int i = 1; i < segmentCount; i++) {
-			previousWidget = (Widget) path.getSegment(segmentCount - i - 1);
-			if ((previousWidget instanceof Group) && matcher.matches(previousWidget))
-				return true;
+		if (obj instanceof WidgetSnapshot.Node)
+			return isInGroup((WidgetSnapshot.Node) obj);
+		final Widget widget = (Widget) obj;
+		return UIThreadRunnable.syncExec(widget.getDisplay(), new BoolResult() {
+			@Override
+			public Boolean run() {
+				return isInGroup(widget);
+			}
+		});
+	}
+
+	/**
+	 * Tells if one of the ancestors of the widget is a matching group. Within a {@link SearchContext}, whether each
+	 * ancestor walked is a matching group or is in one is remembered, so that the ancestors shared by the widgets of a
+	 * search are only walked and matched once.
+	 */
+	private boolean isInGroup(Widget widget) {
+		SearchContext context = SearchContext.current();
+		Map<Widget, Boolean> results = null;
+		if (context != null) {
+			results = context.get(this);
+			if (results == null) {
+				results = new IdentityHashMap<Widget, Boolean>();
+				context.put(this, results);
+			}
+		}
+
+		List<Widget> walked = new ArrayList<Widget>();
+		boolean result = false;
+		for (Widget parent = parentResolver.getParent(widget); parent != null; parent = parentResolver.getParent(parent)) {
+			Boolean known = (results == null) ? null : results.get(parent);
+			if (known != null) {
+				result = known;
+				break;
+			}
+			walked.add(parent);
+			if ((parent instanceof Group) && matcher.matches(parent)) {
+				result = true;
+				break;
+			}
 		}
+		if (results != null)
+			// each walked ancestor is a matching group or is in one exactly when the widget is
+			for (Widget ancestor : walked)
+				results.put(ancestor, result);
+		return result;
+	}
+
+	private boolean isInGroup(WidgetSnapshot.Node node) {
+		for (WidgetSnapshot.Node parent = node.getParent(); parent != null; parent = parent.getParent())
+			if (Group.class.isAssignableFrom(parent.getWidgetClass()) && matcher.matches(parent))
+				return true;
 		return false;
 	}
 
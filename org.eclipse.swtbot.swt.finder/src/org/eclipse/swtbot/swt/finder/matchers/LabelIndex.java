@@ -0,0 +1,138 @@
+/*******************************************************************************
+ * Copyright (c) 2026 SWTBot Committers and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     SWTBot Committers - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.swtbot.swt.finder.matchers;
+
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.eclipse.swt.custom.CLabel;
+import org.eclipse.swt.widgets.Label;
+import org.eclipse.swt.widgets.Widget;
+import org.eclipse.swtbot.swt.finder.finders.Finder;
+import org.eclipse.swtbot.swt.finder.finders.SearchContext;
+import org.eclipse.swtbot.swt.finder.finders.WidgetSnapshot;
+import org.hamcrest.Matcher;
+import org.hamcrest.core.IsAnything;
+
+/**
+ * The position of every control found by a finder, in the order of the finder, and of the labels among them.
+ * <p>
+ * Within a {@link SearchContext}, the index of a finder is built once and shared by all the matchers of the search, as
+ * is the position of the first label matching a given matcher. Outside of a search, a new index is built every time.
+ * </p>
+ * <p>
+ * The index of a {@link WidgetSnapshot} holds the visible nodes of the snapshot. It is built once per snapshot, and can
+ * be used from any thread.
+ * </p>
+ *
+ * @author SWTBot Committers
+ */
+final class LabelIndex {
+
+	private final Map<Object, Integer>	positions		= new IdentityHashMap<Object, Integer>();
+	private final List<Object>			labels			= new ArrayList<Object>();
+	private final List<Integer>			labelPositions	= new ArrayList<Integer>();
+	private final Map<Object, Integer>	firstLabels		= new IdentityHashMap<Object, Integer>();
+
+	private LabelIndex(Finder finder) {
+		List<Widget> controls = finder.findControls(new IsAnything<Widget>());
+		for (int i = 0; i < controls.size(); i++) {
+			Widget control = controls.get(i);
+			add(control, i, (control instanceof Label) || (control instanceof CLabel));
+		}
+	}
+
+	private LabelIndex(WidgetSnapshot snapshot) {
+		List<WidgetSnapshot.Node> nodes = snapshot.findNodes(new IsAnything<Object>());
+		for (int i = 0; i < nodes.size(); i++) {
+			Class<?> type = nodes.get(i).getWidgetClass();
+			add(nodes.get(i), i, Label.class.isAssignableFrom(type) || CLabel.class.isAssignableFrom(type));
+		}
+	}
+
+	private void add(Object control, int position, boolean isLabel) {
+		if (positions.containsKey(control))
+			return;
+		positions.put(control, position);
+		if (isLabel) {
+			labels.add(control);
+			labelPositions.add(position);
+		}
+	}
+
+	/**
+	 * Gets the index of the given finder for the current search.
+	 *
+	 * @param finder the finder.
+	 * @return the index of the controls found by the finder.
+	 */
+	static LabelIndex of(Finder finder) {
+		SearchContext context = SearchContext.current();
+		if (context == null)
+			return new LabelIndex(finder);
+		Map<Finder, LabelIndex> indexes = context.get(LabelIndex.class);
+		if (indexes == null) {
+			indexes = new IdentityHashMap<Finder, LabelIndex>();
+			context.put(LabelIndex.class, indexes);
+		}
+		LabelIndex index = indexes.get(finder);
+		if (index == null) {
+			index = new LabelIndex(finder);
+			indexes.put(finder, index);
+		}
+		return index;
+	}
+
+	/**
+	 * Gets the index of the visible nodes of the given snapshot.
+	 *
+	 * @param snapshot the snapshot.
+	 * @return the index of the visible nodes of the snapshot.
+	 */
+	static LabelIndex of(WidgetSnapshot snapshot) {
+		LabelIndex index = snapshot.get(LabelIndex.class);
+		if (index == null)
+			index = snapshot.putIfAbsent(LabelIndex.class, new LabelIndex(snapshot));
+		return index;
+	}
+
+	/**
+	 * Tells if a label matching the matcher comes before the widget, in the order of the finder.
+	 *
+	 * @param widget the widget.
+	 * @param labelMatcher the matcher for the label.
+	 * @return <code>true</code> if a matching label comes before the widget, <code>false</code> if there is none or if
+	 *         the widget was not found by the finder.
+	 */
+	boolean hasLabelBefore(Object widget, Matcher<?> labelMatcher) {
+		Integer position = positions.get(widget);
+		return (position != null) && (firstLabel(labelMatcher) < position);
+	}
+
+	private synchronized int firstLabel(Matcher<?> labelMatcher) {
+		Integer first = firstLabels.get(labelMatcher);
+		if (first == null) {
+			first = Integer.MAX_VALUE;
+			for (int i = 0; i < labels.size(); i++) {
+				if (labelMatcher.matches(labels.get(i))) {
+					first = labelPositions.get(i);
+					break;
+				}
+			}
+			firstLabels.put(labelMatcher, first);
+		}
+		return first;
+	}
+}
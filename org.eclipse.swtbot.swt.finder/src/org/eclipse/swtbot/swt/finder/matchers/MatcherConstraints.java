@@ -0,0 +1,100 @@
+/*******************************************************************************
+ * Copyright (c) 2026 SWTBot Committers and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     SWTBot Committers - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.swtbot.swt.finder.matchers;
+
+import org.eclipse.swt.widgets.Widget;
+import org.hamcrest.Matcher;
+
+/**
+ * Reads the constraints that a matcher puts on the type, the id or the text of the widgets it matches, so that
+ * widgets can be looked up in an index instead of being matched one by one.
+ * <p>
+ * Only the matchers of this package are read: {@link WidgetOfType}, {@link WithId} with a value, {@link WithText}
+ * that does not ignore case, and {@link AllOf} combining them. Subclasses of these matchers may match differently,
+ * and are ignored.
+ * </p>
+ *
+ * @see org.eclipse.swtbot.swt.finder.finders.WidgetIndex
+ * @author SWTBot Committers
+ * @since 4.3
+ */
+public final class MatcherConstraints {
+
+	private MatcherConstraints() {
+		// static utility
+	}
+
+	/**
+	 * Gets the type that all widgets matched by the matcher are instances of.
+	 *
+	 * @param matcher the matcher.
+	 * @return the type, or <code>null</code> if the matcher does not constrain the type.
+	 */
+	public static Class<? extends Widget> widgetType(Matcher<?> matcher) {
+		if (matcher.getClass() == WidgetOfType.class)
+			return ((WidgetOfType<?>) matcher).getType();
+		if (matcher.getClass() == AllOf.class) {
+			for (Matcher<?> each : ((AllOf<?>) matcher).getMatchers()) {
+				Class<? extends Widget> type = widgetType(each);
+				if (type != null)
+					return type;
+			}
+		}
+		return null;
+	}
+
+	/**
+	 * Gets the value that all widgets matched by the matcher hold for the given key.
+	 *
+	 * @param matcher the matcher.
+	 * @param key the key of the value.
+	 * @return the value, or <code>null</code> if the matcher does not constrain the value for the key.
+	 * @see Widget#getData(String)
+	 */
+	public static Object id(Matcher<?> matcher, String key) {
+		if (matcher.getClass() == WithId.class) {
+			WithId<?> withId = (WithId<?>) matcher;
+			return (key != null) && key.equals(withId.getKey()) ? withId.getValue() : null;
+		}
+		if (matcher.getClass() == AllOf.class) {
+			for (Matcher<?> each : ((AllOf<?>) matcher).getMatchers()) {
+				Object id = id(each, key);
+				if (id != null)
+					return id;
+			}
+		}
+		return null;
+	}
+
+	/**
+	 * Gets the text that all widgets matched by the matcher have. Line delimiters in the text are <code>\n</code>.
+	 *
+	 * @param matcher the matcher.
+	 * @return the text, or <code>null</code> if the matcher does not constrain the text.
+	 * @see org.eclipse.swtbot.swt.finder.utils.SWTUtils#getText(Object)
+	 */
+	public static String text(Matcher<?> matcher) {
+		if (matcher.getClass() == WithText.class) {
+			WithText<?> withText = (WithText<?>) matcher;
+			return withText.ignoreCase ? null : withText.text;
+		}
+		if (matcher.getClass() == AllOf.class) {
+			for (Matcher<?> each : ((AllOf<?>) matcher).getMatchers()) {
+				String text = text(each);
+				if (text != null)
+					return text;
+			}
+		}
+		return null;
+	}
+}
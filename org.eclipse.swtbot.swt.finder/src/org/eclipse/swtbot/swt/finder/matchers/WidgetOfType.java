@@ -14,6 +14,7 @@
 package org.eclipse.swtbot.swt.finder.matchers;
 
 import org.eclipse.swt.widgets.Widget;
+import org.eclipse.swtbot.swt.finder.finders.WidgetSnapshot;
 import org.hamcrest.Description;
 import org.hamcrest.Matcher;
 
@@ -42,9 +43,15 @@ public class WidgetOfType<T extends Widget> extends AbstractMatcher<T> {
 
 	@Override
 	protected boolean doMatch(Object obj) {
+		if (obj instanceof WidgetSnapshot.Node)
+			return type.isAssignableFrom(((WidgetSnapshot.Node) obj).getWidgetClass());
 		return type.isInstance(obj);
 	}
 
+	Class<? extends Widget> getType() {
+		return type;
+	}
+
 	@Override
 	public void describeTo(Description description) {
 		description.appendText("of type '").appendText(type.getSimpleName()).appendText("'"); //$NON-NLS-1$ //$NON-NLS-2$
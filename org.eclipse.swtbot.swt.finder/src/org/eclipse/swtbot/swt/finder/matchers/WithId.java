@@ -13,9 +13,12 @@
  *******************************************************************************/
 package org.eclipse.swtbot.swt.finder.matchers;
 
+import org.eclipse.swt.widgets.Display;
 import org.eclipse.swt.widgets.Widget;
 import org.eclipse.swtbot.swt.finder.finders.UIThreadRunnable;
+import org.eclipse.swtbot.swt.finder.finders.WidgetSnapshot;
 import org.eclipse.swtbot.swt.finder.results.Result;
+import org.eclipse.swtbot.swt.finder.utils.SWTUtils;
 import org.hamcrest.Description;
 import org.hamcrest.Matcher;
 import org.hamcrest.Matchers;
@@ -37,6 +40,10 @@ public class WithId<T extends Widget> extends AbstractMatcher<T> {
 	 * The value to use while matching widgets.
 	 */
 	private final Matcher<?>	valueMatcher;
+	/**
+	 * The value to match, or <code>null</code> if the value is matched by a matcher.
+	 */
+	private final Object		value;
 
 	/**
 	 * Matches a widget that has the specified Key/Value pair set as data into it.
@@ -46,29 +53,53 @@ public class WithId<T extends Widget> extends AbstractMatcher<T> {
 	 * @param value the value
 	 */
 	WithId(String key, Object value) {
-		this(key, Matchers.equalTo(value));
+		this.key = key;
+		this.valueMatcher = Matchers.equalTo(value);
+		this.value = value;
 	}
 
 	WithId(String key, Matcher<?> valueMatcher) {
 		this.key = key;
 		this.valueMatcher = valueMatcher;
+		this.value = null;
+	}
+
+	String getKey() {
+		return key;
+	}
+
+	Object getValue() {
+		return value;
 	}
 
 	@Override
 	protected boolean doMatch(final Object obj) {
+		if (obj instanceof WidgetSnapshot.Node) {
+			WidgetSnapshot.Node node = (WidgetSnapshot.Node) obj;
+			return this.valueMatcher.matches((key == null) ? node.getData() : node.getData(key));
+		}
 		final Widget widget = (Widget) obj;
-		Object data = UIThreadRunnable.syncExec(new Result<Object>() {
-			@Override
-			public Object run() {
-				if (key == null) {
-					return widget.getData();
+		Display display = widget.getDisplay();
+		Object data;
+		if (SWTUtils.isUIThread(display))
+			data = getData(widget);
+		else
+			data = UIThreadRunnable.syncExec(display, new Result<Object>() {
+				@Override
+				public Object run() {
+					return getData(widget);
 				}
-				return widget.getData(key);
-			}
-		});
+			});
 		return this.valueMatcher.matches(data);
 	}
 
+	private Object getData(Widget widget) {
+		if (key == null) {
+			return widget.getData();
+		}
+		return widget.getData(key);
+	}
+
 	@Override
 	public void describeTo(Description description) {
 		description.appendText("with key=").appendText(key).appendText(" and value matching "); //$NON-NLS-1$ //$NON-NLS-2$
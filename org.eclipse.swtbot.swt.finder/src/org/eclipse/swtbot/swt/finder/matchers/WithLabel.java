@@ -13,25 +13,24 @@
  *******************************************************************************/
 package org.eclipse.swtbot.swt.finder.matchers;
 
-import java.util.List;
-import java.util.ListIterator;
-
-import org.eclipse.swt.custom.CLabel;
-import org.eclipse.swt.widgets.Label;
 import org.eclipse.swt.widgets.Widget;
 import org.eclipse.swtbot.swt.finder.finders.ControlFinder;
 import org.eclipse.swtbot.swt.finder.finders.Finder;
 import org.eclipse.swtbot.swt.finder.finders.MenuFinder;
+import org.eclipse.swtbot.swt.finder.finders.WidgetSnapshot;
 import org.eclipse.swtbot.swt.finder.utils.internal.Assert;
 import org.hamcrest.Description;
 import org.hamcrest.Matcher;
-import org.hamcrest.core.IsAnything;
 
 /**
  * Tells if a particular widget has a label with the specified text.
  * <p>
  * <b>NOTE:</b> This will <em>drill upwards</em> in the widget hierarchy in an attempt to find the label for a widget.
  * </p>
+ * <p>
+ * The controls found by the finder and their labels are indexed once per search, so that each widget of the search is
+ * matched in constant time.
+ * </p>
  *
  * @see WithMnemonic
  * @author Ketan Padegaonkar &lt;KetanPadegaonkar [at] gmail [dot] com&gt;
@@ -61,23 +60,9 @@ public class WithLabel<T extends Widget> extends AbstractMatcher<T> {
 
 	@Override
 	protected boolean doMatch(Object obj) {
-		List<? extends Widget> allWidgets = finder.findControls(new IsAnything<Widget>());
-
-		int widgetIndex = allWidgets.indexOf(obj);
-
-		ListIterator<? extends Widget> listIterator = allWidgets.listIterator(widgetIndex);
-
-		while (listIterator.hasPrevious()) {
-			Widget previousWidget = listIterator.previous();
-			if ((isLabel(previousWidget)) && mnemonicTextMatcher.matches(previousWidget))
-				return true;
-		}
-
-		return false;
-	}
-
-	private boolean isLabel(Widget widget) {
-		return widget instanceof Label || widget instanceof CLabel;
+		if (obj instanceof WidgetSnapshot.Node)
+			return LabelIndex.of(((WidgetSnapshot.Node) obj).getSnapshot()).hasLabelBefore(obj, mnemonicTextMatcher);
+		return LabelIndex.of(finder).hasLabelBefore(obj, mnemonicTextMatcher);
 	}
 
 	@Override
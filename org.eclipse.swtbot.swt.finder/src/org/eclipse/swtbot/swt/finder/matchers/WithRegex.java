@@ -13,6 +13,8 @@
  *******************************************************************************/
 package org.eclipse.swtbot.swt.finder.matchers;
 
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 import java.util.regex.Pattern;
 
 import org.eclipse.swt.widgets.Widget;
@@ -21,6 +23,18 @@ import org.hamcrest.Matcher;
 
 /**
  * Matches widgets if the getText() method of the widget matches the specified regex.
+ * <p>
+ * The regex matches if it is found anywhere in the text, which may span several lines. The text is scanned with
+ * {@link java.util.regex.Matcher#find()}, which stops at the first match, and a regex without any metacharacter is
+ * searched for as a plain string. Compiled regexes are shared between matchers.
+ * </p>
+ * <p>
+ * Before 4.3, the regex was wrapped in <code>([\r\n]|.)*</code> on both sides and had to match the whole text. For a
+ * regex with a top level alternation, this is not the same: the wrapper only applied to the outer branches, so
+ * <code>withRegex("a|b")</code> only matched texts that end with "a" or start with "b", and did not match "xax". The
+ * regex is now found anywhere in the text in any of its branches, so it matches any text that contains "a" or "b". Use
+ * <code>a$|^b</code> to keep the old meaning.
+ * </p>
  * 
  * @author Ketan Padegaonkar &lt;KetanPadegaonkar [at] gmail [dot] com&gt;
  * @version $Id$
@@ -28,8 +42,17 @@ import org.hamcrest.Matcher;
  */
 public class WithRegex<T extends Widget> extends AbstractMatcher<T> {
 
-	/** The regular expression string. */
-	private Pattern	pattern;
+	/** The maximum number of compiled regexes kept in {@link #PATTERNS}. */
+	private static final int							MAX_PATTERNS	= 256;
+	/** The compiled regexes, by regular expression string. */
+	private static final ConcurrentMap<String, Pattern>	PATTERNS		= new ConcurrentHashMap<String, Pattern>();
+	/** The characters that make a regex more than a plain string. */
+	private static final String							METACHARACTERS	= "\\[](){}.*+?^$|"; //$NON-NLS-1$
+
+	/** The compiled regular expression. */
+	private final Pattern								pattern;
+	/** The regular expression string, if it contains no metacharacter, <code>null</code> otherwise. */
+	private final String								literal;
 
 	/**
 	 * Constructs the regular expression matcher with the given regular expression string.
@@ -37,19 +60,44 @@ public class WithRegex<T extends Widget> extends AbstractMatcher<T> {
 	 * @param regex the regex to match on the {@link org.eclipse.swt.widgets.Widget}
 	 */
 	WithRegex(String regex) {
-		pattern = Pattern.compile("([\r\n]|.)*" + regex + "([\r\n]|.)*");
+		pattern = compile(regex);
+		literal = isLiteral(regex) ? regex : null;
 	}
 
 	@Override
 	protected boolean doMatch(Object obj) {
 		try {
-			return pattern.matcher(WithText.getText(obj)).matches();
+			String text = WithText.getText(obj);
+			if (literal != null)
+				return text.contains(literal);
+			return pattern.matcher(text).find();
 		} catch (Exception e) {
 			// do nothing
 		}
 		return false;
 	}
 
+	private static Pattern compile(String regex) {
+		Pattern pattern = PATTERNS.get(regex);
+		if (pattern == null) {
+			pattern = Pattern.compile(regex);
+			if (PATTERNS.size() >= MAX_PATTERNS)
+				PATTERNS.clear();
+			Pattern existing = PATTERNS.putIfAbsent(regex, pattern);
+			if (existing != null)
+				pattern = existing;
+		}
+		return pattern;
+	}
+
+	private static boolean isLiteral(String regex) {
+		for (int i = 0; i < regex.length(); i++) {
+			if (METACHARACTERS.indexOf(regex.charAt(i)) >= 0)
+				return false;
+		}
+		return true;
+	}
+
 	@Override
 	public void describeTo(Description description) {
 		description.appendText("with regex '").appendValue(pattern).appendText("'"); //$NON-NLS-1$ //$NON-NLS-2$
@@ -13,7 +13,9 @@
  *******************************************************************************/
 package org.eclipse.swtbot.swt.finder.matchers;
 
+import org.eclipse.swt.SWT;
 import org.eclipse.swt.widgets.Widget;
+import org.eclipse.swtbot.swt.finder.finders.WidgetSnapshot;
 import org.eclipse.swtbot.swt.finder.utils.SWTUtils;
 import org.hamcrest.Description;
 import org.hamcrest.Matcher;
@@ -44,6 +46,8 @@ public class WithStyle<T extends Widget> extends AbstractMatcher<T> {
 
 	@Override
 	protected boolean doMatch(Object obj) {
+		if (obj instanceof WidgetSnapshot.Node)
+			return (style == SWT.NONE) || ((((WidgetSnapshot.Node) obj).getStyle() & style) != 0);
 		return SWTUtils.hasStyle((Widget) obj, style);
 	}
 
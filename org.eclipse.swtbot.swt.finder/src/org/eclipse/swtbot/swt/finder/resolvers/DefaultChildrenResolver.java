@@ -13,7 +13,6 @@
 package org.eclipse.swtbot.swt.finder.resolvers;
 
 import java.util.ArrayList;
-import java.util.Iterator;
 import java.util.List;
 
 import org.eclipse.swt.widgets.Widget;
@@ -31,10 +30,8 @@ public class DefaultChildrenResolver extends Resolvable implements IChildrenReso
 		if (!hasChildren(w))
 			return result;
 
-		List<IResolvable> resolvers = resolver.getResolvers(w.getClass());
-
-		for (Iterator<IResolvable> iterator = resolvers.iterator(); iterator.hasNext();) {
-			IChildrenResolver resolver = (IChildrenResolver) iterator.next();
+		for (IResolvable resolvable : resolver.getResolverChain(w.getClass())) {
+			IChildrenResolver resolver = (IChildrenResolver) resolvable;
 			if (resolver.canResolve(w) && resolver.hasChildren(w)) {
 				List<Widget> children = resolver.getChildren(w);
 				if (children != null) {
@@ -48,9 +45,8 @@ public class DefaultChildrenResolver extends Resolvable implements IChildrenReso
 
 	@Override
 	public boolean hasChildren(Widget w) {
-		List<IResolvable> resolvers = resolver.getResolvers(w.getClass());
-		for (Iterator<IResolvable> iterator = resolvers.iterator(); iterator.hasNext();) {
-			IChildrenResolver resolver = (IChildrenResolver) iterator.next();
+		for (IResolvable resolvable : resolver.getResolverChain(w.getClass())) {
+			IChildrenResolver resolver = (IChildrenResolver) resolvable;
 			if (resolver.canResolve(w) && resolver.hasChildren(w))
 				return true;
 		}
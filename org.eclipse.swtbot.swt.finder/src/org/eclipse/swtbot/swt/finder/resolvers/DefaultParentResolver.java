@@ -12,9 +12,6 @@
  *******************************************************************************/
 package org.eclipse.swtbot.swt.finder.resolvers;
 
-import java.util.Iterator;
-import java.util.List;
-
 import org.eclipse.swt.widgets.Widget;
 
 /**
@@ -28,10 +25,8 @@ public class DefaultParentResolver extends Resolvable implements IParentResolver
 		if (!hasParent(w))
 			return null;
 
-		List<IResolvable> resolvers = getResolver().getResolvers(w.getClass());
-
-		for (Iterator<IResolvable> iter = resolvers.iterator(); iter.hasNext();) {
-			IParentResolver resolver = (IParentResolver) iter.next();
+		for (IResolvable resolvable : getResolver().getResolverChain(w.getClass())) {
+			IParentResolver resolver = (IParentResolver) resolvable;
 			if (resolver.hasParent(w))
 				return resolver.getParent(w);
 		}
@@ -41,10 +36,8 @@ public class DefaultParentResolver extends Resolvable implements IParentResolver
 	@Override
 	public boolean hasParent(Widget w) {
 
-		List<IResolvable> resolvers = getResolver().getResolvers(w.getClass());
-
-		for (Iterator<IResolvable> iter = resolvers.iterator(); iter.hasNext();) {
-			IParentResolver resolver = (IParentResolver) iter.next();
+		for (IResolvable resolvable : getResolver().getResolverChain(w.getClass())) {
+			IParentResolver resolver = (IParentResolver) resolvable;
 			if (resolver.hasParent(w))
 				return true;
 		}
@@ -13,10 +13,12 @@
 package org.eclipse.swtbot.swt.finder.resolvers;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
-import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 import org.eclipse.swtbot.swt.finder.utils.MultiValueMap;
 
@@ -30,7 +32,13 @@ import org.eclipse.swtbot.swt.finder.utils.MultiValueMap;
 public class Resolver {
 
 	/** The map that maps classes to {@link IChildrenResolver}s */
-	private final MultiValueMap<Class<?>, IResolvable>	map	= new MultiValueMap<Class<?>, IResolvable>();
+	private final MultiValueMap<Class<?>, IResolvable>			map		= new MultiValueMap<Class<?>, IResolvable>();
+
+	/**
+	 * The resolvers of each class resolved so far, replaced by an empty cache whenever a resolver is added. The arrays
+	 * are never modified once cached.
+	 */
+	private volatile ConcurrentMap<Class<?>, IResolvable[]>	cache	= new ConcurrentHashMap<Class<?>, IResolvable[]>();
 
 	/**
 	 * Map all the classes that the resolver resolver to the resolver.
@@ -40,8 +48,10 @@ public class Resolver {
 	 */
 	public void addResolver(IResolvable resolver) {
 		Class<?>[] resolvableClasses = resolver.getResolvableClasses();
-		if ((resolvableClasses != null) && (resolvableClasses.length > 0))
+		if ((resolvableClasses != null) && (resolvableClasses.length > 0)) {
 			addResolver(resolver, resolvableClasses);
+			cache = new ConcurrentHashMap<Class<?>, IResolvable[]>();
+		}
 	}
 
 	/**
@@ -51,17 +61,33 @@ public class Resolver {
 	 * @return the list of {@link Resolver}s that can resolve objects of type <code>clazz</code>
 	 */
 	public List<IResolvable> getResolvers(Class<?> clazz) {
+		return new ArrayList<IResolvable>(Arrays.asList(getResolverChain(clazz)));
+	}
 
-		LinkedHashSet<IResolvable> result = new LinkedHashSet<IResolvable>();
-
-		Collection<IResolvable> resolvers = map.getCollection(clazz);
-
-		if ((resolvers != null) && !resolvers.isEmpty())
-			result.addAll(resolvers);
-		else if (!Object.class.equals(clazz))
-			result.addAll(getResolvers(clazz.getSuperclass()));
+	/**
+	 * Gets the resolvers that match the given class. These are the resolvers of the class itself or, if it has none, of
+	 * its closest superclass that has some. They are computed once per class, until a resolver is added.
+	 *
+	 * @param clazz the class that should be resolved using the resolvers.
+	 * @return the resolvers, in the order they were added. The array must not be modified.
+	 */
+	IResolvable[] getResolverChain(Class<?> clazz) {
+		ConcurrentMap<Class<?>, IResolvable[]> cache = this.cache;
+		IResolvable[] result = cache.get(clazz);
+		if (result == null) {
+			result = resolveChain(clazz);
+			cache.put(clazz, result);
+		}
+		return result;
+	}
 
-		return new ArrayList<IResolvable>(result);
+	private IResolvable[] resolveChain(Class<?> clazz) {
+		for (Class<?> c = clazz; c != null; c = c.getSuperclass()) {
+			Collection<IResolvable> resolvers = map.getCollection(c);
+			if (!resolvers.isEmpty())
+				return resolvers.toArray(new IResolvable[resolvers.size()]);
+		}
+		return new IResolvable[0];
 	}
 
 	/**
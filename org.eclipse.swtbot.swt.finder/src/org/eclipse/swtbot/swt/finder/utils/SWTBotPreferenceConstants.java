@@ -24,11 +24,21 @@ public interface SWTBotPreferenceConstants {
 	public static final String	KEY_DEFAULT_KEY					= "org.eclipse.swtbot.search.defaultKey";
 	/** @see SWTBotPreferences#TIMEOUT */
 	public static final String	KEY_TIMEOUT						= "org.eclipse.swtbot.search.timeout";
+	/** @see SWTBotPreferences#FINDER_TRACE_SIZE */
+	public static final String	KEY_FINDER_TRACE_SIZE			= "org.eclipse.swtbot.search.trace.size";
+	/** @see SWTBotPreferences#WIDGET_INDEX */
+	public static final String	KEY_WIDGET_INDEX				= "org.eclipse.swtbot.search.index";
+	/** @see SWTBotPreferences#WIDGET_INDEX_CHECK */
+	public static final String	KEY_WIDGET_INDEX_CHECK			= "org.eclipse.swtbot.search.index.check";
+	/** @see SWTBotPreferences#LOCATOR_CACHE */
+	public static final String	KEY_LOCATOR_CACHE				= "org.eclipse.swtbot.search.locator.cache";
 
 	/** @see SWTBotPreferences#PLAYBACK_DELAY */
 	public static final String	KEY_PLAYBACK_DELAY				= "org.eclipse.swtbot.playback.delay";
 	/** @see SWTBotPreferences#DEFAULT_POLL_DELAY */
 	public static final String	KEY_DEFAULT_POLL_DELAY			= "org.eclipse.swtbot.playback.poll.delay";
+	/** @see SWTBotPreferences#MIN_POLL_DELAY */
+	public static final String	KEY_MIN_POLL_DELAY				= "org.eclipse.swtbot.playback.poll.mindelay";
 
 	/** @see SWTBotPreferences#MAX_ERROR_SCREENSHOT_COUNT */
 	public static final String	KEY_MAX_ERROR_SCREENSHOT_COUNT	= "org.eclipse.swtbot.screenshots.error.maxcount";
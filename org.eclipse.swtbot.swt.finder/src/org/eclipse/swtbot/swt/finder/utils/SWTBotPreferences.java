@@ -46,6 +46,49 @@ public class SWTBotPreferences implements SWTBotPreferenceConstants {
 	 */
 	public static long			TIMEOUT						= toLong(System.getProperty(KEY_TIMEOUT, "5000"), 5000);
 
+	/**
+	 * The number of matches kept by the finder trace, or 0 to turn the finder trace off. Defaults to 0. To set another
+	 * default use the system property
+	 * {@value org.eclipse.swtbot.swt.finder.utils.SWTBotPreferenceConstants#KEY_FINDER_TRACE_SIZE}.
+	 *
+	 * @see org.eclipse.swtbot.swt.finder.finders.FinderTrace
+	 * @since 4.3
+	 */
+	public static int			FINDER_TRACE_SIZE			= toInt(System.getProperty(KEY_FINDER_TRACE_SIZE, "0"), 0);
+
+	/**
+	 * Set to <code>true</code> to answer lookups from an index of the widgets of the display, instead of walking the
+	 * widget tree for each lookup. Defaults to <code>false</code>. To set another default use the system property
+	 * {@value org.eclipse.swtbot.swt.finder.utils.SWTBotPreferenceConstants#KEY_WIDGET_INDEX}.
+	 *
+	 * @see org.eclipse.swtbot.swt.finder.finders.WidgetIndex
+	 * @since 4.3
+	 */
+	public static boolean		WIDGET_INDEX				= Boolean.valueOf(System.getProperty(KEY_WIDGET_INDEX, "false")).booleanValue();
+
+	/**
+	 * Set to <code>true</code> to check each lookup answered by the widget index against a walk of the widget tree.
+	 * Mismatches are logged, and the result of the walk is used. Defaults to <code>false</code>. To set another default
+	 * use the system property
+	 * {@value org.eclipse.swtbot.swt.finder.utils.SWTBotPreferenceConstants#KEY_WIDGET_INDEX_CHECK}.
+	 *
+	 * @see #WIDGET_INDEX
+	 * @since 4.3
+	 */
+	public static boolean		WIDGET_INDEX_CHECK			= Boolean.valueOf(System.getProperty(KEY_WIDGET_INDEX_CHECK, "false")).booleanValue();
+
+	/**
+	 * Set to <code>true</code> to look up the first widget matching a matcher in a shell where it was last found in a
+	 * shell with the same title, before walking the widget tree. The lookup may then return a matching widget that is
+	 * not the first one, if another one has been added before it. Defaults to <code>false</code>. To set another
+	 * default use the system property
+	 * {@value org.eclipse.swtbot.swt.finder.utils.SWTBotPreferenceConstants#KEY_LOCATOR_CACHE}.
+	 *
+	 * @see org.eclipse.swtbot.swt.finder.finders.LocatorCache
+	 * @since 4.3
+	 */
+	public static boolean		LOCATOR_CACHE				= Boolean.valueOf(System.getProperty(KEY_LOCATOR_CACHE, "false")).booleanValue();
+
 	/**
 	 * The speed of playback in milliseconds. Defaults to 0. To set another default, use the system property {@code
 	 * org.eclipse.swtbot.playback.delay}.
@@ -134,6 +177,19 @@ public class SWTBotPreferences implements SWTBotPreferenceConstants {
 	 */
 	public static final long	DEFAULT_POLL_DELAY			= toLong(System.getProperty(KEY_DEFAULT_POLL_DELAY, "500"), 500);
 
+	/**
+	 * The initial time delay between successive polling while waiting for a condition to be evaluated. The delay doubles
+	 * after each evaluation, up to the poll delay given to the wait. This is also the minimum delay between two
+	 * evaluations of a condition woken up by SWT events. Defaults to 10ms. To set another default use the system property
+	 * {@value org.eclipse.swtbot.swt.finder.utils.SWTBotPreferenceConstants#KEY_MIN_POLL_DELAY}.
+	 *
+	 * @see SWTBot#waitUntil(ICondition, long, long)
+	 * @see SWTBot#waitWhile(ICondition, long, long)
+	 * @see org.eclipse.swtbot.swt.finder.waits.IEventCondition
+	 * @since 4.3
+	 */
+	public static long			MIN_POLL_DELAY				= toLong(System.getProperty(KEY_MIN_POLL_DELAY, "10"), 10);
+
 	private static long toLong(String timeoutValue, long defaultValue) {
 		try {
 			Long timeout = Long.valueOf(timeoutValue);
@@ -14,18 +14,16 @@
  *******************************************************************************/
 package org.eclipse.swtbot.swt.finder.utils;
 
-import java.io.File;
 import java.lang.reflect.Field;
 import java.lang.reflect.InvocationTargetException;
-import java.lang.reflect.Method;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.Future;
 
 import org.eclipse.swt.SWT;
 import org.eclipse.swt.graphics.GC;
 import org.eclipse.swt.graphics.Image;
 import org.eclipse.swt.graphics.ImageData;
-import org.eclipse.swt.graphics.ImageLoader;
 import org.eclipse.swt.graphics.Rectangle;
 import org.eclipse.swt.widgets.Control;
 import org.eclipse.swt.widgets.Display;
@@ -42,9 +40,12 @@ import org.eclipse.swtbot.swt.finder.results.ArrayResult;
 import org.eclipse.swtbot.swt.finder.results.BoolResult;
 import org.eclipse.swtbot.swt.finder.results.Result;
 import org.eclipse.swtbot.swt.finder.utils.internal.Assert;
+import org.eclipse.swtbot.swt.finder.utils.internal.ConditionWaiter;
+import org.eclipse.swtbot.swt.finder.utils.internal.MethodAccessor;
 import org.eclipse.swtbot.swt.finder.utils.internal.NextWidgetFinder;
 import org.eclipse.swtbot.swt.finder.utils.internal.PreviousWidgetFinder;
 import org.eclipse.swtbot.swt.finder.utils.internal.ReflectionInvoker;
+import org.eclipse.swtbot.swt.finder.utils.internal.ScreenshotWriter;
 import org.eclipse.swtbot.swt.finder.utils.internal.SiblingFinder;
 import org.eclipse.swtbot.swt.finder.utils.internal.WidgetIndexFinder;
 import org.eclipse.swtbot.swt.finder.waits.ICondition;
@@ -65,7 +66,13 @@ public abstract class SWTUtils {
 	/**
 	 * The display used for the GUI.
 	 */
-	private static Display	display;
+	private static volatile Display	display;
+
+	/**
+	 * Held while searching the threads for a display, so that threads that ask for it at the same time wait for a
+	 * single search.
+	 */
+	private static final Object		displayLock	= new Object();
 
 	/**
 	 * The default SWTBot used for wait conditions
@@ -127,8 +134,7 @@ public abstract class SWTUtils {
 	 */
 	public static String getText(final Object obj) {
 		if ((obj instanceof Widget) && !((Widget) obj).isDisposed()) {
-			Widget widget = (Widget) obj;
-			String text = UIThreadRunnable.syncExec(widget.getDisplay(), new ReflectionInvoker(obj, "getText")); //$NON-NLS-1$
+			String text = invokeStringMethod((Widget) obj, MethodAccessor.GET_TEXT);
 			text = text.replaceAll(Text.DELIMITER, "\n"); //$NON-NLS-1$
 			return text;
 		}
@@ -144,12 +150,24 @@ public abstract class SWTUtils {
 	 */
 	public static String getToolTipText(final Object obj) {
 		if ((obj instanceof Widget) && !((Widget) obj).isDisposed()) {
-			Widget widget = (Widget) obj;
-			return UIThreadRunnable.syncExec(widget.getDisplay(), new ReflectionInvoker(obj, "getToolTipText")); //$NON-NLS-1$
+			return invokeStringMethod((Widget) obj, MethodAccessor.GET_TOOL_TIP_TEXT);
 		}
 		return ""; //$NON-NLS-1$
 	}
 
+	/**
+	 * Invokes the method on the widget in the UI thread, directly if this is the UI thread.
+	 *
+	 * @return the string value of the result, or an empty string if the method cannot be invoked or returns null.
+	 */
+	private static String invokeStringMethod(Widget widget, MethodAccessor accessor) {
+		ReflectionInvoker invoker = new ReflectionInvoker(widget, accessor);
+		Display display = widget.getDisplay();
+		if (isUIThread(display))
+			return invoker.run();
+		return UIThreadRunnable.syncExec(display, invoker);
+	}
+
 	/**
 	 * Gets the full path array of text strings starting at the root menu down
 	 * to this menu item. The string at index 0 will be "BAR" for a menu bar and
@@ -296,22 +314,43 @@ public abstract class SWTUtils {
 
 	/**
 	 * Caches the display for later use.
-	 * 
+	 * <p>
+	 * Once found, the display is returned without locking. It is searched for again only when it is disposed: from the
+	 * UI thread it is the current display, from other threads all the threads of the VM are searched, one caller at a
+	 * time.
+	 * </p>
+	 *
 	 * @return the display.
 	 */
-	public static synchronized Display display() {
-		if ((display == null) || display.isDisposed()) {
-			display = null;
+	public static Display display() {
+		Display current = display;
+		if ((current != null) && !current.isDisposed())
+			return current;
+		return findDisplay();
+	}
+
+	private static Display findDisplay() {
+		Display current = Display.getCurrent();
+		if (current != null) {
+			display = current;
+			return current;
+		}
+		synchronized (displayLock) {
+			current = display;
+			if ((current != null) && !current.isDisposed())
+				return current;
+			current = null;
 			Thread[] allThreads = allThreads();
 			for (Thread thread : allThreads) {
 				Display d = Display.findDisplay(thread);
 				if (d != null)
-					display = d;
+					current = d;
 			}
-			if (display == null)
-				throw new IllegalStateException("Could not find a display"); //$NON-NLS-1$
+			display = current;
 		}
-		return display;
+		if (current == null)
+			throw new IllegalStateException("Could not find a display"); //$NON-NLS-1$
+		return current;
 	}
 
 	/**
@@ -328,7 +367,8 @@ public abstract class SWTUtils {
 
 	/**
 	 * Invokes the specified methodName on the object, and returns the result, or <code>null</code> if the method
-	 * returns void.
+	 * returns void. If the object is a widget, the method is invoked in the UI thread, and <code>null</code> is
+	 * returned if it throws an exception. The method is looked up once per class of object.
 	 * 
 	 * @param object the object
 	 * @param methodName the method name
@@ -336,30 +376,25 @@ public abstract class SWTUtils {
 	 * @throws NoSuchMethodException if the method methodName does not exist.
 	 * @throws IllegalAccessException if the java access control does not allow invocation.
 	 * @throws InvocationTargetException if the method methodName throws an exception.
-	 * @see Method#invoke(Object, Object[])
+	 * @see MethodAccessor
 	 * @since 1.0
 	 */
 	public static Object invokeMethod(final Object object, String methodName) throws NoSuchMethodException, IllegalAccessException,
 			InvocationTargetException {
-		final Method method = object.getClass().getMethod(methodName, new Class[0]);
-		Widget widget = null;
-		final Object result;
+		final MethodAccessor accessor = MethodAccessor.forMethod(methodName);
+		accessor.check(object.getClass());
 		if (object instanceof Widget) {
-			widget = (Widget) object;
-			result = UIThreadRunnable.syncExec(widget.getDisplay(), new Result<Object>() {
+			Display display = ((Widget) object).getDisplay();
+			if (isUIThread(display))
+				return accessor.invokeQuietly(object);
+			return UIThreadRunnable.syncExec(display, new Result<Object>() {
 				@Override
 				public Object run() {
-					try {
-						return method.invoke(object, new Object[0]);
-					} catch (Exception niceTry) {
-					}
-					return null;
+					return accessor.invokeQuietly(object);
 				}
 			});
-		} else
-			result = method.invoke(object, new Object[0]);
-
-		return result;
+		}
+		return accessor.invoke(object);
 	}
 
 	/**
@@ -380,6 +415,9 @@ public abstract class SWTUtils {
 	
 	/**
 	 * This captures a screen shot and saves it to the given file.
+	 * <p>
+	 * Only the pixels are copied in the UI thread, the screenshot is encoded and saved in the calling thread.
+	 * </p>
 	 * 
 	 * @param fileName the filename to save screenshot to.
 	 * @return <code>true</code> if the screenshot was created and saved, <code>false</code> otherwise.
@@ -387,12 +425,22 @@ public abstract class SWTUtils {
 	 */
 	public static boolean captureScreenshot(final String fileName) {
 		new ImageFormatConverter().imageTypeOf(fileName.substring(fileName.lastIndexOf('.') + 1));
-		return UIThreadRunnable.syncExec(new BoolResult() {
-			@Override
-			public Boolean run() {
-				return captureScreenshotInternal(fileName);
-			}
-		});
+		return ScreenshotWriter.write(fileName, grabScreenshot(fileName));
+	}
+
+	/**
+	 * This captures a screen shot and saves it to the given file in the background, so that the calling thread is not
+	 * blocked while the screenshot is encoded. Only the pixels are copied in the UI thread.
+	 * 
+	 * @param fileName the filename to save screenshot to.
+	 * @return the result of the capture: <code>true</code> once the screenshot is saved, <code>false</code> if it could
+	 *         not be created or saved.
+	 * @see ScreenshotWriter
+	 * @since 4.3
+	 */
+	public static Future<Boolean> captureScreenshotAsync(final String fileName) {
+		new ImageFormatConverter().imageTypeOf(fileName.substring(fileName.lastIndexOf('.') + 1));
+		return ScreenshotWriter.writeAsync(fileName, grabScreenshot(fileName));
 	}
 
 	/**
@@ -405,18 +453,19 @@ public abstract class SWTUtils {
 	 */
 	public static boolean captureScreenshot(final String fileName, final Control control) {
 		new ImageFormatConverter().imageTypeOf(fileName.substring(fileName.lastIndexOf('.') + 1));
-		return UIThreadRunnable.syncExec(new BoolResult() {
+		ImageData imageData = UIThreadRunnable.syncExec(new Result<ImageData>() {
 			@Override
-			public Boolean run() {
+			public ImageData run() {
 				if (control instanceof Shell)
-					return captureScreenshotInternal(fileName, control.getBounds());
+					return grabScreenshotInternal(fileName, control.getBounds());
 				Display display = control.getDisplay();
 				Rectangle bounds = control.getBounds();
 				Rectangle mappedToDisplay = display.map(control.getParent(), null, bounds);
 
-				return captureScreenshotInternal(fileName, mappedToDisplay);
+				return grabScreenshotInternal(fileName, mappedToDisplay);
 			}
 		});
+		return ScreenshotWriter.write(fileName, imageData);
 	}
 
 	/**
@@ -429,66 +478,50 @@ public abstract class SWTUtils {
 	 */
 	public static boolean captureScreenshot(final String fileName, final Rectangle bounds) {
 		new ImageFormatConverter().imageTypeOf(fileName.substring(fileName.lastIndexOf('.') + 1));
-		return UIThreadRunnable.syncExec(new BoolResult() {
+		ImageData imageData = UIThreadRunnable.syncExec(new Result<ImageData>() {
 			@Override
-			public Boolean run() {
-				return captureScreenshotInternal(fileName, bounds);
+			public ImageData run() {
+				return grabScreenshotInternal(fileName, bounds);
 			}
 		});
+		return ScreenshotWriter.write(fileName, imageData);
 	}
 
 	/**
-	 * Captures a screen shot. Used internally.
-	 * <p>
-	 * NOTE: This method is not thread safe. Clients must ensure that they do invoke this from a UI thread.
-	 * </p>
-	 * 
-	 * @param fileName the filename to save screenshot to.
-	 * @return <code>true</code> if the screenshot was created and saved, <code>false</code> otherwise.
+	 * Copies the pixels of the whole display in the UI thread.
 	 */
-	private static boolean captureScreenshotInternal(final String fileName) {
-		return captureScreenshotInternal(fileName, display().getBounds());
+	private static ImageData grabScreenshot(final String fileName) {
+		return UIThreadRunnable.syncExec(new Result<ImageData>() {
+			@Override
+			public ImageData run() {
+				return grabScreenshotInternal(fileName, display().getBounds());
+			}
+		});
 	}
 
 	/**
-	 * Captures a screen shot. Used internally.
+	 * Copies the pixels of an area of the display. Used internally.
 	 * <p>
 	 * NOTE: This method is not thread safe. Clients must ensure that they do invoke this from a UI thread.
 	 * </p>
 	 * 
-	 * @param fileName the filename to save screenshot to.
+	 * @param fileName the filename the screenshot will be saved to.
 	 * @param bounds the area relative to the display that should be captured.
-	 * @return <code>true</code> if the screenshot was created and saved, <code>false</code> otherwise.
+	 * @return the pixels of the area, or <code>null</code> if they could not be copied.
 	 */
-	private static boolean captureScreenshotInternal(final String fileName, Rectangle bounds) {
+	private static ImageData grabScreenshotInternal(final String fileName, Rectangle bounds) {
 		Display display = display();
 		GC gc = new GC(display);
 		Image image = null;
-		File file = new File(fileName);
-		File parentDir = file.getParentFile();
-		if (parentDir != null)
-			parentDir.mkdirs();
 		try {
 			log.debug("Capturing screenshot ''{}''", fileName); //$NON-NLS-1$
 
 			image = new Image(display, bounds.width, bounds.height);
 			gc.copyArea(image, bounds.x, bounds.y);
-			ImageLoader imageLoader = new ImageLoader();
-			imageLoader.data = new ImageData[] { image.getImageData() };
-			imageLoader.save(fileName, new ImageFormatConverter().imageTypeOf(fileName.substring(fileName.lastIndexOf('.') + 1)));
-			return true;
+			return image.getImageData();
 		} catch (Exception e) {
 			log.warn("Could not capture screenshot: " + fileName + "'", e); //$NON-NLS-1$ //$NON-NLS-2$
-			File brokenImage = file.getAbsoluteFile();
-			if (brokenImage.exists()) {
-				try {
-					log.trace("Broken screenshot set to be deleted on exit: {}", fileName); //$NON-NLS-1$
-					brokenImage.deleteOnExit();
-				} catch (Exception ex) {
-					log.info("Could not set broken screenshot to be deleted on exit: {}", fileName, ex); //$NON-NLS-1$
-				}
-			}
-			return false;
+			return null;
 		} finally {
 			gc.dispose();
 			if (image != null) {
@@ -575,31 +608,21 @@ public abstract class SWTUtils {
 	}
 
 	/**
-	 * Waits until the condition has been meet, or the timeout is reached. The interval is the delay between evaluating
-	 * the condition after it has failed.
+	 * Waits until the condition has been meet, or the timeout is reached. The interval is the maximum delay between
+	 * evaluating the condition after it has failed. The condition is evaluated again sooner if it declares
+	 * {@link org.eclipse.swtbot.swt.finder.waits.IEventCondition wake up events} and one of them is dispatched.
 	 *
 	 * @param condition the condition to be evaluated.
 	 * @param timeout the timeout.
-	 * @param interval The delay time.
+	 * @param interval The maximum delay time.
 	 * @throws TimeoutException if the condition does not evaluate to true after timeout milliseconds.
 	 * @since 4.0
 	 */
 	public static void waitUntil(ICondition condition, long timeout, long interval) throws TimeoutException {
 		Assert.isTrue(interval >= 0, "interval value is negative"); //$NON-NLS-1$
 		Assert.isTrue(timeout >= 0, "timeout value is negative"); //$NON-NLS-1$
-		long limit = System.currentTimeMillis() + timeout;
 		condition.init(getDefaultSWTBot());
-		while (true) {
-			try {
-				if (condition.test())
-					return;
-			} catch (Throwable e) {
-				// do nothing
-			}
-			sleep(interval);
-			if (System.currentTimeMillis() > limit)
-				throw new TimeoutException("Timeout after: " + timeout + " ms.: " + condition.getFailureMessage()); //$NON-NLS-1$ //$NON-NLS-2$
-		}
+		ConditionWaiter.waitFor(getDefaultSWTBot().getDisplay(), condition, true, timeout, interval);
 	}
 
 	/**
@@ -626,31 +649,21 @@ public abstract class SWTUtils {
 	}
 
 	/**
-	 * Waits while the condition is true, until the timeout is reached. The interval is the delay between evaluating the
-	 * condition after it has succeed.
+	 * Waits while the condition is true, until the timeout is reached. The interval is the maximum delay between
+	 * evaluating the condition after it has succeed. The condition is evaluated again sooner if it declares
+	 * {@link org.eclipse.swtbot.swt.finder.waits.IEventCondition wake up events} and one of them is dispatched.
 	 *
 	 * @param condition the condition to be evaluated.
 	 * @param timeout the timeout.
-	 * @param interval The delay time.
+	 * @param interval The maximum delay time.
 	 * @throws TimeoutException if the condition does not evaluate to false after timeout milliseconds.
 	 * @since 4.0
 	 */
 	public static void waitWhile(ICondition condition, long timeout, long interval) throws TimeoutException {
 		Assert.isTrue(interval >= 0, "interval value is negative"); //$NON-NLS-1$
 		Assert.isTrue(timeout >= 0, "timeout value is negative"); //$NON-NLS-1$
-		long limit = System.currentTimeMillis() + timeout;
 		condition.init(getDefaultSWTBot());
-		while (true) {
-			try {
-				if (!condition.test())
-					return;
-			} catch (Throwable e) {
-				// do nothing
-			}
-			sleep(interval);
-			if (System.currentTimeMillis() > limit)
-				throw new TimeoutException("Timeout after: " + timeout + " ms.: " + condition.getFailureMessage()); //$NON-NLS-1$ //$NON-NLS-2$
-		}
+		ConditionWaiter.waitFor(getDefaultSWTBot().getDisplay(), condition, false, timeout, interval);
 	}
 
 	private static SWTBot getDefaultSWTBot() {
@@ -0,0 +1,328 @@
+/*******************************************************************************
+ * Copyright (c) 2026 SWTBot Committers and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     SWTBot Committers - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.swtbot.swt.finder.utils;
+
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Set;
+
+import org.eclipse.swt.widgets.Table;
+import org.eclipse.swt.widgets.TableItem;
+import org.eclipse.swt.widgets.Tree;
+import org.eclipse.swt.widgets.TreeItem;
+import org.eclipse.swtbot.swt.finder.utils.internal.Assert;
+
+/**
+ * An immutable copy of the rows of a table, or of the items of a tree or of a tree item, taken in a single pass in the
+ * UI thread.
+ * <p>
+ * Unlike {@link TableCollection}, which only holds text, a snapshot also holds the checked, selected and expanded state
+ * of each row, and stores its text by column, so that it can be read without going back to the UI thread. It may hold
+ * only some of the columns, and only a range of the rows, so that large or virtual tables can be read a page at a time.
+ * Rows and columns of a snapshot are numbered from 0, use {@link #firstRow()} and {@link #columnIndex(int)} to get
+ * their index in the widget.
+ * </p>
+ *
+ * @author SWTBot Committers
+ * @since 4.3
+ */
+public final class TableSnapshot {
+
+	private final int			firstRow;
+	private final int			rowCount;
+	private final int[]			columns;
+	private final String[][]	texts;
+	private final BitSet		checked;
+	private final BitSet		selected;
+	private final BitSet		expanded;
+	private final int[]			itemCounts;
+
+	private TableSnapshot(int firstRow, int rowCount, int[] columns) {
+		this.firstRow = firstRow;
+		this.rowCount = rowCount;
+		this.columns = columns;
+		this.texts = new String[columns.length][rowCount];
+		this.checked = new BitSet(rowCount);
+		this.selected = new BitSet(rowCount);
+		this.expanded = new BitSet(rowCount);
+		this.itemCounts = new int[rowCount];
+	}
+
+	/**
+	 * Takes a snapshot of some rows of a table. This must be called in the UI thread.
+	 *
+	 * @param table the table.
+	 * @param start the index of the first row.
+	 * @param count the maximum number of rows, fewer are read if the table ends before.
+	 * @param columns the indices of the columns to read, or none to read all the columns.
+	 * @return the snapshot.
+	 * @throws IllegalArgumentException if a column does not exist.
+	 */
+	public static TableSnapshot of(Table table, int start, int count, int... columns) {
+		int[] columnIndexes = columns(table.getColumnCount(), columns);
+		TableItem[] items = items(table.getItemCount(), start, count, new TableItem[0]);
+		for (int i = 0; i < items.length; i++)
+			items[i] = table.getItem(start + i);
+		TableSnapshot snapshot = new TableSnapshot(start, items.length, columnIndexes);
+		boolean[] selection = selection(table.getSelectionIndices(), start, items.length);
+		for (int row = 0; row < items.length; row++) {
+			TableItem item = items[row];
+			for (int column = 0; column < snapshot.columns.length; column++)
+				snapshot.texts[column][row] = item.getText(snapshot.columns[column]);
+			snapshot.checked.set(row, item.getChecked());
+			snapshot.selected.set(row, selection[row]);
+		}
+		return snapshot;
+	}
+
+	/**
+	 * Takes a snapshot of some items of a tree. This must be called in the UI thread.
+	 *
+	 * @param tree the tree.
+	 * @param start the index of the first item.
+	 * @param count the maximum number of items, fewer are read if the tree ends before.
+	 * @param columns the indices of the columns to read, or none to read all the columns.
+	 * @return the snapshot.
+	 * @throws IllegalArgumentException if a column does not exist.
+	 */
+	public static TableSnapshot of(Tree tree, int start, int count, int... columns) {
+		int[] columnIndexes = columns(tree.getColumnCount(), columns);
+		TreeItem[] items = items(tree.getItemCount(), start, count, new TreeItem[0]);
+		for (int i = 0; i < items.length; i++)
+			items[i] = tree.getItem(start + i);
+		return of(tree, items, start, columnIndexes);
+	}
+
+	/**
+	 * Takes a snapshot of some child items of a tree item. This must be called in the UI thread.
+	 *
+	 * @param treeItem the tree item.
+	 * @param start the index of the first child item.
+	 * @param count the maximum number of child items, fewer are read if the tree item ends before.
+	 * @param columns the indices of the columns to read, or none to read all the columns.
+	 * @return the snapshot.
+	 * @throws IllegalArgumentException if a column does not exist.
+	 */
+	public static TableSnapshot of(TreeItem treeItem, int start, int count, int... columns) {
+		int[] columnIndexes = columns(treeItem.getParent().getColumnCount(), columns);
+		TreeItem[] items = items(treeItem.getItemCount(), start, count, new TreeItem[0]);
+		for (int i = 0; i < items.length; i++)
+			items[i] = treeItem.getItem(start + i);
+		return of(treeItem.getParent(), items, start, columnIndexes);
+	}
+
+	private static TableSnapshot of(Tree tree, TreeItem[] items, int start, int[] columns) {
+		TableSnapshot snapshot = new TableSnapshot(start, items.length, columns);
+		Set<TreeItem> selection = Collections.newSetFromMap(new IdentityHashMap<TreeItem, Boolean>());
+		Collections.addAll(selection, tree.getSelection());
+		for (int row = 0; row < items.length; row++) {
+			TreeItem item = items[row];
+			for (int column = 0; column < snapshot.columns.length; column++)
+				snapshot.texts[column][row] = item.getText(snapshot.columns[column]);
+			snapshot.checked.set(row, item.getChecked());
+			snapshot.expanded.set(row, item.getExpanded());
+			snapshot.selected.set(row, selection.contains(item));
+			snapshot.itemCounts[row] = item.getItemCount();
+		}
+		return snapshot;
+	}
+
+	private static <T> T[] items(int itemCount, int start, int count, T[] empty) {
+		Assert.isLegal(start >= 0, "The first row (" + start + ") is negative."); //$NON-NLS-1$ //$NON-NLS-2$
+		Assert.isLegal(count >= 0, "The row count (" + count + ") is negative."); //$NON-NLS-1$ //$NON-NLS-2$
+		return Arrays.copyOf(empty, Math.max(0, Math.min(count, itemCount - start)));
+	}
+
+	private static int[] columns(int columnCount, int[] columns) {
+		if (columns.length == 0) {
+			int[] all = new int[Math.max(1, columnCount)];
+			for (int i = 0; i < all.length; i++)
+				all[i] = i;
+			return all;
+		}
+		for (int column : columns)
+			Assert.isLegal(column >= 0 && column < Math.max(1, columnCount), "The column number (" + column //$NON-NLS-1$
+					+ ") is more than the number of columns (" + columnCount + ")."); //$NON-NLS-1$ //$NON-NLS-2$
+		return columns.clone();
+	}
+
+	private static boolean[] selection(int[] indices, int start, int count) {
+		boolean[] selection = new boolean[count];
+		for (int index : indices)
+			if (index >= start && index < start + count)
+				selection[index - start] = true;
+		return selection;
+	}
+
+	/**
+	 * Gets the index in the widget of the first row of this snapshot.
+	 *
+	 * @return the index of the first row.
+	 */
+	public int firstRow() {
+		return firstRow;
+	}
+
+	/**
+	 * Gets the row count.
+	 *
+	 * @return the number of rows in this snapshot.
+	 */
+	public int rowCount() {
+		return rowCount;
+	}
+
+	/**
+	 * Gets the column count.
+	 *
+	 * @return the number of columns in this snapshot.
+	 */
+	public int columnCount() {
+		return columns.length;
+	}
+
+	/**
+	 * Gets the index in the widget of a column of this snapshot.
+	 *
+	 * @param column the column in this snapshot.
+	 * @return the index of the column in the widget.
+	 */
+	public int columnIndex(int column) {
+		return columns[column];
+	}
+
+	/**
+	 * Gets the text of a cell.
+	 *
+	 * @param row the row in this snapshot.
+	 * @param column the column in this snapshot.
+	 * @return the text of the cell.
+	 */
+	public String get(int row, int column) {
+		checkRow(row);
+		return texts[column][row];
+	}
+
+	/**
+	 * Gets the text of a row.
+	 *
+	 * @param row the row in this snapshot.
+	 * @return the text of the row.
+	 */
+	public TableRow row(int row) {
+		checkRow(row);
+		TableRow tableRow = new TableRow(columns.length);
+		for (String[] column : texts)
+			tableRow.add(column[row]);
+		return tableRow;
+	}
+
+	/**
+	 * Gets the text of a column.
+	 *
+	 * @param column the column in this snapshot.
+	 * @return the text of the column, one entry per row.
+	 */
+	public List<String> column(int column) {
+		return Collections.unmodifiableList(Arrays.asList(texts[column]));
+	}
+
+	/**
+	 * @param row the row in this snapshot.
+	 * @return <code>true</code> if the row was checked.
+	 */
+	public boolean isChecked(int row) {
+		checkRow(row);
+		return checked.get(row);
+	}
+
+	/**
+	 * @param row the row in this snapshot.
+	 * @return <code>true</code> if the row was selected.
+	 */
+	public boolean isSelected(int row) {
+		checkRow(row);
+		return selected.get(row);
+	}
+
+	/**
+	 * @param row the row in this snapshot.
+	 * @return <code>true</code> if the row was an expanded tree item, <code>false</code> for table rows.
+	 */
+	public boolean isExpanded(int row) {
+		checkRow(row);
+		return expanded.get(row);
+	}
+
+	/**
+	 * @param row the row in this snapshot.
+	 * @return the number of child items of the row if it was a tree item, 0 for table rows.
+	 */
+	public int itemCount(int row) {
+		checkRow(row);
+		return itemCounts[row];
+	}
+
+	/**
+	 * Gets the text of this snapshot as a table collection.
+	 *
+	 * @return the table collection.
+	 */
+	public TableCollection toTableCollection() {
+		TableCollection collection = new TableCollection(rowCount);
+		for (int row = 0; row < rowCount; row++)
+			collection.add(row(row));
+		return collection;
+	}
+
+	private void checkRow(int row) {
+		if (row < 0 || row >= rowCount)
+			throw new IndexOutOfBoundsException("Row: " + row + ", row count: " + rowCount); //$NON-NLS-1$ //$NON-NLS-2$
+	}
+
+	@Override
+	public String toString() {
+		return toTableCollection().toString();
+	}
+
+	@Override
+	public int hashCode() {
+		final int prime = 31;
+		int result = 1;
+		result = prime * result + firstRow;
+		result = prime * result + Arrays.hashCode(columns);
+		result = prime * result + Arrays.deepHashCode(texts);
+		result = prime * result + checked.hashCode();
+		result = prime * result + selected.hashCode();
+		result = prime * result + expanded.hashCode();
+		result = prime * result + Arrays.hashCode(itemCounts);
+		return result;
+	}
+
+	@Override
+	public boolean equals(Object obj) {
+		if (this == obj)
+			return true;
+		if (obj == null)
+			return false;
+		if (getClass() != obj.getClass())
+			return false;
+		final TableSnapshot other = (TableSnapshot) obj;
+		return firstRow == other.firstRow && rowCount == other.rowCount && Arrays.equals(columns, other.columns)
+				&& Arrays.deepEquals(texts, other.texts) && checked.equals(other.checked) && selected.equals(other.selected)
+				&& expanded.equals(other.expanded) && Arrays.equals(itemCounts, other.itemCounts);
+	}
+}
@@ -0,0 +1,171 @@
+/*******************************************************************************
+ * Copyright (c) 2026 SWTBot Committers and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     SWTBot Committers - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.swtbot.swt.finder.utils.internal;
+
+import org.eclipse.swt.widgets.Display;
+import org.eclipse.swt.widgets.Event;
+import org.eclipse.swt.widgets.Listener;
+import org.eclipse.swtbot.swt.finder.finders.UIThreadRunnable;
+import org.eclipse.swtbot.swt.finder.results.VoidResult;
+import org.eclipse.swtbot.swt.finder.utils.SWTBotPreferences;
+import org.eclipse.swtbot.swt.finder.waits.ICondition;
+import org.eclipse.swtbot.swt.finder.waits.IEventCondition;
+import org.eclipse.swtbot.swt.finder.widgets.TimeoutException;
+
+/**
+ * Waits for a condition to evaluate to an expected result.
+ * <p>
+ * The condition is tested immediately. If it does not have the expected result, it is tested again after a delay that
+ * starts at {@link SWTBotPreferences#MIN_POLL_DELAY} and doubles after each test, up to the poll interval. If the
+ * condition is an {@link IEventCondition}, a filter is added to the display for its wake up events while waiting, and
+ * the condition is tested again as soon as one of these events is dispatched, but never more often than every
+ * {@link SWTBotPreferences#MIN_POLL_DELAY} milliseconds.
+ * </p>
+ *
+ * @noinstantiate This class is not intended to be instantiated by clients.
+ * @since 4.3
+ */
+public final class ConditionWaiter implements Listener {
+
+	private final Display	display;
+	private final int[]		eventTypes;
+	private final Object	lock	= new Object();
+	/** Set when one of the wake up events was dispatched since the last test, guarded by {@link #lock}. */
+	private boolean			woken;
+
+	private ConditionWaiter(Display display, int[] eventTypes) {
+		this.display = display;
+		this.eventTypes = eventTypes;
+	}
+
+	/**
+	 * Waits until the condition evaluates to the expected result, or the timeout is reached. The condition must have
+	 * been initialized, and the timeout and interval must not be negative.
+	 *
+	 * @param display the display on which to listen for events, may be <code>null</code> to only poll the condition.
+	 * @param condition the condition to be evaluated.
+	 * @param expected the result to wait for.
+	 * @param timeout the timeout.
+	 * @param interval the maximum delay between two tests of the condition.
+	 * @throws TimeoutException if the condition does not evaluate to the expected result after timeout milliseconds.
+	 */
+	public static void waitFor(Display display, ICondition condition, boolean expected, long timeout, long interval) throws TimeoutException {
+		long limit = System.currentTimeMillis() + timeout;
+		if (test(condition) == expected)
+			return;
+
+		int[] eventTypes = (condition instanceof IEventCondition) ? ((IEventCondition) condition).getWakeUpEvents() : null;
+		if ((display == null) || display.isDisposed() || (eventTypes == null))
+			eventTypes = new int[0];
+		ConditionWaiter waiter = new ConditionWaiter(display, eventTypes);
+		waiter.addFilters();
+		try {
+			long minDelay = Math.min(Math.max(SWTBotPreferences.MIN_POLL_DELAY, 0), interval);
+			long delay = minDelay;
+			while (true) {
+				waiter.await(Math.min(delay, Math.max(limit - System.currentTimeMillis(), 0)), minDelay);
+				if (test(condition) == expected)
+					return;
+				if (System.currentTimeMillis() > limit)
+					throw new TimeoutException("Timeout after: " + timeout + " ms.: " + condition.getFailureMessage()); //$NON-NLS-1$ //$NON-NLS-2$
+				delay = Math.min(Math.max(delay * 2, 1), interval);
+			}
+		} finally {
+			waiter.removeFilters();
+		}
+	}
+
+	private static boolean test(ICondition condition) {
+		try {
+			return condition.test();
+		} catch (Throwable e) {
+			// an exception is a failed test
+			return false;
+		}
+	}
+
+	@Override
+	public void handleEvent(Event event) {
+		synchronized (lock) {
+			woken = true;
+			lock.notifyAll();
+		}
+	}
+
+	/**
+	 * Waits until the timeout is reached, or until a wake up event was dispatched and at least {@code minDelay}
+	 * milliseconds have elapsed.
+	 */
+	private void await(long timeout, long minDelay) {
+		long now = System.currentTimeMillis();
+		long end = now + timeout;
+		long earliest = now + Math.min(minDelay, timeout);
+		if (isUIThread()) {
+			// the events are dispatched by this thread, so keep dispatching them while waiting
+			while ((now < end) && !(isWoken() && (now >= earliest)) && !display.isDisposed()) {
+				if (!display.readAndDispatch())
+					Thread.yield();
+				now = System.currentTimeMillis();
+			}
+		} else {
+			synchronized (lock) {
+				while ((now < end) && !(woken && (now >= earliest))) {
+					try {
+						lock.wait(woken ? earliest - now : end - now);
+					} catch (InterruptedException e) {
+						Thread.currentThread().interrupt();
+						throw new RuntimeException("Could not sleep", e); //$NON-NLS-1$
+					}
+					now = System.currentTimeMillis();
+				}
+			}
+		}
+		synchronized (lock) {
+			woken = false;
+		}
+	}
+
+	private boolean isWoken() {
+		synchronized (lock) {
+			return woken;
+		}
+	}
+
+	private boolean isUIThread() {
+		return (display != null) && (display.getThread() == Thread.currentThread());
+	}
+
+	private void addFilters() {
+		if (eventTypes.length == 0)
+			return;
+		UIThreadRunnable.asyncExec(display, new VoidResult() {
+			@Override
+			public void run() {
+				for (int eventType : eventTypes)
+					display.addFilter(eventType, ConditionWaiter.this);
+			}
+		});
+	}
+
+	private void removeFilters() {
+		if (eventTypes.length == 0)
+			return;
+		UIThreadRunnable.asyncExec(display, new VoidResult() {
+			@Override
+			public void run() {
+				for (int eventType : eventTypes)
+					display.removeFilter(eventType, ConditionWaiter.this);
+			}
+		});
+	}
+}
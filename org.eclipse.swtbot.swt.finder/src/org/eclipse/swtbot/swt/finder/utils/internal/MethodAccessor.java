@@ -0,0 +1,181 @@
+/*******************************************************************************
+ * Copyright (c) 2026 SWTBot Committers and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     SWTBot Committers - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.swtbot.swt.finder.utils.internal;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Invokes a public method without arguments, like <code>getText()</code>, on objects of any class.
+ * <p>
+ * The method is looked up once per class, the first time it is invoked on an object of that class, and is then invoked
+ * through a {@link MethodHandle} rather than through {@link Method#invoke(Object, Object...)}. Accessors are shared, so
+ * this lookup happens once per method name and class for the whole application.
+ * </p>
+ * <p>
+ * This class does not care about the thread it is invoked from, the method invoked may.
+ * </p>
+ *
+ * @author SWTBot Committers
+ * @noinstantiate This class is not intended to be instantiated by clients.
+ * @since 4.3
+ */
+public final class MethodAccessor {
+
+	private static final ConcurrentMap<String, MethodAccessor>	ACCESSORS			= new ConcurrentHashMap<String, MethodAccessor>();
+
+	/** The accessor of <code>getText()</code>. */
+	public static final MethodAccessor							GET_TEXT			= forMethod("getText");		//$NON-NLS-1$
+	/** The accessor of <code>getToolTipText()</code>. */
+	public static final MethodAccessor							GET_TOOL_TIP_TEXT	= forMethod("getToolTipText");	//$NON-NLS-1$
+
+	private final String										methodName;
+	private final ClassValue<Handle>							handles;
+
+	private MethodAccessor(final String methodName) {
+		this.methodName = methodName;
+		this.handles = new ClassValue<Handle>() {
+			@Override
+			protected Handle computeValue(Class<?> type) {
+				return new Handle(type, methodName);
+			}
+		};
+	}
+
+	/**
+	 * Gets the accessor of the public method with the given name and no arguments.
+	 *
+	 * @param methodName the method name.
+	 * @return the accessor of the method.
+	 */
+	public static MethodAccessor forMethod(String methodName) {
+		MethodAccessor accessor = ACCESSORS.get(methodName);
+		if (accessor == null) {
+			accessor = new MethodAccessor(methodName);
+			MethodAccessor existing = ACCESSORS.putIfAbsent(methodName, accessor);
+			if (existing != null)
+				accessor = existing;
+		}
+		return accessor;
+	}
+
+	/**
+	 * @return the name of the method.
+	 */
+	public String getMethodName() {
+		return methodName;
+	}
+
+	/**
+	 * Tells if the method exists on the given class, and can be invoked.
+	 *
+	 * @param type the class.
+	 * @return <code>true</code> if the method can be invoked on objects of the class.
+	 */
+	public boolean canInvoke(Class<?> type) {
+		return handles.get(type).handle != null;
+	}
+
+	/**
+	 * Checks that the method exists on the given class, and can be invoked.
+	 *
+	 * @param type the class.
+	 * @throws NoSuchMethodException if the method does not exist on the class.
+	 * @throws IllegalAccessException if the java access control does not allow invocation.
+	 */
+	public void check(Class<?> type) throws NoSuchMethodException, IllegalAccessException {
+		handles.get(type).check();
+	}
+
+	/**
+	 * Invokes the method on the object.
+	 *
+	 * @param object the object.
+	 * @return the result of the method, or <code>null</code> if the method returns void.
+	 * @throws NoSuchMethodException if the method does not exist on the object.
+	 * @throws IllegalAccessException if the java access control does not allow invocation.
+	 * @throws InvocationTargetException if the method throws an exception.
+	 */
+	public Object invoke(Object object) throws NoSuchMethodException, IllegalAccessException, InvocationTargetException {
+		Handle handle = handles.get(object.getClass());
+		handle.check();
+		try {
+			return handle.handle.invokeExact(object);
+		} catch (Throwable e) {
+			throw new InvocationTargetException(e);
+		}
+	}
+
+	/**
+	 * Invokes the method on the object, ignoring any error.
+	 *
+	 * @param object the object.
+	 * @return the result of the method, or <code>null</code> if the method returns void, does not exist, or throws an
+	 *         exception.
+	 */
+	public Object invokeQuietly(Object object) {
+		MethodHandle handle = handles.get(object.getClass()).handle;
+		if (handle == null)
+			return null;
+		try {
+			return handle.invokeExact(object);
+		} catch (Throwable e) {
+			return null;
+		}
+	}
+
+	/**
+	 * The method of a class, or the reason why it cannot be invoked.
+	 */
+	private static final class Handle {
+		private static final MethodType	GENERIC_TYPE	= MethodType.methodType(Object.class, Object.class);
+
+		final MethodHandle				handle;
+		private final Exception			error;
+
+		Handle(Class<?> type, String methodName) {
+			MethodHandle handle = null;
+			Exception error = null;
+			try {
+				Method method = type.getMethod(methodName);
+				handle = MethodHandles.lookup().unreflect(method);
+				if (Modifier.isStatic(method.getModifiers()))
+					handle = MethodHandles.dropArguments(handle, 0, Object.class);
+				handle = handle.asType(GENERIC_TYPE);
+			} catch (NoSuchMethodException e) {
+				error = e;
+			} catch (IllegalAccessException e) {
+				error = e;
+			} catch (SecurityException e) {
+				error = e;
+			}
+			this.handle = handle;
+			this.error = error;
+		}
+
+		void check() throws NoSuchMethodException, IllegalAccessException {
+			if (error instanceof NoSuchMethodException)
+				throw (NoSuchMethodException) error;
+			if (error instanceof IllegalAccessException)
+				throw (IllegalAccessException) error;
+			if (error != null)
+				throw (RuntimeException) error;
+		}
+	}
+}
@@ -12,8 +12,6 @@
  *******************************************************************************/
 package org.eclipse.swtbot.swt.finder.utils.internal;
 
-import java.lang.reflect.Method;
-
 import org.eclipse.swtbot.swt.finder.results.StringResult;
 
 
@@ -26,11 +24,11 @@ public final class ReflectionInvoker implements StringResult {
 	/**
 	 * The object to invoke a method on.
 	 */
-	private final Object	w;
+	private final Object			w;
 	/**
 	 * The method to invoke.
 	 */
-	private final String	methodName;
+	private final MethodAccessor	accessor;
 
 	/**
 	 * Constructs this object.
@@ -39,8 +37,19 @@ public final class ReflectionInvoker implements StringResult {
 	 * @param methodName the method to invoke on the object.
 	 */
 	public ReflectionInvoker(Object o, String methodName) {
+		this(o, MethodAccessor.forMethod(methodName));
+	}
+
+	/**
+	 * Constructs this object.
+	 *
+	 * @param o the object to be invoked on.
+	 * @param accessor the accessor of the method to invoke on the object.
+	 * @since 4.3
+	 */
+	public ReflectionInvoker(Object o, MethodAccessor accessor) {
 		w = o;
-		this.methodName = methodName;
+		this.accessor = accessor;
 	}
 
 	/**
@@ -52,14 +61,9 @@ public final class ReflectionInvoker implements StringResult {
 	@Override
 	public String run() {
 		String result = ""; //$NON-NLS-1$
-		try {
-			Method method = w.getClass().getMethod(methodName, new Class[]{});
-			Object invoke = method.invoke(w, new Object[0]);
-			if (invoke != null)
-				result = invoke.toString();
-		} catch (Exception e) {
-			// do nothing
-		}
+		Object invoke = accessor.invokeQuietly(w);
+		if (invoke != null)
+			result = invoke.toString();
 		return result;
 	}
 }
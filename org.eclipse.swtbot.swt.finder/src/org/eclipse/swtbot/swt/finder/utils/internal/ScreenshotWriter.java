@@ -0,0 +1,207 @@
+/*******************************************************************************
+ * Copyright (c) 2026 SWTBot Committers and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     SWTBot Committers - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.swtbot.swt.finder.utils.internal;
+
+import java.io.File;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.eclipse.swt.graphics.ImageData;
+import org.eclipse.swt.graphics.ImageLoader;
+import org.eclipse.swtbot.swt.finder.utils.ImageFormatConverter;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Encodes screenshots and writes them to files, away from the UI thread.
+ * <p>
+ * Screenshots are written by a single background thread. At most {@link #QUEUE_CAPACITY} screenshots wait to be
+ * written, since each of them holds the pixels of a whole display; when the queue is full, the thread that submits a
+ * screenshot writes it itself. Screenshots that are still pending when the JVM shuts down are written before it exits,
+ * for at most {@link #SHUTDOWN_TIMEOUT} milliseconds.
+ * </p>
+ *
+ * @author SWTBot Committers
+ * @noinstantiate This class is not intended to be instantiated by clients.
+ * @since 4.3
+ */
+public final class ScreenshotWriter {
+
+	/** The maximum number of screenshots waiting to be written. */
+	public static final int		QUEUE_CAPACITY		= 2;
+	/** The time to wait for pending screenshots when the JVM shuts down, in milliseconds. */
+	public static final long	SHUTDOWN_TIMEOUT	= 30000;
+
+	private static final Logger	log					= LoggerFactory.getLogger(ScreenshotWriter.class);
+
+	private static final Object	lock				= new Object();
+	/** The number of screenshots submitted and neither written nor cancelled, guarded by {@link #lock}. */
+	private static int			pending;
+
+	private ScreenshotWriter() {
+	}
+
+	/**
+	 * Writes the screenshot to the given file in the background. The format is taken from the extension of the file.
+	 *
+	 * @param fileName the file to write the screenshot to.
+	 * @param imageData the pixels of the screenshot, must not be modified afterwards.
+	 * @return the result of {@link #write(String, ImageData)}, once the screenshot is written. Cancelling it before it
+	 *         runs drops the screenshot.
+	 */
+	public static Future<Boolean> writeAsync(final String fileName, final ImageData imageData) {
+		synchronized (lock) {
+			pending++;
+		}
+		PendingWrite write = new PendingWrite(new Callable<Boolean>() {
+			@Override
+			public Boolean call() {
+				return write(fileName, imageData);
+			}
+		});
+		Executor.INSTANCE.execute(write);
+		return write;
+	}
+
+	/**
+	 * Writes the screenshot to the given file in the calling thread. The format is taken from the extension of the file.
+	 *
+	 * @param fileName the file to write the screenshot to.
+	 * @param imageData the pixels of the screenshot, may be <code>null</code> if they could not be captured.
+	 * @return <code>true</code> if the screenshot was saved, <code>false</code> otherwise.
+	 */
+	public static boolean write(String fileName, ImageData imageData) {
+		if (imageData == null)
+			return false;
+		File file = new File(fileName);
+		File parentDir = file.getParentFile();
+		if (parentDir != null)
+			parentDir.mkdirs();
+		try {
+			log.debug("Writing screenshot ''{}''", fileName); //$NON-NLS-1$
+			ImageLoader imageLoader = new ImageLoader();
+			imageLoader.data = new ImageData[] { imageData };
+			imageLoader.save(fileName, new ImageFormatConverter().imageTypeOf(fileName.substring(fileName.lastIndexOf('.') + 1)));
+			return true;
+		} catch (Exception e) {
+			log.warn("Could not capture screenshot: " + fileName + "'", e); //$NON-NLS-1$ //$NON-NLS-2$
+			File brokenImage = file.getAbsoluteFile();
+			if (brokenImage.exists()) {
+				try {
+					log.trace("Broken screenshot set to be deleted on exit: {}", fileName); //$NON-NLS-1$
+					brokenImage.deleteOnExit();
+				} catch (Exception ex) {
+					log.info("Could not set broken screenshot to be deleted on exit: {}", fileName, ex); //$NON-NLS-1$
+				}
+			}
+			return false;
+		}
+	}
+
+	/**
+	 * Waits until all the screenshots submitted so far have been written, or the timeout is reached.
+	 *
+	 * @param timeout the maximum time to wait, in milliseconds.
+	 * @return <code>true</code> if all the screenshots have been written, <code>false</code> if the timeout was
+	 *         reached.
+	 */
+	public static boolean flush(long timeout) {
+		long limit = System.currentTimeMillis() + timeout;
+		synchronized (lock) {
+			while (pending > 0) {
+				long remaining = limit - System.currentTimeMillis();
+				if (remaining <= 0)
+					return false;
+				try {
+					lock.wait(remaining);
+				} catch (InterruptedException e) {
+					Thread.currentThread().interrupt();
+					return false;
+				}
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * A screenshot that counts as pending until it is written, fails or is cancelled. A cancelled screenshot never runs,
+	 * so it is released when it completes rather than when it runs. It is released before its result is set, so that
+	 * {@link #flush(long)} no longer waits for a screenshot whose result can be read.
+	 */
+	private static final class PendingWrite extends FutureTask<Boolean> {
+		private final AtomicBoolean	released	= new AtomicBoolean();
+
+		PendingWrite(Callable<Boolean> callable) {
+			super(callable);
+		}
+
+		@Override
+		protected void set(Boolean result) {
+			release();
+			super.set(result);
+		}
+
+		@Override
+		protected void setException(Throwable t) {
+			release();
+			super.setException(t);
+		}
+
+		@Override
+		protected void done() {
+			release();
+		}
+
+		private void release() {
+			if (!released.compareAndSet(false, true))
+				return;
+			synchronized (lock) {
+				pending--;
+				lock.notifyAll();
+			}
+		}
+	}
+
+	/**
+	 * The executor, created and registered for shutdown the first time a screenshot is written in the background.
+	 */
+	private static final class Executor {
+		static final ThreadPoolExecutor	INSTANCE	= create();
+
+		private static ThreadPoolExecutor create() {
+			ThreadPoolExecutor executor = new ThreadPoolExecutor(1, 1, 0, TimeUnit.MILLISECONDS, new ArrayBlockingQueue<Runnable>(QUEUE_CAPACITY),
+					new ThreadFactory() {
+						@Override
+						public Thread newThread(Runnable runnable) {
+							Thread thread = new Thread(runnable, "SWTBot screenshot writer"); //$NON-NLS-1$
+							thread.setDaemon(true);
+							return thread;
+						}
+					}, new ThreadPoolExecutor.CallerRunsPolicy());
+			Runtime.getRuntime().addShutdownHook(new Thread("SWTBot screenshot flush") { //$NON-NLS-1$
+				@Override
+				public void run() {
+					if (!flush(SHUTDOWN_TIMEOUT))
+						log.warn("Some screenshots were not written before exit"); //$NON-NLS-1$
+				}
+			});
+			return executor;
+		}
+	}
+}
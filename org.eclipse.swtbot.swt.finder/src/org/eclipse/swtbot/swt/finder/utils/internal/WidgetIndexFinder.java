@@ -12,8 +12,6 @@
  *******************************************************************************/
 package org.eclipse.swtbot.swt.finder.utils.internal;
 
-import java.util.Arrays;
-
 import org.eclipse.swt.widgets.Widget;
 import org.eclipse.swtbot.swt.finder.results.IntResult;
 
@@ -63,6 +61,9 @@ public final class WidgetIndexFinder implements IntResult {
 	 * @return The index of the widget.
 	 */
 	private int indexOf(Widget[] widgets, Widget w) {
-		return Arrays.asList(widgets).indexOf(w);
+		for (int i = 0; i < widgets.length; i++)
+			if (widgets[i] == w)
+				return i;
+		return -1;
 	}
 }
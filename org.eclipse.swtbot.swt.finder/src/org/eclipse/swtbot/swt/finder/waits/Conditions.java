@@ -17,6 +17,8 @@
 
 package org.eclipse.swtbot.swt.finder.waits;
 
+import java.util.List;
+
 import org.eclipse.swt.widgets.Control;
 import org.eclipse.swt.widgets.Menu;
 import org.eclipse.swt.widgets.MenuItem;
@@ -128,6 +130,35 @@ public abstract class Conditions {
 		return new WaitForWidgetInParent<T>(matcher, parent);
 	}
 
+	/**
+	 * Gets a condition that waits until there is a widget matching the matcher at the given index. The condition only
+	 * searches until it has found that widget, so {@link WaitForObjectCondition#getAllMatches()} returns the first
+	 * {@code index + 1} matching widgets.
+	 *
+	 * @param matcher a matcher.
+	 * @param index the index of the widget among the matching widgets.
+	 * @return a condition that waits until the matcher evaluates to true for {@code index + 1} widgets.
+	 * @since 4.3
+	 */
+	public static <T extends Widget> WaitForObjectCondition<T> waitForWidget(Matcher<T> matcher, int index) {
+		return new WaitForWidget<T>(matcher, index);
+	}
+
+	/**
+	 * Gets a condition that waits until there is a widget matching the matcher at the given index under the given
+	 * parent. The condition only searches until it has found that widget, so
+	 * {@link WaitForObjectCondition#getAllMatches()} returns the first {@code index + 1} matching widgets.
+	 *
+	 * @param matcher a matcher.
+	 * @param parent the parent under which a widget will be found.
+	 * @param index the index of the widget among the matching widgets.
+	 * @return a condition that waits until the matcher evaluates to true for {@code index + 1} widgets.
+	 * @since 4.3
+	 */
+	public static <T extends Widget> WaitForObjectCondition<T> waitForWidget(Matcher<T> matcher, Widget parent, int index) {
+		return new WaitForWidgetInParent<T>(matcher, parent, index);
+	}
+
 	/**
 	 * @param matcher the matcher.
 	 * @return a condition that waits until the matcher evaluates to true.
@@ -197,6 +228,34 @@ public abstract class Conditions {
 		return new WaitForMenuItem(menu, matcher, recursive, index);
 	}
 
+	/**
+	 * Gets the condition to wait for the menu item at the end of a path in a root menu.
+	 *
+	 * @param menu the menu bar or pop up menu.
+	 * @param path the matchers of the menu items along the path.
+	 * @return a condition that waits for the menu item at the end of the path, to be released once the wait is over.
+	 * @see org.eclipse.swtbot.swt.finder.finders.MenuFinder#findMenuItem(Menu, List)
+	 * @see WaitForMenuItem#release()
+	 * @since 4.3
+	 */
+	public static WaitForMenuItem waitForMenuItem(SWTBotRootMenu menu, List<Matcher<MenuItem>> path) {
+		return new WaitForMenuItem(menu, path);
+	}
+
+	/**
+	 * Gets the condition to wait for the menu item at the end of a path in a menu.
+	 *
+	 * @param menu the menu.
+	 * @param path the matchers of the menu items along the path.
+	 * @return a condition that waits for the menu item at the end of the path, to be released once the wait is over.
+	 * @see org.eclipse.swtbot.swt.finder.finders.MenuFinder#findMenuItem(Menu, List)
+	 * @see WaitForMenuItem#release()
+	 * @since 4.3
+	 */
+	public static WaitForMenuItem waitForMenuItem(SWTBotMenu menu, List<Matcher<MenuItem>> path) {
+		return new WaitForMenuItem(menu, path);
+	}
+
 	/**
 	 * @param shell the shell to search for the menu.
 	 * @param matcher the matcher.
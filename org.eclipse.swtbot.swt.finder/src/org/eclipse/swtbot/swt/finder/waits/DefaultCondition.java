@@ -13,6 +13,7 @@
 
 package org.eclipse.swtbot.swt.finder.waits;
 
+import org.eclipse.swt.SWT;
 import org.eclipse.swtbot.swt.finder.SWTBot;
 
 /**
@@ -21,10 +22,13 @@ import org.eclipse.swtbot.swt.finder.SWTBot;
  * @author Ketan Padegaonkar &lt;KetanPadegaonkar [at] gmail [dot] com&gt;
  * @version $Id$
  */
-public abstract class DefaultCondition implements ICondition {
+public abstract class DefaultCondition implements IEventCondition {
+
+	/** Copied by {@link #getWakeUpEvents()}, so that callers cannot change it. */
+	private static final int[]		DEFAULT_WAKE_UP_EVENTS	= { SWT.Show, SWT.Dispose, SWT.Activate, SWT.Paint, SWT.Modify };
 
 	/** the SWTBot instance that this instance may use to evaluate the test. */
-	protected SWTBot	bot;
+	protected SWTBot				bot;
 
 	/**
 	 * Initializes the condition with the given {@link SWTBot}.
@@ -37,4 +41,17 @@ public abstract class DefaultCondition implements ICondition {
 		this.bot = bot;
 	}
 
+	/**
+	 * Gets the events after which the condition should be tested again. Defaults to widgets being shown, disposed,
+	 * activated, painted or modified. Subclasses should override this if their result depends on other events, or
+	 * return an empty array if testing the condition itself sends the events.
+	 *
+	 * @return the event types.
+	 * @since 4.3
+	 */
+	@Override
+	public int[] getWakeUpEvents() {
+		return DEFAULT_WAKE_UP_EVENTS.clone();
+	}
+
 }
@@ -0,0 +1,38 @@
+/*******************************************************************************
+ * Copyright (c) 2026 SWTBot Committers and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     SWTBot Committers - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.swtbot.swt.finder.waits;
+
+import org.eclipse.swt.SWT;
+
+/**
+ * A condition that declares the SWT events that may change its result.
+ * <p>
+ * While waiting for such a condition, SWTBot listens for these events on the display and tests the condition again as
+ * soon as one of them is dispatched, instead of waiting for the next poll. Conditions are still polled, with a delay
+ * that grows up to the poll interval, so a condition whose result changes without any of these events will still be
+ * met, only later.
+ * </p>
+ *
+ * @see DefaultCondition#getWakeUpEvents()
+ * @since 4.3
+ */
+public interface IEventCondition extends ICondition {
+
+	/**
+	 * Gets the types of the SWT events after which the condition should be tested again, for example {@link SWT#Show}
+	 * or {@link SWT#Dispose}. These events are listened to using a filter on the display.
+	 *
+	 * @return the event types, or an empty array to only poll the condition.
+	 */
+	int[] getWakeUpEvents();
+}
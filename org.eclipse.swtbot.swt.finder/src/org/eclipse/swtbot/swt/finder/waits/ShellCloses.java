@@ -13,6 +13,7 @@
 package org.eclipse.swtbot.swt.finder.waits;
 
 
+import org.eclipse.swt.SWT;
 import org.eclipse.swtbot.swt.finder.finders.UIThreadRunnable;
 import org.eclipse.swtbot.swt.finder.results.BoolResult;
 import org.eclipse.swtbot.swt.finder.utils.internal.Assert;
@@ -55,4 +56,11 @@ class ShellCloses extends DefaultCondition {
 		});
 	}
 
+	/**
+	 * Tests the condition again after the shell being hidden or disposed.
+	 */
+	@Override
+	public int[] getWakeUpEvents() {
+		return new int[] { SWT.Hide, SWT.Dispose };
+	}
 }
@@ -13,6 +13,7 @@
 
 package org.eclipse.swtbot.swt.finder.waits;
 
+import org.eclipse.swt.SWT;
 import org.eclipse.swtbot.swt.finder.exceptions.WidgetNotFoundException;
 import org.eclipse.swtbot.swt.finder.finders.UIThreadRunnable;
 import org.eclipse.swtbot.swt.finder.results.BoolResult;
@@ -58,4 +59,11 @@ class ShellIsActive extends DefaultCondition {
 		return false;
 	}
 
+	/**
+	 * Tests the condition again after shells being shown, activated or deactivated.
+	 */
+	@Override
+	public int[] getWakeUpEvents() {
+		return new int[] { SWT.Show, SWT.Activate, SWT.Deactivate };
+	}
 }
@@ -12,6 +12,7 @@
  *******************************************************************************/
 package org.eclipse.swtbot.swt.finder.waits;
 
+import org.eclipse.swt.SWT;
 import org.eclipse.swtbot.swt.finder.utils.internal.Assert;
 import org.eclipse.swtbot.swt.finder.widgets.SWTBotTable;
 
@@ -71,4 +72,12 @@ class TableHasRows extends DefaultCondition {
 	public String getFailureMessage() {
 		return "Timed out waiting for " + table + " to contain " + rowCount + " rows."; //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
 	}
+
+	/**
+	 * Tests the condition again after the table being painted or its items being populated.
+	 */
+	@Override
+	public int[] getWakeUpEvents() {
+		return new int[] { SWT.Paint, SWT.SetData };
+	}
 }
@@ -12,6 +12,7 @@
  *******************************************************************************/
 package org.eclipse.swtbot.swt.finder.waits;
 
+import org.eclipse.swt.SWT;
 import org.eclipse.swtbot.swt.finder.utils.internal.Assert;
 import org.eclipse.swtbot.swt.finder.widgets.SWTBotTree;
 
@@ -70,4 +71,12 @@ class TreeHasRows extends DefaultCondition {
 	public String getFailureMessage() {
 		return "Timed out waiting for " + tree + " to contain " + rowCount + " rows."; //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
 	}
+
+	/**
+	 * Tests the condition again after the tree being painted or its items being populated.
+	 */
+	@Override
+	public int[] getWakeUpEvents() {
+		return new int[] { SWT.Paint, SWT.SetData };
+	}
 }
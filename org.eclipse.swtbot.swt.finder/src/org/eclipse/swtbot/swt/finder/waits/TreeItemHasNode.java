@@ -12,6 +12,7 @@
  *******************************************************************************/
 package org.eclipse.swtbot.swt.finder.waits;
 
+import org.eclipse.swt.SWT;
 import org.eclipse.swt.widgets.TreeItem;
 import org.eclipse.swtbot.swt.finder.finders.UIThreadRunnable;
 import org.eclipse.swtbot.swt.finder.results.BoolResult;
@@ -92,4 +93,12 @@ class TreeItemHasNode extends DefaultCondition {
 	public String getFailureMessage() {
 		return "Timed out waiting for " + treeItem + " to contain a node with text: " + text; //$NON-NLS-1$ //$NON-NLS-2$
 	}
+
+	/**
+	 * Only polls the condition, since testing this condition expands the tree item again, which would wake it up.
+	 */
+	@Override
+	public int[] getWakeUpEvents() {
+		return new int[0];
+	}
 }
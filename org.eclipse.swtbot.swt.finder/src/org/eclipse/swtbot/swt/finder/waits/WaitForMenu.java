@@ -15,6 +15,7 @@ package org.eclipse.swtbot.swt.finder.waits;
 
 import java.util.List;
 
+import org.eclipse.swt.SWT;
 import org.eclipse.swt.widgets.MenuItem;
 import org.eclipse.swtbot.swt.finder.finders.MenuFinder;
 import org.eclipse.swtbot.swt.finder.widgets.SWTBotShell;
@@ -62,4 +63,11 @@ public class WaitForMenu extends WaitForObjectCondition<MenuItem> {
 		return new MenuFinder().findMenus(shell.widget, matcher, recursive);
 	}
 
+	/**
+	 * Only polls the condition, since finding menus sends {@link SWT#Show} events to them, which would wake it up.
+	 */
+	@Override
+	public int[] getWakeUpEvents() {
+		return new int[0];
+	}
 }
@@ -15,6 +15,7 @@ package org.eclipse.swtbot.swt.finder.waits;
 import java.util.Collections;
 import java.util.List;
 
+import org.eclipse.swt.SWT;
 import org.eclipse.swt.widgets.Menu;
 import org.eclipse.swt.widgets.MenuItem;
 import org.eclipse.swt.widgets.Widget;
@@ -39,6 +40,8 @@ public class WaitForMenuItem extends WaitForObjectCondition<MenuItem> {
 	private final Widget widget;
 	private final boolean recursive;
 	private final int index;
+	/** The matchers of the menu items along the path, or <code>null</code> to look for a single menu item. */
+	private final List<Matcher<MenuItem>> path;
 
 	/**
 	 * Constructor.
@@ -53,6 +56,22 @@ public class WaitForMenuItem extends WaitForObjectCondition<MenuItem> {
 		this.widget = menu.widget;
 		this.recursive = recursive;
 		this.index = index;
+		this.path = null;
+	}
+
+	/**
+	 * Constructor.
+	 *
+	 * @param menu the menu.
+	 * @param path the matchers of the menu items along the path, which must not be empty.
+	 * @since 4.3
+	 */
+	public WaitForMenuItem(SWTBotRootMenu menu, List<Matcher<MenuItem>> path) {
+		super(path.get(path.size() - 1));
+		this.widget = menu.widget;
+		this.recursive = false;
+		this.index = 0;
+		this.path = path;
 	}
 
 	/**
@@ -68,10 +87,28 @@ public class WaitForMenuItem extends WaitForObjectCondition<MenuItem> {
 		this.widget = menu.widget;
 		this.recursive = recursive;
 		this.index = index;
+		this.path = null;
+	}
+
+	/**
+	 * Constructor.
+	 *
+	 * @param menu the menu.
+	 * @param path the matchers of the menu items along the path, which must not be empty.
+	 * @since 4.3
+	 */
+	public WaitForMenuItem(SWTBotMenu menu, List<Matcher<MenuItem>> path) {
+		super(path.get(path.size() - 1));
+		this.widget = menu.widget;
+		this.recursive = false;
+		this.index = 0;
+		this.path = path;
 	}
 
 	@Override
 	public String getFailureMessage() {
+		if (path != null)
+			return "Could not find menu item matching path: " + path; //$NON-NLS-1$
 		return "Could not find menu item matching: " + matcher; //$NON-NLS-1$
 	}
 
@@ -80,12 +117,18 @@ public class WaitForMenuItem extends WaitForObjectCondition<MenuItem> {
 		MenuItem menuItem = UIThreadRunnable.syncExec(new WidgetResult<MenuItem>() {
 			@Override
 			public MenuItem run() {
+				Menu menu = null;
 				if (widget instanceof Menu) {
-					return menuFinder.findMenuItem((Menu) widget, matcher, recursive, index);
+					menu = (Menu) widget;
 				} else if (widget instanceof MenuItem) {
-					return menuFinder.findMenuItem(((MenuItem) widget).getMenu(), matcher, recursive, index);
+					menu = ((MenuItem) widget).getMenu();
+				} else {
+					return null;
 				}
-				return null;
+				if (path != null) {
+					return menuFinder.findMenuItem(menu, path);
+				}
+				return menuFinder.findMenuItem(menu, matcher, recursive, index);
 			}
 		});
 		if (menuItem != null) {
@@ -93,4 +136,23 @@ public class WaitForMenuItem extends WaitForObjectCondition<MenuItem> {
 		}
 		return Collections.<MenuItem>emptyList();
 	}
+
+	/**
+	 * Releases the state kept while waiting for a path of menu items. Must be called once the wait is over, whether the
+	 * menu item was found or not.
+	 *
+	 * @see MenuFinder#forgetShownMenus()
+	 * @since 4.3
+	 */
+	public void release() {
+		menuFinder.forgetShownMenus();
+	}
+
+	/**
+	 * Only polls the condition, since finding menus sends {@link SWT#Show} events to them, which would wake it up.
+	 */
+	@Override
+	public int[] getWakeUpEvents() {
+		return new int[0];
+	}
 }
@@ -68,4 +68,12 @@ public class WaitForPopupMenu extends WaitForObjectCondition<Menu> {
 		}
 		return Collections.<Menu>emptyList();
 	}
+
+	/**
+	 * Only polls the condition, since finding the menu sends a {@link SWT#Show} event to it, which would wake it up.
+	 */
+	@Override
+	public int[] getWakeUpEvents() {
+		return new int[0];
+	}
 }
@@ -16,6 +16,7 @@ package org.eclipse.swtbot.swt.finder.waits;
 import java.util.ArrayList;
 import java.util.List;
 
+import org.eclipse.swt.SWT;
 import org.eclipse.swt.widgets.Shell;
 import org.hamcrest.Matcher;
 
@@ -57,4 +58,11 @@ class WaitForShell extends WaitForObjectCondition<Shell> {
 		return bot.getFinder().getShells();
 	}
 
+	/**
+	 * Tests the condition again after shells being shown, activated or disposed.
+	 */
+	@Override
+	public int[] getWakeUpEvents() {
+		return new int[] { SWT.Show, SWT.Activate, SWT.Dispose };
+	}
 }
@@ -25,18 +25,43 @@ import org.hamcrest.Matcher;
  */
 class WaitForWidget<T extends Widget> extends WaitForObjectCondition<T> {
 
+	/** The index of the widget to wait for, or -1 to wait for any matching widget. */
+	private final int	index;
+
 	WaitForWidget(Matcher<T> matcher) {
+		this(matcher, -1);
+	}
+
+	/**
+	 * Waits until there are more than {@code index} widgets matching the matcher. Only the first {@code index + 1}
+	 * matching widgets are searched for.
+	 *
+	 * @param matcher the matcher.
+	 * @param index the index of the widget to wait for, or -1 to wait for any number of matching widgets.
+	 * @since 4.3
+	 */
+	WaitForWidget(Matcher<T> matcher, int index) {
 		super(matcher);
+		this.index = index;
+	}
+
+	@Override
+	public boolean test() throws Exception {
+		return super.test() && (getAllMatches().size() > index);
 	}
 
 	@Override
 	public String getFailureMessage() {
+		if (index > 0)
+			return "Could not find widget matching: " + matcher + " at index " + index; //$NON-NLS-1$ //$NON-NLS-2$
 		return "Could not find widget matching: " + matcher; //$NON-NLS-1$
 	}
 
 	@Override
 	protected List<T> findMatches() {
-		return bot.getFinder().findControls(matcher);
+		if (index < 0)
+			return bot.getFinder().findControls(matcher);
+		return bot.getFinder().findControls(matcher, index + 1);
 	}
 
 }
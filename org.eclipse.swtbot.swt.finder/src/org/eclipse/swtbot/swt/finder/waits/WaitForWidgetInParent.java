@@ -26,20 +26,45 @@ import org.hamcrest.Matcher;
 class WaitForWidgetInParent<T extends Widget> extends WaitForObjectCondition<T> {
 
 	private final Widget	parent;
+	/** The index of the widget to wait for, or -1 to wait for any matching widget. */
+	private final int		index;
 
 	WaitForWidgetInParent(Matcher<T> matcher, Widget parent) {
+		this(matcher, parent, -1);
+	}
+
+	/**
+	 * Waits until there are more than {@code index} widgets matching the matcher. Only the first {@code index + 1}
+	 * matching widgets are searched for.
+	 *
+	 * @param matcher the matcher.
+	 * @param parent the parent under which a widget will be found.
+	 * @param index the index of the widget to wait for, or -1 to wait for any number of matching widgets.
+	 * @since 4.3
+	 */
+	WaitForWidgetInParent(Matcher<T> matcher, Widget parent, int index) {
 		super(matcher);
 		this.parent = parent;
+		this.index = index;
+	}
+
+	@Override
+	public boolean test() throws Exception {
+		return super.test() && (getAllMatches().size() > index);
 	}
 
 	@Override
 	public String getFailureMessage() {
+		if (index > 0)
+			return "Could not find widget matching: " + matcher + " at index " + index; //$NON-NLS-1$ //$NON-NLS-2$
 		return "Could not find widget matching: " + matcher; //$NON-NLS-1$
 	}
 
 	@Override
 	protected List<T> findMatches() {
-		return bot.getFinder().findControls(parent, matcher, true);
+		if (index < 0)
+			return bot.getFinder().findControls(parent, matcher, true);
+		return bot.getFinder().findControls(parent, matcher, true, index + 1);
 	}
 
 }
@@ -12,6 +12,7 @@
  *******************************************************************************/
 package org.eclipse.swtbot.swt.finder.waits;
 
+import org.eclipse.swt.SWT;
 import org.eclipse.swt.widgets.Widget;
 import org.eclipse.swtbot.swt.finder.widgets.AbstractSWTBot;
 
@@ -33,4 +34,11 @@ class WidgetIsEnabledCondition extends DefaultCondition {
 		return "The widget " + widget + " was not enabled.";
 	}
 
+	/**
+	 * Tests the condition again after the widget being painted.
+	 */
+	@Override
+	public int[] getWakeUpEvents() {
+		return new int[] { SWT.Paint };
+	}
 }
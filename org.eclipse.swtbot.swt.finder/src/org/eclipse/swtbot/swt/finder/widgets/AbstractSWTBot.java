@@ -57,7 +57,6 @@ import org.eclipse.swtbot.swt.finder.results.StringResult;
 import org.eclipse.swtbot.swt.finder.results.VoidResult;
 import org.eclipse.swtbot.swt.finder.results.WidgetResult;
 import org.eclipse.swtbot.swt.finder.utils.MessageFormat;
-import org.eclipse.swtbot.swt.finder.utils.SWTBotEvents;
 import org.eclipse.swtbot.swt.finder.utils.SWTBotPreferences;
 import org.eclipse.swtbot.swt.finder.utils.SWTUtils;
 import org.eclipse.swtbot.swt.finder.utils.Traverse;
@@ -166,45 +165,18 @@ public abstract class AbstractSWTBot<T extends Widget> {
 	 * @since 2.8
 	 */
 	protected void notify(final int eventType, final Event createEvent, final Widget widget, final Runnable runnable) {
-		createEvent.type = eventType;
-		final Object[] result = syncExec(new ArrayResult<Object>() {
-			@Override
-			public Object[] run() {
-				return new Object[] { SWTBotEvents.toString(createEvent), AbstractSWTBot.this.toString() };
-			}
-		});
-
-		log.trace("Enquing event {} on {}", result[0], result[1]); //$NON-NLS-1$
-		asyncExec(new VoidResult() {
-			@Override
-			public void run() {
-				if ((widget == null) || widget.isDisposed()) {
-					log.trace("Not notifying {} is null or has been disposed", AbstractSWTBot.this); //$NON-NLS-1$
-					return;
-				}
-				if (!isEnabledInternal()) {
-					log.warn("Widget is not enabled: {}", AbstractSWTBot.this); //$NON-NLS-1$
-					return;
-				}
-				if (runnable != null) {
-					runnable.run();
-				}
-				log.trace("Sending event {} to {}", eventType, result); //$NON-NLS-1$
-				widget.notifyListeners(eventType, createEvent);
-				log.debug("Sent event {} to {}", eventType, result); //$NON-NLS-1$
-			}
-		});
-
-		UIThreadRunnable.syncExec(new VoidResult() {
-			@Override
-			public void run() {
-				// do nothing, just wait for sync.
-			}
-		});
+		notifications().add(eventType, createEvent, widget, runnable).send();
+	}
 
-		long playbackDelay = SWTBotPreferences.PLAYBACK_DELAY;
-		if (playbackDelay > 0)
-			sleep(playbackDelay);
+	/**
+	 * Creates an empty batch of notifications, to send several notifications in a single trip to the UI thread.
+	 *
+	 * @return a new batch of notifications from this widget.
+	 * @see NotificationBatch
+	 * @since 4.3
+	 */
+	protected NotificationBatch notifications() {
+		return new NotificationBatch(this);
 	}
 
 	/**
@@ -299,18 +271,20 @@ public abstract class AbstractSWTBot<T extends Widget> {
 	 */
 	protected void clickXY(int x, int y) {
 		log.debug("Clicking on {}", this); //$NON-NLS-1$
-		notify(SWT.MouseEnter);
-		notify(SWT.MouseMove);
-		notify(SWT.Activate);
-		notify(SWT.FocusIn);
-		notify(SWT.MouseDown, createMouseEvent(x, y, 1, SWT.NONE, 1));
-		notify(SWT.MouseUp, createMouseEvent(x, y, 1, SWT.BUTTON1, 1));
-		notify(SWT.Selection, createSelectionEvent(SWT.BUTTON1));
-		notify(SWT.MouseHover);
-		notify(SWT.MouseMove);
-		notify(SWT.MouseExit);
-		notify(SWT.Deactivate);
-		notify(SWT.FocusOut);
+		notifications()
+				.add(SWT.MouseEnter)
+				.add(SWT.MouseMove)
+				.add(SWT.Activate)
+				.add(SWT.FocusIn)
+				.add(SWT.MouseDown, createMouseEvent(x, y, 1, SWT.NONE, 1))
+				.add(SWT.MouseUp, createMouseEvent(x, y, 1, SWT.BUTTON1, 1))
+				.add(SWT.Selection, createSelectionEvent(SWT.BUTTON1))
+				.add(SWT.MouseHover)
+				.add(SWT.MouseMove)
+				.add(SWT.MouseExit)
+				.add(SWT.Deactivate)
+				.add(SWT.FocusOut)
+				.send();
 		log.debug("Clicked on {}", this); //$NON-NLS-1$
 	}
 
@@ -323,18 +297,20 @@ public abstract class AbstractSWTBot<T extends Widget> {
 	 */
 	private void rightClickXY(int x, int y) {
 		log.debug("Right clicking on {}", this); //$NON-NLS-1$
-		notify(SWT.MouseEnter);
-		notify(SWT.MouseMove);
-		notify(SWT.Activate);
-		notify(SWT.FocusIn);
-		notify(SWT.MouseDown, createMouseEvent(x, y, 3, SWT.NONE, 1));
-		notify(SWT.MouseUp, createMouseEvent(x, y, 3, SWT.BUTTON3, 1));
-		notify(SWT.Selection, createSelectionEvent(SWT.BUTTON3));
-		notify(SWT.MouseHover);
-		notify(SWT.MouseMove);
-		notify(SWT.MouseExit);
-		notify(SWT.Deactivate);
-		notify(SWT.FocusOut);
+		notifications()
+				.add(SWT.MouseEnter)
+				.add(SWT.MouseMove)
+				.add(SWT.Activate)
+				.add(SWT.FocusIn)
+				.add(SWT.MouseDown, createMouseEvent(x, y, 3, SWT.NONE, 1))
+				.add(SWT.MouseUp, createMouseEvent(x, y, 3, SWT.BUTTON3, 1))
+				.add(SWT.Selection, createSelectionEvent(SWT.BUTTON3))
+				.add(SWT.MouseHover)
+				.add(SWT.MouseMove)
+				.add(SWT.MouseExit)
+				.add(SWT.Deactivate)
+				.add(SWT.FocusOut)
+				.send();
 		log.debug("Right clicked on {}", this); //$NON-NLS-1$
 	}
 
@@ -347,23 +323,25 @@ public abstract class AbstractSWTBot<T extends Widget> {
 	 */
 	protected void doubleClickXY(int x, int y) {
 		log.debug("Double-clicking on {}", widget); //$NON-NLS-1$
-		notify(SWT.MouseEnter);
-		notify(SWT.MouseMove);
-		notify(SWT.Activate);
-		notify(SWT.FocusIn);
-		notify(SWT.MouseDown, createMouseEvent(x, y, 1, SWT.NONE, 1));
-		notify(SWT.Selection, createSelectionEvent(SWT.NONE));
-		notify(SWT.MouseUp, createMouseEvent(x, y, 1, SWT.BUTTON1, 1));
-		notify(SWT.MouseDown, createMouseEvent(x, y, 1, SWT.NONE, 2));
-		notify(SWT.Selection, createSelectionEvent(SWT.NONE));
-		notify(SWT.MouseDoubleClick, createMouseEvent(x, y, 1, SWT.NONE, 2));
-		notify(SWT.DefaultSelection);
-		notify(SWT.MouseUp, createMouseEvent(x, y, 1, SWT.BUTTON1, 2));
-		notify(SWT.MouseHover);
-		notify(SWT.MouseMove);
-		notify(SWT.MouseExit);
-		notify(SWT.Deactivate);
-		notify(SWT.FocusOut);
+		notifications()
+				.add(SWT.MouseEnter)
+				.add(SWT.MouseMove)
+				.add(SWT.Activate)
+				.add(SWT.FocusIn)
+				.add(SWT.MouseDown, createMouseEvent(x, y, 1, SWT.NONE, 1))
+				.add(SWT.Selection, createSelectionEvent(SWT.NONE))
+				.add(SWT.MouseUp, createMouseEvent(x, y, 1, SWT.BUTTON1, 1))
+				.add(SWT.MouseDown, createMouseEvent(x, y, 1, SWT.NONE, 2))
+				.add(SWT.Selection, createSelectionEvent(SWT.NONE))
+				.add(SWT.MouseDoubleClick, createMouseEvent(x, y, 1, SWT.NONE, 2))
+				.add(SWT.DefaultSelection)
+				.add(SWT.MouseUp, createMouseEvent(x, y, 1, SWT.BUTTON1, 2))
+				.add(SWT.MouseHover)
+				.add(SWT.MouseMove)
+				.add(SWT.MouseExit)
+				.add(SWT.Deactivate)
+				.add(SWT.FocusOut)
+				.send();
 		log.debug("Double-clicked on {}", widget); //$NON-NLS-1$
 	}
 
@@ -71,9 +71,11 @@ public class AbstractSWTBotControl<T extends Control> extends AbstractSWTBot<T>
 	@Override
 	protected void dragStart() {
 		setFocus();
-		notify(SWT.Activate);
-		notify(SWT.FocusIn);
-		notify(SWT.MouseDown, createMouseEvent(1, SWT.NONE, 1));
+		notifications()
+				.add(SWT.Activate)
+				.add(SWT.FocusIn)
+				.add(SWT.MouseDown, createMouseEvent(1, SWT.NONE, 1))
+				.send();
 	}
 
 	/**
@@ -0,0 +1,199 @@
+/*******************************************************************************
+ * Copyright (c) 2026 SWTBot Committers and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     SWTBot Committers - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.swtbot.swt.finder.widgets;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.eclipse.swt.SWT;
+import org.eclipse.swt.widgets.Event;
+import org.eclipse.swt.widgets.Widget;
+import org.eclipse.swtbot.swt.finder.finders.UIThreadRunnable;
+import org.eclipse.swtbot.swt.finder.results.VoidResult;
+import org.eclipse.swtbot.swt.finder.utils.SWTBotEvents;
+import org.eclipse.swtbot.swt.finder.utils.SWTBotPreferences;
+import org.slf4j.Logger;
+
+/**
+ * A sequence of notifications sent by a widget in a single trip to the UI thread.
+ * <p>
+ * Notifications are queued with the <code>add</code> methods, then sent in order by {@link #send()}, which behaves like
+ * calling {@link AbstractSWTBot#notify(int, Event, Widget, Runnable)} for each of them: a notification is not sent if
+ * its widget is disposed or if the widget of the bot is disabled, and {@link SWTBotPreferences#PLAYBACK_DELAY} is
+ * honored between notifications. Descriptions of the events are only computed if they are logged. Runnables queued with
+ * {@link #run(Runnable)} run in order with the notifications, even if the widget of the bot is disabled.
+ * </p>
+ * <p>
+ * If one of the notifications opens a modal dialog, the remaining notifications are sent from the event loop of the
+ * dialog, and {@link #send()} returns while the dialog is still open.
+ * </p>
+ *
+ * <pre>
+ * notifications().add(SWT.MouseDown).add(SWT.MouseUp).add(SWT.Selection).send();
+ * </pre>
+ *
+ * @see AbstractSWTBot#notifications()
+ * @since 4.3
+ */
+public final class NotificationBatch {
+
+	private final AbstractSWTBot<?>		bot;
+	private final Logger				log;
+	private final List<Notification>	notifications	= new ArrayList<Notification>();
+	/** The index of the next notification to send, only accessed from the UI thread while sending. */
+	private int							next;
+
+	NotificationBatch(AbstractSWTBot<?> bot) {
+		this.bot = bot;
+		this.log = bot.log;
+	}
+
+	/**
+	 * Queues a notification of the specified type to the widget of the bot.
+	 *
+	 * @param eventType the type of event.
+	 * @return this batch.
+	 */
+	public NotificationBatch add(int eventType) {
+		return add(eventType, bot.createEvent());
+	}
+
+	/**
+	 * Queues a notification of the specified type to the widget of the bot.
+	 *
+	 * @param eventType the type of event.
+	 * @param event the event to be sent to the widget.
+	 * @return this batch.
+	 */
+	public NotificationBatch add(int eventType, Event event) {
+		return add(eventType, event, bot.widget);
+	}
+
+	/**
+	 * Queues a notification of the specified type to the given widget.
+	 *
+	 * @param eventType the type of event.
+	 * @param event the event to be sent to the widget.
+	 * @param widget the widget to send the event to.
+	 * @return this batch.
+	 */
+	public NotificationBatch add(int eventType, Event event, Widget widget) {
+		return add(eventType, event, widget, null);
+	}
+
+	/**
+	 * Queues a notification of the specified type to the given widget.
+	 *
+	 * @param eventType the type of event.
+	 * @param event the event to be sent to the widget.
+	 * @param widget the widget to send the event to.
+	 * @param runnable an optional {@link Runnable} to run on the UI thread before sending the event.
+	 * @return this batch.
+	 */
+	public NotificationBatch add(int eventType, Event event, Widget widget, Runnable runnable) {
+		event.type = eventType;
+		notifications.add(new Notification(eventType, event, widget, runnable));
+		return this;
+	}
+
+	/**
+	 * Queues a runnable to run on the UI thread after the notifications queued before it. Unlike the runnable of a
+	 * notification, it runs even if the widget of the bot is disabled or disposed.
+	 *
+	 * @param runnable the runnable.
+	 * @return this batch.
+	 */
+	public NotificationBatch run(Runnable runnable) {
+		notifications.add(new Notification(SWT.None, null, null, runnable));
+		return this;
+	}
+
+	/**
+	 * Sends the queued notifications, and waits until they have been sent.
+	 */
+	public void send() {
+		long playbackDelay = SWTBotPreferences.PLAYBACK_DELAY;
+		if (log.isTraceEnabled())
+			log.trace("Enquing {} events on {}", notifications.size() - next, bot); //$NON-NLS-1$
+		if (playbackDelay > 0) {
+			while (next < notifications.size()) {
+				boolean notification = notifications.get(next).event != null;
+				sendUntil(next + 1);
+				if (notification)
+					AbstractSWTBot.sleep(playbackDelay);
+			}
+		} else {
+			sendUntil(notifications.size());
+		}
+	}
+
+	private void sendUntil(final int end) {
+		if (next >= end)
+			return;
+		UIThreadRunnable.asyncExec(bot.display, new VoidResult() {
+			@Override
+			public void run() {
+				dispatchUntil(end);
+			}
+		});
+		UIThreadRunnable.syncExec(bot.display, new VoidResult() {
+			@Override
+			public void run() {
+				// sends what is left if a notification opened a modal dialog, else does nothing.
+				dispatchUntil(end);
+			}
+		});
+	}
+
+	private void dispatchUntil(int end) {
+		while (next < end)
+			notifications.get(next++).dispatch();
+	}
+
+	private class Notification {
+		private final int		eventType;
+		private final Event		event;
+		private final Widget	widget;
+		private final Runnable	runnable;
+
+		Notification(int eventType, Event event, Widget widget, Runnable runnable) {
+			this.eventType = eventType;
+			this.event = event;
+			this.widget = widget;
+			this.runnable = runnable;
+		}
+
+		/** Must be called from the UI thread. */
+		void dispatch() {
+			if (event == null) {
+				runnable.run();
+				return;
+			}
+			if ((widget == null) || widget.isDisposed()) {
+				log.trace("Not notifying {} is null or has been disposed", bot); //$NON-NLS-1$
+				return;
+			}
+			if (!bot.isEnabledInternal()) {
+				log.warn("Widget is not enabled: {}", bot); //$NON-NLS-1$
+				return;
+			}
+			if (runnable != null) {
+				runnable.run();
+			}
+			String description = log.isDebugEnabled() ? SWTBotEvents.toString(event) : null;
+			log.trace("Sending event {} to {}", description, bot); //$NON-NLS-1$
+			widget.notifyListeners(eventType, event);
+			log.debug("Sent event {} to {}", description, bot); //$NON-NLS-1$
+		}
+	}
+}
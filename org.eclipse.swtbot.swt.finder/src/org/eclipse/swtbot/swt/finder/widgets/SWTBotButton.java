@@ -65,18 +65,20 @@ public class SWTBotButton extends AbstractSWTBotControl<Button> {
 	public SWTBotButton click() {
 		log.debug("Clicking on {}", SWTUtils.getText(widget)); //$NON-NLS-1$
 		waitForEnabled();
-		notify(SWT.MouseEnter);
-		notify(SWT.MouseMove);
-		notify(SWT.Activate);
-		notify(SWT.FocusIn);
-		notify(SWT.MouseDown);
-		notify(SWT.MouseUp);
-		notify(SWT.Selection);
-		notify(SWT.MouseHover);
-		notify(SWT.MouseMove);
-		notify(SWT.MouseExit);
-		notify(SWT.Deactivate);
-		notify(SWT.FocusOut);
+		notifications()
+				.add(SWT.MouseEnter)
+				.add(SWT.MouseMove)
+				.add(SWT.Activate)
+				.add(SWT.FocusIn)
+				.add(SWT.MouseDown)
+				.add(SWT.MouseUp)
+				.add(SWT.Selection)
+				.add(SWT.MouseHover)
+				.add(SWT.MouseMove)
+				.add(SWT.MouseExit)
+				.add(SWT.Deactivate)
+				.add(SWT.FocusOut)
+				.send();
 		log.debug("Clicked on {}", SWTUtils.getText(widget)); //$NON-NLS-1$
 		return this;
 	}
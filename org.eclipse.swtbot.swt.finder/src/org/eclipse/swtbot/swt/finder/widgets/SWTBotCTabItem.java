@@ -172,30 +172,24 @@ public class SWTBotCTabItem extends AbstractSWTBot<CTabItem> {
 		return this;
 	}
 
-	private void notifyParent(final int eventType, final Event createEvent) {
-		notify(eventType, createEvent, widget.getParent());
-	}
-
-	private void notifyParent(int event) {
-		notify(event, createEvent(), widget.getParent());
-	}
-
 
 	private void clickCloseButton(int x, int y) {
 		log.debug("Clicking on {}", this); //$NON-NLS-1$
-		notifyParent(SWT.MouseEnter);
-		notifyParent(SWT.MouseMove);
-		notifyParent(SWT.Activate);
-		notifyParent(SWT.FocusIn);
-		notifyParent(SWT.MouseDown, createMouseEvent(x, y, 1, SWT.NONE, 1));
-		// this event being button 1 is what allows CTabItem to close
-		notifyParent(SWT.MouseUp, createMouseEvent(x, y, 1, SWT.BUTTON1, 1));
-		notifyParent(SWT.Selection);
-		notifyParent(SWT.MouseHover);
-		notifyParent(SWT.MouseMove);
-		notifyParent(SWT.MouseExit);
-		notifyParent(SWT.Deactivate);
-		notifyParent(SWT.FocusOut);
+		notifications()
+				.add(SWT.MouseEnter, createEvent(), parent)
+				.add(SWT.MouseMove, createEvent(), parent)
+				.add(SWT.Activate, createEvent(), parent)
+				.add(SWT.FocusIn, createEvent(), parent)
+				.add(SWT.MouseDown, createMouseEvent(x, y, 1, SWT.NONE, 1), parent)
+				// this event being button 1 is what allows CTabItem to close
+				.add(SWT.MouseUp, createMouseEvent(x, y, 1, SWT.BUTTON1, 1), parent)
+				.add(SWT.Selection, createEvent(), parent)
+				.add(SWT.MouseHover, createEvent(), parent)
+				.add(SWT.MouseMove, createEvent(), parent)
+				.add(SWT.MouseExit, createEvent(), parent)
+				.add(SWT.Deactivate, createEvent(), parent)
+				.add(SWT.FocusOut, createEvent(), parent)
+				.send();
 		log.debug("Clicked on {}", this); //$NON-NLS-1$
 	}
 
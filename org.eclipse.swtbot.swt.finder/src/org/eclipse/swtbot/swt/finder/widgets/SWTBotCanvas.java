@@ -68,12 +68,14 @@ public class SWTBotCanvas extends AbstractSWTBotControl<Canvas> {
 	 */
 	public void click(int x, int y) {
 		log.debug("Clicking on {}", this); //$NON-NLS-1$
-		notify(SWT.MouseEnter);
-		notify(SWT.MouseMove);
-		notify(SWT.Activate);
-		notify(SWT.FocusIn);
-		notify(SWT.MouseDown, createMouseEvent(x, y, 1, SWT.NONE, 1));
-		notify(SWT.MouseUp, createMouseEvent(x, y, 1, SWT.BUTTON1, 1));
+		notifications()
+				.add(SWT.MouseEnter)
+				.add(SWT.MouseMove)
+				.add(SWT.Activate)
+				.add(SWT.FocusIn)
+				.add(SWT.MouseDown, createMouseEvent(x, y, 1, SWT.NONE, 1))
+				.add(SWT.MouseUp, createMouseEvent(x, y, 1, SWT.BUTTON1, 1))
+				.send();
 		log.debug("Clicked on {}", this); //$NON-NLS-1$
 	}
 
@@ -102,15 +104,17 @@ public class SWTBotCanvas extends AbstractSWTBotControl<Canvas> {
 	 */
 	public void doubleClick(int x, int y) {
 		log.debug("Double-clicking on {}", this); //$NON-NLS-1$
-		notify(SWT.MouseEnter, createMouseEvent(x, y, 0, SWT.NONE, 0));
-		notify(SWT.MouseMove, createMouseEvent(x, y, 0, SWT.NONE, 0));
-		notify(SWT.Activate);
-		notify(SWT.FocusIn);
-		notify(SWT.MouseDown, createMouseEvent(x, y, 1, SWT.NONE, 1));
-		notify(SWT.MouseUp, createMouseEvent(x, y, 1, SWT.BUTTON1, 1));
-		notify(SWT.MouseDown, createMouseEvent(x, y, 1, SWT.NONE, 2));
-		notify(SWT.MouseDoubleClick, createMouseEvent(x, y, 1, SWT.NONE, 2));
-		notify(SWT.MouseUp, createMouseEvent(x, y, 1, SWT.BUTTON1, 2));
+		notifications()
+				.add(SWT.MouseEnter, createMouseEvent(x, y, 0, SWT.NONE, 0))
+				.add(SWT.MouseMove, createMouseEvent(x, y, 0, SWT.NONE, 0))
+				.add(SWT.Activate)
+				.add(SWT.FocusIn)
+				.add(SWT.MouseDown, createMouseEvent(x, y, 1, SWT.NONE, 1))
+				.add(SWT.MouseUp, createMouseEvent(x, y, 1, SWT.BUTTON1, 1))
+				.add(SWT.MouseDown, createMouseEvent(x, y, 1, SWT.NONE, 2))
+				.add(SWT.MouseDoubleClick, createMouseEvent(x, y, 1, SWT.NONE, 2))
+				.add(SWT.MouseUp, createMouseEvent(x, y, 1, SWT.BUTTON1, 2))
+				.send();
 		log.debug("Double-clicked on {}", this); //$NON-NLS-1$
 	}
 }
@@ -155,7 +155,7 @@ public class SWTBotExpandBar extends AbstractSWTBotControl<ExpandBar> {
 	public SWTBotExpandItem getExpandItem(Matcher<Widget> matcher) {
 		try {
 			matcher = allOf(widgetOfType(ExpandItem.class), matcher);
-			WaitForObjectCondition<? extends Widget> waitForWidget = waitForWidget(matcher, widget);
+			WaitForObjectCondition<? extends Widget> waitForWidget = waitForWidget(matcher, widget, 0);
 			new SWTBot().waitUntilWidgetAppears(waitForWidget);
 			return new SWTBotExpandItem((ExpandItem) waitForWidget.get(0), matcher);
 		} catch (TimeoutException e) {
@@ -19,7 +19,6 @@ import org.eclipse.swt.widgets.ExpandBar;
 import org.eclipse.swt.widgets.ExpandItem;
 import org.eclipse.swtbot.swt.finder.exceptions.WidgetNotFoundException;
 import org.eclipse.swtbot.swt.finder.results.BoolResult;
-import org.eclipse.swtbot.swt.finder.results.VoidResult;
 import org.eclipse.swtbot.swt.finder.results.WidgetResult;
 import org.hamcrest.SelfDescribing;
 
@@ -67,15 +66,7 @@ public class SWTBotExpandItem extends AbstractSWTBot<ExpandItem> {
 	public SWTBotExpandItem expand() {
 		if (isExpanded())
 			return this;
-		preExpandCollapseNotify();
-		syncExec(new VoidResult() {
-			@Override
-			public void run() {
-				notifyExpandBar(SWT.Expand);
-				widget.setExpanded(true);
-			}
-		});
-		postExpandCollapseNotify();
+		notifyExpandCollapse(SWT.Expand, true);
 		return this;
 	}
 
@@ -87,15 +78,7 @@ public class SWTBotExpandItem extends AbstractSWTBot<ExpandItem> {
 	public SWTBotExpandItem collapse() {
 		if (isCollapsed())
 			return this;
-		preExpandCollapseNotify();
-		syncExec(new VoidResult() {
-			@Override
-			public void run() {
-				notifyExpandBar(SWT.Collapse);
-				widget.setExpanded(false);
-			}
-		});
-		postExpandCollapseNotify();
+		notifyExpandCollapse(SWT.Collapse, false);
 		return this;
 	}
 
@@ -120,22 +103,21 @@ public class SWTBotExpandItem extends AbstractSWTBot<ExpandItem> {
 		return !isExpanded();
 	}
 
-	private void preExpandCollapseNotify() {
-		notifyExpandBar(SWT.Activate, super.createEvent());
-		notifyExpandBar(SWT.FocusIn, super.createEvent());
-		notifyExpandBar(SWT.MouseDown, super.createEvent());
-	}
-
-	private void postExpandCollapseNotify() {
-		notifyExpandBar(SWT.MouseUp, super.createEvent());
-	}
-
-	private void notifyExpandBar(int eventType) {
-		notify(eventType, createEvent(), expandBar);
-	}
-
-	private void notifyExpandBar(int eventType, Event event) {
-		notify(eventType, event, expandBar);
+	private void notifyExpandCollapse(int eventType, final boolean expanded) {
+		notifications()
+				.add(SWT.Activate, super.createEvent(), expandBar)
+				.add(SWT.FocusIn, super.createEvent(), expandBar)
+				.add(SWT.MouseDown, super.createEvent(), expandBar)
+				.add(eventType, createEvent(), expandBar)
+				.add(SWT.MouseUp, super.createEvent(), expandBar, new Runnable() {
+					@Override
+					public void run() {
+						// the item is expanded or collapsed after the listeners of the expand or collapse event
+						if (!widget.isDisposed())
+							widget.setExpanded(expanded);
+					}
+				})
+				.send();
 	}
 
 	@Override
@@ -88,14 +88,15 @@ public class SWTBotLink extends AbstractSWTBotControl<Link> {
 		} catch (Exception e) {
 			throw new UnsupportedOperationException(e);
 		}
-		notify(SWT.MouseEnter, createMouseEvent(0, 0, 0, SWT.NONE, 0));
-		notify(SWT.Activate, createEvent());
-		notify(SWT.FocusIn, createEvent());
-		notify(SWT.MouseDown, createMouseEvent(0, 0, 1, SWT.NONE, 1));
+		NotificationBatch notifications = notifications()
+				.add(SWT.MouseEnter, createMouseEvent(0, 0, 0, SWT.NONE, 0))
+				.add(SWT.Activate, createEvent())
+				.add(SWT.FocusIn, createEvent())
+				.add(SWT.MouseDown, createMouseEvent(0, 0, 1, SWT.NONE, 1));
 		if (hyperlinkText != null) {
-			notify(SWT.Selection, createHyperlinkEvent(hyperlinkText));
+			notifications.add(SWT.Selection, createHyperlinkEvent(hyperlinkText));
 		}
-		notify(SWT.MouseUp, createMouseEvent(0, 0, 1, SWT.BUTTON1, 1));
+		notifications.add(SWT.MouseUp, createMouseEvent(0, 0, 1, SWT.BUTTON1, 1)).send();
 		return this;
 	}
 
@@ -111,12 +112,14 @@ public class SWTBotLink extends AbstractSWTBotControl<Link> {
 		Assert.isLegal(isText, "Link does not contain text (" + hyperlinkText + "). It contains (" + text + ")");
 
 		hyperlinkText = extractHyperlinkTextOrHREF(hyperlinkText, text);
-		notify(SWT.MouseEnter, createMouseEvent(0, 0, 0, SWT.NONE, 0));
-		notify(SWT.Activate, createEvent());
-		notify(SWT.FocusIn, createEvent());
-		notify(SWT.MouseDown, createMouseEvent(0, 0, 1, SWT.NONE, 1));
-		notify(SWT.Selection, createHyperlinkEvent(hyperlinkText));
-		notify(SWT.MouseUp, createMouseEvent(0, 0, 1, SWT.BUTTON1, 1));
+		notifications()
+				.add(SWT.MouseEnter, createMouseEvent(0, 0, 0, SWT.NONE, 0))
+				.add(SWT.Activate, createEvent())
+				.add(SWT.FocusIn, createEvent())
+				.add(SWT.MouseDown, createMouseEvent(0, 0, 1, SWT.NONE, 1))
+				.add(SWT.Selection, createHyperlinkEvent(hyperlinkText))
+				.add(SWT.MouseUp, createMouseEvent(0, 0, 1, SWT.BUTTON1, 1))
+				.send();
 		return this;
 	}
 
@@ -204,15 +204,19 @@ public class SWTBotList extends AbstractSWTBotControl<List> {
 	protected void notifySelect(boolean first) {
 		int stateMask1 = (first) ?  SWT.NONE : (SWT.NONE | SWT.MOD1);
 		int stateMask2 = (first) ?  SWT.BUTTON1 : (SWT.BUTTON1 | SWT.MOD1);
+		Point point = getXYOfSelectionIndex();
+		NotificationBatch notifications = notifications();
 		if (first) {
-			notify(SWT.MouseEnter);
-			notify(SWT.Activate);
-			notify(SWT.FocusIn);
+			notifications
+					.add(SWT.MouseEnter)
+					.add(SWT.Activate)
+					.add(SWT.FocusIn);
 		}
-		Point point = getXYOfSelectionIndex();
-		notify(SWT.MouseDown, createMouseEvent(point.x, point.y, 1, stateMask1, 1));
-		notify(SWT.Selection, createSelectionEvent(stateMask1));
-		notify(SWT.MouseUp, createMouseEvent(point.x, point.y, 1, stateMask2, 1));
+		notifications
+				.add(SWT.MouseDown, createMouseEvent(point.x, point.y, 1, stateMask1, 1))
+				.add(SWT.Selection, createSelectionEvent(stateMask1))
+				.add(SWT.MouseUp, createMouseEvent(point.x, point.y, 1, stateMask2, 1))
+				.send();
 	}
 
 	/**
@@ -243,9 +247,11 @@ public class SWTBotList extends AbstractSWTBotControl<List> {
 		assertMultiSelect("unselect");
 		waitForEnabled();
 		processUnSelection(row);
-		notify(SWT.MouseEnter);
-		notify(SWT.Activate);
-		notify(SWT.FocusIn);
+		notifications()
+				.add(SWT.MouseEnter)
+				.add(SWT.Activate)
+				.add(SWT.FocusIn)
+				.send();
 		notifySelect(false);
 	}
 
@@ -334,10 +340,12 @@ public class SWTBotList extends AbstractSWTBotControl<List> {
 	 */
 	private void notifyPostSelectDoubleClick() {
 		Point point = getXYOfSelectionIndex();
-		notify(SWT.MouseDown, createMouseEvent(point.x, point.y, 1, SWT.NONE, 2));
-		notify(SWT.MouseDoubleClick, createMouseEvent(point.x, point.y, 1, SWT.NONE, 2));
-		notify(SWT.DefaultSelection);
-		notify(SWT.MouseUp, createMouseEvent(point.x, point.y, 1, SWT.BUTTON1, 2));
+		notifications()
+				.add(SWT.MouseDown, createMouseEvent(point.x, point.y, 1, SWT.NONE, 2))
+				.add(SWT.MouseDoubleClick, createMouseEvent(point.x, point.y, 1, SWT.NONE, 2))
+				.add(SWT.DefaultSelection)
+				.add(SWT.MouseUp, createMouseEvent(point.x, point.y, 1, SWT.BUTTON1, 2))
+				.send();
 	}
 
 	/**
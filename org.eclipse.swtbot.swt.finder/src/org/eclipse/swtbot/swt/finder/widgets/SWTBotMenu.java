@@ -33,6 +33,7 @@ import org.eclipse.swtbot.swt.finder.results.VoidResult;
 import org.eclipse.swtbot.swt.finder.results.WidgetResult;
 import org.eclipse.swtbot.swt.finder.utils.SWTUtils;
 import org.eclipse.swtbot.swt.finder.waits.Conditions;
+import org.eclipse.swtbot.swt.finder.waits.WaitForMenuItem;
 import org.eclipse.swtbot.swt.finder.waits.WaitForObjectCondition;
 import org.hamcrest.Matcher;
 import org.hamcrest.SelfDescribing;
@@ -157,14 +158,16 @@ public class SWTBotMenu extends AbstractSWTBot<MenuItem> {
 	private void setRadioSelection() {
 		final SWTBotMenu otherSelectedRadioItem = otherSelectedRadioItem();
 		if (otherSelectedRadioItem != null) {
-			otherSelectedRadioItem.notify(SWT.Deactivate);
-			asyncExec(new VoidResult() {
-				@Override
-				public void run() {
-					otherSelectedRadioItem.widget.setSelection(false);
-				}
-			});
-			otherSelectedRadioItem.notify(SWT.Selection);
+			otherSelectedRadioItem.notifications()
+					.add(SWT.Deactivate)
+					.run(new Runnable() {
+						@Override
+						public void run() {
+							otherSelectedRadioItem.widget.setSelection(false);
+						}
+					})
+					.add(SWT.Selection)
+					.send();
 		}
 		syncExec(new VoidResult() {
 			@Override
@@ -222,21 +225,32 @@ public class SWTBotMenu extends AbstractSWTBot<MenuItem> {
 	 * Gets the menu item matching the given text path relative to this menu. It
 	 * will attempt to recursively find the menu items in sequence in the
 	 * matching sub-menus that are found.
+	 * <p>
+	 * The whole path is looked for at once, and only the sub-menus along the
+	 * path are shown.
+	 * </p>
 	 *
 	 * @param texts the texts on the menu items that are to be found.
 	 * @return the menu item that has the given text.
 	 * @throws WidgetNotFoundException if the widget is not found.
+	 * @see org.eclipse.swtbot.swt.finder.finders.MenuFinder#findMenuItem(Menu, List)
 	 * @since 2.4
 	 */
 	public SWTBotMenu menu(final String... texts) {
 		if (texts == null || texts.length == 0) {
 			return this;
 		}
-		SWTBotMenu menu = this;
+		List<Matcher<MenuItem>> path = new ArrayList<Matcher<MenuItem>>();
 		for (String text : texts) {
-			menu = menu.menu(text, false, 0);
+			path.add(withMnemonic(text));
+		}
+		WaitForMenuItem waitForMenuItem = Conditions.waitForMenuItem(this, path);
+		try {
+			new SWTBot().waitUntilWidgetAppears(waitForMenuItem);
+		} finally {
+			waitForMenuItem.release();
 		}
-		return menu;
+		return new SWTBotMenu(waitForMenuItem.get(0), path.get(path.size() - 1));
 	}
 
 	/**
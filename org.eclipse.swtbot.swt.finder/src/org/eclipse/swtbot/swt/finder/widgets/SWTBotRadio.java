@@ -21,7 +21,6 @@ import org.eclipse.swtbot.swt.finder.SWTBotWidget;
 import org.eclipse.swtbot.swt.finder.Style;
 import org.eclipse.swtbot.swt.finder.exceptions.WidgetNotFoundException;
 import org.eclipse.swtbot.swt.finder.results.BoolResult;
-import org.eclipse.swtbot.swt.finder.results.VoidResult;
 import org.eclipse.swtbot.swt.finder.results.WidgetResult;
 import org.eclipse.swtbot.swt.finder.utils.SWTUtils;
 import org.eclipse.swtbot.swt.finder.utils.internal.Assert;
@@ -77,27 +76,30 @@ public class SWTBotRadio extends AbstractSWTBotControl<Button> {
 		final SWTBotRadio otherSelectedButton=otherSelectedButton();
 
 		if (otherSelectedButton != null) {
-			otherSelectedButton.notify(SWT.Deactivate);
-			asyncExec(new VoidResult() {
-				@Override
-				public void run() {
-					otherSelectedButton.widget.setSelection(false);
-				}
-			});
-			otherSelectedButton.notify(SWT.Selection);
+			otherSelectedButton.notifications()
+					.add(SWT.Deactivate)
+					.run(new Runnable() {
+						@Override
+						public void run() {
+							otherSelectedButton.widget.setSelection(false);
+						}
+					})
+					.add(SWT.Selection)
+					.send();
 		}
 
 		setFocus();
-		notify(SWT.Activate);
-		notify(SWT.MouseDown, createMouseEvent(0, 0, 1, 0, 1));
-		notify(SWT.MouseUp, createMouseEvent(0, 0, 1, SWT.BUTTON1, 1));
-		asyncExec(new VoidResult() {
-			@Override
-			public void run() {
-				widget.setSelection(true);
-			}
-		});
-		notify(SWT.Selection);
+		notifications()
+				.add(SWT.Activate)
+				.add(SWT.MouseDown, createMouseEvent(0, 0, 1, 0, 1))
+				.add(SWT.MouseUp, createMouseEvent(0, 0, 1, SWT.BUTTON1, 1))
+				.add(SWT.Selection, createEvent(), widget, new Runnable() {
+					@Override
+					public void run() {
+						widget.setSelection(true);
+					}
+				})
+				.send();
 
 		log.debug("Clicked on {}", this); //$NON-NLS-1$
 		return this;
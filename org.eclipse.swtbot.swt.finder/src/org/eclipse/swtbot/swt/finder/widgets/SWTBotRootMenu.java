@@ -27,6 +27,7 @@ import org.eclipse.swtbot.swt.finder.exceptions.WidgetNotFoundException;
 import org.eclipse.swtbot.swt.finder.results.ListResult;
 import org.eclipse.swtbot.swt.finder.results.VoidResult;
 import org.eclipse.swtbot.swt.finder.waits.Conditions;
+import org.eclipse.swtbot.swt.finder.waits.WaitForMenuItem;
 import org.eclipse.swtbot.swt.finder.waits.WaitForObjectCondition;
 import org.hamcrest.Matcher;
 import org.hamcrest.SelfDescribing;
@@ -76,24 +77,31 @@ public class SWTBotRootMenu extends AbstractSWTBot<Menu> {
 	 * Gets the menu item matching the given text path relative to this menu. It
 	 * will attempt to recursively find the menu items in sequence in the
 	 * matching sub-menus that are found.
+	 * <p>
+	 * The whole path is looked for at once, and only the sub-menus along the
+	 * path are shown.
+	 * </p>
 	 *
 	 * @param texts the texts on the menu items that are to be found.
 	 * @return the menu item that has the given text.
 	 * @throws WidgetNotFoundException if the widget is not found.
+	 * @see org.eclipse.swtbot.swt.finder.finders.MenuFinder#findMenuItem(Menu, List)
 	 */
 	public SWTBotMenu menu(final String... texts) {
 		if (texts == null || texts.length == 0) {
 			throw new WidgetNotFoundException("Could not find menu item for empty text path"); //$NON-NLS-1$
 		}
-		SWTBotMenu menu = null;
+		List<Matcher<MenuItem>> path = new ArrayList<Matcher<MenuItem>>();
 		for (String text : texts) {
-			if (menu == null) {
-				menu = menu(text, false, 0);
-			} else {
-				menu = menu.menu(text, false, 0);
-			}
+			path.add(withMnemonic(text));
+		}
+		WaitForMenuItem waitForMenuItem = Conditions.waitForMenuItem(this, path);
+		try {
+			new SWTBot().waitUntilWidgetAppears(waitForMenuItem);
+		} finally {
+			waitForMenuItem.release();
 		}
-		return menu;
+		return new SWTBotMenu(waitForMenuItem.get(0), path.get(path.size() - 1));
 	}
 
 	/**
@@ -309,6 +309,19 @@ public class SWTBotStyledText extends AbstractSWTBotControl<StyledText> {
 		keyboard().typeText(text);
 	}
 
+	/**
+	 * Types the text as fast as possible, without any interval between consecutive key strokes.
+	 *
+	 * @param text the text to be typed at the location of the caret.
+	 * @see org.eclipse.swtbot.swt.finder.keyboard.Keyboard#typeTextFast(String)
+	 * @since 4.3
+	 */
+	public void typeTextFast(final String text) {
+		log.debug("Inserting text:{} into styledtext{}", text, this); //$NON-NLS-1$
+		setFocus();
+		keyboard().typeTextFast(text);
+	}
+
 	/**
 	 * Gets the style for the given line.
 	 *
@@ -638,11 +651,13 @@ public class SWTBotStyledText extends AbstractSWTBotControl<StyledText> {
 	}
 
 	private void notifyClick(final Point p) {
-		notify(SWT.MouseEnter);
-		notify(SWT.Activate);
-		notify(SWT.FocusIn);
-		notify(SWT.MouseDown, createMouseEvent(p.x, p.y, 1, SWT.NONE, 1));
-		notify(SWT.MouseUp, createMouseEvent(p.x, p.y, 1, SWT.BUTTON1, 1));
+		notifications()
+				.add(SWT.MouseEnter)
+				.add(SWT.Activate)
+				.add(SWT.FocusIn)
+				.add(SWT.MouseDown, createMouseEvent(p.x, p.y, 1, SWT.NONE, 1))
+				.add(SWT.MouseUp, createMouseEvent(p.x, p.y, 1, SWT.BUTTON1, 1))
+				.send();
 	}
 
 	/**
@@ -656,9 +671,11 @@ public class SWTBotStyledText extends AbstractSWTBotControl<StyledText> {
 		navigateTo(line, column, true);
 		Point p = getXY(line, column);
 		notifyClick(p);
-		notify(SWT.MouseDown, createMouseEvent(p.x, p.y, 1, SWT.NONE, 2));
-		notify(SWT.MouseDoubleClick, createMouseEvent(p.x, p.y, 1, SWT.NONE, 2));
-		notify(SWT.MouseUp, createMouseEvent(p.x, p.y, 1, SWT.BUTTON1, 2));
+		notifications()
+				.add(SWT.MouseDown, createMouseEvent(p.x, p.y, 1, SWT.NONE, 2))
+				.add(SWT.MouseDoubleClick, createMouseEvent(p.x, p.y, 1, SWT.NONE, 2))
+				.add(SWT.MouseUp, createMouseEvent(p.x, p.y, 1, SWT.BUTTON1, 2))
+				.send();
 		log.debug("Double-clicked on {}", this); //$NON-NLS-1$
 	}
 
@@ -677,9 +694,11 @@ public class SWTBotStyledText extends AbstractSWTBotControl<StyledText> {
 		}
 		log.debug("Clicking on {} with modifier key {}", this, //$NON-NLS-1$
 				modifierKey);
-		notify(SWT.MouseEnter);
-		notify(SWT.FocusIn);
-		notify(SWT.Activate);
+		notifications()
+				.add(SWT.MouseEnter)
+				.add(SWT.FocusIn)
+				.add(SWT.Activate)
+				.send();
 		syncExec(new VoidResult() {
 			@Override
 			public void run() {
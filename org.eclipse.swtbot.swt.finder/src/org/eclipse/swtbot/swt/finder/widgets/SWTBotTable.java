@@ -24,7 +24,9 @@ import java.util.Arrays;
 import java.util.List;
 
 import org.eclipse.swt.SWT;
+import org.eclipse.swt.SWTException;
 import org.eclipse.swt.graphics.Rectangle;
+import org.eclipse.swt.widgets.Display;
 import org.eclipse.swt.widgets.Event;
 import org.eclipse.swt.widgets.Table;
 import org.eclipse.swt.widgets.TableColumn;
@@ -33,6 +35,7 @@ import org.eclipse.swtbot.swt.finder.ReferenceBy;
 import org.eclipse.swtbot.swt.finder.SWTBot;
 import org.eclipse.swtbot.swt.finder.SWTBotWidget;
 import org.eclipse.swtbot.swt.finder.exceptions.WidgetNotFoundException;
+import org.eclipse.swtbot.swt.finder.finders.UIThreadRunnable;
 import org.eclipse.swtbot.swt.finder.results.ArrayResult;
 import org.eclipse.swtbot.swt.finder.results.IntResult;
 import org.eclipse.swtbot.swt.finder.results.ListResult;
@@ -42,6 +45,7 @@ import org.eclipse.swtbot.swt.finder.results.VoidResult;
 import org.eclipse.swtbot.swt.finder.results.WidgetResult;
 import org.eclipse.swtbot.swt.finder.utils.TableCollection;
 import org.eclipse.swtbot.swt.finder.utils.TableRow;
+import org.eclipse.swtbot.swt.finder.utils.TableSnapshot;
 import org.eclipse.swtbot.swt.finder.utils.internal.Assert;
 import org.eclipse.swtbot.swt.finder.waits.DefaultCondition;
 import org.hamcrest.SelfDescribing;
@@ -230,6 +234,52 @@ public class SWTBotTable extends AbstractSWTBotControl<Table> {
 		});
 	}
 
+	/**
+	 * Takes a snapshot of the text, checked and selected state of all the rows, in a single trip to the UI thread. Reading
+	 * the snapshot is much faster than reading the table cell by cell.
+	 *
+	 * @param columns the indices of the columns to read, or none to read all the columns.
+	 * @return the snapshot of the rows.
+	 * @since 4.3
+	 */
+	public TableSnapshot snapshot(int... columns) {
+		return snapshotRows(0, Integer.MAX_VALUE, columns);
+	}
+
+	/**
+	 * Takes a snapshot of the text, checked and selected state of some of the rows, in a single trip to the UI thread.
+	 * This lets large or virtual tables be read a page at a time.
+	 *
+	 * @param start the index of the first row.
+	 * @param count the maximum number of rows, fewer are read if there are not enough rows.
+	 * @param columns the indices of the columns to read, or none to read all the columns.
+	 * @return the snapshot of the rows.
+	 * @since 4.3
+	 */
+	public TableSnapshot snapshotRows(final int start, final int count, final int... columns) {
+		return readSnapshot(display, new Result<TableSnapshot>() {
+			@Override
+			public TableSnapshot run() {
+				return TableSnapshot.of(widget, start, count, columns);
+			}
+		});
+	}
+
+	/**
+	 * Takes a snapshot in the UI thread. The columns are checked against the column count read in the same pass, and
+	 * an illegal column is thrown as the {@link IllegalArgumentException} of {@link TableSnapshot} rather than as the
+	 * {@link SWTException} that wraps it.
+	 */
+	static TableSnapshot readSnapshot(Display display, Result<TableSnapshot> snapshot) {
+		try {
+			return UIThreadRunnable.syncExec(display, snapshot);
+		} catch (SWTException e) {
+			if (e.getCause() instanceof IllegalArgumentException)
+				throw (IllegalArgumentException) e.getCause();
+			throw e;
+		}
+	}
+
 	private void assertIsLegalRowIndex(final int rowIndex) {
 		Assert.isLegal(rowIndex < rowCount(), "The row number: " + rowIndex + " does not exist in the table"); //$NON-NLS-1$ //$NON-NLS-2$
 	}
@@ -477,13 +527,15 @@ public class SWTBotTable extends AbstractSWTBotControl<Table> {
 		int stateMask1 = (ctrl) ?  (SWT.NONE | SWT.MOD1) : SWT.NONE;
 		int stateMask2 = (ctrl) ?  (SWT.BUTTON1 | SWT.MOD1) : SWT.BUTTON1;
 		SWTBotTableItem item = new SWTBotTableItem(lastSelectionItem);
-		notify(SWT.MouseEnter);
-		notify(SWT.MouseMove);
-		notify(SWT.Activate);
-		notify(SWT.FocusIn);
-		notify(SWT.MouseDown, item.createMouseEvent(1, stateMask1, 1));
-		notify(SWT.Selection, item.createSelectionEvent(stateMask2));
-		notify(SWT.MouseUp, item.createMouseEvent(1, stateMask2, 1));
+		notifications()
+				.add(SWT.MouseEnter)
+				.add(SWT.MouseMove)
+				.add(SWT.Activate)
+				.add(SWT.FocusIn)
+				.add(SWT.MouseDown, item.createMouseEvent(1, stateMask1, 1))
+				.add(SWT.Selection, item.createSelectionEvent(stateMask2))
+				.add(SWT.MouseUp, item.createMouseEvent(1, stateMask2, 1))
+				.send();
 	}
 
 	@Override
@@ -92,8 +92,10 @@ public class SWTBotTableItem extends AbstractSWTBot<TableItem> {
 	@Override
 	protected void clickXY(int x, int y) {
 		log.debug("Clicking on {}", this); //$NON-NLS-1$
-		notifyTable(SWT.MouseEnter, createMouseEvent(x, y, 0, SWT.NONE, 0));
-		notifyTable(SWT.Activate, super.createEvent());
+		notifications()
+				.add(SWT.MouseEnter, createMouseEvent(x, y, 0, SWT.NONE, 0), table)
+				.add(SWT.Activate, super.createEvent(), table)
+				.send();
 		setFocus();
 		syncExec(new VoidResult() {
 			@Override
@@ -103,24 +105,18 @@ public class SWTBotTableItem extends AbstractSWTBot<TableItem> {
 				}
 			}
 		});
-		notifyTable(SWT.FocusIn, super.createEvent());
-		notifyTable(SWT.MouseDown, createMouseEvent(x, y, 1, SWT.NONE, 1));
-		notifyTable(SWT.Selection);
-		notifyTable(SWT.MouseUp, createMouseEvent(x, y, 1, SWT.BUTTON1, 1));
-		notifyTable(SWT.MouseExit, createMouseEvent(x, y, 0, SWT.NONE, 0));
-		notifyTable(SWT.Deactivate, super.createEvent());
-		notifyTable(SWT.FocusOut, super.createEvent());
+		notifications()
+				.add(SWT.FocusIn, super.createEvent(), table)
+				.add(SWT.MouseDown, createMouseEvent(x, y, 1, SWT.NONE, 1), table)
+				.add(SWT.Selection, createEvent(), table)
+				.add(SWT.MouseUp, createMouseEvent(x, y, 1, SWT.BUTTON1, 1), table)
+				.add(SWT.MouseExit, createMouseEvent(x, y, 0, SWT.NONE, 0), table)
+				.add(SWT.Deactivate, super.createEvent(), table)
+				.add(SWT.FocusOut, super.createEvent(), table)
+				.send();
 		log.debug("Clicked on {}", this); //$NON-NLS-1$
 	}
 
-	private void notifyTable(int eventType, Event event) {
-		notify(eventType, event, table);
-	}
-
-	private void notifyTable(int event) {
-		notifyTable(event, createEvent());
-	}
-
 	/**
 	 * Clicks on this node.
 	 *
@@ -157,8 +153,10 @@ public class SWTBotTableItem extends AbstractSWTBot<TableItem> {
 		waitForEnabled();
 
 		log.debug("Double-clicking on {}", this); //$NON-NLS-1$
-		notifyTable(SWT.MouseEnter, createMouseEvent(0, SWT.NONE, 0));
-		notifyTable(SWT.Activate, super.createEvent());
+		notifications()
+				.add(SWT.MouseEnter, createMouseEvent(0, SWT.NONE, 0), table)
+				.add(SWT.Activate, super.createEvent(), table)
+				.send();
 		setFocus();
 		syncExec(new VoidResult() {
 			@Override
@@ -168,17 +166,19 @@ public class SWTBotTableItem extends AbstractSWTBot<TableItem> {
 				}
 			}
 		});
-		notifyTable(SWT.FocusIn, super.createEvent());
-		notifyTable(SWT.MouseDown, createMouseEvent(1, SWT.NONE, 1));
-		notifyTable(SWT.Selection);
-		notifyTable(SWT.MouseUp, createMouseEvent(1, SWT.BUTTON1, 1));
-		notifyTable(SWT.MouseDown, createMouseEvent(1, SWT.NONE, 2));
-		notifyTable(SWT.MouseDoubleClick, createMouseEvent(1, SWT.NONE, 2));
-		notifyTable(SWT.DefaultSelection);
-		notifyTable(SWT.MouseUp, createMouseEvent(1, SWT.BUTTON1, 2));
-		notifyTable(SWT.MouseExit, createMouseEvent(0, SWT.NONE, 0));
-		notifyTable(SWT.Deactivate, super.createEvent());
-		notifyTable(SWT.FocusOut, super.createEvent());
+		notifications()
+				.add(SWT.FocusIn, super.createEvent(), table)
+				.add(SWT.MouseDown, createMouseEvent(1, SWT.NONE, 1), table)
+				.add(SWT.Selection, createEvent(), table)
+				.add(SWT.MouseUp, createMouseEvent(1, SWT.BUTTON1, 1), table)
+				.add(SWT.MouseDown, createMouseEvent(1, SWT.NONE, 2), table)
+				.add(SWT.MouseDoubleClick, createMouseEvent(1, SWT.NONE, 2), table)
+				.add(SWT.DefaultSelection, createEvent(), table)
+				.add(SWT.MouseUp, createMouseEvent(1, SWT.BUTTON1, 2), table)
+				.add(SWT.MouseExit, createMouseEvent(0, SWT.NONE, 0), table)
+				.add(SWT.Deactivate, super.createEvent(), table)
+				.add(SWT.FocusOut, super.createEvent(), table)
+				.send();
 		log.debug("Double-clicked on {}", this); //$NON-NLS-1$
 		return this;
 	}
@@ -197,10 +197,12 @@ public class SWTBotTableItem extends AbstractSWTBot<TableItem> {
 				table.setSelection(widget);
 			}
 		});
-		notifyTable(SWT.Activate, super.createEvent());
-		notifyTable(SWT.FocusIn, super.createEvent());
-		notifyTable(SWT.MouseDown, createMouseEvent(1, SWT.NONE, 1));
-		notifyTable(SWT.Selection, createSelectionEvent(SWT.BUTTON1));
+		notifications()
+				.add(SWT.Activate, super.createEvent(), table)
+				.add(SWT.FocusIn, super.createEvent(), table)
+				.add(SWT.MouseDown, createMouseEvent(1, SWT.NONE, 1), table)
+				.add(SWT.Selection, createSelectionEvent(SWT.BUTTON1), table)
+				.send();
 	}
 
 	@Override
@@ -370,12 +372,14 @@ public class SWTBotTableItem extends AbstractSWTBot<TableItem> {
 	}
 
 	private void notifySelect() {
-		notifyTable(SWT.MouseEnter, createMouseEvent(0, SWT.NONE, 0));
-		notifyTable(SWT.Activate, super.createEvent());
-		notifyTable(SWT.FocusIn, super.createEvent());
-		notifyTable(SWT.MouseDown, createMouseEvent(1, SWT.NONE, 1));
-		notifyTable(SWT.Selection, createSelectionEvent(SWT.BUTTON1));
-		notifyTable(SWT.MouseUp, createMouseEvent(1, SWT.BUTTON1, 1));
+		notifications()
+				.add(SWT.MouseEnter, createMouseEvent(0, SWT.NONE, 0), table)
+				.add(SWT.Activate, super.createEvent(), table)
+				.add(SWT.FocusIn, super.createEvent(), table)
+				.add(SWT.MouseDown, createMouseEvent(1, SWT.NONE, 1), table)
+				.add(SWT.Selection, createSelectionEvent(SWT.BUTTON1), table)
+				.add(SWT.MouseUp, createMouseEvent(1, SWT.BUTTON1, 1), table)
+				.send();
 	}
 
 	@Override
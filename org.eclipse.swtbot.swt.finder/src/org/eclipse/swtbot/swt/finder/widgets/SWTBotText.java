@@ -100,6 +100,22 @@ public class SWTBotText extends AbstractSWTBotControl<Text> {
 		return this;
 	}
 
+	/**
+	 * Types the string in the text box as fast as possible, without any interval between consecutive key strokes.
+	 *
+	 * @param text the text to be typed.
+	 * @return the same instance.
+	 * @see org.eclipse.swtbot.swt.finder.keyboard.Keyboard#typeTextFast(String)
+	 * @since 4.3
+	 */
+	public SWTBotText typeTextFast(final String text) {
+		log.debug("Inserting text:{} into text {}", text, this); //$NON-NLS-1$
+		assertWritable();
+		setFocus();
+		keyboard().typeTextFast(text);
+		return this;
+	}
+
 	/**
 	 * Select the contents of the entire widget.
 	 * @return the same instance.
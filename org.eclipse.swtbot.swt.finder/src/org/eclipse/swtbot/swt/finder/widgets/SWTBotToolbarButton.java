@@ -73,17 +73,19 @@ public abstract class SWTBotToolbarButton extends AbstractSWTBot<ToolItem> {
 	 * @since 2.3
 	 */
 	protected void sendNotifications(int stateMask) {
-		notify(SWT.MouseEnter);
-		notify(SWT.MouseMove);
-		notify(SWT.Activate);
-		notify(SWT.MouseDown);
-		notify(SWT.MouseUp);
-		notify(SWT.Selection, createSelectionEvent(stateMask));
-		notify(SWT.MouseHover);
-		notify(SWT.MouseMove);
-		notify(SWT.MouseExit);
-		notify(SWT.Deactivate);
-		notify(SWT.FocusOut);
+		notifications()
+				.add(SWT.MouseEnter)
+				.add(SWT.MouseMove)
+				.add(SWT.Activate)
+				.add(SWT.MouseDown)
+				.add(SWT.MouseUp)
+				.add(SWT.Selection, createSelectionEvent(stateMask))
+				.add(SWT.MouseHover)
+				.add(SWT.MouseMove)
+				.add(SWT.MouseExit)
+				.add(SWT.Deactivate)
+				.add(SWT.FocusOut)
+				.send();
 	}
 
 	@Override
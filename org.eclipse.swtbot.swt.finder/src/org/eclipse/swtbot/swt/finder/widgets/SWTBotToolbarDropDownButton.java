@@ -113,18 +113,20 @@ public class SWTBotToolbarDropDownButton extends SWTBotToolbarButton {
 			menuFinder.register();
 			log.debug("Clicking on {}", this); //$NON-NLS-1$
 			waitForEnabled();
-			notify(SWT.MouseEnter);
-			notify(SWT.MouseMove);
-			notify(SWT.Activate);
-			notify(SWT.FocusIn);
-			notify(SWT.MouseDown);
-			notify(SWT.MouseUp);
-			notify(SWT.Selection, arrowEvent());
-			notify(SWT.MouseHover);
-			notify(SWT.MouseMove);
-			notify(SWT.MouseExit);
-			notify(SWT.Deactivate);
-			notify(SWT.FocusOut);
+			notifications()
+					.add(SWT.MouseEnter)
+					.add(SWT.MouseMove)
+					.add(SWT.Activate)
+					.add(SWT.FocusIn)
+					.add(SWT.MouseDown)
+					.add(SWT.MouseUp)
+					.add(SWT.Selection, arrowEvent())
+					.add(SWT.MouseHover)
+					.add(SWT.MouseMove)
+					.add(SWT.MouseExit)
+					.add(SWT.Deactivate)
+					.add(SWT.FocusOut)
+					.send();
 			log.debug("Clicked on {}", this); //$NON-NLS-1$
 			List<MenuItem> findMenus = menuFinder.findMenus((Shell) null, matcher, true);
 			return toSWTBotMenuItems(matcher, findMenus);
@@ -90,14 +90,16 @@ public class SWTBotToolbarRadioButton extends SWTBotToolbarButton {
 		if (selected) {
 			final SWTBotToolbarRadioButton otherSelectedButton = otherSelectedButton();
 			if (otherSelectedButton != null) {
-				otherSelectedButton.notify(SWT.Deactivate);
-				asyncExec(new VoidResult() {
-					@Override
-					public void run() {
-						otherSelectedButton.widget.setSelection(false);
-					}
-				});
-				otherSelectedButton.notify(SWT.Selection);
+				otherSelectedButton.notifications()
+						.add(SWT.Deactivate)
+						.run(new Runnable() {
+							@Override
+							public void run() {
+								otherSelectedButton.widget.setSelection(false);
+							}
+						})
+						.add(SWT.Selection)
+						.send();
 			}
 		}
 		syncExec(new VoidResult() {
@@ -25,7 +25,6 @@ import org.eclipse.swt.widgets.Tree;
 import org.eclipse.swt.widgets.TreeColumn;
 import org.eclipse.swt.widgets.TreeItem;
 import org.eclipse.swtbot.swt.finder.ReferenceBy;
-import org.eclipse.swtbot.swt.finder.SWTBot;
 import org.eclipse.swtbot.swt.finder.SWTBotWidget;
 import org.eclipse.swtbot.swt.finder.exceptions.WidgetNotFoundException;
 import org.eclipse.swtbot.swt.finder.results.ArrayResult;
@@ -38,8 +37,8 @@ import org.eclipse.swtbot.swt.finder.results.WidgetResult;
 import org.eclipse.swtbot.swt.finder.utils.StringUtils;
 import org.eclipse.swtbot.swt.finder.utils.TableCollection;
 import org.eclipse.swtbot.swt.finder.utils.TableRow;
+import org.eclipse.swtbot.swt.finder.utils.TableSnapshot;
 import org.eclipse.swtbot.swt.finder.utils.internal.Assert;
-import org.eclipse.swtbot.swt.finder.waits.DefaultCondition;
 import org.hamcrest.SelfDescribing;
 
 /**
@@ -224,6 +223,37 @@ public class SWTBotTree extends AbstractSWTBotControl<Tree> {
 		});
 	}
 
+	/**
+	 * Takes a snapshot of the text, checked, selected and expanded state of all the root items, in a single trip to the UI
+	 * thread. Reading the snapshot is much faster than reading the tree cell by cell.
+	 *
+	 * @param columns the indices of the columns to read, or none to read all the columns.
+	 * @return the snapshot of the root items.
+	 * @since 4.3
+	 */
+	public TableSnapshot snapshot(int... columns) {
+		return snapshotRows(0, Integer.MAX_VALUE, columns);
+	}
+
+	/**
+	 * Takes a snapshot of the text, checked, selected and expanded state of some of the root items, in a single trip to
+	 * the UI thread. This lets large or virtual trees be read a page at a time.
+	 *
+	 * @param start the index of the first row.
+	 * @param count the maximum number of rows, fewer are read if there are not enough root items.
+	 * @param columns the indices of the columns to read, or none to read all the columns.
+	 * @return the snapshot of the root items.
+	 * @since 4.3
+	 */
+	public TableSnapshot snapshotRows(final int start, final int count, final int... columns) {
+		return SWTBotTable.readSnapshot(display, new Result<TableSnapshot>() {
+			@Override
+			public TableSnapshot run() {
+				return TableSnapshot.of(widget, start, count, columns);
+			}
+		});
+	}
+
 	/**
 	 * Selects the items matching the array list. Replaces the current
 	 * selection. If there is more than one item to select, the tree must have
@@ -438,13 +468,15 @@ public class SWTBotTree extends AbstractSWTBotControl<Tree> {
 
 	private void notifySelect(TreeItem selected, int stateMask, Runnable runnable) {
 		SWTBotTreeItem item = new SWTBotTreeItem(selected);
-		notify(SWT.MouseEnter);
-		notify(SWT.MouseMove);
-		notify(SWT.Activate);
-		notify(SWT.FocusIn);
-		notify(SWT.MouseDown, item.createMouseEvent(1, stateMask, 1));
-		notify(SWT.Selection, item.createSelectionEvent(stateMask | SWT.BUTTON1), widget, runnable);
-		notify(SWT.MouseUp, item.createMouseEvent(1, stateMask | SWT.BUTTON1, 1));
+		notifications()
+				.add(SWT.MouseEnter)
+				.add(SWT.MouseMove)
+				.add(SWT.Activate)
+				.add(SWT.FocusIn)
+				.add(SWT.MouseDown, item.createMouseEvent(1, stateMask, 1))
+				.add(SWT.Selection, item.createSelectionEvent(stateMask | SWT.BUTTON1), widget, runnable)
+				.add(SWT.MouseUp, item.createMouseEvent(1, stateMask | SWT.BUTTON1, 1))
+				.send();
 	}
 
 	/**
@@ -455,21 +487,12 @@ public class SWTBotTree extends AbstractSWTBotControl<Tree> {
 	 * @throws WidgetNotFoundException if any of the nodes on the path do not exist
 	 */
 	public SWTBotTreeItem expandNode(String... nodes) throws WidgetNotFoundException {
-		// TODO: this method should be made iterative instead of recursive
 		Assert.isNotEmpty((Object[]) nodes);
 
 		log.debug("Expanding nodes {} in tree {}", StringUtils.join(nodes, ">"), this);
 
 		waitForEnabled();
-		SWTBotTreeItem item = getTreeItem(nodes[0]).expand();
-
-		String[] tail = new String[nodes.length - 1];
-		System.arraycopy(nodes, 1, tail, 0, nodes.length - 1);
-		if (tail.length > 0) {
-			item = item.expandNode(tail);
-		}
-
-		return item;
+		return new TreePathNavigator(widget, widget, nodes, true, true).navigate();
 	}
 
 	/**
@@ -561,22 +584,7 @@ public class SWTBotTree extends AbstractSWTBotControl<Tree> {
 	 * @throws WidgetNotFoundException if the node was not found.
 	 */
 	public SWTBotTreeItem getTreeItem(final String nodeText) throws WidgetNotFoundException {
-		try {
-			new SWTBot().waitUntil(new DefaultCondition() {
-				@Override
-				public String getFailureMessage() {
-					return "Could not find node with text " + nodeText; //$NON-NLS-1$
-				}
-
-				@Override
-				public boolean test() throws Exception {
-					return getItem(nodeText) != null;
-				}
-			});
-		} catch (TimeoutException e) {
-			throw new WidgetNotFoundException("Timed out waiting for tree item " + nodeText, e); //$NON-NLS-1$
-		}
-		return new SWTBotTreeItem(getItem(nodeText));
+		return new TreePathNavigator(widget, widget, new String[] { nodeText }, false, true).navigate();
 	}
 
 	/**
@@ -594,26 +602,6 @@ public class SWTBotTree extends AbstractSWTBotControl<Tree> {
 		});
 	}
 
-	/**
-	 * Gets the item matching the given name.
-	 *
-	 * @param nodeText the text on the node.
-	 * @return the tree item with the specified text.
-	 */
-	private TreeItem getItem(final String nodeText) {
-		return syncExec(new WidgetResult<TreeItem>() {
-			@Override
-			public TreeItem run() {
-				TreeItem[] items = widget.getItems();
-				for (TreeItem item : items) {
-					if (item.getText().equals(nodeText))
-						return item;
-				}
-				return null;
-			}
-		});
-	}
-
 	/**
 	 * Gets all the items in the tree.
 	 *
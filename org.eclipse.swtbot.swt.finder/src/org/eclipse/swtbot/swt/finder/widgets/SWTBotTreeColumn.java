@@ -106,9 +106,11 @@ public class SWTBotTreeColumn extends AbstractSWTBot<TreeColumn> {
 	@Override
 	public SWTBotTreeColumn click() {
 		waitForEnabled();
-		notify(SWT.Selection);
-		// Mouse event doesn't seem to be sent by the real SWT?
-		notify(SWT.MouseUp, createMouseEvent(1, SWT.BUTTON1, 1), parent);
+		notifications()
+				.add(SWT.Selection)
+				// Mouse event doesn't seem to be sent by the real SWT?
+				.add(SWT.MouseUp, createMouseEvent(1, SWT.BUTTON1, 1), parent)
+				.send();
 		return this;
 	}
 
@@ -32,7 +32,6 @@ import org.eclipse.swt.widgets.Control;
 import org.eclipse.swt.widgets.Event;
 import org.eclipse.swt.widgets.Tree;
 import org.eclipse.swt.widgets.TreeItem;
-import org.eclipse.swtbot.swt.finder.SWTBot;
 import org.eclipse.swtbot.swt.finder.exceptions.WidgetNotFoundException;
 import org.eclipse.swtbot.swt.finder.finders.UIThreadRunnable;
 import org.eclipse.swtbot.swt.finder.results.ArrayResult;
@@ -46,9 +45,9 @@ import org.eclipse.swtbot.swt.finder.results.WidgetResult;
 import org.eclipse.swtbot.swt.finder.utils.MessageFormat;
 import org.eclipse.swtbot.swt.finder.utils.SWTUtils;
 import org.eclipse.swtbot.swt.finder.utils.TableRow;
+import org.eclipse.swtbot.swt.finder.utils.TableSnapshot;
 import org.eclipse.swtbot.swt.finder.utils.TextDescription;
 import org.eclipse.swtbot.swt.finder.utils.internal.Assert;
-import org.eclipse.swtbot.swt.finder.waits.DefaultCondition;
 import org.hamcrest.SelfDescribing;
 
 /**
@@ -128,6 +127,37 @@ public class SWTBotTreeItem extends AbstractSWTBot<TreeItem> {
 		});
 	}
 
+	/**
+	 * Takes a snapshot of the text, checked, selected and expanded state of all the child items, in a single trip to the
+	 * UI thread. Reading the snapshot is much faster than reading the child items cell by cell.
+	 *
+	 * @param columns the indices of the columns to read, or none to read all the columns.
+	 * @return the snapshot of the child items.
+	 * @since 4.3
+	 */
+	public TableSnapshot snapshot(int... columns) {
+		return snapshotRows(0, Integer.MAX_VALUE, columns);
+	}
+
+	/**
+	 * Takes a snapshot of the text, checked, selected and expanded state of some of the child items, in a single trip to
+	 * the UI thread. This lets large or virtual trees be read a page at a time.
+	 *
+	 * @param start the index of the first row.
+	 * @param count the maximum number of rows, fewer are read if there are not enough child items.
+	 * @param columns the indices of the columns to read, or none to read all the columns.
+	 * @return the snapshot of the child items.
+	 * @since 4.3
+	 */
+	public TableSnapshot snapshotRows(final int start, final int count, final int... columns) {
+		return SWTBotTable.readSnapshot(display, new Result<TableSnapshot>() {
+			@Override
+			public TableSnapshot run() {
+				return TableSnapshot.of(widget, start, count, columns);
+			}
+		});
+	}
+
 	/**
 	 * Returns the number of items contained in the receiver that are direct item children of the receiver.
 	 *
@@ -187,15 +217,7 @@ public class SWTBotTreeItem extends AbstractSWTBot<TreeItem> {
 			return this;
 		}
 
-		preExpandCollapseNotify();
-		syncExec(new VoidResult() {
-			@Override
-			public void run() {
-				notifyTree(SWT.Expand, createEvent());
-				widget.setExpanded(true);
-			}
-		});
-		postExpandCollapseNotify();
+		notifyExpandCollapse(SWT.Expand, true);
 		return this;
 	}
 
@@ -212,34 +234,25 @@ public class SWTBotTreeItem extends AbstractSWTBot<TreeItem> {
 			return this;
 		}
 
-		preExpandCollapseNotify();
-		syncExec(new VoidResult() {
-			@Override
-			public void run() {
-				notifyTree(SWT.Collapse, createEvent());
-				widget.setExpanded(false);
-			}
-		});
-		postExpandCollapseNotify();
+		notifyExpandCollapse(SWT.Collapse, false);
 		return this;
 	}
 
-	private void preExpandCollapseNotify() {
-		notifyTree(SWT.Activate, super.createEvent());
-		notifyTree(SWT.FocusIn, super.createEvent());
-		notifyTree(SWT.MouseDown, createMouseEvent(1, SWT.NONE, 1));
-	}
-
-	private void postExpandCollapseNotify() {
-		notifyTree(SWT.MouseUp, createMouseEvent(1, SWT.BUTTON1, 1));
-	}
-
-	private void notifyTree(int eventType, Event event) {
-		notify(eventType, event, tree);
-	}
-
-	private void notifyTree(int eventType, Event event, Runnable runnable) {
-		notify(eventType, event, tree, runnable);
+	void notifyExpandCollapse(int eventType, final boolean expanded) {
+		notifications()
+				.add(SWT.Activate, super.createEvent(), tree)
+				.add(SWT.FocusIn, super.createEvent(), tree)
+				.add(SWT.MouseDown, createMouseEvent(1, SWT.NONE, 1), tree)
+				.add(eventType, createEvent(), tree)
+				.add(SWT.MouseUp, createMouseEvent(1, SWT.BUTTON1, 1), tree, new Runnable() {
+					@Override
+					public void run() {
+						// the tree item is expanded or collapsed after the listeners of the expand or collapse event
+						if (!widget.isDisposed())
+							widget.setExpanded(expanded);
+					}
+				})
+				.send();
 	}
 
 	@Override
@@ -279,12 +292,7 @@ public class SWTBotTreeItem extends AbstractSWTBot<TreeItem> {
 	public SWTBotTreeItem expandNode(final String... nodes) {
 		Assert.isNotEmpty((Object[]) nodes);
 		waitForEnabled();
-
-		SWTBotTreeItem item = this;
-		for (String node : nodes)
-			item = item.getNode(node).expand();
-
-		return item;
+		return new TreePathNavigator(tree, widget, nodes, true, false).navigate();
 	}
 
 	/**
@@ -346,7 +354,7 @@ public class SWTBotTreeItem extends AbstractSWTBot<TreeItem> {
 	 * @since 1.2
 	 */
 	public SWTBotTreeItem getNode(final String nodeText) {
-		return getNode(nodeText, 0);
+		return new TreePathNavigator(tree, widget, new String[] { nodeText }, false, false).navigate();
 	}
 
 	/**
@@ -389,16 +397,20 @@ public class SWTBotTreeItem extends AbstractSWTBot<TreeItem> {
 	@Override
 	protected void clickXY(int x, int y) {
 		log.debug("Clicking on {}", this); //$NON-NLS-1$
-		notifyTree(SWT.MouseEnter, createMouseEvent(x, y, 0, SWT.NONE, 0));
-		notifyTree(SWT.Activate, super.createEvent());
+		notifications()
+				.add(SWT.MouseEnter, createMouseEvent(x, y, 0, SWT.NONE, 0), tree)
+				.add(SWT.Activate, super.createEvent(), tree)
+				.send();
 		setFocus();
-		notifyTree(SWT.FocusIn, super.createEvent());
-		notifyTree(SWT.MouseDown, createMouseEvent(x, y, 1, SWT.NONE, 1));
-		notifyTree(SWT.Selection, createSelectionEvent(SWT.BUTTON1), selectRunnable(widget, false));
-		notifyTree(SWT.MouseUp, createMouseEvent(x, y, 1, SWT.BUTTON1, 1));
-		notifyTree(SWT.MouseExit, createMouseEvent(x, y, 0, SWT.NONE, 0));
-		notifyTree(SWT.Deactivate, super.createEvent());
-		notifyTree(SWT.FocusOut, super.createEvent());
+		notifications()
+				.add(SWT.FocusIn, super.createEvent(), tree)
+				.add(SWT.MouseDown, createMouseEvent(x, y, 1, SWT.NONE, 1), tree)
+				.add(SWT.Selection, createSelectionEvent(SWT.BUTTON1), tree, selectRunnable(widget, false))
+				.add(SWT.MouseUp, createMouseEvent(x, y, 1, SWT.BUTTON1, 1), tree)
+				.add(SWT.MouseExit, createMouseEvent(x, y, 0, SWT.NONE, 0), tree)
+				.add(SWT.Deactivate, super.createEvent(), tree)
+				.add(SWT.FocusOut, super.createEvent(), tree)
+				.send();
 		log.debug("Clicked on {}", this); //$NON-NLS-1$
 	}
 
@@ -439,20 +451,24 @@ public class SWTBotTreeItem extends AbstractSWTBot<TreeItem> {
 		waitForEnabled();
 
 		log.debug("Double-clicking on {}", this); //$NON-NLS-1$
-		notifyTree(SWT.MouseEnter, createMouseEvent(0, SWT.NONE, 0));
-		notifyTree(SWT.Activate, super.createEvent());
+		notifications()
+				.add(SWT.MouseEnter, createMouseEvent(0, SWT.NONE, 0), tree)
+				.add(SWT.Activate, super.createEvent(), tree)
+				.send();
 		setFocus();
-		notifyTree(SWT.FocusIn, super.createEvent());
-		notifyTree(SWT.MouseDown, createMouseEvent(1, SWT.NONE, 1));
-		notifyTree(SWT.Selection, createSelectionEvent(SWT.BUTTON1), selectRunnable(widget, false));
-		notifyTree(SWT.MouseUp, createMouseEvent(1, SWT.BUTTON1, 1));
-		notifyTree(SWT.MouseDown, createMouseEvent(1, SWT.NONE, 2));
-		notifyTree(SWT.MouseDoubleClick, createMouseEvent(1, SWT.NONE, 2));
-		notifyTree(SWT.DefaultSelection, createSelectionEvent(SWT.BUTTON1));
-		notifyTree(SWT.MouseUp, createMouseEvent(1, SWT.BUTTON1, 2));
-		notifyTree(SWT.MouseExit, createMouseEvent(0, SWT.NONE, 0));
-		notifyTree(SWT.Deactivate, super.createEvent());
-		notifyTree(SWT.FocusOut, super.createEvent());
+		notifications()
+				.add(SWT.FocusIn, super.createEvent(), tree)
+				.add(SWT.MouseDown, createMouseEvent(1, SWT.NONE, 1), tree)
+				.add(SWT.Selection, createSelectionEvent(SWT.BUTTON1), tree, selectRunnable(widget, false))
+				.add(SWT.MouseUp, createMouseEvent(1, SWT.BUTTON1, 1), tree)
+				.add(SWT.MouseDown, createMouseEvent(1, SWT.NONE, 2), tree)
+				.add(SWT.MouseDoubleClick, createMouseEvent(1, SWT.NONE, 2), tree)
+				.add(SWT.DefaultSelection, createSelectionEvent(SWT.BUTTON1), tree)
+				.add(SWT.MouseUp, createMouseEvent(1, SWT.BUTTON1, 2), tree)
+				.add(SWT.MouseExit, createMouseEvent(0, SWT.NONE, 0), tree)
+				.add(SWT.Deactivate, super.createEvent(), tree)
+				.add(SWT.FocusOut, super.createEvent(), tree)
+				.send();
 		log.debug("Double-clicked on {}", this); //$NON-NLS-1$
 		return this;
 	}
@@ -486,20 +502,24 @@ public class SWTBotTreeItem extends AbstractSWTBot<TreeItem> {
 		waitForEnabled();
 
 		log.debug("Double-clicking on {}", this); //$NON-NLS-1$
-		notifyTree(SWT.MouseEnter, createMouseEvent(x, y, 0, SWT.NONE, 0));
-		notifyTree(SWT.Activate, super.createEvent());
+		notifications()
+				.add(SWT.MouseEnter, createMouseEvent(x, y, 0, SWT.NONE, 0), tree)
+				.add(SWT.Activate, super.createEvent(), tree)
+				.send();
 		setFocus();
-		notifyTree(SWT.FocusIn, super.createEvent());
-		notifyTree(SWT.MouseDown, createMouseEvent(x, y, 1, SWT.NONE, 1));
-		notifyTree(SWT.Selection, createSelectionEvent(SWT.BUTTON1), selectRunnable(widget, false));
-		notifyTree(SWT.MouseUp, createMouseEvent(x, y, 1, SWT.BUTTON1, 1));
-		notifyTree(SWT.MouseDown, createMouseEvent(x, y, 1, SWT.NONE, 2));
-		notifyTree(SWT.MouseDoubleClick, createMouseEvent(x, y, 1, SWT.NONE, 2));
-		notifyTree(SWT.DefaultSelection, createSelectionEvent(SWT.BUTTON1));
-		notifyTree(SWT.MouseUp, createMouseEvent(x, y, 1, SWT.BUTTON1, 2));
-		notifyTree(SWT.MouseExit, createMouseEvent(x, y, 0, SWT.NONE, 0));
-		notifyTree(SWT.Deactivate, super.createEvent());
-		notifyTree(SWT.FocusOut, super.createEvent());
+		notifications()
+				.add(SWT.FocusIn, super.createEvent(), tree)
+				.add(SWT.MouseDown, createMouseEvent(x, y, 1, SWT.NONE, 1), tree)
+				.add(SWT.Selection, createSelectionEvent(SWT.BUTTON1), tree, selectRunnable(widget, false))
+				.add(SWT.MouseUp, createMouseEvent(x, y, 1, SWT.BUTTON1, 1), tree)
+				.add(SWT.MouseDown, createMouseEvent(x, y, 1, SWT.NONE, 2), tree)
+				.add(SWT.MouseDoubleClick, createMouseEvent(x, y, 1, SWT.NONE, 2), tree)
+				.add(SWT.DefaultSelection, createSelectionEvent(SWT.BUTTON1), tree)
+				.add(SWT.MouseUp, createMouseEvent(x, y, 1, SWT.BUTTON1, 2), tree)
+				.add(SWT.MouseExit, createMouseEvent(x, y, 0, SWT.NONE, 0), tree)
+				.add(SWT.Deactivate, super.createEvent(), tree)
+				.add(SWT.FocusOut, super.createEvent(), tree)
+				.send();
 		log.debug("Double-clicked on {}", this); //$NON-NLS-1$
 	}
 
@@ -511,10 +531,12 @@ public class SWTBotTreeItem extends AbstractSWTBot<TreeItem> {
 	@Override
 	protected void dragStart() {
 		setFocus();
-		notifyTree(SWT.Activate, super.createEvent());
-		notifyTree(SWT.FocusIn, super.createEvent());
-		notifyTree(SWT.MouseDown, createMouseEvent(1, SWT.NONE, 1));
-		notifyTree(SWT.Selection, createSelectionEvent(SWT.BUTTON1), selectRunnable(widget, false));
+		notifications()
+				.add(SWT.Activate, super.createEvent(), tree)
+				.add(SWT.FocusIn, super.createEvent(), tree)
+				.add(SWT.MouseDown, createMouseEvent(1, SWT.NONE, 1), tree)
+				.add(SWT.Selection, createSelectionEvent(SWT.BUTTON1), tree, selectRunnable(widget, false))
+				.send();
 	}
 
 	@Override
@@ -737,12 +759,14 @@ public class SWTBotTreeItem extends AbstractSWTBot<TreeItem> {
 
 	private void notifySelect(TreeItem selected, int stateMask, Runnable runnable) {
 		SWTBotTreeItem item = new SWTBotTreeItem(selected);
-		notifyTree(SWT.MouseEnter, item.createMouseEvent(0, SWT.NONE, 0));
-		notifyTree(SWT.Activate, super.createEvent());
-		notifyTree(SWT.FocusIn, super.createEvent());
-		notifyTree(SWT.MouseDown, item.createMouseEvent(1, stateMask, 1));
-		notifyTree(SWT.Selection, item.createSelectionEvent(stateMask | SWT.BUTTON1), runnable);
-		notifyTree(SWT.MouseUp, item.createMouseEvent(1, stateMask | SWT.BUTTON1, 1));
+		notifications()
+				.add(SWT.MouseEnter, item.createMouseEvent(0, SWT.NONE, 0), tree)
+				.add(SWT.Activate, super.createEvent(), tree)
+				.add(SWT.FocusIn, super.createEvent(), tree)
+				.add(SWT.MouseDown, item.createMouseEvent(1, stateMask, 1), tree)
+				.add(SWT.Selection, item.createSelectionEvent(stateMask | SWT.BUTTON1), tree, runnable)
+				.add(SWT.MouseUp, item.createMouseEvent(1, stateMask | SWT.BUTTON1, 1), tree)
+				.send();
 	}
 
 	@Override
@@ -940,22 +964,7 @@ public class SWTBotTreeItem extends AbstractSWTBot<TreeItem> {
 	 * @throws WidgetNotFoundException if the node was not found.
 	 */
 	private SWTBotTreeItem getTreeItem(final String nodeText) throws WidgetNotFoundException {
-		try {
-			new SWTBot().waitUntil(new DefaultCondition() {
-				@Override
-				public String getFailureMessage() {
-					return "Could not find node with text " + nodeText; //$NON-NLS-1$
-				}
-
-				@Override
-				public boolean test() throws Exception {
-					return getItem(nodeText) != null;
-				}
-			});
-		} catch (TimeoutException e) {
-			throw new WidgetNotFoundException("Timed out waiting for tree item " + nodeText, e); //$NON-NLS-1$
-		}
-		return new SWTBotTreeItem(getItem(nodeText));
+		return new TreePathNavigator(tree, widget, new String[] { nodeText }, false, true).navigate();
 	}
 
 	/**
@@ -973,26 +982,6 @@ public class SWTBotTreeItem extends AbstractSWTBot<TreeItem> {
 		});
 	}
 
-	/**
-	 * Gets the item matching the given name.
-	 *
-	 * @param nodeText the text on the node.
-	 * @return the tree item with the specified text.
-	 */
-	private TreeItem getItem(final String nodeText) {
-		return syncExec(new WidgetResult<TreeItem>() {
-			@Override
-			public TreeItem run() {
-				TreeItem[] items = widget.getItems();
-				for (TreeItem item : items) {
-					if (item.getText().equals(nodeText))
-						return item;
-				}
-				return null;
-			}
-		});
-	}
-
 	@Override
 	public boolean isEnabled() {
 		return syncExec(new BoolResult() {
@@ -0,0 +1,192 @@
+/*******************************************************************************
+ * Copyright (c) 2026 SWTBot Committers and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     SWTBot Committers - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.swtbot.swt.finder.widgets;
+
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.Map;
+
+import org.eclipse.swt.SWT;
+import org.eclipse.swt.widgets.Tree;
+import org.eclipse.swt.widgets.TreeItem;
+import org.eclipse.swt.widgets.Widget;
+import org.eclipse.swtbot.swt.finder.SWTBot;
+import org.eclipse.swtbot.swt.finder.exceptions.WidgetNotFoundException;
+import org.eclipse.swtbot.swt.finder.finders.UIThreadRunnable;
+import org.eclipse.swtbot.swt.finder.results.VoidResult;
+import org.eclipse.swtbot.swt.finder.utils.SWTBotPreferences;
+import org.eclipse.swtbot.swt.finder.waits.DefaultCondition;
+
+/**
+ * Finds, and optionally expands, the tree items along a path of node texts.
+ * <p>
+ * As much of the path as is already in the tree is resolved and expanded in a single trip to the UI thread, so that
+ * the children created by the expand listeners of a node are looked up right after it is expanded. Only when a node is
+ * not there yet, the navigator may wait for it, and it is tested again as soon as a node is expanded, an item of a
+ * virtual tree is filled, or the tree is painted. The children of each node are indexed by their text.
+ * </p>
+ * <p>
+ * A node is waited for if it is the first node of the path and the navigator was asked to wait for it, which fails with
+ * "Timed out waiting for tree item". It is also waited for if its parent was expanded by the navigator in an enabled
+ * {@link SWT#VIRTUAL} tree, since the children may then still be populating. Otherwise a missing node fails at once, and
+ * a missing node that is not the first one always fails with "Could not find node with text", as
+ * {@link SWTBotTreeItem#getNode(String)} does.
+ * </p>
+ *
+ * @author SWTBot Committers
+ */
+final class TreePathNavigator {
+
+	/** The events after which a missing node is looked up again. */
+	private static final int[]						WAKE_UP_EVENTS	= { SWT.Expand, SWT.SetData, SWT.Paint, SWT.Show, SWT.Dispose };
+
+	private final Tree								tree;
+	private final String[]							path;
+	private final boolean							expand;
+	private final boolean							waitForFirst;
+	/** The children of the nodes looked up so far, by text. Only accessed from the UI thread. */
+	private final Map<Widget, Map<String, TreeItem>>	indexes			= new IdentityHashMap<Widget, Map<String, TreeItem>>();
+
+	/** The tree, or the tree item, under which the next node is looked up. */
+	private Widget									parent;
+	/** The index in the path of the next node to look up. */
+	private int										next;
+	/** If the parent was expanded by this navigator in a tree whose children may still be populating. */
+	private boolean									parentExpanded;
+	/** If the tree is virtual and enabled, so that the children of an expanded node may still be populating. */
+	private boolean									lazyChildren;
+	/** The node that must be expanded from the calling thread, if any. */
+	private TreeItem								toExpand;
+
+	/**
+	 * @param tree the tree.
+	 * @param parent the tree, or the tree item, under which the first node is looked up.
+	 * @param path the texts of the nodes.
+	 * @param expand <code>true</code> to expand every node of the path, including the last one.
+	 * @param waitForFirst <code>true</code> to wait for the first node if it is not there yet.
+	 */
+	TreePathNavigator(Tree tree, Widget parent, String[] path, boolean expand, boolean waitForFirst) {
+		this.tree = tree;
+		this.parent = parent;
+		this.path = path;
+		this.expand = expand;
+		this.waitForFirst = waitForFirst;
+	}
+
+	/**
+	 * Resolves the path. Must not be called from the UI thread if nodes may have to be waited for.
+	 *
+	 * @return the last node of the path.
+	 * @throws WidgetNotFoundException if a node of the path is not found.
+	 */
+	SWTBotTreeItem navigate() throws WidgetNotFoundException {
+		while (true) {
+			advance();
+			if (toExpand != null) {
+				TreeItem item = toExpand;
+				toExpand = null;
+				new SWTBotTreeItem(item).expand();
+				parent = item;
+				parentExpanded = lazyChildren;
+				next++;
+			} else if (next == path.length) {
+				return new SWTBotTreeItem((TreeItem) parent);
+			} else if ((next == 0 && waitForFirst) || parentExpanded) {
+				waitForNextNode();
+			} else {
+				throw new WidgetNotFoundException("Could not find node with text: " + path[next]); //$NON-NLS-1$
+			}
+		}
+	}
+
+	private void waitForNextNode() {
+		final int waitingFor = next;
+		try {
+			new SWTBot().waitUntil(new DefaultCondition() {
+				@Override
+				public boolean test() throws Exception {
+					advance();
+					return (next > waitingFor) || (toExpand != null);
+				}
+
+				@Override
+				public String getFailureMessage() {
+					return "Could not find node with text " + path[waitingFor]; //$NON-NLS-1$
+				}
+
+				@Override
+				public int[] getWakeUpEvents() {
+					return WAKE_UP_EVENTS.clone();
+				}
+			});
+		} catch (TimeoutException e) {
+			if (waitingFor > 0)
+				throw new WidgetNotFoundException("Could not find node with text: " + path[waitingFor], e); //$NON-NLS-1$
+			throw new WidgetNotFoundException("Timed out waiting for tree item " + path[waitingFor], e); //$NON-NLS-1$
+		}
+	}
+
+	/**
+	 * Resolves, and expands, as many nodes as possible in the UI thread. Stops at a node that is missing, or that must
+	 * be expanded from the calling thread.
+	 */
+	private void advance() {
+		UIThreadRunnable.syncExec(tree.getDisplay(), new VoidResult() {
+			@Override
+			public void run() {
+				lazyChildren = !tree.isDisposed() && tree.isEnabled() && ((tree.getStyle() & SWT.VIRTUAL) != 0);
+				while (next < path.length) {
+					if (parent.isDisposed())
+						return;
+					TreeItem item = lookup(parent, path[next]);
+					if (item == null)
+						return;
+					boolean mustExpand = (expand || (next < path.length - 1)) && !item.getExpanded();
+					if (mustExpand) {
+						if (SWTBotPreferences.PLAYBACK_DELAY > 0) {
+							// sending the events would sleep in the UI thread
+							toExpand = item;
+							return;
+						}
+						new SWTBotTreeItem(item).notifyExpandCollapse(SWT.Expand, true);
+					}
+					parent = item;
+					parentExpanded = mustExpand && lazyChildren;
+					next++;
+				}
+			}
+		});
+	}
+
+	/** Must be called from the UI thread. */
+	private TreeItem lookup(Widget parent, String text) {
+		Map<String, TreeItem> index = indexes.get(parent);
+		if (index != null) {
+			TreeItem item = index.get(text);
+			if ((item != null) && !item.isDisposed() && text.equals(item.getText()) && (parentOf(item) == parent))
+				return item;
+		}
+		// the children changed, or the node is not there yet
+		TreeItem[] items = (parent instanceof Tree) ? ((Tree) parent).getItems() : ((TreeItem) parent).getItems();
+		index = new HashMap<String, TreeItem>(items.length * 2);
+		for (int i = items.length - 1; i >= 0; i--)
+			index.put(items[i].getText(), items[i]);
+		indexes.put(parent, index);
+		return index.get(text);
+	}
+
+	private Widget parentOf(TreeItem item) {
+		TreeItem parentItem = item.getParentItem();
+		return (parentItem != null) ? parentItem : item.getParent();
+	}
+}